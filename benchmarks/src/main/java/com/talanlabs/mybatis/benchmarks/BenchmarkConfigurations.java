@@ -0,0 +1,112 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.mybatis.component.cache.ComponentCacheFactory;
+import com.talanlabs.mybatis.component.factory.ComponentObjectFactory;
+import com.talanlabs.mybatis.component.factory.ComponentProxyFactory;
+import com.talanlabs.mybatis.component.resultmap.ComponentResultMapFactory;
+import com.talanlabs.mybatis.component.resultmap.fastpath.ComponentResultSetHandlerInterceptor;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.statement.DeleteComponentsByMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.DeleteEntityByIdMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.DeleteMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindComponentsByJoinTableMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindComponentsByMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindEntityByIdMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindLazyColumnMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindNlsColumnMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.InsertMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.UpdateMappedStatementFactory;
+import com.talanlabs.mybatis.simple.handler.IdTypeHandler;
+import com.talanlabs.mybatis.simple.observer.TracableTriggerObserver;
+import com.talanlabs.mybatis.test.it.config.DefaultNlsColumnHandler;
+import com.talanlabs.mybatis.test.it.config.DefaultUserByHandler;
+import com.talanlabs.mybatis.test.it.mapper.NlsMapper;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Configuration of benchmarks, same as integration tests of component-mybatis on in-memory HSQLDB
+ */
+public final class BenchmarkConfigurations {
+
+    private BenchmarkConfigurations() {
+        super();
+    }
+
+    /**
+     * Create a component configuration on a in-memory database
+     *
+     * @param databaseName name of in-memory database
+     * @return configuration
+     */
+    public static ComponentConfiguration createComponentConfiguration(String databaseName) {
+        Environment environment = new Environment.Builder("benchmark").dataSource(new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:" + databaseName, "sa", ""))
+                .transactionFactory(new JdbcTransactionFactory()).build();
+
+        ComponentConfiguration componentConfiguration = new ComponentConfiguration(environment);
+        componentConfiguration.setObjectFactory(new ComponentObjectFactory());
+        componentConfiguration.setProxyFactory(new ComponentProxyFactory());
+        componentConfiguration.setLazyLoadingEnabled(true);
+        componentConfiguration.setAggressiveLazyLoading(false);
+        componentConfiguration.setNlsColumnHandler(new DefaultNlsColumnHandler());
+
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindEntityByIdMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindComponentsByMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindComponentsByJoinTableMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindNlsColumnMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindLazyColumnMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new InsertMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new UpdateMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new DeleteMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new DeleteEntityByIdMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new DeleteComponentsByMappedStatementFactory());
+
+        componentConfiguration.getResultMapFactoryRegistry().registry(new ComponentResultMapFactory());
+
+        componentConfiguration.getCacheFactoryRegistry().registry(new ComponentCacheFactory());
+
+        componentConfiguration.getTriggerDispatcher().addTriggerObserver(new TracableTriggerObserver(new DefaultUserByHandler()));
+
+        componentConfiguration.getTypeHandlerRegistry().register(IdTypeHandler.class);
+
+        componentConfiguration.addMapper(NlsMapper.class);
+
+        componentConfiguration.addInterceptor(new ComponentResultSetHandlerInterceptor());
+
+        return componentConfiguration;
+    }
+
+    /**
+     * Create tables and data of integration tests, a managed session must be started
+     *
+     * @param sqlSessionManager session manager
+     */
+    public static void initDatabase(SqlSessionManager sqlSessionManager) {
+        ScriptRunner scriptRunner = new ScriptRunner(sqlSessionManager.getConnection());
+        scriptRunner.setLogWriter(null);
+        try {
+            scriptRunner.runScript(Resources.getResourceAsReader("init-script.sql"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sqlSessionManager.commit();
+    }
+
+    /**
+     * Close all connections of pool
+     *
+     * @param componentConfiguration configuration
+     */
+    public static void closeDataSource(ComponentConfiguration componentConfiguration) {
+        if (componentConfiguration.getEnvironment().getDataSource() instanceof PooledDataSource) {
+            ((PooledDataSource) componentConfiguration.getEnvironment().getDataSource()).forceCloseAll();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run benchmarks with GC profiler (allocation rate by operation)
+ * <p>
+ * java -jar benchmarks/target/benchmarks.jar [regexp of benchmarks]
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        super();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+        if (args.length == 0) {
+            optionsBuilder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        } else {
+            for (String arg : args) {
+                optionsBuilder.include(arg);
+            }
+        }
+        Options options = optionsBuilder.addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build configuration and session factory then first findById, statements and result maps are created lazily.
+ * <p>
+ * Component descriptors are kept by ComponentFactory for the JVM, only first iteration of each fork is really cold
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10)
+@Fork(5)
+public class ColdStartBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ColdStartState {
+
+        int counter;
+
+        String databaseName;
+
+        ComponentConfiguration configuration;
+
+        SqlSessionManager sqlSessionManager;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            // Database is created outside measure
+            databaseName = "coldstart" + counter++;
+            ComponentConfiguration initConfiguration = BenchmarkConfigurations.createComponentConfiguration(databaseName);
+            SqlSessionManager initSqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(initConfiguration));
+            initSqlSessionManager.startManagedSession();
+            BenchmarkConfigurations.initDatabase(initSqlSessionManager);
+            initSqlSessionManager.close();
+            BenchmarkConfigurations.closeDataSource(initConfiguration);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            if (sqlSessionManager != null) {
+                sqlSessionManager.close();
+                BenchmarkConfigurations.closeDataSource(configuration);
+            }
+        }
+    }
+
+    @Benchmark
+    public IUser coldStart(ColdStartState state) {
+        state.configuration = BenchmarkConfigurations.createComponentConfiguration(state.databaseName);
+        state.sqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(state.configuration));
+        state.sqlSessionManager.startManagedSession();
+        return ComponentSqlSessionManager.newInstance(state.sqlSessionManager).findById(IUser.class, IdFactory.IdString.from("1"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.test.data.CountryBuilder;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.data.IUser;
+import com.talanlabs.mybatis.test.data.UserBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert, update and delete through DefaultComponentSqlSession, with and without nls columns
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CrudState extends HSQLState {
+
+        IUser user;
+
+        ICountry country;
+
+        int counter;
+
+        @Override
+        protected void afterInit() {
+            user = componentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+            country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        }
+
+        @TearDown(Level.Iteration)
+        public void commit() {
+            sqlSessionManager.commit();
+        }
+    }
+
+    @Benchmark
+    public int insert(CrudState state) {
+        return state.componentSqlSessionManager.insert(UserBuilder.newBuilder().login("login" + state.counter++).build());
+    }
+
+    @Benchmark
+    public int insertNls(CrudState state) {
+        return state.componentSqlSessionManager.insert(CountryBuilder.newBuilder().code("C" + state.counter++).name("Country").build());
+    }
+
+    @Benchmark
+    public int update(CrudState state) {
+        state.user.setLogin("login" + state.counter++);
+        return state.componentSqlSessionManager.update(state.user);
+    }
+
+    @Benchmark
+    public int updateNls(CrudState state) {
+        state.country.setName("name" + state.counter++);
+        return state.componentSqlSessionManager.update(state.country);
+    }
+
+    @Benchmark
+    public int insertAndDelete(CrudState state) {
+        IUser user = UserBuilder.newBuilder().login("login" + state.counter++).build();
+        state.componentSqlSessionManager.insert(user);
+        return state.componentSqlSessionManager.delete(user);
+    }
+}
@@ -0,0 +1,67 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.cache.CacheNameHelper;
+import com.talanlabs.mybatis.test.data.IAddress;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.apache.ibatis.cache.Cache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findById with second level cache hit and miss (IUser is cached), and without cache (IAddress)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindByIdBenchmark {
+
+    private static final IId USER_ID = IdFactory.IdString.from("1");
+
+    private static final IId ADDRESS_ID = IdFactory.IdString.from("1");
+
+    @State(Scope.Benchmark)
+    public static class FindByIdState extends HSQLState {
+
+        Cache userCache;
+
+        @Override
+        protected void afterInit() {
+            // Commit puts the user in second level cache
+            componentSqlSessionManager.findById(IUser.class, USER_ID);
+            sqlSessionManager.commit();
+
+            userCache = configuration.getCache(CacheNameHelper.buildCacheKey(IUser.class));
+        }
+    }
+
+    @Benchmark
+    public IUser cacheHit(FindByIdState state) {
+        return state.componentSqlSessionManager.findById(IUser.class, USER_ID);
+    }
+
+    @Benchmark
+    public IUser cacheMiss(FindByIdState state) {
+        state.userCache.clear();
+        state.sqlSessionManager.clearCache();
+        return state.componentSqlSessionManager.findById(IUser.class, USER_ID);
+    }
+
+    @Benchmark
+    public IAddress noCache(FindByIdState state) {
+        state.sqlSessionManager.clearCache();
+        return state.componentSqlSessionManager.findById(IAddress.class, ADDRESS_ID);
+    }
+}
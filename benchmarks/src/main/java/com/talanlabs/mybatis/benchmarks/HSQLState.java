@@ -0,0 +1,50 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Configuration and managed session shared by a benchmark, benchmarks are single thread
+ */
+@State(Scope.Benchmark)
+public class HSQLState {
+
+    public ComponentConfiguration configuration;
+
+    public SqlSessionManager sqlSessionManager;
+
+    public ComponentSqlSessionManager componentSqlSessionManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        configuration = BenchmarkConfigurations.createComponentConfiguration("benchmark");
+
+        sqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(configuration));
+        componentSqlSessionManager = ComponentSqlSessionManager.newInstance(sqlSessionManager);
+
+        sqlSessionManager.startManagedSession();
+        BenchmarkConfigurations.initDatabase(sqlSessionManager);
+
+        afterInit();
+    }
+
+    /**
+     * Called after database is initialized, to prepare data of benchmark
+     */
+    protected void afterInit() {
+        // Nothing
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sqlSessionManager.close();
+        BenchmarkConfigurations.closeDataSource(configuration);
+    }
+}
@@ -0,0 +1,47 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of ids by a generator shared by 4 threads (contention of SecureRandom or AtomicLong)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    @Param({ "RANDOM_UUID", "UUID_V7", "ULID", "SNOWFLAKE" })
+    public String generator;
+
+    private IIdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        idGenerator = IdGenerators.create(generator);
+    }
+
+    @Benchmark
+    public IId newId() {
+        return idGenerator.newId();
+    }
+}
@@ -0,0 +1,36 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.factory.IIdGenerator;
+import com.talanlabs.entity.factory.RandomUuidIdGenerator;
+import com.talanlabs.entity.factory.SnowflakeIdGenerator;
+import com.talanlabs.entity.factory.UlidIdGenerator;
+import com.talanlabs.entity.factory.UuidV7IdGenerator;
+
+/**
+ * Id generators compared by benchmarks, name is the JMH param
+ */
+public final class IdGenerators {
+
+    private IdGenerators() {
+        super();
+    }
+
+    /**
+     * @param name RANDOM_UUID, UUID_V7, ULID or SNOWFLAKE
+     * @return new generator
+     */
+    public static IIdGenerator create(String name) {
+        switch (name) {
+            case "RANDOM_UUID":
+                return new RandomUuidIdGenerator();
+            case "UUID_V7":
+                return new UuidV7IdGenerator();
+            case "ULID":
+                return new UlidIdGenerator();
+            case "SNOWFLAKE":
+                return new SnowflakeIdGenerator(1);
+            default:
+                throw new IllegalArgumentException("Unknown id generator " + name);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.test.data.UserBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert of IUser through IdKeyGenerator in a table with a primary key index already filled by the same generator
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IdInsertState extends HSQLState {
+
+        @Param({ "RANDOM_UUID", "UUID_V7", "ULID", "SNOWFLAKE" })
+        public String generator;
+
+        @Param({ "200000" })
+        public int rows;
+
+        int counter;
+
+        @Override
+        protected void afterInit() {
+            IdFactory.setInstance(new IdFactory(IdGenerators.create(generator)));
+
+            Connection connection = sqlSessionManager.getConnection();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM t_user");
+                statement.execute("ALTER TABLE t_user ADD PRIMARY KEY (id)");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO t_user (id, version, login) VALUES (?, 0, ?)")) {
+                for (int i = 0; i < rows; i++) {
+                    ps.setString(1, IdFactory.getInstance().newId().toString());
+                    ps.setString(2, "login" + i);
+                    ps.addBatch();
+                    if (i % 1000 == 999) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            sqlSessionManager.commit(true);
+        }
+
+        @TearDown(Level.Iteration)
+        public void commit() {
+            sqlSessionManager.commit();
+        }
+
+        @TearDown(Level.Trial)
+        public void resetIdFactory() {
+            IdFactory.setInstance(null);
+        }
+    }
+
+    @Benchmark
+    public int insert(IdInsertState state) {
+        int res = state.componentSqlSessionManager.insert(UserBuilder.newBuilder().login("login" + state.counter++).build());
+        if (state.counter % 100 == 0) {
+            state.sqlSessionManager.commit();
+        }
+        return res;
+    }
+}
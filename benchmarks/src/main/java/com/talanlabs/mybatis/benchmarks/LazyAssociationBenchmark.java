@@ -0,0 +1,49 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.test.data.IAddress;
+import com.talanlabs.mybatis.test.data.ICountry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy association loaded by ComponentProxyFactory, IAddress.country is loaded on first access
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyAssociationBenchmark {
+
+    private static final IId ADDRESS_ID = IdFactory.IdString.from("1");
+
+    @Benchmark
+    public IAddress findWithoutAccess(HSQLState state) {
+        state.sqlSessionManager.clearCache();
+        return state.componentSqlSessionManager.findById(IAddress.class, ADDRESS_ID);
+    }
+
+    @Benchmark
+    public ICountry findAndAccess(HSQLState state) {
+        state.sqlSessionManager.clearCache();
+        return state.componentSqlSessionManager.findById(IAddress.class, ADDRESS_ID).getCountry();
+    }
+
+    @Benchmark
+    public String accessLoaded(HSQLState state) {
+        state.sqlSessionManager.clearCache();
+        IAddress address = state.componentSqlSessionManager.findById(IAddress.class, ADDRESS_ID);
+        address.getCountry();
+        // Second access goes through proxy without loading
+        return address.getCountry().getCode();
+    }
+}
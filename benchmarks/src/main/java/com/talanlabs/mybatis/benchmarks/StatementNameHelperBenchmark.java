@@ -0,0 +1,61 @@
+package com.talanlabs.mybatis.benchmarks;
+
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build and parse keys of statements, done for each call of IComponentSqlSession
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementNameHelperBenchmark {
+
+    private static final String[] PROPERTY_NAMES = { "login", "version" };
+
+    private static final List<Pair<String, String>> ORDER_BY = Collections.singletonList(Pair.of("login", "Asc"));
+
+    private static final String FIND_ENTITY_BY_ID_KEY = StatementNameHelper.buildFindEntityByIdKey(IUser.class);
+
+    private static final String FIND_COMPONENTS_BY_KEY = StatementNameHelper.buildFindComponentsByKey(IUser.class, false, PROPERTY_NAMES, ORDER_BY);
+
+    @Benchmark
+    public String buildFindEntityByIdKey() {
+        return StatementNameHelper.buildFindEntityByIdKey(IUser.class);
+    }
+
+    @Benchmark
+    public String buildFindComponentsByKey() {
+        return StatementNameHelper.buildFindComponentsByKey(IUser.class, false, PROPERTY_NAMES, ORDER_BY);
+    }
+
+    @Benchmark
+    public String buildUpdateKey() {
+        return StatementNameHelper.buildUpdateKey(ICountry.class, "name");
+    }
+
+    @Benchmark
+    public Class<?> extractComponentClassInFindEntityByIdKey() {
+        return StatementNameHelper.extractComponentClassInFindEntityByIdKey(FIND_ENTITY_BY_ID_KEY);
+    }
+
+    @Benchmark
+    public boolean isFindComponentsByKey() {
+        return StatementNameHelper.isFindComponentsByKey(FIND_COMPONENTS_BY_KEY);
+    }
+}
@@ -0,0 +1,58 @@
+package com.talanlabs.mybatis.benchmarks.rsql;
+
+import java.util.StringJoiner;
+
+/**
+ * Realistic rsql strings on IPerson of component-mybatis-rsql tests
+ */
+public final class RsqlCorpus {
+
+    public static final String EQUAL = "equal";
+
+    public static final String LIKE = "like";
+
+    public static final String DEEP_JOINS = "deepJoins";
+
+    public static final String BIG_IN = "bigIn";
+
+    public static final String NLS = "nls";
+
+    public static final String COMPLEX = "complex";
+
+    private RsqlCorpus() {
+        super();
+    }
+
+    /**
+     * Get rsql for a name of corpus
+     *
+     * @param name name of corpus
+     * @return rsql
+     */
+    public static String getRsql(String name) {
+        switch (name) {
+        case EQUAL:
+            return "firstName==Gabriel";
+        case LIKE:
+            return "firstName==*abri*;lastName==Alla*";
+        case DEEP_JOINS:
+            return "address.country.code==FRA;addressBis.city==Paris;address2.country.code==ITA";
+        case BIG_IN:
+            return buildBigIn(500);
+        case NLS:
+            return "address.country.name==France,address2.country.name==Ital*";
+        case COMPLEX:
+            return "(age=gt=18;age=lt=65;sexe==MAN),(firstName=in=(Gabriel,Sandra,Julien);address.city==Versailles*)";
+        default:
+            throw new IllegalArgumentException("Unknown corpus name=" + name);
+        }
+    }
+
+    private static String buildBigIn(int size) {
+        StringJoiner sj = new StringJoiner(",", "age=in=(", ")");
+        for (int i = 0; i < size; i++) {
+            sj.add(String.valueOf(i));
+        }
+        return sj.toString();
+    }
+}
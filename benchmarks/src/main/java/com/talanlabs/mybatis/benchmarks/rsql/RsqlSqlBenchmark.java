@@ -0,0 +1,159 @@
+package com.talanlabs.mybatis.benchmarks.rsql;
+
+import com.talanlabs.mybatis.rsql.database.H2Handler;
+import com.talanlabs.mybatis.rsql.database.HSQLDBHandler;
+import com.talanlabs.mybatis.rsql.database.MySQLHandler;
+import com.talanlabs.mybatis.rsql.database.OracleHandler;
+import com.talanlabs.mybatis.rsql.database.PostgresHandler;
+import com.talanlabs.mybatis.rsql.database.StandardHandler;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.engine.orderby.ComponentSortVisitor;
+import com.talanlabs.mybatis.rsql.sort.SortNode;
+import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.sqlsource.RsqlSqlSource;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import org.apache.ibatis.builder.SqlSourceBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.SqlSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order by, join of SqlResult, page statement of each database, parse of MyBatis parameters and complete RsqlSqlSource
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsqlSqlBenchmark {
+
+    private static final String SORT = "-lastName,firstName,address.city,address.country.name";
+
+    private static final Request.Rows ROWS = Request.Rows.of(100, 50);
+
+    @State(Scope.Benchmark)
+    public static class SqlState {
+
+        ComponentSortVisitor<IPerson> componentSortVisitor;
+
+        List<SortNode> sortNodes;
+
+        List<SqlResult> sqlResults;
+
+        String sqlFromWhereOrderBy;
+
+        Map<String, Object> additionalParameters;
+
+        String sql;
+
+        SqlSourceBuilder sqlSourceBuilder;
+
+        RsqlSqlSource<IPerson> rsqlSqlSource;
+
+        Request request;
+
+        @Setup(Level.Trial)
+        public void setUp(RsqlState rsqlState) {
+            componentSortVisitor = rsqlState.rsqlConfiguration.getComponentSortVisitor(IPerson.class);
+            sortNodes = rsqlState.rsqlConfiguration.getSortParser().parse(SORT);
+
+            sqlResults = new ArrayList<>();
+            for (String corpus : new String[] { RsqlCorpus.EQUAL, RsqlCorpus.LIKE, RsqlCorpus.DEEP_JOINS, RsqlCorpus.NLS }) {
+                sqlResults.add(rsqlState.rsqlConfiguration.getRsqlParser().parse(RsqlCorpus.getRsql(corpus))
+                        .accept(rsqlState.rsqlConfiguration.getComponentRsqlVisitor(IPerson.class), rsqlState.rsqlConfiguration.newEngineContext()));
+            }
+
+            sqlSourceBuilder = new SqlSourceBuilder(rsqlState.configuration);
+            rsqlSqlSource = new RsqlSqlSource<>(rsqlState.configuration, rsqlState.rsqlConfiguration, IPerson.class);
+            request = Request.newBuilder().rsql(RsqlCorpus.getRsql(RsqlCorpus.COMPLEX)).sort(SORT).rows(ROWS).build();
+
+            // Sql with parameters for SqlSourceBuilder
+            BoundSql boundSql = rsqlSqlSource.getBoundSql(request);
+            additionalParameters = new HashMap<>();
+            sql = boundSql.getSql();
+            boundSql.getParameterMappings().forEach(parameterMapping -> additionalParameters.put(parameterMapping.getProperty(), boundSql.getAdditionalParameter(parameterMapping.getProperty())));
+            sqlFromWhereOrderBy = "FROM T_PERSON t WHERE t.FIRST_NAME = #{param0} ORDER BY t.LAST_NAME DESC";
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({ "standard", "h2", "hsqldb", "mysql", "oracle", "postgres" })
+        public String database;
+
+        IPageStatementFactory pageStatementFactory;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            switch (database) {
+            case "h2":
+                pageStatementFactory = new H2Handler();
+                break;
+            case "hsqldb":
+                pageStatementFactory = new HSQLDBHandler();
+                break;
+            case "mysql":
+                pageStatementFactory = new MySQLHandler();
+                break;
+            case "oracle":
+                pageStatementFactory = new OracleHandler();
+                break;
+            case "postgres":
+                pageStatementFactory = new PostgresHandler();
+                break;
+            default:
+                pageStatementFactory = new StandardHandler();
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<SortNode> sortParse(RsqlState rsqlState) {
+        return rsqlState.rsqlConfiguration.getSortParser().parse(SORT);
+    }
+
+    @Benchmark
+    public SqlResult sortVisit(SqlState state, RsqlState rsqlState) {
+        return state.componentSortVisitor.visit(state.sortNodes, rsqlState.rsqlConfiguration.newEngineContext());
+    }
+
+    @Benchmark
+    public SqlResult sqlResultJoiner(SqlState state) {
+        return state.sqlResults.stream().collect(SqlResult.SqlResultJoiner.joining(" AND ", "(", ")"));
+    }
+
+    @Benchmark
+    public String pageSql(PageState pageState, SqlState state, RsqlState rsqlState) {
+        return pageState.pageStatementFactory.buildPageSql(IPerson.class, state.sqlFromWhereOrderBy, ROWS, new HashMap<>(), rsqlState.rsqlConfiguration.newEngineContext());
+    }
+
+    @Benchmark
+    public SqlSource sqlSourceBuilderParse(SqlState state) {
+        return state.sqlSourceBuilder.parse(state.sql, String.class, state.additionalParameters);
+    }
+
+    @Benchmark
+    public BoundSql rsqlSqlSource(SqlState state) {
+        return state.rsqlSqlSource.getBoundSql(state.request);
+    }
+}
@@ -0,0 +1,42 @@
+package com.talanlabs.mybatis.benchmarks.rsql;
+
+import com.talanlabs.mybatis.component.factory.ComponentObjectFactory;
+import com.talanlabs.mybatis.component.factory.ComponentProxyFactory;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.database.HSQLDBHandler;
+import com.talanlabs.mybatis.rsql.test.it.config.DefaultNlsColumnHandler;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Rsql configuration on the data model of component-mybatis-rsql tests, no connection is opened
+ */
+@State(Scope.Benchmark)
+public class RsqlState {
+
+    public ComponentConfiguration configuration;
+
+    public IRsqlConfiguration rsqlConfiguration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Environment environment = new Environment.Builder("benchmark").dataSource(new UnpooledDataSource("org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:rsql", "sa", ""))
+                .transactionFactory(new JdbcTransactionFactory()).build();
+
+        DefaultNlsColumnHandler defaultNlsColumnHandler = new DefaultNlsColumnHandler();
+
+        configuration = new ComponentConfiguration(environment);
+        configuration.setObjectFactory(new ComponentObjectFactory());
+        configuration.setProxyFactory(new ComponentProxyFactory());
+        configuration.setNlsColumnHandler(defaultNlsColumnHandler);
+
+        rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().nlsColumnRsqlHandler(defaultNlsColumnHandler).pageStatementFactory(new HSQLDBHandler()).build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.talanlabs.mybatis.benchmarks.rsql;
+
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.engine.where.ComponentRsqlVisitor;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse rsql and visit it to build where clause, for each string of RsqlCorpus
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsqlWhereBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class WhereState {
+
+        @Param({ RsqlCorpus.EQUAL, RsqlCorpus.LIKE, RsqlCorpus.DEEP_JOINS, RsqlCorpus.BIG_IN, RsqlCorpus.NLS, RsqlCorpus.COMPLEX })
+        public String corpus;
+
+        String rsql;
+
+        RSQLParser rsqlParser;
+
+        Node node;
+
+        ComponentRsqlVisitor<IPerson> componentRsqlVisitor;
+
+        @Setup(Level.Trial)
+        public void setUp(RsqlState rsqlState) {
+            rsql = RsqlCorpus.getRsql(corpus);
+            rsqlParser = rsqlState.rsqlConfiguration.getRsqlParser();
+            node = rsqlParser.parse(rsql);
+            componentRsqlVisitor = rsqlState.rsqlConfiguration.getComponentRsqlVisitor(IPerson.class);
+        }
+    }
+
+    @Benchmark
+    public Node parse(WhereState state) {
+        return state.rsqlParser.parse(state.rsql);
+    }
+
+    @Benchmark
+    public SqlResult visit(WhereState state, RsqlState rsqlState) {
+        return state.node.accept(state.componentRsqlVisitor, rsqlState.rsqlConfiguration.newEngineContext());
+    }
+
+    @Benchmark
+    public SqlResult parseAndVisit(WhereState state, RsqlState rsqlState) {
+        return state.rsqlParser.parse(state.rsql).accept(state.componentRsqlVisitor, rsqlState.rsqlConfiguration.newEngineContext());
+    }
+}
@@ -40,4 +40,11 @@ public @interface Column {
      * @return handler
      */
     Class<? extends TypeHandler<?>> typeHandler() default UnknownTypeHandler.class;
+
+    /**
+     * Lazy loading, column is not in main select and is loaded by id on first access (large CLOB, BLOB)
+     *
+     * @return type of loading, DEFAULT and EAGER are in main select
+     */
+    FetchType fetchType() default FetchType.DEFAULT;
 }
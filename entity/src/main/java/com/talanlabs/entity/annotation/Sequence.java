@@ -0,0 +1,24 @@
+package com.talanlabs.entity.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Numeric ids of entity from a database sequence, reserved by blocks of allocationSize. The sequence must be created with INCREMENT BY allocationSize
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Sequence {
+
+    String name();
+
+    int allocationSize() default 50;
+
+    /**
+     * @return sql returning next value of sequence, %s is replaced by name. Default from database product (Oracle, PostgreSQL, HSQLDB, H2, SQL Server)
+     */
+    String nextValueSql() default "";
+
+}
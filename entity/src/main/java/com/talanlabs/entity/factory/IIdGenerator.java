@@ -0,0 +1,15 @@
+package com.talanlabs.entity.factory;
+
+import com.talanlabs.entity.IId;
+
+/**
+ * Generator of ids of IdFactory, must be thread safe
+ */
+public interface IIdGenerator {
+
+    /**
+     * @return a new unique id
+     */
+    IId newId();
+
+}
@@ -3,29 +3,55 @@ package com.talanlabs.entity.factory;
 import com.google.common.base.Objects;
 import com.talanlabs.entity.IId;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 public class IdFactory {
 
-    private static IdFactory instance;
+    private static volatile IdFactory instance;
+
+    private final IIdGenerator idGenerator;
 
     public IdFactory() {
+        this(new RandomUuidIdGenerator());
+    }
+
+    /**
+     * @param idGenerator generator of ids, ex : UuidV7IdGenerator, UlidIdGenerator or SnowflakeIdGenerator for time-ordered ids
+     */
+    public IdFactory(IIdGenerator idGenerator) {
         super();
+
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("IdGenerator must not be null");
+        }
+        this.idGenerator = idGenerator;
     }
 
-    public static synchronized IdFactory getInstance() {
-        if (instance == null) {
-            instance = new IdFactory();
+    public static IdFactory getInstance() {
+        IdFactory res = instance;
+        if (res == null) {
+            synchronized (IdFactory.class) {
+                res = instance;
+                if (res == null) {
+                    res = new IdFactory();
+                    instance = res;
+                }
+            }
         }
-        return instance;
+        return res;
     }
 
     public static synchronized void setInstance(IdFactory instance) {
         IdFactory.instance = instance;
     }
 
+    public IIdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
     public IId newId() {
-        return new IdString(UUID.randomUUID().toString());
+        return idGenerator.newId();
     }
 
     public static class IdString implements IId {
@@ -65,4 +91,155 @@ public class IdFactory {
             return id;
         }
     }
+
+    /**
+     * Numeric id, ex : from a database sequence
+     */
+    public static class IdLong implements IId, Comparable<IdLong> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long value;
+
+        public IdLong(long value) {
+            super();
+            this.value = value;
+        }
+
+        public static IdLong of(long value) {
+            return new IdLong(value);
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        @Override
+        public int compareTo(IdLong o) {
+            return Long.compare(value, o.value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            return value == ((IdLong) o).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return Long.toString(value);
+        }
+    }
+
+    /**
+     * Id of 128 bits in two longs, string form is the UUID form. Legacy string ids in UUID form (36 chars) or hex (32 chars) are converted
+     */
+    public static class IdBinary implements IId, Comparable<IdBinary> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long mostSigBits;
+
+        private final long leastSigBits;
+
+        public IdBinary(long mostSigBits, long leastSigBits) {
+            super();
+            this.mostSigBits = mostSigBits;
+            this.leastSigBits = leastSigBits;
+        }
+
+        public static IdBinary of(long mostSigBits, long leastSigBits) {
+            return new IdBinary(mostSigBits, leastSigBits);
+        }
+
+        public static IdBinary from(UUID uuid) {
+            return new IdBinary(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        }
+
+        /**
+         * @param bytes 16 bytes, big endian
+         * @return id
+         */
+        public static IdBinary fromBytes(byte[] bytes) {
+            if (bytes == null || bytes.length != 16) {
+                throw new IllegalArgumentException("Binary id must have 16 bytes");
+            }
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+            return new IdBinary(byteBuffer.getLong(), byteBuffer.getLong());
+        }
+
+        /**
+         * @param id UUID form or 32 hex chars
+         * @return id
+         */
+        public static IdBinary fromString(String id) {
+            if (id == null) {
+                throw new IllegalArgumentException("Binary id must not be null");
+            }
+            if (id.length() == 36) {
+                return from(UUID.fromString(id));
+            } else if (id.length() == 32) {
+                try {
+                    return new IdBinary(Long.parseUnsignedLong(id.substring(0, 16), 16), Long.parseUnsignedLong(id.substring(16), 16));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Not hex binary id=" + id, e);
+                }
+            }
+            throw new IllegalArgumentException("Binary id must be UUID or 32 hex chars, id=" + id);
+        }
+
+        public long getMostSigBits() {
+            return mostSigBits;
+        }
+
+        public long getLeastSigBits() {
+            return leastSigBits;
+        }
+
+        public UUID toUuid() {
+            return new UUID(mostSigBits, leastSigBits);
+        }
+
+        /**
+         * @return 16 bytes, big endian
+         */
+        public byte[] toBytes() {
+            return ByteBuffer.allocate(16).putLong(mostSigBits).putLong(leastSigBits).array();
+        }
+
+        @Override
+        public int compareTo(IdBinary o) {
+            int res = Long.compareUnsigned(mostSigBits, o.mostSigBits);
+            return res != 0 ? res : Long.compareUnsigned(leastSigBits, o.leastSigBits);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            IdBinary idBinary = (IdBinary) o;
+            return mostSigBits == idBinary.mostSigBits && leastSigBits == idBinary.leastSigBits;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = mostSigBits ^ leastSigBits;
+            return (int) (h ^ h >>> 32);
+        }
+
+        @Override
+        public String toString() {
+            return toUuid().toString();
+        }
+    }
 }
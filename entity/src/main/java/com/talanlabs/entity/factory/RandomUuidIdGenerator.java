@@ -0,0 +1,32 @@
+package com.talanlabs.entity.factory;
+
+import com.talanlabs.entity.IId;
+
+import java.util.UUID;
+
+/**
+ * Random UUID (version 4), default generator. SecureRandom is shared by all threads and ids are not ordered
+ */
+public class RandomUuidIdGenerator implements IIdGenerator {
+
+    private final boolean binary;
+
+    public RandomUuidIdGenerator() {
+        this(false);
+    }
+
+    /**
+     * @param binary true for IdBinary, false for IdString
+     */
+    public RandomUuidIdGenerator(boolean binary) {
+        super();
+
+        this.binary = binary;
+    }
+
+    @Override
+    public IId newId() {
+        UUID uuid = UUID.randomUUID();
+        return binary ? IdFactory.IdBinary.from(uuid) : new IdFactory.IdString(uuid.toString());
+    }
+}
@@ -0,0 +1,106 @@
+package com.talanlabs.entity.factory;
+
+import com.talanlabs.entity.IId;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 64 bits id : 41 bits of milliseconds since epoch, 10 bits of node id, 12 bits of sequence.
+ * <p>
+ * Lock-free, timestamp and sequence are in a single AtomicLong. Over 4096 ids in a millisecond or if the clock goes back, the next millisecond is borrowed so ids are always increasing for a node.
+ * String form is the decimal value padded to 19 digits
+ */
+public class SnowflakeIdGenerator implements IIdGenerator {
+
+    /**
+     * 2017-01-01T00:00:00Z
+     */
+    public static final long DEFAULT_EPOCH = 1483228800000L;
+
+    public static final int NODE_BITS = 10;
+
+    public static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+    private static final int DIGITS = 19;
+
+    private final long nodeId;
+
+    private final long epoch;
+
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, DEFAULT_EPOCH);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long epoch) {
+        super();
+
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ", nodeId=" + nodeId);
+        }
+        if (epoch < 0 || epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException("Epoch must be in the past, epoch=" + epoch);
+        }
+
+        this.nodeId = nodeId;
+        this.epoch = epoch;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public IId newId() {
+        return new IdFactory.IdString(toString(nextLong()));
+    }
+
+    /**
+     * @return a new positive id
+     */
+    public long nextLong() {
+        while (true) {
+            long current = state.get();
+            long now = System.currentTimeMillis() - epoch;
+            // Same millisecond or clock back : increment sequence, overflow goes into timestamp
+            long next = now > current >>> SEQUENCE_BITS ? now << SEQUENCE_BITS : current + 1;
+            if (next >>> SEQUENCE_BITS > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Timestamp exceeds 41 bits since epoch=" + epoch);
+            }
+            if (state.compareAndSet(current, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | nodeId << SEQUENCE_BITS | next & SEQUENCE_MASK;
+            }
+        }
+    }
+
+    /**
+     * @param id id
+     * @return milliseconds since 1970 of id
+     */
+    public long extractTimestamp(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + epoch;
+    }
+
+    /**
+     * @param id id
+     * @return decimal string padded to 19 digits, sorted as numbers
+     */
+    public static String toString(long id) {
+        String s = Long.toString(id);
+        if (s.length() >= DIGITS) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(DIGITS);
+        for (int i = s.length(); i < DIGITS; i++) {
+            sb.append('0');
+        }
+        return sb.append(s).toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.talanlabs.entity.factory;
+
+import com.talanlabs.entity.IId;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ULID : 48 bits of unix time in milliseconds then 80 random bits from ThreadLocalRandom, 26 chars in Crockford base 32.
+ * <p>
+ * String form is sorted by time to the millisecond, random bits are not unpredictable
+ */
+public class UlidIdGenerator implements IIdGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final int LENGTH = 26;
+
+    private static final long MASK_40 = (1L << 40) - 1;
+
+    public UlidIdGenerator() {
+        super();
+    }
+
+    @Override
+    public IId newId() {
+        return new IdFactory.IdString(newUlid());
+    }
+
+    /**
+     * @return a new ULID
+     */
+    public String newUlid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] chars = new char[LENGTH];
+        encode(chars, 0, 10, System.currentTimeMillis() & 0xFFFFFFFFFFFFL);
+        encode(chars, 10, 8, random.nextLong() & MASK_40);
+        encode(chars, 18, 8, random.nextLong() & MASK_40);
+        return new String(chars);
+    }
+
+    private static void encode(char[] chars, int offset, int length, long value) {
+        long v = value;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = ALPHABET[(int) (v & 31)];
+            v >>>= 5;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.talanlabs.entity.factory;
+
+import com.talanlabs.entity.IId;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered UUID (version 7) : 48 bits of unix time in milliseconds then 74 random bits from ThreadLocalRandom.
+ * <p>
+ * String form is sorted by time to the millisecond, random bits are not unpredictable
+ */
+public class UuidV7IdGenerator implements IIdGenerator {
+
+    private final boolean binary;
+
+    public UuidV7IdGenerator() {
+        this(false);
+    }
+
+    /**
+     * @param binary true for IdBinary, false for IdString
+     */
+    public UuidV7IdGenerator(boolean binary) {
+        super();
+
+        this.binary = binary;
+    }
+
+    @Override
+    public IId newId() {
+        UUID uuid = newUuid();
+        return binary ? IdFactory.IdBinary.from(uuid) : new IdFactory.IdString(uuid.toString());
+    }
+
+    /**
+     * @return a new UUID version 7
+     */
+    public UUID newUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long timestamp = System.currentTimeMillis() & 0xFFFFFFFFFFFFL;
+        long mostSigBits = timestamp << 16 | 0x7000L | random.nextInt(1 << 12);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -1,6 +1,7 @@
 package com.talanlabs.entity.helper;
 
 import com.talanlabs.component.IComponent;
+import com.talanlabs.entity.annotation.Sequence;
 import com.talanlabs.entity.factory.IdFactory;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.keygen.KeyGenerator;
@@ -13,15 +14,21 @@ public class IdKeyGenerator implements KeyGenerator {
 
     private final String idPropertyName;
 
+    private final SequenceKeyGenerator sequenceKeyGenerator;
+
     public IdKeyGenerator(Configuration configuration, String id, Class<? extends IComponent> componentClass, String idPropertyName) {
         super();
 
         this.idPropertyName = idPropertyName;
+        // Entity with @Sequence has numeric ids
+        this.sequenceKeyGenerator = componentClass != null && componentClass.isAnnotationPresent(Sequence.class) ? new SequenceKeyGenerator(configuration, id, componentClass, idPropertyName) : null;
     }
 
     @Override
     public void processBefore(Executor executor, MappedStatement ms, Statement stmt, Object parameter) {
-        if (parameter instanceof IComponent) {
+        if (sequenceKeyGenerator != null) {
+            sequenceKeyGenerator.processBefore(executor, ms, stmt, parameter);
+        } else if (parameter instanceof IComponent) {
             IComponent component = (IComponent) parameter;
             component.straightSetProperty(idPropertyName, IdFactory.getInstance().newId());
         }
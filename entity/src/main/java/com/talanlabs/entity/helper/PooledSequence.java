@@ -0,0 +1,59 @@
+package com.talanlabs.entity.helper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free pool of values of a sequence : a value v of sequence reserves the block [v, v + allocationSize - 1].
+ * <p>
+ * When the block is exhausted, each thread which needs a value fetches a new block without waiting the others, the first one installed is shared, the rest of the others are lost (gaps)
+ */
+public class PooledSequence {
+
+    private final int allocationSize;
+
+    // Exhausted block of this instance, its counter is incremented by calls before the first fetch
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(1, 0));
+
+    public PooledSequence(int allocationSize) {
+        super();
+
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("Allocation size must be greater than 0, allocationSize=" + allocationSize);
+        }
+        this.allocationSize = allocationSize;
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    /**
+     * @param nextValue round trip to sequence, called only when the block is exhausted
+     * @return next value
+     */
+    public long next(LongSupplier nextValue) {
+        Block block = current.get();
+        long value = block.next.getAndIncrement();
+        if (value <= block.last) {
+            return value;
+        }
+
+        long first = nextValue.getAsLong();
+        current.compareAndSet(block, new Block(first + 1, first + allocationSize - 1));
+        return first;
+    }
+
+    private static class Block {
+
+        final AtomicLong next;
+
+        final long last;
+
+        Block(long next, long last) {
+            this.next = new AtomicLong(next);
+            this.last = last;
+        }
+    }
+}
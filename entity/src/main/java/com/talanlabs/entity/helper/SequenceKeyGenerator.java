@@ -0,0 +1,123 @@
+package com.talanlabs.entity.helper;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.entity.annotation.Sequence;
+import com.talanlabs.entity.factory.IdFactory;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.keygen.KeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set IdLong from a database sequence, configured by @Sequence on entity. Values are reserved by blocks in a PooledSequence.
+ * <p>
+ * Parameter can be a component, a collection of components or a map of collections (foreach batch insert)
+ */
+public class SequenceKeyGenerator implements KeyGenerator {
+
+    private final String idPropertyName;
+
+    private final Sequence sequence;
+
+    private final PooledSequence pooledSequence;
+
+    private volatile String nextValueSql;
+
+    public SequenceKeyGenerator(Configuration configuration, String id, Class<? extends IComponent> componentClass, String idPropertyName) {
+        super();
+
+        Sequence sequence = componentClass != null ? componentClass.getAnnotation(Sequence.class) : null;
+        if (sequence == null) {
+            throw new IllegalArgumentException("Not find Sequence for Component=" + componentClass);
+        }
+
+        this.idPropertyName = idPropertyName;
+        this.sequence = sequence;
+        this.pooledSequence = new PooledSequence(sequence.allocationSize());
+        this.nextValueSql = StringUtils.isNotBlank(sequence.nextValueSql()) ? String.format(sequence.nextValueSql(), sequence.name()) : null;
+    }
+
+    @Override
+    public void processBefore(Executor executor, MappedStatement ms, Statement stmt, Object parameter) {
+        if (parameter instanceof IComponent) {
+            setId(executor, (IComponent) parameter);
+        } else if (parameter instanceof Collection) {
+            setIds(executor, (Collection<?>) parameter);
+        } else if (parameter instanceof Map) {
+            // MyBatis puts a list under "list" and "collection"
+            Set<Object> done = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Object value : ((Map<?, ?>) parameter).values()) {
+                if (value instanceof Collection && done.add(value)) {
+                    setIds(executor, (Collection<?>) value);
+                }
+            }
+        }
+    }
+
+    private void setIds(Executor executor, Collection<?> components) {
+        for (Object component : components) {
+            if (component instanceof IComponent) {
+                setId(executor, (IComponent) component);
+            }
+        }
+    }
+
+    private void setId(Executor executor, IComponent component) {
+        long value = pooledSequence.next(() -> fetchNextValue(executor));
+        component.straightSetProperty(idPropertyName, IdFactory.IdLong.of(value));
+    }
+
+    private long fetchNextValue(Executor executor) {
+        try {
+            Connection connection = executor.getTransaction().getConnection();
+            String sql = nextValueSql;
+            if (sql == null) {
+                sql = buildNextValueSql(connection.getMetaData().getDatabaseProductName(), sequence.name());
+                nextValueSql = sql;
+            }
+            try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+                if (!rs.next()) {
+                    throw new ExecutorException("No value for sequence " + sequence.name());
+                }
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new ExecutorException("Failed to get next value of sequence " + sequence.name(), e);
+        }
+    }
+
+    /**
+     * @param databaseProductName product name of jdbc metadata
+     * @param name                name of sequence
+     * @return sql returning next value
+     */
+    public static String buildNextValueSql(String databaseProductName, String name) {
+        String product = StringUtils.defaultString(databaseProductName).toLowerCase();
+        if (product.contains("oracle")) {
+            return "SELECT " + name + ".NEXTVAL FROM DUAL";
+        } else if (product.contains("postgres")) {
+            return "SELECT nextval('" + name + "')";
+        } else if (product.contains("hsql")) {
+            return "CALL NEXT VALUE FOR " + name;
+        }
+        // H2, SQL Server, standard
+        return "SELECT NEXT VALUE FOR " + name;
+    }
+
+    @Override
+    public void processAfter(Executor executor, MappedStatement ms, Statement stmt, Object parameter) {
+        // Nothing
+    }
+}
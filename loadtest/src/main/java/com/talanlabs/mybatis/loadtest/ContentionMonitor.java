@@ -0,0 +1,159 @@
+package com.talanlabs.mybatis.loadtest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock contention of worker threads with ThreadMXBean: blocked/waited counts and times between start and stop, and sampling of monitors where threads are blocked
+ */
+public class ContentionMonitor {
+
+    private static final Logger LOG = LogManager.getLogger(ContentionMonitor.class);
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 5;
+
+    private final ThreadMXBean threadMXBean;
+
+    private final long[] threadIds;
+
+    private final boolean contentionTimeSupported;
+
+    private final Map<String, Integer> hotSpots = new HashMap<>();
+
+    private long[] startBlockedCounts;
+
+    private long[] startBlockedTimes;
+
+    private long[] startWaitedCounts;
+
+    private long[] startWaitedTimes;
+
+    private int samples;
+
+    private volatile boolean sampling;
+
+    private Thread sampler;
+
+    public ContentionMonitor(List<Thread> threads) {
+        super();
+
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.threadIds = threads.stream().mapToLong(Thread::getId).toArray();
+
+        boolean supported = threadMXBean.isThreadContentionMonitoringSupported();
+        if (supported && !threadMXBean.isThreadContentionMonitoringEnabled()) {
+            try {
+                threadMXBean.setThreadContentionMonitoringEnabled(true);
+            } catch (UnsupportedOperationException | SecurityException e) {
+                LOG.warn("Failed to enable thread contention monitoring", e);
+                supported = false;
+            }
+        }
+        this.contentionTimeSupported = supported;
+    }
+
+    /**
+     * Snapshot counters and start sampling, threads must be alive
+     */
+    public void start() {
+        int length = threadIds.length;
+        startBlockedCounts = new long[length];
+        startBlockedTimes = new long[length];
+        startWaitedCounts = new long[length];
+        startWaitedTimes = new long[length];
+
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds);
+        for (int i = 0; i < length; i++) {
+            if (threadInfos[i] != null) {
+                startBlockedCounts[i] = threadInfos[i].getBlockedCount();
+                startBlockedTimes[i] = threadInfos[i].getBlockedTime();
+                startWaitedCounts[i] = threadInfos[i].getWaitedCount();
+                startWaitedTimes[i] = threadInfos[i].getWaitedTime();
+            }
+        }
+
+        sampling = true;
+        sampler = new Thread(this::sample, "loadtest-contention-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    private void sample() {
+        while (sampling) {
+            ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds, 1);
+            synchronized (hotSpots) {
+                samples++;
+                for (ThreadInfo threadInfo : threadInfos) {
+                    String hotSpot = threadInfo != null ? toHotSpot(threadInfo) : null;
+                    if (hotSpot != null) {
+                        hotSpots.merge(hotSpot, 1, Integer::sum);
+                    }
+                }
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(SAMPLE_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private String toHotSpot(ThreadInfo threadInfo) {
+        LockInfo lockInfo = threadInfo.getLockInfo();
+        if (lockInfo == null) {
+            return null;
+        }
+        switch (threadInfo.getThreadState()) {
+            case BLOCKED:
+            case WAITING:
+            case TIMED_WAITING:
+                StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+                String frame = stackTrace.length > 0 ? stackTrace[0].getClassName() + "." + stackTrace[0].getMethodName() : "?";
+                return threadInfo.getThreadState() + " " + lockInfo.getClassName() + " in " + frame;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Stop sampling and snapshot counters, threads must be still alive
+     *
+     * @return contention between start and stop
+     */
+    public ContentionStats stop() {
+        sampling = false;
+        try {
+            sampler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long blockedCount = 0;
+        long blockedTime = 0;
+        long waitedCount = 0;
+        long waitedTime = 0;
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds);
+        for (int i = 0; i < threadIds.length; i++) {
+            if (threadInfos[i] != null) {
+                blockedCount += threadInfos[i].getBlockedCount() - startBlockedCounts[i];
+                blockedTime += threadInfos[i].getBlockedTime() - startBlockedTimes[i];
+                waitedCount += threadInfos[i].getWaitedCount() - startWaitedCounts[i];
+                waitedTime += threadInfos[i].getWaitedTime() - startWaitedTimes[i];
+            }
+        }
+
+        synchronized (hotSpots) {
+            return new ContentionStats(blockedCount, contentionTimeSupported ? blockedTime : -1, waitedCount, contentionTimeSupported ? waitedTime : -1, samples, new HashMap<>(hotSpots));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.talanlabs.mybatis.loadtest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Lock contention of all worker threads during a level, times are in milliseconds (-1 if contention monitoring is not supported)
+ */
+public class ContentionStats {
+
+    public final long blockedCount;
+
+    public final long blockedTimeMillis;
+
+    public final long waitedCount;
+
+    public final long waitedTimeMillis;
+
+    public final int samples;
+
+    public final Map<String, Integer> hotSpots;
+
+    public ContentionStats(long blockedCount, long blockedTimeMillis, long waitedCount, long waitedTimeMillis, int samples, Map<String, Integer> hotSpots) {
+        super();
+
+        this.blockedCount = blockedCount;
+        this.blockedTimeMillis = blockedTimeMillis;
+        this.waitedCount = waitedCount;
+        this.waitedTimeMillis = waitedTimeMillis;
+        this.samples = samples;
+        this.hotSpots = Collections.unmodifiableMap(hotSpots);
+    }
+
+    /**
+     * @param limit max number of hot spots
+     * @return hot spots sorted by number of samples
+     */
+    public List<Map.Entry<String, Integer>> getTopHotSpots(int limit) {
+        return hotSpots.entrySet().stream().sorted(Map.Entry.<String, Integer>comparingByValue().reversed()).limit(limit).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.talanlabs.mybatis.loadtest;
+
+import com.talanlabs.mybatis.rsql.database.H2Handler;
+import com.talanlabs.mybatis.rsql.database.HSQLDBHandler;
+import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
+
+/**
+ * In-memory databases of load test, both in MVCC mode so that readers are not blocked by writers
+ */
+public enum LoadTestDatabase {
+
+    HSQLDB("org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:%s;hsqldb.tx=mvcc") {
+        @Override
+        public IPageStatementFactory createPageStatementFactory() {
+            return new HSQLDBHandler();
+        }
+    },
+    H2("org.h2.Driver", "jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;MODE=HSQLDB") {
+        @Override
+        public IPageStatementFactory createPageStatementFactory() {
+            return new H2Handler();
+        }
+    };
+
+    private final String driver;
+
+    private final String urlPattern;
+
+    LoadTestDatabase(String driver, String urlPattern) {
+        this.driver = driver;
+        this.urlPattern = urlPattern;
+    }
+
+    public String getDriver() {
+        return driver;
+    }
+
+    /**
+     * @param databaseName name of in-memory database
+     * @return jdbc url
+     */
+    public String getUrl(String databaseName) {
+        return String.format(urlPattern, databaseName);
+    }
+
+    /**
+     * @return page statement factory of rsql for this database
+     */
+    public abstract IPageStatementFactory createPageStatementFactory();
+}
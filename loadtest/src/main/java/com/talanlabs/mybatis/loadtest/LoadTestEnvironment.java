@@ -0,0 +1,248 @@
+package com.talanlabs.mybatis.loadtest;
+
+import com.talanlabs.mybatis.component.cache.ComponentCacheFactory;
+import com.talanlabs.mybatis.component.factory.ComponentObjectFactory;
+import com.talanlabs.mybatis.component.factory.ComponentProxyFactory;
+import com.talanlabs.mybatis.component.resultmap.ComponentResultMapFactory;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.statement.DeleteComponentsByMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.DeleteEntityByIdMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.DeleteMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindComponentsByJoinTableMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindComponentsByMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindEntityByIdMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindLazyColumnMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindNlsColumnMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.InsertMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.UpdateMappedStatementFactory;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.statement.CountRsqlMappedStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.RsqlMappedStatementFactory;
+import com.talanlabs.mybatis.simple.handler.IdTypeHandler;
+import com.talanlabs.mybatis.simple.observer.TracableTriggerObserver;
+import com.talanlabs.mybatis.test.it.config.DefaultNlsColumnHandler;
+import com.talanlabs.mybatis.test.it.config.DefaultUserByHandler;
+import com.talanlabs.mybatis.test.it.mapper.NlsMapper;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Configuration of dev model on an in-memory database, with generated data
+ */
+public class LoadTestEnvironment {
+
+    public static final int COUNTRIES = 20;
+
+    public static final int GROUPS_BY_USER = 3;
+
+    private final LoadTestOptions options;
+
+    private final ComponentConfiguration configuration;
+
+    private final SqlSessionManager sqlSessionManager;
+
+    private final ComponentSqlSessionManager componentSqlSessionManager;
+
+    public LoadTestEnvironment(LoadTestOptions options) {
+        super();
+
+        this.options = options;
+
+        int maxThreads = options.getThreads().stream().mapToInt(Integer::intValue).max().orElse(1);
+
+        PooledDataSource dataSource = new PooledDataSource(null, options.getDatabase().getDriver(), options.getDatabase().getUrl("loadtest"), "sa", "");
+        // One connection by thread, otherwise the pool is the main contention
+        dataSource.setPoolMaximumActiveConnections(maxThreads + 1);
+        dataSource.setPoolMaximumIdleConnections(maxThreads + 1);
+
+        Environment environment = new Environment.Builder("loadtest").dataSource(dataSource).transactionFactory(new JdbcTransactionFactory()).build();
+
+        this.configuration = new ComponentConfiguration(environment);
+        configuration.setObjectFactory(new ComponentObjectFactory());
+        configuration.setProxyFactory(new ComponentProxyFactory());
+        configuration.setLazyLoadingEnabled(true);
+        configuration.setAggressiveLazyLoading(false);
+        configuration.setNlsColumnHandler(new DefaultNlsColumnHandler());
+
+        IRsqlConfiguration rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().pageStatementFactory(options.getDatabase().createPageStatementFactory()).build();
+
+        configuration.getMappedStatementFactoryRegistry().registry(new FindEntityByIdMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new FindComponentsByMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new FindComponentsByJoinTableMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new FindNlsColumnMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new FindLazyColumnMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new InsertMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new UpdateMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new DeleteMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new DeleteEntityByIdMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new DeleteComponentsByMappedStatementFactory());
+        configuration.getMappedStatementFactoryRegistry().registry(new RsqlMappedStatementFactory(rsqlConfiguration));
+        configuration.getMappedStatementFactoryRegistry().registry(new CountRsqlMappedStatementFactory(rsqlConfiguration));
+
+        configuration.getResultMapFactoryRegistry().registry(new ComponentResultMapFactory());
+
+        configuration.getCacheFactoryRegistry().registry(new ComponentCacheFactory());
+
+        configuration.getTriggerDispatcher().addTriggerObserver(new TracableTriggerObserver(new DefaultUserByHandler()));
+
+        configuration.getTypeHandlerRegistry().register(IdTypeHandler.class);
+
+        configuration.addMapper(NlsMapper.class);
+
+        this.sqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(configuration));
+        this.componentSqlSessionManager = ComponentSqlSessionManager.newInstance(sqlSessionManager);
+    }
+
+    public ComponentConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @return session manager, each thread must start its managed session
+     */
+    public SqlSessionManager getSqlSessionManager() {
+        return sqlSessionManager;
+    }
+
+    public ComponentSqlSessionManager getComponentSqlSessionManager() {
+        return componentSqlSessionManager;
+    }
+
+    /**
+     * Create tables and insert countries, addresses, users, groups and persons
+     */
+    public void initDatabase() {
+        sqlSessionManager.startManagedSession();
+        try {
+            Connection connection = sqlSessionManager.getConnection();
+
+            ScriptRunner scriptRunner = new ScriptRunner(connection);
+            scriptRunner.setLogWriter(null);
+            scriptRunner.setSendFullScript(false);
+            scriptRunner.runScript(Resources.getResourceAsReader("loadtest-schema.sql"));
+
+            insertData(connection, options.getUsers());
+
+            sqlSessionManager.commit(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to insert data", e);
+        } finally {
+            sqlSessionManager.close();
+        }
+    }
+
+    private void insertData(Connection connection, int users) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO t_country (id, version, code, name, created_date, created_by) VALUES (?, 0, ?, ?, ?, 'LOADTEST')");
+                PreparedStatement nlsPs = connection.prepareStatement("INSERT INTO t_nls (table_name, column_name, language_code, table_id, meaning) VALUES ('T_COUNTRY', 'NAME', 'fra', ?, ?)")) {
+            for (int i = 1; i <= COUNTRIES; i++) {
+                ps.setString(1, String.valueOf(i));
+                ps.setString(2, countryCode(i));
+                ps.setString(3, "Country " + i);
+                ps.setTimestamp(4, now);
+                ps.addBatch();
+
+                nlsPs.setString(1, String.valueOf(i));
+                nlsPs.setString(2, "Pays " + i);
+                nlsPs.addBatch();
+            }
+            ps.executeBatch();
+            nlsPs.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO t_address (id, version, city, postal_zip, country_id, created_date, created_by) VALUES (?, 0, ?, ?, ?, ?, 'LOADTEST')")) {
+            for (int i = 1; i <= users; i++) {
+                ps.setString(1, String.valueOf(i));
+                ps.setString(2, "City" + (i % 100));
+                ps.setString(3, String.format("%05d", i % 100000));
+                ps.setString(4, String.valueOf(i % COUNTRIES + 1));
+                ps.setTimestamp(5, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO t_user (id, version, login, country_code, country_id, address_id, created_date, created_by) VALUES (?, 0, ?, ?, ?, ?, ?, 'LOADTEST')");
+                PreparedStatement assoPs = connection.prepareStatement("INSERT INTO t_asso_user_address (user_id, address_id) VALUES (?, ?)");
+                PreparedStatement groupPs = connection.prepareStatement("INSERT INTO t_group (id, version, user_id, name, created_date, created_by) VALUES (?, 0, ?, ?, ?, 'LOADTEST')")) {
+            for (int i = 1; i <= users; i++) {
+                ps.setString(1, String.valueOf(i));
+                ps.setString(2, "user" + i);
+                ps.setString(3, countryCode(i % COUNTRIES + 1));
+                ps.setString(4, String.valueOf(i % COUNTRIES + 1));
+                ps.setString(5, String.valueOf(i));
+                ps.setTimestamp(6, now);
+                ps.addBatch();
+
+                assoPs.setString(1, String.valueOf(i));
+                assoPs.setString(2, String.valueOf(i));
+                assoPs.addBatch();
+                assoPs.setString(1, String.valueOf(i));
+                assoPs.setString(2, String.valueOf(i % users + 1));
+                assoPs.addBatch();
+
+                for (int j = 0; j < GROUPS_BY_USER; j++) {
+                    groupPs.setString(1, String.valueOf((i - 1) * GROUPS_BY_USER + j + 1));
+                    groupPs.setString(2, String.valueOf(i));
+                    groupPs.setString(3, "group" + j);
+                    groupPs.setTimestamp(4, now);
+                    groupPs.addBatch();
+                }
+            }
+            ps.executeBatch();
+            assoPs.executeBatch();
+            groupPs.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO t_person (id, version, first_name, last_name, age, address_id, created_date, created_by) VALUES (?, 0, ?, ?, ?, ?, ?, 'LOADTEST')");
+                PreparedStatement assoPs = connection.prepareStatement("INSERT INTO t_asso_person_address (person_id, address_id) VALUES (?, ?)")) {
+            for (int i = 1; i <= users; i++) {
+                ps.setString(1, String.valueOf(i));
+                ps.setString(2, "First" + i);
+                ps.setString(3, "Last" + (i % 500));
+                ps.setInt(4, 18 + i % 60);
+                ps.setString(5, String.valueOf(i));
+                ps.setTimestamp(6, now);
+                ps.addBatch();
+
+                assoPs.setString(1, String.valueOf(i));
+                assoPs.setString(2, String.valueOf(i % users + 1));
+                assoPs.addBatch();
+            }
+            ps.executeBatch();
+            assoPs.executeBatch();
+        }
+    }
+
+    static String countryCode(int i) {
+        return String.format("C%02d", i);
+    }
+
+    /**
+     * Close all connections of pool
+     */
+    public void close() {
+        if (configuration.getEnvironment().getDataSource() instanceof PooledDataSource) {
+            ((PooledDataSource) configuration.getEnvironment().getDataSource()).forceCloseAll();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.talanlabs.mybatis.loadtest;
+
+/**
+ * Kind of operation of the mixed workload
+ */
+public enum LoadTestOperation {
+
+    /**
+     * findById of IUser with lazy loads of country (cache and nls column) and groups
+     */
+    READ,
+    /**
+     * Update of IUser, or insert and delete of IGroup (clear of caches and triggers)
+     */
+    WRITE,
+    /**
+     * Rsql request with sort and rows or count on IUser, IPerson, IAddress
+     */
+    RSQL
+
+}
@@ -0,0 +1,194 @@
+package com.talanlabs.mybatis.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Options of load test, from command line : --threads=1,2,4 --warmup=2 --duration=10 --database=H2 --users=1000 --mix=60,25,15
+ */
+public class LoadTestOptions {
+
+    private List<Integer> threads;
+    private int warmupSeconds;
+    private int durationSeconds;
+    private LoadTestDatabase database;
+    private int users;
+    private int readPercent;
+    private int writePercent;
+    private int rsqlPercent;
+
+    private LoadTestOptions() {
+        super();
+
+        this.threads = Collections.unmodifiableList(Arrays.asList(1, 2, 4, 8, 16, 32, 64));
+        this.warmupSeconds = 2;
+        this.durationSeconds = 10;
+        this.database = LoadTestDatabase.HSQLDB;
+        this.users = 1000;
+        this.readPercent = 60;
+        this.writePercent = 25;
+        this.rsqlPercent = 15;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Parse arguments of main
+     *
+     * @param args arguments --name=value
+     * @return options
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Builder builder = newBuilder();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Argument must be --name=value, arg=" + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "threads":
+                    List<Integer> threads = new ArrayList<>();
+                    for (String thread : value.split(",")) {
+                        threads.add(Integer.parseInt(thread.trim()));
+                    }
+                    builder.threads(threads);
+                    break;
+                case "warmup":
+                    builder.warmupSeconds(Integer.parseInt(value));
+                    break;
+                case "duration":
+                    builder.durationSeconds(Integer.parseInt(value));
+                    break;
+                case "database":
+                    builder.database(LoadTestDatabase.valueOf(value.toUpperCase()));
+                    break;
+                case "users":
+                    builder.users(Integer.parseInt(value));
+                    break;
+                case "mix":
+                    String[] percents = value.split(",");
+                    if (percents.length != 3) {
+                        throw new IllegalArgumentException("Mix must be read,write,rsql percents, mix=" + value);
+                    }
+                    builder.mix(Integer.parseInt(percents[0].trim()), Integer.parseInt(percents[1].trim()), Integer.parseInt(percents[2].trim()));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument " + name);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return numbers of threads, one level by number
+     */
+    public List<Integer> getThreads() {
+        return threads;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public LoadTestDatabase getDatabase() {
+        return database;
+    }
+
+    /**
+     * @return number of users, persons and addresses created
+     */
+    public int getUsers() {
+        return users;
+    }
+
+    public int getReadPercent() {
+        return readPercent;
+    }
+
+    public int getWritePercent() {
+        return writePercent;
+    }
+
+    public int getRsqlPercent() {
+        return rsqlPercent;
+    }
+
+    public static class Builder {
+
+        private LoadTestOptions loadTestOptions;
+
+        private Builder() {
+            super();
+
+            this.loadTestOptions = new LoadTestOptions();
+        }
+
+        public Builder threads(List<Integer> threads) {
+            if (threads == null || threads.isEmpty()) {
+                throw new IllegalArgumentException("Threads must not be empty");
+            }
+            for (Integer thread : threads) {
+                if (thread == null || thread < 1) {
+                    throw new IllegalArgumentException("Number of threads must be greater than 0, threads=" + threads);
+                }
+            }
+            this.loadTestOptions.threads = Collections.unmodifiableList(new ArrayList<>(threads));
+            return this;
+        }
+
+        public Builder warmupSeconds(int warmupSeconds) {
+            if (warmupSeconds < 0) {
+                throw new IllegalArgumentException("Warmup must be positive, warmup=" + warmupSeconds);
+            }
+            this.loadTestOptions.warmupSeconds = warmupSeconds;
+            return this;
+        }
+
+        public Builder durationSeconds(int durationSeconds) {
+            if (durationSeconds < 1) {
+                throw new IllegalArgumentException("Duration must be greater than 0, duration=" + durationSeconds);
+            }
+            this.loadTestOptions.durationSeconds = durationSeconds;
+            return this;
+        }
+
+        public Builder database(LoadTestDatabase database) {
+            if (database == null) {
+                throw new IllegalArgumentException("Database must not be null");
+            }
+            this.loadTestOptions.database = database;
+            return this;
+        }
+
+        public Builder users(int users) {
+            if (users < 1) {
+                throw new IllegalArgumentException("Users must be greater than 0, users=" + users);
+            }
+            this.loadTestOptions.users = users;
+            return this;
+        }
+
+        public Builder mix(int readPercent, int writePercent, int rsqlPercent) {
+            if (readPercent < 0 || writePercent < 0 || rsqlPercent < 0 || readPercent + writePercent + rsqlPercent != 100) {
+                throw new IllegalArgumentException("Mix must be positive percents with sum 100, mix=" + readPercent + "," + writePercent + "," + rsqlPercent);
+            }
+            this.loadTestOptions.readPercent = readPercent;
+            this.loadTestOptions.writePercent = writePercent;
+            this.loadTestOptions.rsqlPercent = rsqlPercent;
+            return this;
+        }
+
+        public LoadTestOptions build() {
+            return loadTestOptions;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.talanlabs.mybatis.loadtest;
+
+import com.talanlabs.mybatis.component.metrics.LockFreeHistogram;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Result of a level of load test: latencies in nanoseconds and errors by operation, contention of threads
+ */
+public class LoadTestResult {
+
+    private final int threads;
+
+    private final Map<LoadTestOperation, LockFreeHistogram> latencies;
+
+    private final Map<LoadTestOperation, LongAdder> errors;
+
+    private long durationNanos;
+
+    private ContentionStats contentionStats;
+
+    public LoadTestResult(int threads) {
+        super();
+
+        this.threads = threads;
+        this.latencies = new EnumMap<>(LoadTestOperation.class);
+        this.errors = new EnumMap<>(LoadTestOperation.class);
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            latencies.put(operation, new LockFreeHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void recordLatency(LoadTestOperation operation, long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    public void recordError(LoadTestOperation operation) {
+        errors.get(operation).increment();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public Map<LoadTestOperation, LockFreeHistogram> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    public long getErrors(LoadTestOperation operation) {
+        return errors.get(operation).sum();
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public ContentionStats getContentionStats() {
+        return contentionStats;
+    }
+
+    public void setContentionStats(ContentionStats contentionStats) {
+        this.contentionStats = contentionStats;
+    }
+
+    /**
+     * @return count of successful operations of all kinds
+     */
+    public long getCount() {
+        return latencies.values().stream().mapToLong(LockFreeHistogram::getCount).sum();
+    }
+
+    /**
+     * @return successful operations by second
+     */
+    public double getThroughput() {
+        return durationNanos > 0 ? getCount() * 1e9 / durationNanos : 0.0;
+    }
+}
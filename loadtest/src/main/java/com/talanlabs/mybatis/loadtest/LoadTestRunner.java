@@ -0,0 +1,204 @@
+package com.talanlabs.mybatis.loadtest;
+
+import com.talanlabs.mybatis.component.metrics.LockFreeHistogram;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run the mixed workload with 1 to 64 threads and print throughput, latency percentiles and lock contention by level
+ * <p>
+ * java -jar loadtest/target/loadtest.jar [--threads=1,2,4,8,16,32,64] [--warmup=2] [--duration=10] [--database=HSQLDB|H2] [--users=1000] [--mix=60,25,15]
+ */
+public final class LoadTestRunner {
+
+    private static final Logger LOG = LogManager.getLogger(LoadTestRunner.class);
+
+    private static final int HOT_SPOTS = 5;
+
+    private final LoadTestOptions options;
+
+    private final LoadTestEnvironment environment;
+
+    private final LoadTestWorkload workload;
+
+    public LoadTestRunner(LoadTestOptions options) {
+        super();
+
+        this.options = options;
+        this.environment = new LoadTestEnvironment(options);
+        this.workload = new LoadTestWorkload(environment, options);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        LoadTestRunner loadTestRunner = new LoadTestRunner(options);
+        List<LoadTestResult> results = loadTestRunner.run();
+
+        print(System.out, options, results);
+    }
+
+    /**
+     * Initialize database and run all levels of threads
+     *
+     * @return result by level
+     */
+    public List<LoadTestResult> run() throws InterruptedException {
+        environment.initDatabase();
+        try {
+            List<LoadTestResult> results = new ArrayList<>();
+            for (int threads : options.getThreads()) {
+                LOG.info("Run level threads={}", threads);
+                results.add(runLevel(threads));
+            }
+            return results;
+        } finally {
+            environment.close();
+        }
+    }
+
+    private LoadTestResult runLevel(int threadCount) throws InterruptedException {
+        LoadTestResult result = new LoadTestResult(threadCount);
+
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch stopped = new CountDownLatch(1);
+        Worker[] workers = new Worker[threadCount];
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            workers[i] = new Worker(result, ready, stopped);
+            Thread thread = new Thread(workers[i], "loadtest-worker-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        threads.forEach(Thread::start);
+        ready.await();
+
+        TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+
+        ContentionMonitor contentionMonitor = new ContentionMonitor(threads);
+        contentionMonitor.start();
+        long start = System.nanoTime();
+        for (Worker worker : workers) {
+            worker.measuring = true;
+        }
+
+        TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+
+        for (Worker worker : workers) {
+            worker.measuring = false;
+        }
+        result.setDurationNanos(System.nanoTime() - start);
+        // Threads must be alive to read their counters
+        result.setContentionStats(contentionMonitor.stop());
+
+        stopped.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return result;
+    }
+
+    /**
+     * Print a table of results, then hot spots of contention by level
+     *
+     * @param out     output
+     * @param options options
+     * @param results results
+     */
+    public static void print(PrintStream out, LoadTestOptions options, List<LoadTestResult> results) {
+        out.println(String.format("Database=%s users=%d mix read/write/rsql=%d/%d/%d warmup=%ds duration=%ds", options.getDatabase(), options.getUsers(), options.getReadPercent(), options.getWritePercent(),
+                options.getRsqlPercent(), options.getWarmupSeconds(), options.getDurationSeconds()));
+        out.println();
+        out.println(String.format("%7s %-6s %10s %9s %9s %9s %9s %9s %7s %9s %11s %9s %11s", "threads", "op", "count", "ops/s", "p50(us)", "p95(us)", "p99(us)", "max(us)", "errors", "blocked",
+                "blocked(ms)", "waited", "waited(ms)"));
+        for (LoadTestResult result : results) {
+            ContentionStats contentionStats = result.getContentionStats();
+            out.println(String.format("%7d %-6s %10d %9.0f %9s %9s %9s %9s %7d %9d %11d %9d %11d", result.getThreads(), "ALL", result.getCount(), result.getThroughput(), "", "", "", "",
+                    totalErrors(result), contentionStats.blockedCount, contentionStats.blockedTimeMillis, contentionStats.waitedCount, contentionStats.waitedTimeMillis));
+            for (Map.Entry<LoadTestOperation, LockFreeHistogram> entry : result.getLatencies().entrySet()) {
+                LockFreeHistogram histogram = entry.getValue();
+                out.println(String.format("%7s %-6s %10d %9.0f %9d %9d %9d %9d %7d", "", entry.getKey(), histogram.getCount(), histogram.getCount() * 1e9 / Math.max(1, result.getDurationNanos()),
+                        toMicros(histogram.getValueAtPercentile(50.0)), toMicros(histogram.getValueAtPercentile(95.0)), toMicros(histogram.getValueAtPercentile(99.0)), toMicros(histogram.getMax()),
+                        result.getErrors(entry.getKey())));
+            }
+        }
+
+        for (LoadTestResult result : results) {
+            ContentionStats contentionStats = result.getContentionStats();
+            List<Map.Entry<String, Integer>> topHotSpots = contentionStats.getTopHotSpots(HOT_SPOTS);
+            if (!topHotSpots.isEmpty()) {
+                out.println();
+                out.println(String.format("Hot spots threads=%d (%d samples)", result.getThreads(), contentionStats.samples));
+                for (Map.Entry<String, Integer> entry : topHotSpots) {
+                    out.println(String.format("  %8d  %s", entry.getValue(), entry.getKey()));
+                }
+            }
+        }
+    }
+
+    private static long totalErrors(LoadTestResult result) {
+        long errors = 0;
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            errors += result.getErrors(operation);
+        }
+        return errors;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private class Worker implements Runnable {
+
+        private final LoadTestResult result;
+
+        private final CountDownLatch ready;
+
+        private final CountDownLatch stopped;
+
+        private volatile boolean measuring;
+
+        private Worker(LoadTestResult result, CountDownLatch ready, CountDownLatch stopped) {
+            super();
+
+            this.result = result;
+            this.ready = ready;
+            this.stopped = stopped;
+        }
+
+        @Override
+        public void run() {
+            SqlSessionManager sqlSessionManager = environment.getSqlSessionManager();
+            sqlSessionManager.startManagedSession();
+            try {
+                ready.countDown();
+                while (stopped.getCount() > 0) {
+                    LoadTestOperation operation = workload.nextOperation();
+                    boolean measured = measuring;
+                    long start = System.nanoTime();
+                    try {
+                        workload.execute(operation);
+                        if (measured) {
+                            result.recordLatency(operation, System.nanoTime() - start);
+                        }
+                    } catch (RuntimeException e) {
+                        if (measured) {
+                            result.recordError(operation);
+                        }
+                        LOG.debug("Failed operation " + operation, e);
+                    }
+                }
+            } finally {
+                sqlSessionManager.close();
+            }
+        }
+    }
+}
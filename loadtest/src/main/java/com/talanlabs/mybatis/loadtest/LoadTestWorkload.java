@@ -0,0 +1,135 @@
+package com.talanlabs.mybatis.loadtest;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import model.GroupBuilder;
+import model.IAddress;
+import model.ICountry;
+import model.IGroup;
+import model.IPerson;
+import model.IUser;
+import org.apache.ibatis.session.SqlSessionManager;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mixed read/write/rsql workload on the dev model, executed in the managed session of the current thread
+ */
+public class LoadTestWorkload {
+
+    private final SqlSessionManager sqlSessionManager;
+
+    private final ComponentSqlSessionManager componentSqlSessionManager;
+
+    private final LoadTestOptions options;
+
+    public LoadTestWorkload(LoadTestEnvironment environment, LoadTestOptions options) {
+        super();
+
+        this.sqlSessionManager = environment.getSqlSessionManager();
+        this.componentSqlSessionManager = environment.getComponentSqlSessionManager();
+        this.options = options;
+    }
+
+    /**
+     * @return next operation according to mix
+     */
+    public LoadTestOperation nextOperation() {
+        int r = ThreadLocalRandom.current().nextInt(100);
+        if (r < options.getReadPercent()) {
+            return LoadTestOperation.READ;
+        } else if (r < options.getReadPercent() + options.getWritePercent()) {
+            return LoadTestOperation.WRITE;
+        }
+        return LoadTestOperation.RSQL;
+    }
+
+    /**
+     * Execute an operation and commit
+     *
+     * @param operation operation
+     */
+    public void execute(LoadTestOperation operation) {
+        try {
+            switch (operation) {
+                case READ:
+                    read();
+                    break;
+                case WRITE:
+                    write();
+                    break;
+                case RSQL:
+                    rsql();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operation " + operation);
+            }
+            sqlSessionManager.commit();
+        } catch (RuntimeException e) {
+            sqlSessionManager.rollback(true);
+            throw e;
+        }
+    }
+
+    private void read() {
+        IUser user = componentSqlSessionManager.findById(IUser.class, randomUserId());
+        if (user == null) {
+            throw new IllegalStateException("User not found");
+        }
+        ICountry country = user.getCountry();
+        if (country != null) {
+            country.getName();
+        }
+        user.getGroups().size();
+    }
+
+    private void write() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        IUser user = componentSqlSessionManager.findById(IUser.class, randomUserId());
+        if (user == null) {
+            throw new IllegalStateException("User not found");
+        }
+        if (random.nextBoolean()) {
+            user.setLogin("user" + user.getId() + "-" + random.nextInt(1000));
+            // 0 when an other thread has updated the same version, counted as operation not as error
+            componentSqlSessionManager.update(user);
+        } else {
+            IGroup group = GroupBuilder.newBuilder().userId(user.getId()).name("loadtest").build();
+            componentSqlSessionManager.insert(group);
+            // IGroup is cancelable, delete by id removes the row
+            sqlSessionManager.delete(StatementNameHelper.buildDeleteEntityByIdKey(IGroup.class), group.getId());
+        }
+    }
+
+    private void rsql() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (random.nextInt(3)) {
+            case 0:
+                List<IUser> users = sqlSessionManager
+                        .selectList(RsqlStatementNameHelper.buildRsqlKey(IUser.class), Request.newBuilder().rsql("login==user" + (random.nextInt(9) + 1) + "*").sort("-login").rows(Request.Rows.of(0, 20)).build());
+                users.size();
+                break;
+            case 1:
+                int age = 18 + random.nextInt(50);
+                List<IPerson> persons = sqlSessionManager
+                        .selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), Request.newBuilder().rsql("age=ge=" + age + ";age=lt=" + (age + 5)).sort("lastName,firstName").rows(Request.Rows.of(0, 50)).build());
+                persons.size();
+                break;
+            default:
+                Integer count = sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(IAddress.class),
+                        "city==City" + random.nextInt(100) + ";country.code==" + LoadTestEnvironment.countryCode(random.nextInt(LoadTestEnvironment.COUNTRIES) + 1));
+                if (count == null) {
+                    throw new IllegalStateException("Count is null");
+                }
+                break;
+        }
+    }
+
+    private Object randomUserId() {
+        return IdFactory.IdString.from(String.valueOf(ThreadLocalRandom.current().nextInt(options.getUsers()) + 1));
+    }
+}
@@ -0,0 +1,99 @@
+CREATE TABLE t_user (
+  id           VARCHAR(256) PRIMARY KEY,
+  version      INT,
+  login        VARCHAR(256),
+  country_code VARCHAR(256),
+  country_id   VARCHAR(256),
+  address_id   VARCHAR(256),
+  created_date TIMESTAMP,
+  created_by   VARCHAR(240),
+  updated_date TIMESTAMP,
+  updated_by   VARCHAR(240)
+);
+
+CREATE INDEX i_user_login ON t_user (login);
+
+CREATE TABLE t_group (
+  id            VARCHAR(256) PRIMARY KEY,
+  version       INT,
+  user_id       VARCHAR(256),
+  name          VARCHAR(256),
+  created_date  TIMESTAMP,
+  created_by    VARCHAR(240),
+  updated_date  TIMESTAMP,
+  updated_by    VARCHAR(240),
+  canceled      BOOLEAN DEFAULT FALSE,
+  canceled_date TIMESTAMP,
+  canceled_by   VARCHAR(240)
+);
+
+CREATE INDEX i_group_user_id ON t_group (user_id);
+
+CREATE TABLE t_address (
+  id            VARCHAR(256) PRIMARY KEY,
+  version       INT,
+  city          VARCHAR(256),
+  postal_zip    VARCHAR(256),
+  country_id    VARCHAR(256),
+  created_date  TIMESTAMP,
+  created_by    VARCHAR(240),
+  updated_date  TIMESTAMP,
+  updated_by    VARCHAR(240),
+  canceled      BOOLEAN DEFAULT FALSE,
+  canceled_date TIMESTAMP,
+  canceled_by   VARCHAR(240)
+);
+
+CREATE TABLE t_country (
+  id            VARCHAR(256) PRIMARY KEY,
+  version       INT,
+  code          VARCHAR(256),
+  name          VARCHAR(256),
+  created_date  TIMESTAMP,
+  created_by    VARCHAR(240),
+  updated_date  TIMESTAMP,
+  updated_by    VARCHAR(240),
+  canceled      BOOLEAN DEFAULT FALSE,
+  canceled_date TIMESTAMP,
+  canceled_by   VARCHAR(240)
+);
+
+CREATE TABLE t_asso_user_address (
+  user_id    VARCHAR(256),
+  address_id VARCHAR(256)
+);
+
+CREATE INDEX i_asso_user_address ON t_asso_user_address (user_id);
+
+CREATE TABLE t_person (
+  id           VARCHAR(256) PRIMARY KEY,
+  version      INT,
+  first_name   VARCHAR(256),
+  last_name    VARCHAR(256),
+  age          INT,
+  birthday     DATE,
+  address_id   VARCHAR(256),
+  created_date TIMESTAMP,
+  created_by   VARCHAR(240),
+  updated_date TIMESTAMP,
+  updated_by   VARCHAR(240)
+);
+
+CREATE INDEX i_person_age ON t_person (age);
+
+CREATE TABLE t_asso_person_address (
+  person_id  VARCHAR(256),
+  address_id VARCHAR(256)
+);
+
+CREATE INDEX i_asso_person_address ON t_asso_person_address (person_id);
+
+CREATE TABLE t_nls (
+  table_name    VARCHAR(256),
+  column_name   VARCHAR(256),
+  language_code VARCHAR(3),
+  table_id      VARCHAR(256),
+  meaning       VARCHAR(256)
+);
+
+CREATE INDEX i_nls ON t_nls (table_name, table_id);
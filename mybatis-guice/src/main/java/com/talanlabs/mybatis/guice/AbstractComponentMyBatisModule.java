@@ -9,7 +9,10 @@ import com.talanlabs.mybatis.component.session.factory.ICacheFactory;
 import com.talanlabs.mybatis.component.session.factory.IMappedStatementFactory;
 import com.talanlabs.mybatis.component.session.factory.IResultMapFactory;
 import com.talanlabs.mybatis.component.session.factory.ITypeHandlerFactory;
+import com.talanlabs.mybatis.component.session.handler.NlsBatchMode;
 import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
+import com.talanlabs.mybatis.guice.configuration.ComponentInterceptors;
+import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.type.TypeHandler;
 import org.mybatis.guice.configuration.Mappers;
 import org.mybatis.guice.configuration.MappingTypeHandlers;
@@ -26,6 +29,7 @@ public abstract class AbstractComponentMyBatisModule extends AbstractModule {
     private Multibinder<ICacheFactory> cacheFactoryMultibinder;
     private Multibinder<ITriggerObserver> triggerObserverMultibinder;
     private Multibinder<Class<?>> mappers;
+    private Multibinder<Interceptor> interceptorMultibinder;
     private ITypeHandlerFactory typeHandlerFactory;
 
     @Override
@@ -38,6 +42,7 @@ public abstract class AbstractComponentMyBatisModule extends AbstractModule {
         this.triggerObserverMultibinder = Multibinder.newSetBinder(binder(), ITriggerObserver.class);
         this.mappers = Multibinder.newSetBinder(this.binder(), new TypeLiteral<Class<?>>() {
         }, Mappers.class);
+        this.interceptorMultibinder = Multibinder.newSetBinder(binder(), Interceptor.class, ComponentInterceptors.class);
 
         initialize();
     }
@@ -70,6 +75,21 @@ public abstract class AbstractComponentMyBatisModule extends AbstractModule {
         this.bindMapper(mapperClass);
     }
 
+    protected final void addInterceptorClass(Class<? extends Interceptor> interceptorClass) {
+        this.interceptorMultibinder.addBinding().to(interceptorClass);
+    }
+
+    protected final void addInterceptor(Interceptor interceptor) {
+        this.interceptorMultibinder.addBinding().toInstance(interceptor);
+    }
+
+    /**
+     * ROW and PAGE install a NlsColumnBatchInterceptor after the other interceptors
+     */
+    protected final void setNlsBatchMode(NlsBatchMode nlsBatchMode) {
+        bind(NlsBatchMode.class).toInstance(nlsBatchMode);
+    }
+
     public void setTypeHandlerFactory(Class<? extends ITypeHandlerFactory> typeHandlerFactoryClass) {
         bind(ITypeHandlerFactory.class).to(typeHandlerFactoryClass);
     }
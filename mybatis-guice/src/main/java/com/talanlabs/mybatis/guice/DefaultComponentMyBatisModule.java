@@ -2,12 +2,34 @@ package com.talanlabs.mybatis.guice;
 
 import com.talanlabs.mybatis.component.cache.ComponentCacheFactory;
 import com.talanlabs.mybatis.component.resultmap.ComponentResultMapFactory;
+import com.talanlabs.mybatis.component.resultmap.fastpath.ComponentResultSetHandlerInterceptor;
+import com.talanlabs.mybatis.component.session.handler.NlsBatchMode;
 import com.talanlabs.mybatis.component.statement.*;
 import com.talanlabs.mybatis.guice.configuration.GuiceTypeHandlerFactory;
 import com.talanlabs.mybatis.simple.handler.IdTypeHandler;
 
 public final class DefaultComponentMyBatisModule extends AbstractComponentMyBatisModule {
 
+    private boolean fastPathResultSet;
+
+    private NlsBatchMode nlsBatchMode;
+
+    /**
+     * Map simple component result maps with ComponentResultSetHandlerInterceptor, fails at injector creation if MyBatis version is not compatible
+     */
+    public DefaultComponentMyBatisModule fastPathResultSet() {
+        this.fastPathResultSet = true;
+        return this;
+    }
+
+    /**
+     * Load eager nls columns by row or by page, NlsColumnBatchInterceptor is added by configuration
+     */
+    public DefaultComponentMyBatisModule nlsBatchMode(NlsBatchMode nlsBatchMode) {
+        this.nlsBatchMode = nlsBatchMode;
+        return this;
+    }
+
     @Override
     protected void initialize() {
         addTypeHandlerClass(IdTypeHandler.class);
@@ -18,6 +40,7 @@ public final class DefaultComponentMyBatisModule extends AbstractComponentMyBati
         addMappedStatementFactoryClass(FindComponentsByMappedStatementFactory.class);
         addMappedStatementFactoryClass(FindComponentsByJoinTableMappedStatementFactory.class);
         addMappedStatementFactoryClass(FindNlsColumnMappedStatementFactory.class);
+        addMappedStatementFactoryClass(FindLazyColumnMappedStatementFactory.class);
         addMappedStatementFactoryClass(InsertMappedStatementFactory.class);
         addMappedStatementFactoryClass(UpdateMappedStatementFactory.class);
         addMappedStatementFactoryClass(DeleteMappedStatementFactory.class);
@@ -27,5 +50,12 @@ public final class DefaultComponentMyBatisModule extends AbstractComponentMyBati
         addCacheFactoryClass(ComponentCacheFactory.class);
 
         setTypeHandlerFactory(GuiceTypeHandlerFactory.class);
+
+        if (fastPathResultSet) {
+            addInterceptor(new ComponentResultSetHandlerInterceptor());
+        }
+        if (nlsBatchMode != null) {
+            setNlsBatchMode(nlsBatchMode);
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.talanlabs.mybatis.guice;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.Multibinder;
+import com.talanlabs.mybatis.component.metrics.ComponentStatementTagResolver;
+import com.talanlabs.mybatis.component.metrics.IStatementTagResolver;
+import com.talanlabs.mybatis.component.routing.ReadWriteRouting;
+import com.talanlabs.mybatis.component.routing.ReadWriteRoutingInterceptor;
+import com.talanlabs.mybatis.guice.configuration.ComponentInterceptors;
+import com.talanlabs.mybatis.guice.transactional.WriteTransaction;
+import com.talanlabs.mybatis.guice.transactional.WriteTransactionMethodInterceptor;
+import org.apache.ibatis.plugin.Interceptor;
+
+import java.util.function.Supplier;
+
+import static com.google.inject.matcher.Matchers.annotatedWith;
+import static com.google.inject.matcher.Matchers.any;
+import static com.google.inject.matcher.Matchers.not;
+
+/**
+ * Read/write split between the DataSource (primary) and the Replica DataSource, with bindTransactionFactoryType(GuiceRoutingTransactionFactory.class) in MyBatisModule.
+ * Pin key must be given, threads of a server are pooled and do not follow a user
+ */
+public final class ReadWriteRoutingModule extends AbstractModule {
+
+    private final ReadWriteRouting readWriteRouting;
+
+    private final IStatementTagResolver[] statementTagResolvers;
+
+    /**
+     * @param pinKeySupplier key of pin after commit of writes, ex : user of request
+     */
+    public ReadWriteRoutingModule(Supplier<Object> pinKeySupplier) {
+        this(new ReadWriteRouting(ReadWriteRouting.DEFAULT_PIN_MILLIS, pinKeySupplier));
+    }
+
+    public ReadWriteRoutingModule(ReadWriteRouting readWriteRouting) {
+        this(readWriteRouting, new ComponentStatementTagResolver());
+    }
+
+    /**
+     * @param readWriteRouting      policy of routing
+     * @param statementTagResolvers resolvers of operation, ex : add RsqlStatementTagResolver for rsql and countRsql
+     */
+    public ReadWriteRoutingModule(ReadWriteRouting readWriteRouting, IStatementTagResolver... statementTagResolvers) {
+        super();
+
+        this.readWriteRouting = readWriteRouting;
+        this.statementTagResolvers = statementTagResolvers;
+    }
+
+    @Override
+    protected void configure() {
+        bind(ReadWriteRouting.class).toInstance(readWriteRouting);
+
+        Multibinder.newSetBinder(binder(), Interceptor.class, ComponentInterceptors.class).addBinding().toInstance(new ReadWriteRoutingInterceptor(readWriteRouting, statementTagResolvers));
+
+        WriteTransactionMethodInterceptor writeTransactionMethodInterceptor = new WriteTransactionMethodInterceptor(readWriteRouting);
+        bindInterceptor(any(), annotatedWith(WriteTransaction.class), writeTransactionMethodInterceptor);
+        bindInterceptor(annotatedWith(WriteTransaction.class), not(annotatedWith(WriteTransaction.class)), writeTransactionMethodInterceptor);
+    }
+}
@@ -0,0 +1,29 @@
+package com.talanlabs.mybatis.guice;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.Multibinder;
+import com.talanlabs.mybatis.component.session.writebehind.WriteBehindInterceptor;
+import com.talanlabs.mybatis.guice.configuration.ComponentInterceptors;
+import com.talanlabs.mybatis.guice.transactional.WriteBehind;
+import com.talanlabs.mybatis.guice.transactional.WriteBehindMethodInterceptor;
+import org.apache.ibatis.plugin.Interceptor;
+
+import static com.google.inject.matcher.Matchers.annotatedWith;
+import static com.google.inject.matcher.Matchers.any;
+import static com.google.inject.matcher.Matchers.not;
+
+/**
+ * Write-behind for WriteBehind methods. Install it in initialize of MyBatisModule, its interceptor is then around the Transactional interceptor.
+ * Methods must be Transactional with ExecutorType.BATCH
+ */
+public final class WriteBehindModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        Multibinder.newSetBinder(binder(), Interceptor.class, ComponentInterceptors.class).addBinding().toInstance(new WriteBehindInterceptor());
+
+        WriteBehindMethodInterceptor writeBehindMethodInterceptor = new WriteBehindMethodInterceptor();
+        bindInterceptor(any(), annotatedWith(WriteBehind.class), writeBehindMethodInterceptor);
+        bindInterceptor(annotatedWith(WriteBehind.class), not(annotatedWith(WriteBehind.class)), writeBehindMethodInterceptor);
+    }
+}
@@ -8,9 +8,11 @@ import com.talanlabs.mybatis.component.session.factory.IMappedStatementFactory;
 import com.talanlabs.mybatis.component.session.factory.IResultMapFactory;
 import com.talanlabs.mybatis.component.session.factory.ITypeHandlerFactory;
 import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
+import com.talanlabs.mybatis.component.session.handler.NlsBatchMode;
 import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
 import org.apache.ibatis.executor.loader.ProxyFactory;
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.session.Configuration;
 import org.mybatis.guice.configuration.ConfigurationProvider;
 
@@ -30,9 +32,16 @@ public class ComponentConfigurationProvider extends ConfigurationProvider {
     @Inject(optional = true)
     private Set<ITriggerObserver> triggerObservers;
 
+    @Inject(optional = true)
+    @ComponentInterceptors
+    private Set<Interceptor> interceptors;
+
     @Inject(optional = true)
     private INlsColumnHandler nlsColumnHandler;
 
+    @Inject(optional = true)
+    private NlsBatchMode nlsBatchMode;
+
     @Inject(optional = true)
     private ProxyFactory proxyFactory = new ComponentProxyFactory();
 
@@ -77,6 +86,17 @@ public class ComponentConfigurationProvider extends ConfigurationProvider {
             }
         }
 
+        if (interceptors != null && !interceptors.isEmpty()) {
+            for (Interceptor interceptor : interceptors) {
+                componentConfiguration.addInterceptor(interceptor);
+            }
+        }
+
+        // After interceptors, NlsColumnBatchInterceptor must be called first
+        if (nlsBatchMode != null) {
+            componentConfiguration.setNlsBatchMode(nlsBatchMode);
+        }
+
         componentConfiguration.setTypeHandlerFactory(typeHandlerFactory != null ? typeHandlerFactory : guiceTypeHandlerFactory);
 
         return componentConfiguration;
@@ -0,0 +1,20 @@
+package com.talanlabs.mybatis.guice.routing;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.talanlabs.mybatis.component.routing.ReadWriteRouting;
+import com.talanlabs.mybatis.component.routing.RoutingTransactionFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * RoutingTransactionFactory for bindTransactionFactoryType of MyBatisModule, primary is the DataSource
+ */
+@Singleton
+public class GuiceRoutingTransactionFactory extends RoutingTransactionFactory {
+
+    @Inject
+    public GuiceRoutingTransactionFactory(DataSource dataSource, @Replica DataSource replicaDataSource, ReadWriteRouting readWriteRouting) {
+        super(dataSource, replicaDataSource, readWriteRouting);
+    }
+}
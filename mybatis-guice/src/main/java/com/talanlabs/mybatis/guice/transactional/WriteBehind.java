@@ -0,0 +1,18 @@
+package com.talanlabs.mybatis.guice.transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Writes of ComponentSqlSessionManager in method are queued and flushed in JDBC batches at commit of the Transactional method, WriteBehindModule must be installed.
+ * Transactional must use ExecutorType.BATCH, else the method fails before it starts
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Inherited
+public @interface WriteBehind {
+
+}
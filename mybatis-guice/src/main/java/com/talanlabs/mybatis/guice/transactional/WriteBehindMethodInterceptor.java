@@ -0,0 +1,48 @@
+package com.talanlabs.mybatis.guice.transactional;
+
+import com.talanlabs.mybatis.component.session.writebehind.UnitOfWork;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.ibatis.session.ExecutorType;
+import org.mybatis.guice.transactional.Transactional;
+
+import java.lang.reflect.Method;
+
+/**
+ * Begin and end a unit of work around a WriteBehind method, its Transactional must use ExecutorType.BATCH so that queued writes are flushed in JDBC batches
+ */
+public class WriteBehindMethodInterceptor implements MethodInterceptor {
+
+    public WriteBehindMethodInterceptor() {
+        super();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Transactional transactional = getTransactional(invocation.getMethod());
+        if (transactional != null && transactional.executorType() != ExecutorType.BATCH) {
+            throw new IllegalStateException("Transactional of " + invocation.getMethod() + " must use ExecutorType.BATCH, writes are flushed through executor of session");
+        }
+
+        UnitOfWork.begin();
+        boolean success = false;
+        try {
+            Object res = invocation.proceed();
+            success = true;
+            return res;
+        } finally {
+            int discarded = UnitOfWork.end();
+            if (success && discarded > 0) {
+                throw new IllegalStateException("Unit of work of " + invocation.getMethod() + " ended with " + discarded + " writes not flushed, method must be Transactional");
+            }
+        }
+    }
+
+    /*
+     * As Transactional interceptor, annotation of method else of its class
+     */
+    private Transactional getTransactional(Method method) {
+        Transactional transactional = method.getAnnotation(Transactional.class);
+        return transactional != null ? transactional : method.getDeclaringClass().getAnnotation(Transactional.class);
+    }
+}
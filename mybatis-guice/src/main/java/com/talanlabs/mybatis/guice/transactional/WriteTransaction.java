@@ -0,0 +1,17 @@
+package com.talanlabs.mybatis.guice.transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * All statements in method go to primary data source, ex : read before write. ReadWriteRoutingModule must be installed
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Inherited
+public @interface WriteTransaction {
+
+}
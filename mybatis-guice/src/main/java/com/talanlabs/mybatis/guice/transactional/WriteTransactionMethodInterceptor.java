@@ -0,0 +1,29 @@
+package com.talanlabs.mybatis.guice.transactional;
+
+import com.talanlabs.mybatis.component.routing.ReadWriteRouting;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Primary scope of ReadWriteRouting around a WriteTransaction method
+ */
+public class WriteTransactionMethodInterceptor implements MethodInterceptor {
+
+    private final ReadWriteRouting readWriteRouting;
+
+    public WriteTransactionMethodInterceptor(ReadWriteRouting readWriteRouting) {
+        super();
+
+        this.readWriteRouting = readWriteRouting;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        readWriteRouting.beginPrimary();
+        try {
+            return invocation.proceed();
+        } finally {
+            readWriteRouting.endPrimary();
+        }
+    }
+}
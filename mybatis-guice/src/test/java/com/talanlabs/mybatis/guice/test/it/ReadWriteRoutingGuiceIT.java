@@ -0,0 +1,194 @@
+package com.talanlabs.mybatis.guice.test.it;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Scopes;
+import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.factory.ComponentObjectFactory;
+import com.talanlabs.mybatis.component.routing.ReadWriteRouting;
+import com.talanlabs.mybatis.component.routing.ReadWriteRoutingInterceptor;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
+import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
+import com.talanlabs.mybatis.guice.DefaultComponentMyBatisModule;
+import com.talanlabs.mybatis.guice.ReadWriteRoutingModule;
+import com.talanlabs.mybatis.guice.configuration.ComponentConfigurationProvider;
+import com.talanlabs.mybatis.guice.routing.GuiceRoutingTransactionFactory;
+import com.talanlabs.mybatis.guice.routing.Replica;
+import com.talanlabs.mybatis.guice.session.ComponentSqlSessionManagerProvider;
+import com.talanlabs.mybatis.guice.transactional.WriteTransaction;
+import com.talanlabs.mybatis.simple.observer.TracableTriggerObserver;
+import com.talanlabs.mybatis.test.data.IUser;
+import com.talanlabs.mybatis.test.it.config.DefaultNlsColumnHandler;
+import com.talanlabs.mybatis.test.it.config.DefaultUserByHandler;
+import com.talanlabs.mybatis.test.it.mapper.NlsMapper;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mybatis.guice.MyBatisModule;
+import org.mybatis.guice.datasource.builtin.PooledDataSourceProvider;
+import org.mybatis.guice.datasource.helper.JdbcHelper;
+import org.mybatis.guice.transactional.Transactional;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * ReadWriteRoutingModule installed in initialize of MyBatisModule, primary is the DataSource of MyBatisModule, replica is a second HSQLDB with other logins
+ */
+public class ReadWriteRoutingGuiceIT {
+
+    private static PooledDataSource replicaDataSource;
+
+    private static Injector injector;
+
+    @BeforeClass
+    public static void beforeClass() {
+        replicaDataSource = new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_REPLICA", "sa", "");
+        injector = Guice.createInjector(new TestMyBatisModule());
+    }
+
+    @Before
+    public void initScripts() throws IOException, SQLException {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            ScriptRunner scriptRunner = new ScriptRunner(connection);
+            scriptRunner.setLogWriter(null);
+            scriptRunner.runScript(Resources.getResourceAsReader("init-script.sql"));
+
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE t_user SET login = 'replica'");
+            }
+            connection.commit();
+        }
+
+        SqlSessionManager sqlSessionManager = injector.getInstance(SqlSessionManager.class);
+        sqlSessionManager.startManagedSession();
+        try {
+            ScriptRunner scriptRunner = new ScriptRunner(sqlSessionManager.getConnection());
+            scriptRunner.setLogWriter(null);
+            scriptRunner.runScript(Resources.getResourceAsReader("init-script.sql"));
+        } finally {
+            sqlSessionManager.close();
+        }
+
+        sqlSessionManager.getConfiguration().getCaches().forEach(Cache::clear);
+        injector.getInstance(ReadWriteRouting.class).unpin();
+    }
+
+    @Test
+    public void testModuleBindings() {
+        SqlSessionManager sqlSessionManager = injector.getInstance(SqlSessionManager.class);
+
+        Assertions.assertThat(sqlSessionManager.getConfiguration().getEnvironment().getTransactionFactory()).isInstanceOf(GuiceRoutingTransactionFactory.class);
+        Assertions.assertThat(sqlSessionManager.getConfiguration().getInterceptors()).filteredOn(ReadWriteRoutingInterceptor.class::isInstance).hasSize(1)
+                .extracting("readWriteRouting").containsExactly(injector.getInstance(ReadWriteRouting.class));
+    }
+
+    @Test
+    public void testReadOnReplica() {
+        Assertions.assertThat(injector.getInstance(UserService.class).findLogin(IdFactory.IdString.from("1"))).isEqualTo("replica");
+    }
+
+    @Test
+    public void testWriteTransactionReadsPrimary() {
+        UserService userService = injector.getInstance(UserService.class);
+
+        Assertions.assertThat(userService.findLoginOnPrimary(IdFactory.IdString.from("1"))).isEqualTo("gabriel");
+        Assertions.assertThat(injector.getInstance(ReadWriteRouting.class).isInPrimary()).isFalse();
+    }
+
+    @Test
+    public void testPinnedAfterWrite() {
+        UserService userService = injector.getInstance(UserService.class);
+        userService.rename(IdFactory.IdString.from("2"), "Toto");
+
+        Assertions.assertThat(injector.getInstance(ReadWriteRouting.class).isPinned()).isTrue();
+        Assertions.assertThat(userService.findLogin(IdFactory.IdString.from("2"))).isEqualTo("Toto");
+    }
+
+    public static class UserService {
+
+        private final ComponentSqlSessionManager componentSqlSessionManager;
+
+        @Inject
+        public UserService(ComponentSqlSessionManager componentSqlSessionManager) {
+            super();
+
+            this.componentSqlSessionManager = componentSqlSessionManager;
+        }
+
+        @Transactional
+        public String findLogin(IdFactory.IdString id) {
+            return componentSqlSessionManager.findById(IUser.class, id).getLogin();
+        }
+
+        @WriteTransaction
+        @Transactional
+        public String findLoginOnPrimary(IdFactory.IdString id) {
+            return componentSqlSessionManager.findById(IUser.class, id).getLogin();
+        }
+
+        @Transactional
+        public void rename(IdFactory.IdString id, String login) {
+            IUser user = componentSqlSessionManager.findById(IUser.class, id);
+            user.setLogin(login);
+            componentSqlSessionManager.update(user);
+        }
+    }
+
+    private static class TestMyBatisModule extends MyBatisModule {
+
+        @Override
+        protected void initialize() {
+            install(JdbcHelper.HSQLDB_IN_MEMORY_NAMED);
+
+            install(new DefaultComponentMyBatisModule());
+            install(new ReadWriteRoutingModule(() -> "user"));
+
+            lazyLoadingEnabled(true);
+            aggressiveLazyLoading(false);
+
+            useConfigurationProvider(ComponentConfigurationProvider.class);
+            bindDataSourceProviderType(PooledDataSourceProvider.class);
+            bindTransactionFactoryType(GuiceRoutingTransactionFactory.class);
+            bindObjectFactoryType(ComponentObjectFactory.class);
+
+            bind(DataSource.class).annotatedWith(Replica.class).toInstance(replicaDataSource);
+
+            Names.bindProperties(binder(), createTestProperties());
+
+            bind(INlsColumnHandler.class).to(DefaultNlsColumnHandler.class).in(Singleton.class);
+
+            Multibinder.newSetBinder(binder(), ITriggerObserver.class).addBinding().toInstance(new TracableTriggerObserver(new DefaultUserByHandler()));
+
+            bind(ComponentSqlSessionManager.class).toProvider(ComponentSqlSessionManagerProvider.class).in(Scopes.SINGLETON);
+            bind(UserService.class);
+
+            addMapperClass(NlsMapper.class);
+        }
+
+        private Properties createTestProperties() {
+            Properties myBatisProperties = new Properties();
+            myBatisProperties.setProperty("mybatis.environment.id", "test");
+            myBatisProperties.setProperty("JDBC.schema", "mybatis-guice_TEST");
+            myBatisProperties.setProperty("JDBC.username", "sa");
+            myBatisProperties.setProperty("JDBC.password", "");
+            myBatisProperties.setProperty("JDBC.autoCommit", "false");
+            return myBatisProperties;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.talanlabs.mybatis.guice.test.it;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Scopes;
+import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.factory.ComponentObjectFactory;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
+import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
+import com.talanlabs.mybatis.component.session.writebehind.UnitOfWork;
+import com.talanlabs.mybatis.guice.DefaultComponentMyBatisModule;
+import com.talanlabs.mybatis.guice.WriteBehindModule;
+import com.talanlabs.mybatis.guice.configuration.ComponentConfigurationProvider;
+import com.talanlabs.mybatis.guice.session.ComponentSqlSessionManagerProvider;
+import com.talanlabs.mybatis.guice.transactional.WriteBehind;
+import com.talanlabs.mybatis.simple.observer.TracableTriggerObserver;
+import com.talanlabs.mybatis.test.data.IUser;
+import com.talanlabs.mybatis.test.it.config.DefaultNlsColumnHandler;
+import com.talanlabs.mybatis.test.it.config.DefaultUserByHandler;
+import com.talanlabs.mybatis.test.it.mapper.NlsMapper;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mybatis.guice.MyBatisModule;
+import org.mybatis.guice.datasource.builtin.PooledDataSourceProvider;
+import org.mybatis.guice.datasource.helper.JdbcHelper;
+import org.mybatis.guice.transactional.Transactional;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * WriteBehindModule installed in initialize of MyBatisModule, its interceptor is around the Transactional interceptor
+ */
+public class WriteBehindGuiceIT {
+
+    private static Injector injector;
+
+    @BeforeClass
+    public static void beforeClass() {
+        injector = Guice.createInjector(new TestMyBatisModule(true));
+    }
+
+    @Before
+    public void initScript() throws IOException {
+        runInitScript(injector);
+    }
+
+    @Test
+    public void testFlushedAtCommit() {
+        UserService userService = injector.getInstance(UserService.class);
+        int i = userService.rename(IdFactory.IdString.from("1"), "Toto");
+
+        Assertions.assertThat(i).isEqualTo(1);
+        Assertions.assertThat(userService.queuedSize).isEqualTo(1);
+        Assertions.assertThat(UnitOfWork.current()).isNull();
+
+        IUser user = injector.getInstance(ComponentSqlSessionManager.class).findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user.getLogin()).isEqualTo("Toto");
+        Assertions.assertThat(user.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRollbackDiscards() {
+        UserService userService = injector.getInstance(UserService.class);
+
+        Assertions.assertThatThrownBy(() -> userService.renameAndFail(IdFactory.IdString.from("1"), "Toto")).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThat(UnitOfWork.current()).isNull();
+
+        IUser user = injector.getInstance(ComponentSqlSessionManager.class).findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user.getLogin()).isEqualTo("gabriel");
+        Assertions.assertThat(user.getVersion()).isEqualTo(0);
+    }
+
+    @Test
+    public void testVersionConflictAtCommit() {
+        UserService userService = injector.getInstance(UserService.class);
+
+        Assertions.assertThatThrownBy(() -> userService.renameWithVersion(IdFactory.IdString.from("1"), "Toto", 5)).isInstanceOf(PersistenceException.class)
+                .hasCauseInstanceOf(ExecutorException.class);
+        Assertions.assertThat(UnitOfWork.current()).isNull();
+
+        IUser user = injector.getInstance(ComponentSqlSessionManager.class).findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user.getLogin()).isEqualTo("gabriel");
+    }
+
+    @Test
+    public void testBatchExecutorRequired() {
+        UserService userService = injector.getInstance(UserService.class);
+
+        Assertions.assertThatThrownBy(() -> userService.renameSimple(IdFactory.IdString.from("1"), "Toto")).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ExecutorType.BATCH");
+        Assertions.assertThat(UnitOfWork.current()).isNull();
+
+        IUser user = injector.getInstance(ComponentSqlSessionManager.class).findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user.getLogin()).isEqualTo("gabriel");
+    }
+
+    @Test
+    public void testInstalledAfterMyBatisModule() throws IOException {
+        // WriteBehind interceptor is inside the Transactional interceptor, the unit of work ends before commit
+        Injector wrongInjector = Guice.createInjector(new TestMyBatisModule(false), new WriteBehindModule());
+        runInitScript(wrongInjector);
+
+        UserService userService = wrongInjector.getInstance(UserService.class);
+
+        Assertions.assertThatThrownBy(() -> userService.rename(IdFactory.IdString.from("1"), "Toto")).isInstanceOf(IllegalStateException.class).hasMessageContaining("must be Transactional");
+        Assertions.assertThat(UnitOfWork.current()).isNull();
+
+        IUser user = wrongInjector.getInstance(ComponentSqlSessionManager.class).findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user.getLogin()).isEqualTo("gabriel");
+    }
+
+    private static void runInitScript(Injector injector) throws IOException {
+        SqlSessionManager sqlSessionManager = injector.getInstance(SqlSessionManager.class);
+        sqlSessionManager.startManagedSession();
+        try {
+            ScriptRunner scriptRunner = new ScriptRunner(sqlSessionManager.getConnection());
+            scriptRunner.setLogWriter(null);
+            scriptRunner.runScript(Resources.getResourceAsReader("init-script.sql"));
+        } finally {
+            sqlSessionManager.close();
+        }
+        // Rows of previous test are in second level cache
+        sqlSessionManager.getConfiguration().getCaches().forEach(Cache::clear);
+    }
+
+    public static class UserService {
+
+        private final ComponentSqlSessionManager componentSqlSessionManager;
+
+        int queuedSize;
+
+        @Inject
+        public UserService(ComponentSqlSessionManager componentSqlSessionManager) {
+            super();
+
+            this.componentSqlSessionManager = componentSqlSessionManager;
+        }
+
+        @WriteBehind
+        @Transactional(executorType = ExecutorType.BATCH)
+        public int rename(IdFactory.IdString id, String login) {
+            IUser user = componentSqlSessionManager.findById(IUser.class, id);
+            user.setLogin(login);
+            int res = componentSqlSessionManager.update(user);
+            queuedSize = UnitOfWork.current().size();
+            return res;
+        }
+
+        @WriteBehind
+        @Transactional(executorType = ExecutorType.BATCH)
+        public void renameAndFail(IdFactory.IdString id, String login) {
+            rename(id, login);
+            throw new IllegalArgumentException("Fail after rename");
+        }
+
+        @WriteBehind
+        @Transactional
+        public void renameSimple(IdFactory.IdString id, String login) {
+            rename(id, login);
+        }
+
+        @WriteBehind
+        @Transactional(executorType = ExecutorType.BATCH)
+        public void renameWithVersion(IdFactory.IdString id, String login, int version) {
+            IUser user = componentSqlSessionManager.findById(IUser.class, id);
+            user.setVersion(version);
+            user.setLogin(login);
+            componentSqlSessionManager.update(user);
+        }
+    }
+
+    private static class TestMyBatisModule extends MyBatisModule {
+
+        private final boolean writeBehind;
+
+        TestMyBatisModule(boolean writeBehind) {
+            super();
+
+            this.writeBehind = writeBehind;
+        }
+
+        @Override
+        protected void initialize() {
+            install(JdbcHelper.HSQLDB_IN_MEMORY_NAMED);
+
+            install(new DefaultComponentMyBatisModule());
+            if (writeBehind) {
+                install(new WriteBehindModule());
+            }
+
+            lazyLoadingEnabled(true);
+            aggressiveLazyLoading(false);
+
+            useConfigurationProvider(ComponentConfigurationProvider.class);
+            bindDataSourceProviderType(PooledDataSourceProvider.class);
+            bindTransactionFactoryType(JdbcTransactionFactory.class);
+            bindObjectFactoryType(ComponentObjectFactory.class);
+
+            Names.bindProperties(binder(), createTestProperties());
+
+            bind(INlsColumnHandler.class).to(DefaultNlsColumnHandler.class).in(Singleton.class);
+
+            Multibinder.newSetBinder(binder(), ITriggerObserver.class).addBinding().toInstance(new TracableTriggerObserver(new DefaultUserByHandler()));
+
+            bind(ComponentSqlSessionManager.class).toProvider(ComponentSqlSessionManagerProvider.class).in(Scopes.SINGLETON);
+            bind(UserService.class);
+
+            addMapperClass(NlsMapper.class);
+        }
+
+        private Properties createTestProperties() {
+            Properties myBatisProperties = new Properties();
+            myBatisProperties.setProperty("mybatis.environment.id", "test");
+            myBatisProperties.setProperty("JDBC.schema", "mybatis-guice_TEST");
+            myBatisProperties.setProperty("JDBC.username", "sa");
+            myBatisProperties.setProperty("JDBC.password", "");
+            myBatisProperties.setProperty("JDBC.autoCommit", "false");
+            return myBatisProperties;
+        }
+    }
+}
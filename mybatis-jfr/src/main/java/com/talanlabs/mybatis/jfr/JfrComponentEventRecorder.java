@@ -0,0 +1,118 @@
+package com.talanlabs.mybatis.jfr;
+
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.IComponentEventRecorder;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Events of JFR, loaded by ComponentEvents by reflection only if JFR is available
+ */
+public final class JfrComponentEventRecorder implements IComponentEventRecorder {
+
+    private static final String CATEGORY = "MyBatis Component";
+
+    public JfrComponentEventRecorder() {
+        super();
+    }
+
+    @Override
+    public Object begin(ComponentEventType type) {
+        AbstractComponentEvent event = create(type);
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commit(Object event, Class<?> componentClass, String key) {
+        AbstractComponentEvent componentEvent = (AbstractComponentEvent) event;
+        componentEvent.componentClass = componentClass;
+        componentEvent.key = key;
+        componentEvent.commit();
+    }
+
+    private AbstractComponentEvent create(ComponentEventType type) {
+        switch (type) {
+        case STATEMENT_CREATION:
+            return new StatementCreationEvent();
+        case RESULT_MAP_CREATION:
+            return new ResultMapCreationEvent();
+        case CACHE_CREATION:
+            return new CacheCreationEvent();
+        case LAZY_LOAD:
+            return new LazyLoadEvent();
+        case CACHE_CLEAR:
+            return new CacheClearEvent();
+        case TRIGGER_DISPATCH:
+            return new TriggerDispatchEvent();
+        case RSQL_COMPILE:
+            return new RsqlCompileEvent();
+        default:
+            throw new IllegalArgumentException("Unknown event type=" + type);
+        }
+    }
+
+    abstract static class AbstractComponentEvent extends Event {
+
+        @Label("Component Class")
+        Class<?> componentClass;
+
+        @Label("Key")
+        String key;
+
+    }
+
+    @Name("com.talanlabs.mybatis.StatementCreation")
+    @Label("Statement Creation")
+    @Category(CATEGORY)
+    static class StatementCreationEvent extends AbstractComponentEvent {
+
+    }
+
+    @Name("com.talanlabs.mybatis.ResultMapCreation")
+    @Label("Result Map Creation")
+    @Category(CATEGORY)
+    static class ResultMapCreationEvent extends AbstractComponentEvent {
+
+    }
+
+    @Name("com.talanlabs.mybatis.CacheCreation")
+    @Label("Cache Creation")
+    @Category(CATEGORY)
+    static class CacheCreationEvent extends AbstractComponentEvent {
+
+    }
+
+    @Name("com.talanlabs.mybatis.LazyLoad")
+    @Label("Lazy Load")
+    @Category(CATEGORY)
+    static class LazyLoadEvent extends AbstractComponentEvent {
+
+    }
+
+    @Name("com.talanlabs.mybatis.CacheClear")
+    @Label("Cache Clear")
+    @Category(CATEGORY)
+    static class CacheClearEvent extends AbstractComponentEvent {
+
+    }
+
+    @Name("com.talanlabs.mybatis.TriggerDispatch")
+    @Label("Trigger Dispatch")
+    @Category(CATEGORY)
+    static class TriggerDispatchEvent extends AbstractComponentEvent {
+
+    }
+
+    @Name("com.talanlabs.mybatis.RsqlCompile")
+    @Label("Rsql Compile")
+    @Category(CATEGORY)
+    static class RsqlCompileEvent extends AbstractComponentEvent {
+
+    }
+}
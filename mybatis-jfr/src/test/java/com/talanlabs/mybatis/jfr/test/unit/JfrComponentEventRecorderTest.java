@@ -0,0 +1,55 @@
+package com.talanlabs.mybatis.jfr.test.unit;
+
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class JfrComponentEventRecorderTest {
+
+    @Test
+    public void testNotRecorded() {
+        Assertions.assertThat(ComponentEvents.isAvailable()).isTrue();
+        Assertions.assertThat(ComponentEvents.begin(ComponentEventType.LAZY_LOAD)).isNull();
+
+        // Nothing on null
+        ComponentEvents.commit(null, String.class, "name");
+    }
+
+    @Test
+    public void testRecorded() throws IOException {
+        Path path = Files.createTempFile("component-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.talanlabs.mybatis.LazyLoad");
+            recording.start();
+
+            Object event = ComponentEvents.begin(ComponentEventType.LAZY_LOAD);
+            Assertions.assertThat(event).isNotNull();
+            ComponentEvents.commit(event, String.class, "name");
+
+            recording.stop();
+            recording.dump(path);
+
+            List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(path);
+            Assertions.assertThat(recordedEvents).hasSize(1);
+
+            RecordedEvent recordedEvent = recordedEvents.get(0);
+            SoftAssertions softAssertions = new SoftAssertions();
+            softAssertions.assertThat(recordedEvent.getEventType().getName()).isEqualTo("com.talanlabs.mybatis.LazyLoad");
+            softAssertions.assertThat(recordedEvent.getString("key")).isEqualTo("name");
+            softAssertions.assertThat(recordedEvent.getClass("componentClass").getName()).isEqualTo(String.class.getName());
+            softAssertions.assertAll();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -5,9 +5,13 @@ import com.talanlabs.mybatis.rsql.engine.EngineContext;
 import com.talanlabs.mybatis.rsql.engine.ILikePolicy;
 import com.talanlabs.mybatis.rsql.engine.INlsColumnRsqlHandler;
 import com.talanlabs.mybatis.rsql.engine.IStringPolicy;
+import com.talanlabs.mybatis.rsql.engine.converter.ValueConverterRegistry;
 import com.talanlabs.mybatis.rsql.engine.orderby.ComponentSortVisitor;
 import com.talanlabs.mybatis.rsql.engine.where.ComponentRsqlVisitor;
+import com.talanlabs.mybatis.rsql.engine.where.RsqlComplexityGuard;
+import com.talanlabs.mybatis.rsql.memory.InMemoryRsqlEvaluator;
 import com.talanlabs.mybatis.rsql.sort.SortParser;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
 import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
 import com.talanlabs.rtext.Rtext;
 import cz.jirutka.rsql.parser.RSQLParser;
@@ -19,6 +23,16 @@ public interface IRsqlConfiguration {
      */
     Rtext getRtext();
 
+    /**
+     * @return converters of arguments by type
+     */
+    ValueConverterRegistry getValueConverterRegistry();
+
+    /**
+     * @return true if a not convertible argument is rejected, else it is compared as string
+     */
+    boolean isStrictConversion();
+
     /**
      * @return nls column rsql handler
      */
@@ -66,4 +80,26 @@ public interface IRsqlConfiguration {
      */
     IPageStatementFactory getPageStatementFactory();
 
+    /**
+     * @return A in list statement factory for =in= and =out=, null for one param by value
+     */
+    IInListStatementFactory getInListStatementFactory();
+
+    /**
+     * @return A complexity guard, checked before build sql
+     */
+    RsqlComplexityGuard getComplexityGuard();
+
+    /**
+     * @param componentClass component class
+     * @return true if all rows of component are in cache, rsql is evaluated in memory
+     */
+    boolean isResidentComponent(Class<? extends IComponent> componentClass);
+
+    /**
+     * @param componentClass component class
+     * @return Return a in memory evaluator for component class
+     */
+    <E extends IComponent> InMemoryRsqlEvaluator<E> getInMemoryRsqlEvaluator(Class<E> componentClass);
+
 }
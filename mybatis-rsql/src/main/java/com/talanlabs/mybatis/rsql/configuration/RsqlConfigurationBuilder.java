@@ -7,15 +7,20 @@ import com.talanlabs.mybatis.rsql.engine.EngineContext;
 import com.talanlabs.mybatis.rsql.engine.ILikePolicy;
 import com.talanlabs.mybatis.rsql.engine.INlsColumnRsqlHandler;
 import com.talanlabs.mybatis.rsql.engine.IStringPolicy;
+import com.talanlabs.mybatis.rsql.engine.converter.IValueConverter;
+import com.talanlabs.mybatis.rsql.engine.converter.ValueConverterRegistry;
 import com.talanlabs.mybatis.rsql.engine.orderby.ComponentSortVisitor;
 import com.talanlabs.mybatis.rsql.engine.orderby.registry.DefaultSortDirectionManagerRegistry;
 import com.talanlabs.mybatis.rsql.engine.orderby.registry.ISortDirectionManagerRegistry;
 import com.talanlabs.mybatis.rsql.engine.policy.DefaultLikePolicy;
 import com.talanlabs.mybatis.rsql.engine.policy.NothingStringPolicy;
 import com.talanlabs.mybatis.rsql.engine.where.ComponentRsqlVisitor;
+import com.talanlabs.mybatis.rsql.engine.where.RsqlComplexityGuard;
 import com.talanlabs.mybatis.rsql.engine.where.registry.DefaultComparisonOperatorManagerRegistry;
 import com.talanlabs.mybatis.rsql.engine.where.registry.IComparisonOperatorManagerRegistry;
+import com.talanlabs.mybatis.rsql.memory.InMemoryRsqlEvaluator;
 import com.talanlabs.mybatis.rsql.sort.SortParser;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
 import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
 import com.talanlabs.rtext.Rtext;
 import com.talanlabs.rtext.configuration.RtextConfigurationBuilder;
@@ -23,6 +28,12 @@ import cz.jirutka.rsql.parser.RSQLParser;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 public class RsqlConfigurationBuilder {
@@ -40,12 +51,41 @@ public class RsqlConfigurationBuilder {
     }
 
     /**
-     * Rtext
+     * Rtext, used for types without built-in converter, Date and IId included
      *
-     * @param rtext Rtext
+     * @param rtext      Rtext
+     * @param rtextTypes types with a custom conversion in Rtext, they use Rtext instead of built-in converters
      */
-    public RsqlConfigurationBuilder rtext(Rtext rtext) {
+    public RsqlConfigurationBuilder rtext(Rtext rtext, Type... rtextTypes) {
         this.rsqlConfiguration.rtext = rtext;
+        Collections.addAll(this.rsqlConfiguration.rtextTypes, rtextTypes);
+        return this;
+    }
+
+    /**
+     * @param builtInValueConverters use built-in converters for String, numbers, boolean and enum before Rtext (default true)
+     */
+    public RsqlConfigurationBuilder builtInValueConverters(boolean builtInValueConverters) {
+        this.rsqlConfiguration.builtInValueConverters = builtInValueConverters;
+        return this;
+    }
+
+    /**
+     * Converter for a type, replace Rtext for this type. ISO dates without exception: valueConverter(Date.class, ValueConverters.date())
+     *
+     * @param type           type of property
+     * @param valueConverter converter
+     */
+    public RsqlConfigurationBuilder valueConverter(Type type, IValueConverter valueConverter) {
+        this.rsqlConfiguration.valueConverterMap.put(type, valueConverter);
+        return this;
+    }
+
+    /**
+     * @param strictConversion if true reject a not convertible argument, else compare as string (default false)
+     */
+    public RsqlConfigurationBuilder strictConversion(boolean strictConversion) {
+        this.rsqlConfiguration.strictConversion = strictConversion;
         return this;
     }
 
@@ -139,7 +179,76 @@ public class RsqlConfigurationBuilder {
         return this;
     }
 
+    /**
+     * @param inListStatementFactory a in list statement factory, a database handler (ex: PostgresHandler) or TempTableInListStatementFactory
+     */
+    public RsqlConfigurationBuilder inListStatementFactory(IInListStatementFactory inListStatementFactory) {
+        this.rsqlConfiguration.inListStatementFactory = inListStatementFactory;
+        return this;
+    }
+
+    /**
+     * @param maxDepth max depth of rsql tree, 0 no limit (default)
+     */
+    public RsqlConfigurationBuilder maxDepth(int maxDepth) {
+        this.rsqlConfiguration.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * @param maxNodes max number of nodes in rsql tree, 0 no limit (default)
+     */
+    public RsqlConfigurationBuilder maxNodes(int maxNodes) {
+        this.rsqlConfiguration.maxNodes = maxNodes;
+        return this;
+    }
+
+    /**
+     * @param maxJoins max number of association paths, 0 no limit (default)
+     */
+    public RsqlConfigurationBuilder maxJoins(int maxJoins) {
+        this.rsqlConfiguration.maxJoins = maxJoins;
+        return this;
+    }
+
+    /**
+     * @param maxInSize max number of arguments for =in= and =out=, 0 no limit (default)
+     */
+    public RsqlConfigurationBuilder maxInSize(int maxInSize) {
+        this.rsqlConfiguration.maxInSize = maxInSize;
+        return this;
+    }
+
+    /**
+     * @param rejectLeadingWildcard reject like with leading wildcard (default false)
+     */
+    public RsqlConfigurationBuilder rejectLeadingWildcard(boolean rejectLeadingWildcard) {
+        this.rsqlConfiguration.rejectLeadingWildcard = rejectLeadingWildcard;
+        return this;
+    }
+
+    /**
+     * Components fully in cache, rsql and countRsql are evaluated in memory (ResidentRsqlInterceptor must be added)
+     *
+     * @param componentClasses components with annotation Cache
+     */
+    @SafeVarargs
+    public final RsqlConfigurationBuilder residentComponents(Class<? extends IComponent>... componentClasses) {
+        for (Class<? extends IComponent> componentClass : componentClasses) {
+            if (componentClass.getAnnotation(com.talanlabs.entity.annotation.Cache.class) == null) {
+                throw new IllegalArgumentException("Resident component must have annotation Cache for Component=" + componentClass);
+            }
+            this.rsqlConfiguration.residentComponentClasses.add(componentClass);
+        }
+        return this;
+    }
+
     public IRsqlConfiguration build() {
+        rsqlConfiguration.valueConverterRegistry = new ValueConverterRegistry(rsqlConfiguration.rtext, rsqlConfiguration.builtInValueConverters);
+        rsqlConfiguration.rtextTypes.forEach(rsqlConfiguration.valueConverterRegistry::registerRtextValueConverter);
+        rsqlConfiguration.valueConverterMap.forEach(rsqlConfiguration.valueConverterRegistry::registerValueConverter);
+        rsqlConfiguration.complexityGuard = new RsqlComplexityGuard(rsqlConfiguration.maxDepth, rsqlConfiguration.maxNodes, rsqlConfiguration.maxJoins, rsqlConfiguration.maxInSize,
+                rsqlConfiguration.rejectLeadingWildcard);
         if (rsqlConfiguration.comparisonOperatorManagerRegistry == null) {
             rsqlConfiguration.comparisonOperatorManagerRegistry = new DefaultComparisonOperatorManagerRegistry(rsqlConfiguration);
         }
@@ -154,6 +263,11 @@ public class RsqlConfigurationBuilder {
         private static final Logger LOG = LogManager.getLogger(RsqlConfigurationImpl.class);
 
         private Rtext rtext;
+        private boolean builtInValueConverters = true;
+        private Set<Type> rtextTypes = new HashSet<>();
+        private Map<Type, IValueConverter> valueConverterMap = new HashMap<>();
+        private ValueConverterRegistry valueConverterRegistry;
+        private boolean strictConversion;
         private INlsColumnRsqlHandler nlsColumnRsqlHandler;
         private RSQLParser rsqlParser;
         private SortParser sortParser;
@@ -165,9 +279,18 @@ public class RsqlConfigurationBuilder {
         private IStringPolicy stringPolicy;
         private ILikePolicy likePolicy;
         private IPageStatementFactory pageStatementFactory;
+        private IInListStatementFactory inListStatementFactory;
+        private int maxDepth;
+        private int maxNodes;
+        private int maxJoins;
+        private int maxInSize;
+        private boolean rejectLeadingWildcard;
+        private RsqlComplexityGuard complexityGuard;
+        private Set<Class<? extends IComponent>> residentComponentClasses = Collections.synchronizedSet(new HashSet<>());
 
         private Cache<Class<? extends IComponent>, ComponentRsqlVisitor<? extends IComponent>> rsqlCache = CacheBuilder.newBuilder().build();
         private Cache<Class<? extends IComponent>, ComponentSortVisitor<? extends IComponent>> sortCache = CacheBuilder.newBuilder().build();
+        private Cache<Class<? extends IComponent>, InMemoryRsqlEvaluator<? extends IComponent>> inMemoryCache = CacheBuilder.newBuilder().build();
 
         private RsqlConfigurationImpl() {
             super();
@@ -184,6 +307,16 @@ public class RsqlConfigurationBuilder {
             return rtext;
         }
 
+        @Override
+        public ValueConverterRegistry getValueConverterRegistry() {
+            return valueConverterRegistry;
+        }
+
+        @Override
+        public boolean isStrictConversion() {
+            return strictConversion;
+        }
+
         @Override
         public INlsColumnRsqlHandler getNlsColumnRsqlHandler() {
             return this.nlsColumnRsqlHandler;
@@ -193,7 +326,7 @@ public class RsqlConfigurationBuilder {
         public <E extends IComponent> ComponentRsqlVisitor<E> getComponentRsqlVisitor(Class<E> componentClass) {
             try {
                 //noinspection unchecked
-                return (ComponentRsqlVisitor<E>) rsqlCache.get(componentClass, () -> new ComponentRsqlVisitor<>(componentClass, comparisonOperatorManagerRegistry));
+                return (ComponentRsqlVisitor<E>) rsqlCache.get(componentClass, () -> new ComponentRsqlVisitor<>(componentClass, comparisonOperatorManagerRegistry, complexityGuard));
             } catch (ExecutionException e) {
                 LOG.error("Failed to get visitor", e);
             }
@@ -211,6 +344,17 @@ public class RsqlConfigurationBuilder {
             return null;
         }
 
+        @Override
+        public <E extends IComponent> InMemoryRsqlEvaluator<E> getInMemoryRsqlEvaluator(Class<E> componentClass) {
+            try {
+                //noinspection unchecked
+                return (InMemoryRsqlEvaluator<E>) inMemoryCache.get(componentClass, () -> new InMemoryRsqlEvaluator<>(componentClass, this));
+            } catch (ExecutionException e) {
+                LOG.error("Failed to get evaluator", e);
+            }
+            return null;
+        }
+
         @Override
         public RSQLParser getRsqlParser() {
             return rsqlParser;
@@ -240,5 +384,20 @@ public class RsqlConfigurationBuilder {
         public IPageStatementFactory getPageStatementFactory() {
             return pageStatementFactory;
         }
+
+        @Override
+        public IInListStatementFactory getInListStatementFactory() {
+            return inListStatementFactory;
+        }
+
+        @Override
+        public RsqlComplexityGuard getComplexityGuard() {
+            return complexityGuard;
+        }
+
+        @Override
+        public boolean isResidentComponent(Class<? extends IComponent> componentClass) {
+            return residentComponentClasses.contains(componentClass);
+        }
     }
 }
@@ -1,5 +1,11 @@
 package com.talanlabs.mybatis.rsql.database;
 
+import com.talanlabs.mybatis.rsql.database.inlist.ArrayInListStatementFactory;
+
 public class H2Handler extends StandardHandler {
 
+    public H2Handler() {
+        super(new ArrayInListStatementFactory(ArrayInListStatementFactory.Syntax.Any));
+    }
+
 }
@@ -1,5 +1,15 @@
 package com.talanlabs.mybatis.rsql.database;
 
+import com.talanlabs.mybatis.rsql.database.inlist.ArrayInListStatementFactory;
+
 public class HSQLDBHandler extends StandardHandler {
 
+    public HSQLDBHandler() {
+        super(new ArrayInListStatementFactory(ArrayInListStatementFactory.Syntax.Unnest));
+    }
+
+    @Override
+    public String buildExplainSql(String sql) {
+        return "EXPLAIN PLAN FOR " + sql;
+    }
 }
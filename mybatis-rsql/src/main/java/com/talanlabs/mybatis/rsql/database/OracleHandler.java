@@ -5,13 +5,35 @@ import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.component.factory.ComponentFactory;
 import com.talanlabs.entity.annotation.Entity;
 import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.rsql.database.inlist.PaddingInListStatementFactory;
 import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.statement.IExplainStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
 import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.InList;
 import com.talanlabs.mybatis.rsql.statement.Request;
 
 import java.util.Map;
 
-public class OracleHandler implements IPageStatementFactory {
+public class OracleHandler implements IPageStatementFactory, IInListStatementFactory, IExplainStatementFactory {
+
+    /**
+     * Oracle limit of elements in IN (ORA-01795)
+     */
+    public static final int MAX_IN_SIZE = 1000;
+
+    private final IInListStatementFactory inListStatementFactory;
+
+    public OracleHandler() {
+        this(new PaddingInListStatementFactory(MAX_IN_SIZE));
+    }
+
+    protected OracleHandler(IInListStatementFactory inListStatementFactory) {
+        super();
+
+        this.inListStatementFactory = inListStatementFactory;
+    }
 
     @Override
     public <E extends IComponent> String buildPageSql(Class<E> componentClass, String sqlFromWhereOrderBy, Request.Rows rows, Map<String, Object> additionalParameters, EngineContext context) {
@@ -26,7 +48,22 @@ public class OracleHandler implements IPageStatementFactory {
         additionalParameters.put(firstParam, first);
         additionalParameters.put(lastParam, last);
 
-        return "SELECT i.rn, t.* " + "FROM (SELECT i.* " + "FROM (SELECT i.*, ROWNUM AS rn " + "FROM (SELECT ROWID AS a_rowid " + sqlFromWhereOrderBy + ") i " + "WHERE ROWNUM <= #{" + lastParam
+        return "SELECT i.rn, " + ComponentMyBatisHelper.buildSelectColumns(componentClass, "t", context.getProjection()) + " " + "FROM (SELECT i.* " + "FROM (SELECT i.*, ROWNUM AS rn " + "FROM (SELECT ROWID AS a_rowid " + sqlFromWhereOrderBy + ") i " + "WHERE ROWNUM <= #{" + lastParam
                 + ",javaType=long} " + ") i " + "WHERE rn >= #{" + firstParam + ",javaType=long} " + ") i " + ", " + entity.name() + " t " + "WHERE i.a_rowid = t.ROWID " + "ORDER BY rn";
     }
+
+    @Override
+    public SqlResult buildInListSql(String name, boolean not, InList inList, EngineContext context) {
+        return inListStatementFactory.buildInListSql(name, not, inList, context);
+    }
+
+    @Override
+    public String buildExplainSql(String sql) {
+        return "EXPLAIN PLAN FOR " + sql;
+    }
+
+    @Override
+    public String buildExplainResultSql() {
+        return "SELECT plan_table_output FROM TABLE(DBMS_XPLAN.DISPLAY())";
+    }
 }
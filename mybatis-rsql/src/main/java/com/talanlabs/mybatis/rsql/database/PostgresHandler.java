@@ -1,5 +1,11 @@
 package com.talanlabs.mybatis.rsql.database;
 
+import com.talanlabs.mybatis.rsql.database.inlist.ArrayInListStatementFactory;
+
 public class PostgresHandler extends StandardHandler {
 
+    public PostgresHandler() {
+        super(new ArrayInListStatementFactory(ArrayInListStatementFactory.Syntax.Any));
+    }
+
 }
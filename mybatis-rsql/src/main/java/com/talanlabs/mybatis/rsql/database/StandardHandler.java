@@ -1,18 +1,35 @@
 package com.talanlabs.mybatis.rsql.database;
 
 import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.rsql.database.inlist.PaddingInListStatementFactory;
 import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.statement.IExplainStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
 import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.InList;
 import com.talanlabs.mybatis.rsql.statement.Request;
-import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
 
-public class StandardHandler implements IPageStatementFactory {
+public class StandardHandler implements IPageStatementFactory, IInListStatementFactory, IExplainStatementFactory {
+
+    private final IInListStatementFactory inListStatementFactory;
+
+    public StandardHandler() {
+        this(new PaddingInListStatementFactory());
+    }
+
+    protected StandardHandler(IInListStatementFactory inListStatementFactory) {
+        super();
+
+        this.inListStatementFactory = inListStatementFactory;
+    }
 
     @Override
     public <E extends IComponent> String buildPageSql(Class<E> componentClass, String sqlFromWhereOrderBy, Request.Rows rows, Map<String, Object> additionalParameters, EngineContext context) {
-        String sql = "SELECT " + (StringUtils.isNotBlank(context.getDefaultTableName()) ? context.getDefaultTableName() + "." : "") + "* " + sqlFromWhereOrderBy;
+        String sql = "SELECT " + ComponentMyBatisHelper.buildSelectColumns(componentClass, context.getDefaultTableName(), context.getProjection()) + " " + sqlFromWhereOrderBy;
         String limitParam = context.getNewParamName();
         String offsetParam = context.getNewParamName();
         additionalParameters.put(limitParam, rows.limit);
@@ -20,4 +37,14 @@ public class StandardHandler implements IPageStatementFactory {
         sql += " LIMIT #{" + limitParam + ",javaType=long} OFFSET #{" + offsetParam + ",javaType=long}";
         return sql;
     }
+
+    @Override
+    public SqlResult buildInListSql(String name, boolean not, InList inList, EngineContext context) {
+        return inListStatementFactory.buildInListSql(name, not, inList, context);
+    }
+
+    @Override
+    public String buildExplainSql(String sql) {
+        return "EXPLAIN " + sql;
+    }
 }
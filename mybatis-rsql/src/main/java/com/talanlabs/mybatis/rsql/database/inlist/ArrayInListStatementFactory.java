@@ -0,0 +1,89 @@
+package com.talanlabs.mybatis.rsql.database.inlist;
+
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.InList;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bind all values in one array parameter, the statement is always the same whatever the size of the list.
+ * Fallback when a value is not converted, a type handler is defined or the java type has no sql array type
+ */
+public class ArrayInListStatementFactory implements IInListStatementFactory {
+
+    private final Syntax syntax;
+    private final IInListStatementFactory fallbackInListStatementFactory;
+    private final Map<Class<?>, String> sqlArrayTypeMap;
+
+    public ArrayInListStatementFactory(Syntax syntax) {
+        this(syntax, new PaddingInListStatementFactory());
+    }
+
+    public ArrayInListStatementFactory(Syntax syntax, IInListStatementFactory fallbackInListStatementFactory) {
+        super();
+
+        this.syntax = syntax;
+        this.fallbackInListStatementFactory = fallbackInListStatementFactory;
+
+        this.sqlArrayTypeMap = new HashMap<>();
+        putSqlArrayType(String.class, "VARCHAR");
+        putSqlArrayType(Integer.class, "INTEGER");
+        putSqlArrayType(Long.class, "BIGINT");
+        putSqlArrayType(Short.class, "SMALLINT");
+        putSqlArrayType(BigDecimal.class, "NUMERIC");
+        putSqlArrayType(Boolean.class, "BOOLEAN");
+    }
+
+    /**
+     * Add or replace a sql array type
+     *
+     * @param javaType    java type (primitive use wrapper)
+     * @param sqlTypeName sql type name used by Connection.createArrayOf
+     */
+    public void putSqlArrayType(Class<?> javaType, String sqlTypeName) {
+        sqlArrayTypeMap.put(javaType, sqlTypeName);
+    }
+
+    @Override
+    public SqlResult buildInListSql(String name, boolean not, InList inList, EngineContext context) {
+        String sqlTypeName = inList.javaType != null ? sqlArrayTypeMap.get(ClassUtils.primitiveToWrapper(inList.javaType)) : null;
+        if (sqlTypeName == null || inList.typeHandlerClass != null || !inList.isAllConverted()) {
+            return fallbackInListStatementFactory.buildInListSql(name, not, inList, context);
+        }
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        String param = context.getNewParamName();
+        parameterMap.put(param, ArrayInListTypeHandler.ArrayParameter.of(sqlTypeName, inList.values.stream().map(value -> value.value).toArray()));
+
+        String column = ComponentMyBatisHelper.buildColumn(Object.class, null, ArrayInListTypeHandler.class, param);
+        String sql;
+        switch (syntax) {
+        case Any:
+            sql = name + (not ? " <> ALL (" : " = ANY (") + column + ")";
+            break;
+        case Unnest:
+            sql = name + (not ? " NOT IN (UNNEST(" : " IN (UNNEST(") + column + "))";
+            break;
+        default:
+            throw new IllegalArgumentException("Syntax not supported " + syntax);
+        }
+        return SqlResult.of(Collections.emptyList(), sql, parameterMap);
+    }
+
+    public enum Syntax {
+        /**
+         * name = ANY (array), Postgres, H2
+         */
+        Any, /**
+         * name IN (UNNEST(array)), HSQLDB
+         */
+        Unnest
+    }
+}
@@ -0,0 +1,84 @@
+package com.talanlabs.mybatis.rsql.database.inlist;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Bind a whole list in one sql array parameter, only for parameters
+ */
+public class ArrayInListTypeHandler extends BaseTypeHandler<ArrayInListTypeHandler.ArrayParameter> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, ArrayParameter parameter, JdbcType jdbcType) throws SQLException {
+        Array array = ps.getConnection().createArrayOf(parameter.sqlTypeName, parameter.values);
+        ps.setArray(i, array);
+    }
+
+    @Override
+    public ArrayParameter getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        throw new UnsupportedOperationException("ArrayInListTypeHandler is only for parameters");
+    }
+
+    @Override
+    public ArrayParameter getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        throw new UnsupportedOperationException("ArrayInListTypeHandler is only for parameters");
+    }
+
+    @Override
+    public ArrayParameter getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        throw new UnsupportedOperationException("ArrayInListTypeHandler is only for parameters");
+    }
+
+    public static class ArrayParameter {
+
+        public final String sqlTypeName;
+        public final Object[] values;
+
+        private ArrayParameter(String sqlTypeName, Object[] values) {
+            super();
+
+            this.sqlTypeName = sqlTypeName;
+            this.values = values;
+        }
+
+        public static ArrayParameter of(String sqlTypeName, Object[] values) {
+            return new ArrayParameter(sqlTypeName, values);
+        }
+
+        /*
+         * Parameter is in the cache key, same values give the same key
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ArrayParameter that = (ArrayParameter) o;
+            return new EqualsBuilder().append(sqlTypeName, that.sqlTypeName).append(values, that.values).isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37).append(sqlTypeName).append(values).toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).append("sqlTypeName", sqlTypeName).append("values", values).toString();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.talanlabs.mybatis.rsql.database.inlist;
+
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.InList;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Pad the list to the next power of two by repeating the last value, the statement text is then stable for the driver statement caches.
+ * If maxInSize is set, the list is split in many IN joined by OR (AND for NOT IN)
+ */
+public class PaddingInListStatementFactory implements IInListStatementFactory {
+
+    private final int maxInSize;
+
+    public PaddingInListStatementFactory() {
+        this(0);
+    }
+
+    /**
+     * @param maxInSize max elements in one IN, 0 for no limit
+     */
+    public PaddingInListStatementFactory(int maxInSize) {
+        super();
+
+        if (maxInSize < 0) {
+            throw new IllegalArgumentException("maxInSize must be positive or 0");
+        }
+
+        this.maxInSize = maxInSize;
+    }
+
+    public int getMaxInSize() {
+        return maxInSize;
+    }
+
+    @Override
+    public SqlResult buildInListSql(String name, boolean not, InList inList, EngineContext context) {
+        Map<String, Object> parameterMap = new HashMap<>();
+
+        List<InList.Value> values = inList.values;
+        int chunkSize = maxInSize > 0 ? maxInSize : Math.max(values.size(), 1);
+
+        StringJoiner chunkJoiner = new StringJoiner(not ? " AND " : " OR ");
+        int nbChunk = 0;
+        for (int start = 0; start < values.size(); start += chunkSize) {
+            List<InList.Value> chunk = values.subList(start, Math.min(start + chunkSize, values.size()));
+            chunkJoiner.add(name + (not ? " NOT IN " : " IN ") + buildPaddedList(inList, chunk, parameterMap, context));
+            nbChunk++;
+        }
+
+        String sql = nbChunk > 1 ? "(" + chunkJoiner.toString() + ")" : chunkJoiner.toString();
+        return SqlResult.of(Collections.emptyList(), sql, parameterMap);
+    }
+
+    private String buildPaddedList(InList inList, List<InList.Value> chunk, Map<String, Object> parameterMap, EngineContext context) {
+        StringJoiner sj = new StringJoiner(", ", "(", ")");
+        String lastColumn = null;
+        for (InList.Value value : chunk) {
+            String param = context.getNewParamName();
+            parameterMap.put(param, value.value);
+
+            lastColumn = inList.buildColumn(value, param);
+            sj.add(lastColumn);
+        }
+
+        int paddedSize = paddedSize(chunk.size());
+        for (int i = chunk.size(); i < paddedSize; i++) {
+            sj.add(lastColumn);
+        }
+        return sj.toString();
+    }
+
+    /**
+     * Size of the list after padding, next power of two limited by maxInSize
+     *
+     * @param size real size
+     * @return padded size
+     */
+    protected int paddedSize(int size) {
+        if (size <= 1) {
+            return size;
+        }
+        int res = Integer.highestOneBit(size - 1) << 1;
+        return maxInSize > 0 ? Math.min(res, maxInSize) : res;
+    }
+}
@@ -0,0 +1,128 @@
+package com.talanlabs.mybatis.rsql.database.inlist;
+
+import com.talanlabs.entity.IId;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Insert values of {@link TempTableInListStatementFactory.TempTableInList} in temporary table, with the same connection, before prepare statement.
+ * Values are deleted after query, for a cursor they stay until the end of transaction
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class }),
+        @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }) })
+public class TempTableInListInterceptor implements Interceptor {
+
+    private static final Logger LOG = LogManager.getLogger(TempTableInListInterceptor.class);
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        StatementHandler statementHandler = (StatementHandler) invocation.getTarget();
+        Set<TempTableInListStatementFactory.TempTableInList> tempTableInLists = getTempTableInLists(statementHandler.getBoundSql());
+        if (tempTableInLists.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        if ("prepare".equals(invocation.getMethod().getName())) {
+            Connection connection = (Connection) invocation.getArgs()[0];
+            for (TempTableInListStatementFactory.TempTableInList tempTableInList : tempTableInLists) {
+                insertValues(connection, tempTableInList);
+            }
+            return invocation.proceed();
+        }
+
+        Connection connection = ((Statement) invocation.getArgs()[0]).getConnection();
+        try {
+            return invocation.proceed();
+        } finally {
+            for (TempTableInListStatementFactory.TempTableInList tempTableInList : tempTableInLists) {
+                deleteValues(connection, tempTableInList);
+            }
+        }
+    }
+
+    private Set<TempTableInListStatementFactory.TempTableInList> getTempTableInLists(BoundSql boundSql) {
+        if (boundSql == null || boundSql.getParameterMappings() == null) {
+            return Collections.emptySet();
+        }
+        Set<TempTableInListStatementFactory.TempTableInList> tempTableInLists = null;
+        for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+            String name = new PropertyTokenizer(parameterMapping.getProperty()).getName();
+            if (boundSql.hasAdditionalParameter(name)) {
+                Object value = boundSql.getAdditionalParameter(name);
+                if (value instanceof TempTableInListStatementFactory.TempTableInList) {
+                    if (tempTableInLists == null) {
+                        tempTableInLists = Collections.newSetFromMap(new IdentityHashMap<>());
+                    }
+                    tempTableInLists.add((TempTableInListStatementFactory.TempTableInList) value);
+                }
+            }
+        }
+        return tempTableInLists != null ? tempTableInLists : Collections.emptySet();
+    }
+
+    private void insertValues(Connection connection, TempTableInListStatementFactory.TempTableInList tempTableInList) throws SQLException {
+        LOG.debug("Insert {} values in temporary table for list {}", tempTableInList.getValues().size(), tempTableInList.getListId());
+
+        try (PreparedStatement ps = connection.prepareStatement(tempTableInList.getInsertSql())) {
+            for (Object value : tempTableInList.getValues()) {
+                ps.setString(1, tempTableInList.getListId());
+                ps.setObject(2, toJdbcValue(value));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void deleteValues(Connection connection, TempTableInListStatementFactory.TempTableInList tempTableInList) throws SQLException {
+        LOG.debug("Delete values in temporary table for list {}", tempTableInList.getListId());
+
+        try (PreparedStatement ps = connection.prepareStatement(tempTableInList.getDeleteSql())) {
+            ps.setString(1, tempTableInList.getListId());
+            ps.executeUpdate();
+        }
+    }
+
+    private Object toJdbcValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        } else if (value instanceof Date) {
+            return new Timestamp(((Date) value).getTime());
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else if (value instanceof IId) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
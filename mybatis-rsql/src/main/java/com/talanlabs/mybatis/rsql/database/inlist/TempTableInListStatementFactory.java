@@ -0,0 +1,128 @@
+package com.talanlabs.mybatis.rsql.database.inlist;
+
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.InList;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Huge lists are inserted in a temporary table and replaced by a sub select.
+ * The table must be a session or transaction temporary table (ex: GLOBAL TEMPORARY TABLE ... ON COMMIT DELETE ROWS) with 2 columns, list id (VARCHAR) and value.
+ * {@link TempTableInListInterceptor} must be added to the configuration, it inserts values before the statement is prepared and deletes them after the query.
+ * The list id is bound by {@link TempTableInListTypeHandler}, same lists give the same cache key.
+ */
+public class TempTableInListStatementFactory implements IInListStatementFactory {
+
+    private final String tableName;
+    private final String listIdColumnName;
+    private final String valueColumnName;
+    private final int threshold;
+    private final IInListStatementFactory delegateInListStatementFactory;
+
+    /**
+     * @param tableName                      temporary table name
+     * @param listIdColumnName               column name for list id
+     * @param valueColumnName                column name for value
+     * @param threshold                      use temporary table if size of list is greater than threshold
+     * @param delegateInListStatementFactory used if size is lower or equals than threshold
+     */
+    public TempTableInListStatementFactory(String tableName, String listIdColumnName, String valueColumnName, int threshold, IInListStatementFactory delegateInListStatementFactory) {
+        super();
+
+        this.tableName = tableName;
+        this.listIdColumnName = listIdColumnName;
+        this.valueColumnName = valueColumnName;
+        this.threshold = threshold;
+        this.delegateInListStatementFactory = delegateInListStatementFactory;
+    }
+
+    @Override
+    public SqlResult buildInListSql(String name, boolean not, InList inList, EngineContext context) {
+        if (inList.values.size() <= threshold) {
+            return delegateInListStatementFactory.buildInListSql(name, not, inList, context);
+        }
+
+        String insertSql = "INSERT INTO " + tableName + " (" + listIdColumnName + ", " + valueColumnName + ") VALUES (?, ?)";
+        String deleteSql = "DELETE FROM " + tableName + " WHERE " + listIdColumnName + " = ?";
+        TempTableInList tempTableInList = new TempTableInList(insertSql, deleteSql, UUID.randomUUID().toString(), inList.values.stream().map(value -> value.value).collect(Collectors.toList()));
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        String param = context.getNewParamName();
+        parameterMap.put(param, tempTableInList);
+
+        String sql = name + (not ? " NOT IN " : " IN ") + "(SELECT " + valueColumnName + " FROM " + tableName + " WHERE " + listIdColumnName + " = " + ComponentMyBatisHelper
+                .buildColumn(Object.class, null, TempTableInListTypeHandler.class, param) + ")";
+        return SqlResult.of(Collections.emptyList(), sql, parameterMap);
+    }
+
+    public static class TempTableInList {
+
+        private final String insertSql;
+        private final String deleteSql;
+        private final String listId;
+        private final List<Object> values;
+
+        private TempTableInList(String insertSql, String deleteSql, String listId, List<Object> values) {
+            super();
+
+            this.insertSql = insertSql;
+            this.deleteSql = deleteSql;
+            this.listId = listId;
+            this.values = values;
+        }
+
+        public String getInsertSql() {
+            return insertSql;
+        }
+
+        public String getDeleteSql() {
+            return deleteSql;
+        }
+
+        public String getListId() {
+            return listId;
+        }
+
+        public List<Object> getValues() {
+            return values;
+        }
+
+        /*
+         * List id is unique by query, it is not in equals to share the cache key
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            TempTableInList that = (TempTableInList) o;
+            return new EqualsBuilder().append(insertSql, that.insertSql).append(deleteSql, that.deleteSql).append(values, that.values).isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37).append(insertSql).append(deleteSql).append(values).toHashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).append("insertSql", insertSql).append("listId", listId).append("size", values.size()).toString();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.talanlabs.mybatis.rsql.database.inlist;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Bind the list id of a temporary table list, the parameter is the whole list so the cache key does not contain the list id, only for parameters
+ */
+public class TempTableInListTypeHandler extends BaseTypeHandler<TempTableInListStatementFactory.TempTableInList> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, TempTableInListStatementFactory.TempTableInList parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter.getListId());
+    }
+
+    @Override
+    public TempTableInListStatementFactory.TempTableInList getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        throw new UnsupportedOperationException("TempTableInListTypeHandler is only for parameters");
+    }
+
+    @Override
+    public TempTableInListStatementFactory.TempTableInList getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        throw new UnsupportedOperationException("TempTableInListTypeHandler is only for parameters");
+    }
+
+    @Override
+    public TempTableInListStatementFactory.TempTableInList getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        throw new UnsupportedOperationException("TempTableInListTypeHandler is only for parameters");
+    }
+}
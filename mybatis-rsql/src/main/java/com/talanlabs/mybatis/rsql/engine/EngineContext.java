@@ -15,6 +15,8 @@ public class EngineContext {
     private AtomicInteger paramInteger = new AtomicInteger();
     private AtomicInteger joinInteger = new AtomicInteger();
     private Map<String, String> joinMap = new HashMap<>();
+    private int logicalDepth;
+    private String[] projection;
 
     private EngineContext() {
         super();
@@ -67,6 +69,43 @@ public class EngineContext {
         return name;
     }
 
+    /**
+     * @return current depth of logical nodes while visiting, 0 for root
+     */
+    public int getLogicalDepth() {
+        return logicalDepth;
+    }
+
+    /**
+     * Enter in a logical node
+     */
+    public void incrementLogicalDepth() {
+        logicalDepth++;
+    }
+
+    /**
+     * Exit a logical node
+     */
+    public void decrementLogicalDepth() {
+        logicalDepth--;
+    }
+
+    /**
+     * @return properties to select, null for all
+     */
+    public String[] getProjection() {
+        return projection;
+    }
+
+    /**
+     * Set properties to select
+     *
+     * @param projection properties, null for all
+     */
+    public void setProjection(String[] projection) {
+        this.projection = projection;
+    }
+
     public static class EngineContextBuilder {
 
         EngineContext engineContext = new EngineContext();
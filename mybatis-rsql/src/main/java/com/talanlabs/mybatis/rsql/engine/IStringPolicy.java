@@ -28,4 +28,14 @@ public interface IStringPolicy {
      * @return For compare string, prepare name (modify sql name)
      */
     String prepareNameForOrderBy(Class<? extends IComponent> componentClass, String propertyName, SortDirection sortDirection, String name);
+
+    /**
+     * @param componentClass component class
+     * @param propertyName   property
+     * @param value          value of property or parameter
+     * @return For compare string in memory, prepare value like the sql name, default value
+     */
+    default String prepareValueForMemory(Class<? extends IComponent> componentClass, String propertyName, String value) {
+        return value;
+    }
 }
@@ -0,0 +1,20 @@
+package com.talanlabs.mybatis.rsql.engine;
+
+public class RsqlComplexityException extends IllegalPropertyException {
+
+    private final Reason reason;
+
+    public RsqlComplexityException(Reason reason, String msg) {
+        super(msg);
+
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public enum Reason {
+        Depth, Nodes, Joins, InSize, LeadingWildcard
+    }
+}
@@ -0,0 +1,49 @@
+package com.talanlabs.mybatis.rsql.engine;
+
+/**
+ * Special characters of a rsql argument, * is a wildcard and \ escapes the next character
+ */
+public class RsqlTextHelper {
+
+    private RsqlTextHelper() {
+        super();
+    }
+
+    /**
+     * @param text argument
+     * @return true if text contains a not escaped wildcard
+     */
+    public static boolean containWildcard(String text) {
+        int i = 0;
+        while (i < text.length()) {
+            if (text.charAt(i) == '*') {
+                return true;
+            } else if (text.charAt(i) == '\\') {
+                i++;
+            }
+            i++;
+        }
+        return false;
+    }
+
+    /**
+     * @param text argument
+     * @return text without escape characters
+     */
+    public static String cleanSpecial(String text) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            if (text.charAt(i) == '\\') {
+                i++;
+                if (i < text.length()) {
+                    sb.append(text.charAt(i));
+                }
+            } else {
+                sb.append(text.charAt(i));
+            }
+            i++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.talanlabs.mybatis.rsql.engine.converter;
+
+@FunctionalInterface
+public interface IValueConverter {
+
+    /**
+     * Returned when the text is not convertible
+     */
+    Object NOT_CONVERTIBLE = new Object() {
+        @Override
+        public String toString() {
+            return "NOT_CONVERTIBLE";
+        }
+    };
+
+    /**
+     * Convert a text argument in java value, must not throw for a bad text
+     *
+     * @param text argument
+     * @return value or NOT_CONVERTIBLE
+     */
+    Object convert(String text);
+
+}
@@ -0,0 +1,98 @@
+package com.talanlabs.mybatis.rsql.engine.converter;
+
+import com.talanlabs.rtext.Rtext;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converters by type, resolved once and cached. Type without converter use Rtext.
+ * Built-in converters (String, numbers, boolean, enum) do not throw for a bad text, a type converted by a custom Rtext must be registered with a Rtext converter.
+ * Date and IId use Rtext, ValueConverters.date() and ValueConverters.id() are registered by user
+ */
+public class ValueConverterRegistry {
+
+    private final Rtext rtext;
+    private final boolean builtInConverters;
+    private final Map<Type, IValueConverter> valueConverterMap;
+
+    public ValueConverterRegistry(Rtext rtext) {
+        this(rtext, true);
+    }
+
+    /**
+     * @param rtext             Rtext
+     * @param builtInConverters if false all types without registered converter use Rtext
+     */
+    public ValueConverterRegistry(Rtext rtext, boolean builtInConverters) {
+        super();
+
+        this.rtext = rtext;
+        this.builtInConverters = builtInConverters;
+        this.valueConverterMap = new ConcurrentHashMap<>();
+
+        if (builtInConverters) {
+            registerBuiltInValueConverters();
+        }
+    }
+
+    private void registerBuiltInValueConverters() {
+        registerValueConverter(String.class, ValueConverters.string());
+        registerValueConverter(Byte.class, ValueConverters.integer(Byte.MIN_VALUE, Byte.MAX_VALUE, value -> (byte) value));
+        registerValueConverter(byte.class, ValueConverters.integer(Byte.MIN_VALUE, Byte.MAX_VALUE, value -> (byte) value));
+        registerValueConverter(Short.class, ValueConverters.integer(Short.MIN_VALUE, Short.MAX_VALUE, value -> (short) value));
+        registerValueConverter(short.class, ValueConverters.integer(Short.MIN_VALUE, Short.MAX_VALUE, value -> (short) value));
+        registerValueConverter(Integer.class, ValueConverters.integer(Integer.MIN_VALUE, Integer.MAX_VALUE, value -> (int) value));
+        registerValueConverter(int.class, ValueConverters.integer(Integer.MIN_VALUE, Integer.MAX_VALUE, value -> (int) value));
+        registerValueConverter(Long.class, ValueConverters.integer(Long.MIN_VALUE, Long.MAX_VALUE, value -> value));
+        registerValueConverter(long.class, ValueConverters.integer(Long.MIN_VALUE, Long.MAX_VALUE, value -> value));
+        registerValueConverter(Float.class, ValueConverters.floatValue());
+        registerValueConverter(float.class, ValueConverters.floatValue());
+        registerValueConverter(Double.class, ValueConverters.doubleValue());
+        registerValueConverter(double.class, ValueConverters.doubleValue());
+        registerValueConverter(BigInteger.class, ValueConverters.bigInteger());
+        registerValueConverter(BigDecimal.class, ValueConverters.bigDecimal());
+        registerValueConverter(Boolean.class, ValueConverters.booleanValue(ValueConverters.rtext(rtext, Boolean.class)));
+        registerValueConverter(boolean.class, ValueConverters.booleanValue(ValueConverters.rtext(rtext, boolean.class)));
+    }
+
+    /**
+     * Type is converted by Rtext, replace built-in converter
+     *
+     * @param type type of property
+     */
+    public void registerRtextValueConverter(Type type) {
+        registerValueConverter(type, ValueConverters.rtext(rtext, type));
+    }
+
+    /**
+     * Add or replace a converter
+     *
+     * @param type           type of property
+     * @param valueConverter converter
+     */
+    public void registerValueConverter(Type type, IValueConverter valueConverter) {
+        valueConverterMap.put(type, valueConverter);
+    }
+
+    /**
+     * Get a converter for type, enum by name if built-in converters, else Rtext
+     *
+     * @param type type of property
+     * @return converter
+     */
+    public IValueConverter getValueConverter(Type type) {
+        return valueConverterMap.computeIfAbsent(type, this::createValueConverter);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private IValueConverter createValueConverter(Type type) {
+        if (builtInConverters && type instanceof Class && ((Class<?>) type).isEnum()) {
+            return ValueConverters.enumValue((Class) type);
+        }
+        return ValueConverters.rtext(rtext, type);
+    }
+}
@@ -0,0 +1,268 @@
+package com.talanlabs.mybatis.rsql.engine.converter;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.rtext.Rtext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converters without exception for common types
+ */
+public class ValueConverters {
+
+    private static final Logger LOG = LogManager.getLogger(ValueConverters.class);
+
+    /**
+     * Max digits always in a long
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Max digits of exponent always in an int
+     */
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    private ValueConverters() {
+        super();
+    }
+
+    /**
+     * @return text unchanged
+     */
+    public static IValueConverter string() {
+        return text -> text;
+    }
+
+    /**
+     * @param min  min value
+     * @param max  max value
+     * @param cast cast long in type
+     * @return converter for integer number, Byte, Short, Integer or Long with cast
+     */
+    public static IValueConverter integer(long min, long max, LongCast cast) {
+        return text -> {
+            if (!isInteger(text)) {
+                return IValueConverter.NOT_CONVERTIBLE;
+            }
+            long value;
+            if (countDigits(text) <= MAX_LONG_DIGITS) {
+                value = Long.parseLong(text);
+            } else {
+                BigInteger bigInteger = new BigInteger(text);
+                if (bigInteger.bitLength() > 63) {
+                    return IValueConverter.NOT_CONVERTIBLE;
+                }
+                value = bigInteger.longValue();
+            }
+            return value >= min && value <= max ? cast.cast(value) : IValueConverter.NOT_CONVERTIBLE;
+        };
+    }
+
+    /**
+     * @return converter for BigInteger
+     */
+    public static IValueConverter bigInteger() {
+        return text -> isInteger(text) ? new BigInteger(text) : IValueConverter.NOT_CONVERTIBLE;
+    }
+
+    /**
+     * @return converter for BigDecimal
+     */
+    public static IValueConverter bigDecimal() {
+        return text -> isDecimal(text) ? new BigDecimal(text) : IValueConverter.NOT_CONVERTIBLE;
+    }
+
+    /**
+     * @return converter for Double
+     */
+    public static IValueConverter doubleValue() {
+        return text -> isDecimal(text) ? (Object) Double.valueOf(text) : IValueConverter.NOT_CONVERTIBLE;
+    }
+
+    /**
+     * @return converter for Float
+     */
+    public static IValueConverter floatValue() {
+        return text -> isDecimal(text) ? (Object) Float.valueOf(text) : IValueConverter.NOT_CONVERTIBLE;
+    }
+
+    /**
+     * @param fallbackValueConverter used if text is not true or false
+     * @return converter for Boolean
+     */
+    public static IValueConverter booleanValue(IValueConverter fallbackValueConverter) {
+        return text -> {
+            if ("true".equalsIgnoreCase(text)) {
+                return Boolean.TRUE;
+            } else if ("false".equalsIgnoreCase(text)) {
+                return Boolean.FALSE;
+            }
+            return fallbackValueConverter.convert(text);
+        };
+    }
+
+    /**
+     * @return converter for IId, an IdString of text
+     */
+    public static IValueConverter id() {
+        return text -> text != null && !text.isEmpty() ? IdFactory.IdString.from(text) : IValueConverter.NOT_CONVERTIBLE;
+    }
+
+    /**
+     * Date of text yyyy-MM-dd, yyyy-MM-dd'T'HH:mm:ss or yyyy-MM-dd'T'HH:mm:ss.SSS in default time zone, parsed without exception
+     *
+     * @return converter for Date
+     */
+    public static IValueConverter date() {
+        return text -> {
+            String pattern = getDatePattern(text);
+            if (pattern == null) {
+                return IValueConverter.NOT_CONVERTIBLE;
+            }
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
+            simpleDateFormat.setLenient(false);
+            ParsePosition parsePosition = new ParsePosition(0);
+            Date date = simpleDateFormat.parse(text, parsePosition);
+            return date != null && parsePosition.getIndex() == text.length() ? date : IValueConverter.NOT_CONVERTIBLE;
+        };
+    }
+
+    /**
+     * @param enumClass enum class
+     * @return converter by name of constant
+     */
+    public static <E extends Enum<E>> IValueConverter enumValue(Class<E> enumClass) {
+        Map<String, E> constantMap = new HashMap<>();
+        for (E constant : enumClass.getEnumConstants()) {
+            constantMap.put(constant.name(), constant);
+        }
+        return text -> {
+            E res = text != null ? constantMap.get(text) : null;
+            return res != null ? res : IValueConverter.NOT_CONVERTIBLE;
+        };
+    }
+
+    /**
+     * Generic converter with Rtext, an exception is thrown by Rtext for a bad text
+     *
+     * @param rtext rtext
+     * @param type  type
+     * @return converter
+     */
+    public static IValueConverter rtext(Rtext rtext, Type type) {
+        return text -> {
+            try {
+                return rtext.fromText(text, type);
+            } catch (Exception e) {
+                LOG.trace("Failed to convert text {} on {}", text, type, e);
+                return IValueConverter.NOT_CONVERTIBLE;
+            }
+        };
+    }
+
+    private static boolean isInteger(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        int i = text.charAt(0) == '-' || text.charAt(0) == '+' ? 1 : 0;
+        if (i == text.length()) {
+            return false;
+        }
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getDatePattern(String text) {
+        if (text == null) {
+            return null;
+        }
+        switch (text.length()) {
+        case 10:
+            return matchDate(text, "dddd-dd-dd") ? "yyyy-MM-dd" : null;
+        case 19:
+            return matchDate(text, "dddd-dd-ddTdd:dd:dd") ? "yyyy-MM-dd'T'HH:mm:ss" : null;
+        case 23:
+            return matchDate(text, "dddd-dd-ddTdd:dd:dd.ddd") ? "yyyy-MM-dd'T'HH:mm:ss.SSS" : null;
+        default:
+            return null;
+        }
+    }
+
+    /*
+     * d is a digit, other characters are equal
+     */
+    private static boolean matchDate(String text, String shape) {
+        for (int i = 0; i < shape.length(); i++) {
+            char c = text.charAt(i);
+            if (shape.charAt(i) == 'd' ? c < '0' || c > '9' : c != shape.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countDigits(String text) {
+        return text.charAt(0) == '-' || text.charAt(0) == '+' ? text.length() - 1 : text.length();
+    }
+
+    /**
+     * [+-]digits[.digits][(e|E)[+-]digits]
+     */
+    private static boolean isDecimal(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        int i = text.charAt(0) == '-' || text.charAt(0) == '+' ? 1 : 0;
+        int digits = 0;
+        while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+            i++;
+            digits++;
+        }
+        if (i < text.length() && text.charAt(i) == '.') {
+            i++;
+            while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < text.length() && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < text.length() && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                i++;
+            }
+            int expDigits = 0;
+            while (i < text.length() && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                i++;
+                expDigits++;
+            }
+            if (expDigits == 0 || expDigits > MAX_EXPONENT_DIGITS) {
+                return false;
+            }
+        }
+        return i == text.length();
+    }
+
+    @FunctionalInterface
+    public interface LongCast {
+
+        Object cast(long value);
+
+    }
+}
@@ -39,6 +39,11 @@ public class AlwaysUpperStringPolicy implements IStringPolicy {
         return upperName(name);
     }
 
+    @Override
+    public String prepareValueForMemory(Class<? extends IComponent> componentClass, String propertyName, String value) {
+        return upperParameterValue(value);
+    }
+
     protected String upperName(String name) {
         return upperSqlFunction + "(" + name + ")";
     }
@@ -9,6 +9,8 @@ import com.talanlabs.mybatis.rsql.engine.SqlResult;
 import com.talanlabs.mybatis.rsql.engine.where.registry.IComparisonOperatorManagerRegistry;
 import cz.jirutka.rsql.parser.ast.AndNode;
 import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
 import cz.jirutka.rsql.parser.ast.OrNode;
 import cz.jirutka.rsql.parser.ast.RSQLVisitor;
 
@@ -16,30 +18,58 @@ public class ComponentRsqlVisitor<E extends IComponent> implements RSQLVisitor<S
 
     private final ComponentDescriptor<E> componentDescriptor;
     private final IComparisonOperatorManagerRegistry comparisonOperatorManagerRegistry;
+    private final RsqlComplexityGuard complexityGuard;
 
     public ComponentRsqlVisitor(Class<E> componentClass, IComparisonOperatorManagerRegistry comparisonOperatorManagerRegistry) {
+        this(componentClass, comparisonOperatorManagerRegistry, null);
+    }
+
+    public ComponentRsqlVisitor(Class<E> componentClass, IComparisonOperatorManagerRegistry comparisonOperatorManagerRegistry, RsqlComplexityGuard complexityGuard) {
         super();
 
         this.componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
         this.comparisonOperatorManagerRegistry = comparisonOperatorManagerRegistry;
+        this.complexityGuard = complexityGuard;
     }
 
     @Override
     public SqlResult visit(AndNode node, EngineContext context) {
-        return node.getChildren().stream().map(n -> n.accept(this, context)).collect(SqlResult.SqlResultJoiner.joining(" AND ", "(", ")"));
+        return visitLogical(node, " AND ", context);
     }
 
     @Override
     public SqlResult visit(OrNode node, EngineContext context) {
-        return node.getChildren().stream().map(n -> n.accept(this, context)).collect(SqlResult.SqlResultJoiner.joining(" OR ", "(", ")"));
+        return visitLogical(node, " OR ", context);
+    }
+
+    private SqlResult visitLogical(LogicalNode node, String delimiter, EngineContext context) {
+        checkComplexity(node, context);
+
+        context.incrementLogicalDepth();
+        try {
+            return node.getChildren().stream().map(n -> n.accept(this, context)).collect(SqlResult.SqlResultJoiner.joining(delimiter, "(", ")"));
+        } finally {
+            context.decrementLogicalDepth();
+        }
     }
 
     @Override
     public SqlResult visit(ComparisonNode node, EngineContext context) {
+        checkComplexity(node, context);
+
         IComparisonOperatorManager comparisonOperatorManager = comparisonOperatorManagerRegistry.getComparisonOperatorManager(node.getOperator());
         if (comparisonOperatorManager != null) {
             return comparisonOperatorManager.visit(componentDescriptor, node, context);
         }
         throw new IllegalPropertyException(String.format("Property %s with operator %s not accepted", node.getSelector(), node.getOperator()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Check all tree on root node, before build any sql
+     */
+    private void checkComplexity(Node node, EngineContext context) {
+        if (complexityGuard != null && context.getLogicalDepth() == 0) {
+            complexityGuard.check(node);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.talanlabs.mybatis.rsql.engine.where;
+
+import com.talanlabs.mybatis.rsql.engine.RsqlComplexityException;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Check the complexity of a RSQL tree before build sql, a limit at 0 is no limit
+ */
+public class RsqlComplexityGuard {
+
+    private static final Logger LOG = LogManager.getLogger(RsqlComplexityGuard.class);
+
+    private final int maxDepth;
+    private final int maxNodes;
+    private final int maxJoins;
+    private final int maxInSize;
+    private final boolean rejectLeadingWildcard;
+    private final Map<RsqlComplexityException.Reason, LongAdder> rejectionMap;
+
+    /**
+     * @param maxDepth              max depth of tree (root is 1)
+     * @param maxNodes              max number of nodes, logical and comparison
+     * @param maxJoins              max number of distinct association paths (person.address)
+     * @param maxInSize             max number of arguments for multi value operators
+     * @param rejectLeadingWildcard reject a like with leading wildcard (name==*abc)
+     */
+    public RsqlComplexityGuard(int maxDepth, int maxNodes, int maxJoins, int maxInSize, boolean rejectLeadingWildcard) {
+        super();
+
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxJoins = maxJoins;
+        this.maxInSize = maxInSize;
+        this.rejectLeadingWildcard = rejectLeadingWildcard;
+
+        this.rejectionMap = new EnumMap<>(RsqlComplexityException.Reason.class);
+        for (RsqlComplexityException.Reason reason : RsqlComplexityException.Reason.values()) {
+            rejectionMap.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * @return true if a limit is defined
+     */
+    public boolean isEnabled() {
+        return maxDepth > 0 || maxNodes > 0 || maxJoins > 0 || maxInSize > 0 || rejectLeadingWildcard;
+    }
+
+    /**
+     * Check all tree, stop at first limit exceeded
+     *
+     * @param node root node
+     * @throws RsqlComplexityException if a limit is exceeded
+     */
+    public void check(Node node) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            check(node, 1, new Counter());
+        } catch (RsqlComplexityException e) {
+            rejectionMap.get(e.getReason()).increment();
+            LOG.debug("Rsql rejected", e);
+            throw e;
+        }
+    }
+
+    private void check(Node node, int depth, Counter counter) {
+        if (maxDepth > 0 && depth > maxDepth) {
+            throw new RsqlComplexityException(RsqlComplexityException.Reason.Depth, String.format("Rsql depth exceeds %d", maxDepth));
+        }
+        counter.nodes++;
+        if (maxNodes > 0 && counter.nodes > maxNodes) {
+            throw new RsqlComplexityException(RsqlComplexityException.Reason.Nodes, String.format("Rsql nodes exceeds %d", maxNodes));
+        }
+
+        if (node instanceof LogicalNode) {
+            for (Node child : ((LogicalNode) node).getChildren()) {
+                check(child, depth + 1, counter);
+            }
+        } else if (node instanceof ComparisonNode) {
+            checkComparison((ComparisonNode) node, counter);
+        }
+    }
+
+    private void checkComparison(ComparisonNode node, Counter counter) {
+        if (maxInSize > 0 && node.getOperator().isMultiValue() && node.getArguments().size() > maxInSize) {
+            throw new RsqlComplexityException(RsqlComplexityException.Reason.InSize,
+                    String.format("Property %s with operator %s exceeds %d arguments", node.getSelector(), node.getOperator(), maxInSize));
+        }
+
+        if (rejectLeadingWildcard && (RSQLOperators.EQUAL.equals(node.getOperator()) || RSQLOperators.NOT_EQUAL.equals(node.getOperator())) && node.getArguments().stream()
+                .anyMatch(argument -> argument.startsWith("*"))) {
+            throw new RsqlComplexityException(RsqlComplexityException.Reason.LeadingWildcard, String.format("Property %s with leading wildcard not accepted", node.getSelector()));
+        }
+
+        if (maxJoins > 0) {
+            String selector = node.getSelector();
+            int indexPoint = selector.indexOf('.');
+            while (indexPoint != -1) {
+                counter.joinPaths.add(selector.substring(0, indexPoint));
+                indexPoint = selector.indexOf('.', indexPoint + 1);
+            }
+            if (counter.joinPaths.size() > maxJoins) {
+                throw new RsqlComplexityException(RsqlComplexityException.Reason.Joins, String.format("Rsql joins exceeds %d", maxJoins));
+            }
+        }
+    }
+
+    /**
+     * @param reason reason
+     * @return number of rejected rsql for reason
+     */
+    public long getRejectionCount(RsqlComplexityException.Reason reason) {
+        return rejectionMap.get(reason).sum();
+    }
+
+    /**
+     * @return number of rejected rsql by reason
+     */
+    public Map<RsqlComplexityException.Reason, Long> getRejectionCounts() {
+        Map<RsqlComplexityException.Reason, Long> res = new EnumMap<>(RsqlComplexityException.Reason.class);
+        rejectionMap.forEach((reason, count) -> res.put(reason, count.sum()));
+        return Collections.unmodifiableMap(res);
+    }
+
+    private static class Counter {
+
+        int nodes;
+        Set<String> joinPaths = new HashSet<>();
+
+    }
+}
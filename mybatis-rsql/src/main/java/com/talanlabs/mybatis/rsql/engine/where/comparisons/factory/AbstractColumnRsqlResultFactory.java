@@ -6,8 +6,13 @@ import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
 import com.talanlabs.mybatis.rsql.engine.EngineContext;
 import com.talanlabs.mybatis.rsql.engine.ILikePolicy;
 import com.talanlabs.mybatis.rsql.engine.IStringPolicy;
+import com.talanlabs.mybatis.rsql.engine.IllegalPropertyException;
+import com.talanlabs.mybatis.rsql.engine.RsqlTextHelper;
 import com.talanlabs.mybatis.rsql.engine.SqlResult;
-import com.talanlabs.rtext.Rtext;
+import com.talanlabs.mybatis.rsql.engine.converter.IValueConverter;
+import com.talanlabs.mybatis.rsql.engine.converter.ValueConverterRegistry;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.InList;
 import cz.jirutka.rsql.parser.ast.ComparisonNode;
 import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import cz.jirutka.rsql.parser.ast.RSQLOperators;
@@ -19,11 +24,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> extends AbstractRsqlResultFactory<E> {
 
@@ -31,6 +38,7 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
 
     private final IRsqlConfiguration configuration;
     private final Map<ComparisonOperator, OperatorConvert> operatorConvertMap;
+    private final Map<ComponentDescriptor.PropertyDescriptor, IValueConverter> valueConverterMap;
 
     public AbstractColumnRsqlResultFactory(Class<E> annotationClass, IRsqlConfiguration configuration) {
         super(annotationClass);
@@ -38,6 +46,7 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
         this.configuration = configuration;
 
         this.operatorConvertMap = new HashMap<>();
+        this.valueConverterMap = new ConcurrentHashMap<>();
         addOperatorConvert(RSQLOperators.EQUAL, OperatorConvert.of("=", "like"));
         addOperatorConvert(RSQLOperators.NOT_EQUAL, OperatorConvert.of("<>", "not like"));
         addOperatorConvert(RSQLOperators.LESS_THAN, OperatorConvert.of("<", null));
@@ -60,10 +69,7 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
             throw new IllegalArgumentException("Operator not define convert for Component=" + componentDescriptor.getComponentClass() + " with property=" + propertyDescriptor.getPropertyName());
         }
 
-        Rtext rtext = configuration.getRtext();
-        if (rtext == null) {
-            throw new IllegalArgumentException("Rtext is null");
-        }
+        IValueConverter valueConverter = getValueConverter(propertyDescriptor);
 
         String name = (StringUtils.isNotBlank(tableJoinName) ? tableJoinName + "." : "") + columnName;
         IStringPolicy stringComparePolicy = configuration.getStringPolicy();
@@ -73,7 +79,7 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
         if (!node.getOperator().isMultiValue()) {
             String text = arguments.size() > 0 ? arguments.get(0) : null;
 
-            if (text != null && type.likeSql != null && containWildcard(text)) {
+            if (text != null && type.likeSql != null && RsqlTextHelper.containWildcard(text)) {
                 if (stringComparePolicy != null) {
                     Pair<String, List<String>> res = stringComparePolicy
                             .prepareNameAndParametersForWhere(componentDescriptor.getComponentClass(), propertyDescriptor.getPropertyName(), node.getOperator(), name, arguments);
@@ -90,7 +96,7 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
                     text = res.getRight().get(0);
                 }
 
-                return parseValue(type, propertyDescriptor, rtext, name, javaType, jdbcType, typeHandlerClass, cleanSpecial(text), context);
+                return parseValue(type, propertyDescriptor, valueConverter, name, javaType, jdbcType, typeHandlerClass, RsqlTextHelper.cleanSpecial(text), context);
             }
         } else {
             if (stringComparePolicy != null && String.class == javaType) {
@@ -100,38 +106,39 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
                 arguments = res.getRight();
             }
 
-            return parseValues(type, propertyDescriptor, rtext, name, javaType, jdbcType, typeHandlerClass, arguments, context);
+            IInListStatementFactory inListStatementFactory = configuration.getInListStatementFactory();
+            if (inListStatementFactory != null && (RSQLOperators.IN.equals(node.getOperator()) || RSQLOperators.NOT_IN.equals(node.getOperator()))) {
+                return parseInList(inListStatementFactory, RSQLOperators.NOT_IN.equals(node.getOperator()), propertyDescriptor, valueConverter, name, javaType, jdbcType, typeHandlerClass, arguments,
+                        context);
+            }
+
+            return parseValues(type, propertyDescriptor, valueConverter, name, javaType, jdbcType, typeHandlerClass, arguments, context);
         }
     }
 
-    private boolean containWildcard(String text) {
-        int i = 0;
-        while (i < text.length()) {
-            if (text.charAt(i) == '*') {
-                return true;
-            } else if (text.charAt(i) == '\\') {
-                i++;
+    /**
+     * Converter is resolved once by property
+     */
+    private IValueConverter getValueConverter(ComponentDescriptor.PropertyDescriptor propertyDescriptor) {
+        return valueConverterMap.computeIfAbsent(propertyDescriptor, pd -> {
+            ValueConverterRegistry valueConverterRegistry = configuration.getValueConverterRegistry();
+            if (valueConverterRegistry == null) {
+                throw new IllegalArgumentException("ValueConverterRegistry is null");
             }
-            i++;
-        }
-        return false;
+            return valueConverterRegistry.getValueConverter(pd.getPropertyType());
+        });
     }
 
-    private String cleanSpecial(String text) {
-        StringBuilder sb = new StringBuilder();
-        int i = 0;
-        while (i < text.length()) {
-            if (text.charAt(i) == '\\') {
-                i++;
-                if (i < text.length()) {
-                    sb.append(text.charAt(i));
-                }
-            } else {
-                sb.append(text.charAt(i));
+    private Object convert(ComponentDescriptor.PropertyDescriptor propertyDescriptor, IValueConverter valueConverter, String text) {
+        Object value = valueConverter.convert(text);
+        if (value == IValueConverter.NOT_CONVERTIBLE) {
+            LOG.trace("Failed to convert text {} on {}", text, propertyDescriptor.getPropertyType());
+
+            if (configuration.isStrictConversion()) {
+                throw new IllegalPropertyException(String.format("Property %s with value %s not convertible", propertyDescriptor.getPropertyName(), text));
             }
-            i++;
         }
-        return sb.toString();
+        return value;
     }
 
     private SqlResult parseString(OperatorConvert operatorConvert, String name, String argument, EngineContext context) {
@@ -182,20 +189,18 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
         return SqlResult.of(Collections.emptyList(), res, parameterMap);
     }
 
-    private SqlResult parseValue(OperatorConvert operatorConvert, ComponentDescriptor.PropertyDescriptor propertyDescriptor, Rtext rtext, String name, Class<?> javaType, JdbcType jdbcType,
-            Class<? extends TypeHandler<?>> typeHandlerClass, String text, EngineContext context) {
+    private SqlResult parseValue(OperatorConvert operatorConvert, ComponentDescriptor.PropertyDescriptor propertyDescriptor, IValueConverter valueConverter, String name, Class<?> javaType,
+            JdbcType jdbcType, Class<? extends TypeHandler<?>> typeHandlerClass, String text, EngineContext context) {
         Map<String, Object> parameterMap = new HashMap<>();
 
         String param = context.getNewParamName();
         String valueSql;
-        try {
-            Object value = rtext.fromText(text, propertyDescriptor.getPropertyType());
+        Object value = convert(propertyDescriptor, valueConverter, text);
+        if (value != IValueConverter.NOT_CONVERTIBLE) {
             parameterMap.put(param, value);
 
             valueSql = ComponentMyBatisHelper.buildColumn(javaType, jdbcType, typeHandlerClass, param);
-        } catch (Exception e) {
-            LOG.trace("Failed to convert text {} on {}", text, propertyDescriptor.getPropertyType(), e);
-
+        } else {
             parameterMap.put(param, text);
 
             valueSql = ComponentMyBatisHelper.buildColumn(String.class, null, null, param);
@@ -204,21 +209,19 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
         return SqlResult.of(Collections.emptyList(), name + " " + operatorConvert.sql + " " + valueSql, parameterMap);
     }
 
-    private SqlResult parseValues(OperatorConvert operatorConvert, ComponentDescriptor.PropertyDescriptor propertyDescriptor, Rtext rtext, String name, Class<?> javaType, JdbcType jdbcType,
-            Class<? extends TypeHandler<?>> typeHandlerClass, List<String> texts, EngineContext context) {
+    private SqlResult parseValues(OperatorConvert operatorConvert, ComponentDescriptor.PropertyDescriptor propertyDescriptor, IValueConverter valueConverter, String name, Class<?> javaType,
+            JdbcType jdbcType, Class<? extends TypeHandler<?>> typeHandlerClass, List<String> texts, EngineContext context) {
         Map<String, Object> parameterMap = new HashMap<>();
 
         StringJoiner sj = new StringJoiner(", ", "(", ")");
         for (String text : texts) {
             String param = context.getNewParamName();
-            try {
-                Object value = rtext.fromText(text, propertyDescriptor.getPropertyType());
+            Object value = convert(propertyDescriptor, valueConverter, text);
+            if (value != IValueConverter.NOT_CONVERTIBLE) {
                 parameterMap.put(param, value);
 
                 sj.add(ComponentMyBatisHelper.buildColumn(javaType, jdbcType, typeHandlerClass, param));
-            } catch (Exception e) {
-                LOG.trace("Failed to convert text {} on {}", text, propertyDescriptor.getPropertyType(), e);
-
+            } else {
                 parameterMap.put(param, text);
 
                 sj.add(ComponentMyBatisHelper.buildColumn(String.class, null, null, param));
@@ -227,6 +230,16 @@ public abstract class AbstractColumnRsqlResultFactory<E extends Annotation> exte
         return SqlResult.of(Collections.emptyList(), name + " " + operatorConvert.sql + " " + sj.toString(), parameterMap);
     }
 
+    private SqlResult parseInList(IInListStatementFactory inListStatementFactory, boolean not, ComponentDescriptor.PropertyDescriptor propertyDescriptor, IValueConverter valueConverter,
+            String name, Class<?> javaType, JdbcType jdbcType, Class<? extends TypeHandler<?>> typeHandlerClass, List<String> texts, EngineContext context) {
+        List<InList.Value> values = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            Object value = convert(propertyDescriptor, valueConverter, text);
+            values.add(value != IValueConverter.NOT_CONVERTIBLE ? InList.Value.converted(value) : InList.Value.text(text));
+        }
+        return inListStatementFactory.buildInListSql(name, not, InList.of(javaType, jdbcType, typeHandlerClass, values), context);
+    }
+
     public static class OperatorConvert {
 
         public final String sql;
@@ -0,0 +1,180 @@
+package com.talanlabs.mybatis.rsql.memory;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.engine.IStringPolicy;
+import com.talanlabs.mybatis.rsql.engine.where.RsqlComplexityGuard;
+import com.talanlabs.mybatis.rsql.sort.SortDirection;
+import com.talanlabs.mybatis.rsql.sort.SortDirections;
+import com.talanlabs.mybatis.rsql.sort.SortNode;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Evaluate a rsql request on components already in memory: filter, sort and paginate
+ */
+public class InMemoryRsqlEvaluator<E extends IComponent> {
+
+    private static final Set<SortDirection> SUPPORTED_SORT_DIRECTIONS = SortDirections.defaultSortDirections();
+
+    private final ComponentDescriptor<E> componentDescriptor;
+    private final IRsqlConfiguration configuration;
+    private final InMemoryRsqlVisitor<E> inMemoryRsqlVisitor;
+    private final InMemorySupportedVisitor inMemorySupportedVisitor;
+
+    public InMemoryRsqlEvaluator(Class<E> componentClass, IRsqlConfiguration configuration) {
+        super();
+
+        this.componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+        this.configuration = configuration;
+        this.inMemoryRsqlVisitor = new InMemoryRsqlVisitor<>(componentDescriptor, configuration);
+        this.inMemorySupportedVisitor = new InMemorySupportedVisitor(componentDescriptor);
+    }
+
+    /**
+     * Custom request and custom sort are sql, associations, nls columns, custom operators and custom sort directions are not supported in memory
+     *
+     * @param parameterObject parameter of rsql statement
+     * @return true if request can be evaluated in memory
+     */
+    public boolean isSupported(Object parameterObject) {
+        if (parameterObject == null) {
+            return true;
+        }
+        if (parameterObject instanceof String) {
+            return isRsqlSupported((String) parameterObject);
+        }
+        if (parameterObject instanceof Request) {
+            Request request = (Request) parameterObject;
+            return request.getCustomRequest() == null && request.getCustomSortLeft() == null && request.getCustomSortRight() == null && isRsqlSupported(request.getRsql())
+                    && isSortSupported(request.getSort());
+        }
+        return false;
+    }
+
+    private boolean isRsqlSupported(String rsql) {
+        return StringUtils.isBlank(rsql) || configuration.getRsqlParser().parse(rsql).accept(inMemorySupportedVisitor);
+    }
+
+    private boolean isSortSupported(String sort) {
+        if (StringUtils.isBlank(sort)) {
+            return true;
+        }
+        for (SortNode sortNode : configuration.getSortParser().parse(sort)) {
+            if (!SUPPORTED_SORT_DIRECTIONS.contains(sortNode.getDirection()) || !InMemoryRsqlHelper.isColumnSupported(componentDescriptor, sortNode.getSelector())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Select components
+     *
+     * @param components      all components
+     * @param parameterObject rsql string or Request
+     * @param rowBounds       row bounds of statement
+     * @return list filtered, sorted and paginated
+     * @throws UnsupportedOperationException if a part of request is not supported in memory
+     */
+    public List<E> select(List<E> components, Object parameterObject, RowBounds rowBounds) {
+        Request request = toRequest(parameterObject);
+
+        Stream<E> stream = components.stream().filter(buildPredicate(request.getRsql()));
+        if (StringUtils.isNotBlank(request.getSort())) {
+            stream = stream.sorted(buildComparator(request.getSort()));
+        }
+        if (request.getRows() != null) {
+            stream = stream.skip(request.getRows().offset).limit(request.getRows().limit);
+        }
+        if (rowBounds != null && rowBounds != RowBounds.DEFAULT) {
+            stream = stream.skip(rowBounds.getOffset()).limit(rowBounds.getLimit());
+        }
+        return stream.collect(Collectors.toList());
+    }
+
+    /**
+     * Count components
+     *
+     * @param components      all components
+     * @param parameterObject rsql string or Request
+     * @return number of components
+     * @throws UnsupportedOperationException if a part of request is not supported in memory
+     */
+    public int count(List<E> components, Object parameterObject) {
+        Request request = toRequest(parameterObject);
+        return (int) components.stream().filter(buildPredicate(request.getRsql())).count();
+    }
+
+    private Request toRequest(Object parameterObject) {
+        if (parameterObject == null || parameterObject instanceof String) {
+            return Request.newBuilder().rsql((String) parameterObject).build();
+        }
+        if (parameterObject instanceof Request) {
+            Request request = (Request) parameterObject;
+            if (request.getCustomRequest() == null && request.getCustomSortLeft() == null && request.getCustomSortRight() == null) {
+                return request;
+            }
+        }
+        throw new UnsupportedOperationException("Custom request or custom sort not supported in memory");
+    }
+
+    private Predicate<E> buildPredicate(String rsql) {
+        if (StringUtils.isBlank(rsql)) {
+            return component -> true;
+        }
+        Node node = configuration.getRsqlParser().parse(rsql);
+        RsqlComplexityGuard complexityGuard = configuration.getComplexityGuard();
+        if (complexityGuard != null) {
+            complexityGuard.check(node);
+        }
+        return node.accept(inMemoryRsqlVisitor);
+    }
+
+    private Comparator<E> buildComparator(String sort) {
+        List<SortNode> sortNodes = configuration.getSortParser().parse(sort);
+        Comparator<E> res = null;
+        for (SortNode sortNode : sortNodes) {
+            Comparator<E> comparator = buildComparator(sortNode);
+            res = res == null ? comparator : res.thenComparing(comparator);
+        }
+        return res;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparator<E> buildComparator(SortNode sortNode) {
+        String propertyName = InMemoryRsqlHelper.getColumnPropertyDescriptor(componentDescriptor, sortNode.getSelector()).getPropertyName();
+        IStringPolicy stringPolicy = configuration.getStringPolicy();
+        Function<E, Comparable<Object>> keyExtractor = component -> {
+            Object value = component.straightGetProperty(propertyName);
+            if (value instanceof String && stringPolicy != null) {
+                value = stringPolicy.prepareValueForMemory(componentDescriptor.getComponentClass(), propertyName, (String) value);
+            }
+            return (Comparable<Object>) value;
+        };
+
+        SortDirection direction = sortNode.getDirection();
+        if (SortDirections.ASC.equals(direction) || SortDirections.ASC_NULLS_LAST.equals(direction)) {
+            return Comparator.comparing(keyExtractor, Comparator.nullsLast(Comparator.naturalOrder()));
+        } else if (SortDirections.ASC_NULLS_FIRST.equals(direction)) {
+            return Comparator.comparing(keyExtractor, Comparator.nullsFirst(Comparator.naturalOrder()));
+        } else if (SortDirections.DESC.equals(direction) || SortDirections.DESC_NULLS_FIRST.equals(direction)) {
+            return Comparator.comparing(keyExtractor, Comparator.nullsFirst(Comparator.reverseOrder()));
+        } else if (SortDirections.DESC_NULLS_LAST.equals(direction)) {
+            return Comparator.comparing(keyExtractor, Comparator.nullsLast(Comparator.reverseOrder()));
+        }
+        throw new UnsupportedOperationException(String.format("Sort direction %s not supported in memory", direction));
+    }
+}
@@ -0,0 +1,48 @@
+package com.talanlabs.mybatis.rsql.memory;
+
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.rsql.engine.IllegalPropertyException;
+
+public class InMemoryRsqlHelper {
+
+    private InMemoryRsqlHelper() {
+        super();
+    }
+
+    /**
+     * @param componentDescriptor component descriptor
+     * @param selector            selector
+     * @return true if selector is an existing column of component
+     */
+    public static boolean isColumnSupported(ComponentDescriptor<?> componentDescriptor, String selector) {
+        if (selector.indexOf('.') != -1) {
+            return false;
+        }
+        ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(selector);
+        return propertyDescriptor != null && ComponentMyBatisHelper.getColumnAnnotation(componentDescriptor, propertyDescriptor) != null;
+    }
+
+    /**
+     * Get property descriptor for a selector, only a column of component is supported in memory
+     *
+     * @param componentDescriptor component descriptor
+     * @param selector            selector
+     * @return property descriptor
+     * @throws IllegalPropertyException      if property not exists
+     * @throws UnsupportedOperationException if selector is not a column
+     */
+    public static ComponentDescriptor.PropertyDescriptor getColumnPropertyDescriptor(ComponentDescriptor<?> componentDescriptor, String selector) {
+        if (selector.indexOf('.') != -1) {
+            throw new UnsupportedOperationException(String.format("Property %s with association not supported in memory", selector));
+        }
+        ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(selector);
+        if (propertyDescriptor == null) {
+            throw new IllegalPropertyException(String.format("Property %s not exists", selector));
+        }
+        if (ComponentMyBatisHelper.getColumnAnnotation(componentDescriptor, propertyDescriptor) == null) {
+            throw new UnsupportedOperationException(String.format("Property %s not a column, not supported in memory", selector));
+        }
+        return propertyDescriptor;
+    }
+}
@@ -0,0 +1,205 @@
+package com.talanlabs.mybatis.rsql.memory;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.engine.IStringPolicy;
+import com.talanlabs.mybatis.rsql.engine.IllegalPropertyException;
+import com.talanlabs.mybatis.rsql.engine.RsqlTextHelper;
+import com.talanlabs.mybatis.rsql.engine.converter.IValueConverter;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Build a predicate on components with the same semantic as the sql, a null property never matches
+ */
+public class InMemoryRsqlVisitor<E extends IComponent> implements RSQLVisitor<Predicate<E>, Void> {
+
+    private static final Logger LOG = LogManager.getLogger(InMemoryRsqlVisitor.class);
+
+    private final ComponentDescriptor<E> componentDescriptor;
+    private final IRsqlConfiguration configuration;
+
+    public InMemoryRsqlVisitor(ComponentDescriptor<E> componentDescriptor, IRsqlConfiguration configuration) {
+        super();
+
+        this.componentDescriptor = componentDescriptor;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Predicate<E> visit(AndNode node, Void param) {
+        return node.getChildren().stream().map(n -> n.accept(this, param)).reduce(Predicate::and).orElse(c -> true);
+    }
+
+    @Override
+    public Predicate<E> visit(OrNode node, Void param) {
+        return node.getChildren().stream().map(n -> n.accept(this, param)).reduce(Predicate::or).orElse(c -> false);
+    }
+
+    @Override
+    public Predicate<E> visit(ComparisonNode node, Void param) {
+        ComponentDescriptor.PropertyDescriptor propertyDescriptor = InMemoryRsqlHelper.getColumnPropertyDescriptor(componentDescriptor, node.getSelector());
+        String propertyName = propertyDescriptor.getPropertyName();
+        // As the sql, string policy is for string columns and like
+        boolean stringType = String.class == getJavaType(propertyDescriptor);
+
+        ComparisonOperator operator = node.getOperator();
+        List<String> arguments = node.getArguments();
+
+        if (RSQLOperators.EQUAL.equals(operator) || RSQLOperators.NOT_EQUAL.equals(operator)) {
+            boolean not = RSQLOperators.NOT_EQUAL.equals(operator);
+            String text = arguments.get(0);
+            if (RsqlTextHelper.containWildcard(text)) {
+                Pattern pattern = buildLikePattern(prepareValue(propertyName, text, true));
+                return component -> {
+                    String value = getStringValue(component, propertyName, true);
+                    return value != null && pattern.matcher(value).matches() != not;
+                };
+            }
+            Object expected = convert(propertyDescriptor, RsqlTextHelper.cleanSpecial(prepareValue(propertyName, text, stringType)));
+            return component -> {
+                Object value = getValue(component, propertyName, expected, stringType);
+                return value != null && isEqual(value, expected) != not;
+            };
+        } else if (RSQLOperators.IN.equals(operator) || RSQLOperators.NOT_IN.equals(operator)) {
+            boolean not = RSQLOperators.NOT_IN.equals(operator);
+            List<Object> expecteds = arguments.stream().map(text -> convert(propertyDescriptor, prepareValue(propertyName, text, stringType))).collect(Collectors.toList());
+            return component -> {
+                Object value = getValue(component, propertyName, null, stringType);
+                if (value == null) {
+                    return false;
+                }
+                for (Object expected : expecteds) {
+                    if (isEqual(expected instanceof String ? toString(value, propertyName, stringType) : value, expected)) {
+                        return !not;
+                    }
+                }
+                return not;
+            };
+        } else if (RSQLOperators.LESS_THAN.equals(operator) || RSQLOperators.LESS_THAN_OR_EQUAL.equals(operator) || RSQLOperators.GREATER_THAN.equals(operator)
+                || RSQLOperators.GREATER_THAN_OR_EQUAL.equals(operator)) {
+            Object expected = convert(propertyDescriptor, RsqlTextHelper.cleanSpecial(prepareValue(propertyName, arguments.get(0), stringType)));
+            return component -> {
+                Object value = getValue(component, propertyName, expected, stringType);
+                if (value == null) {
+                    return false;
+                }
+                int c = compare(value, expected);
+                if (RSQLOperators.LESS_THAN.equals(operator)) {
+                    return c < 0;
+                } else if (RSQLOperators.LESS_THAN_OR_EQUAL.equals(operator)) {
+                    return c <= 0;
+                } else if (RSQLOperators.GREATER_THAN.equals(operator)) {
+                    return c > 0;
+                }
+                return c >= 0;
+            };
+        }
+        throw new UnsupportedOperationException(String.format("Operator %s not supported in memory", operator));
+    }
+
+    private Class<?> getJavaType(ComponentDescriptor.PropertyDescriptor propertyDescriptor) {
+        Column column = ComponentMyBatisHelper.getColumnAnnotation(componentDescriptor, propertyDescriptor);
+        return column.javaType() != void.class ? column.javaType() : propertyDescriptor.getPropertyClass();
+    }
+
+    private Object convert(ComponentDescriptor.PropertyDescriptor propertyDescriptor, String text) {
+        Object value = configuration.getValueConverterRegistry().getValueConverter(propertyDescriptor.getPropertyType()).convert(text);
+        if (value == IValueConverter.NOT_CONVERTIBLE) {
+            LOG.trace("Failed to convert text {} on {}", text, propertyDescriptor.getPropertyType());
+
+            if (configuration.isStrictConversion()) {
+                throw new IllegalPropertyException(String.format("Property %s with value %s not convertible", propertyDescriptor.getPropertyName(), text));
+            }
+            return text;
+        }
+        return value;
+    }
+
+    /**
+     * Value of property, as string if expected is a not converted text
+     */
+    private Object getValue(E component, String propertyName, Object expected, boolean stringPolicy) {
+        if (expected instanceof String) {
+            return getStringValue(component, propertyName, stringPolicy);
+        }
+        Object value = component.straightGetProperty(propertyName);
+        if (value instanceof String) {
+            return toString(value, propertyName, stringPolicy);
+        }
+        return value;
+    }
+
+    private String getStringValue(E component, String propertyName, boolean stringPolicy) {
+        Object value = component.straightGetProperty(propertyName);
+        return value != null ? toString(value, propertyName, stringPolicy) : null;
+    }
+
+    private String toString(Object value, String propertyName, boolean stringPolicy) {
+        String res = value instanceof Enum ? ((Enum<?>) value).name() : String.valueOf(value);
+        return prepareValue(propertyName, res, stringPolicy);
+    }
+
+    private String prepareValue(String propertyName, String value, boolean stringPolicy) {
+        IStringPolicy policy = configuration.getStringPolicy();
+        return stringPolicy && policy != null ? policy.prepareValueForMemory(componentDescriptor.getComponentClass(), propertyName, value) : value;
+    }
+
+    private boolean isEqual(Object value, Object expected) {
+        if (value instanceof Comparable && expected != null && value.getClass() == expected.getClass()) {
+            return compare(value, expected) == 0;
+        }
+        return Objects.equals(value, expected);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object value, Object expected) {
+        if (value instanceof Comparable && expected != null && value.getClass().isInstance(expected)) {
+            return ((Comparable<Object>) value).compareTo(expected);
+        }
+        return String.valueOf(value).compareTo(String.valueOf(expected));
+    }
+
+    private Pattern buildLikePattern(String text) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '*') {
+                if (sb.length() > 0) {
+                    regex.append(Pattern.quote(sb.toString()));
+                    sb.setLength(0);
+                }
+                regex.append(".*");
+            } else if (c == '\\') {
+                i++;
+                if (i < text.length()) {
+                    sb.append(text.charAt(i));
+                }
+            } else {
+                sb.append(c);
+            }
+            i++;
+        }
+        if (sb.length() > 0) {
+            regex.append(Pattern.quote(sb.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
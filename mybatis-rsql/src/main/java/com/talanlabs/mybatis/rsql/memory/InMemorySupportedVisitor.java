@@ -0,0 +1,51 @@
+package com.talanlabs.mybatis.rsql.memory;
+
+import com.talanlabs.component.factory.ComponentDescriptor;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Check if all comparisons of a rsql tree are supported by {@link InMemoryRsqlVisitor}
+ */
+public class InMemorySupportedVisitor implements RSQLVisitor<Boolean, Void> {
+
+    private static final Set<ComparisonOperator> SUPPORTED_OPERATORS = new HashSet<>(
+            Arrays.asList(RSQLOperators.EQUAL, RSQLOperators.NOT_EQUAL, RSQLOperators.IN, RSQLOperators.NOT_IN, RSQLOperators.LESS_THAN, RSQLOperators.LESS_THAN_OR_EQUAL,
+                    RSQLOperators.GREATER_THAN, RSQLOperators.GREATER_THAN_OR_EQUAL));
+
+    private final ComponentDescriptor<?> componentDescriptor;
+
+    public InMemorySupportedVisitor(ComponentDescriptor<?> componentDescriptor) {
+        super();
+
+        this.componentDescriptor = componentDescriptor;
+    }
+
+    @Override
+    public Boolean visit(AndNode node, Void param) {
+        return visitChildren(node);
+    }
+
+    @Override
+    public Boolean visit(OrNode node, Void param) {
+        return visitChildren(node);
+    }
+
+    @Override
+    public Boolean visit(ComparisonNode node, Void param) {
+        return SUPPORTED_OPERATORS.contains(node.getOperator()) && InMemoryRsqlHelper.isColumnSupported(componentDescriptor, node.getSelector());
+    }
+
+    private boolean visitChildren(LogicalNode node) {
+        return node.getChildren().stream().allMatch(n -> n.accept(this, null));
+    }
+}
@@ -0,0 +1,105 @@
+package com.talanlabs.mybatis.rsql.memory;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Answer rsql and countRsql statements in memory for resident components.
+ * All rows are loaded with an empty rsql statement, kept in the component cache, and cleared with it.
+ * If a part of request is not supported in memory (InMemoryRsqlEvaluator.isSupported), the statement is executed in database
+ */
+@Intercepts({ @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }) })
+public class ResidentRsqlInterceptor implements Interceptor {
+
+    private static final Logger LOG = LogManager.getLogger(ResidentRsqlInterceptor.class);
+
+    private final IRsqlConfiguration rsqlConfiguration;
+
+    public ResidentRsqlInterceptor(IRsqlConfiguration rsqlConfiguration) {
+        super();
+
+        this.rsqlConfiguration = rsqlConfiguration;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameterObject = invocation.getArgs()[1];
+        RowBounds rowBounds = (RowBounds) invocation.getArgs()[2];
+        ResultHandler<?> resultHandler = (ResultHandler<?>) invocation.getArgs()[3];
+
+        if (resultHandler == null) {
+            String key = ms.getId();
+            if (RsqlStatementNameHelper.isRsqlKey(key)) {
+                Class<? extends IComponent> componentClass = RsqlStatementNameHelper.extractComponentClassInRsqlKey(key);
+                if (isResident(componentClass, parameterObject)) {
+                    return select(invocation, componentClass, parameterObject, rowBounds);
+                }
+            } else if (RsqlStatementNameHelper.isCountRsqlKey(key)) {
+                Class<? extends IComponent> componentClass = RsqlStatementNameHelper.extractComponentClassInCountRsqlKey(key);
+                if (isResident(componentClass, parameterObject)) {
+                    return count(invocation, componentClass, parameterObject);
+                }
+            }
+        }
+        return invocation.proceed();
+    }
+
+    private boolean isResident(Class<? extends IComponent> componentClass, Object parameterObject) {
+        if (componentClass == null || !rsqlConfiguration.isResidentComponent(componentClass)) {
+            return false;
+        }
+        if (!rsqlConfiguration.getInMemoryRsqlEvaluator(componentClass).isSupported(parameterObject)) {
+            LOG.debug("Rsql not supported in memory for {}, executed in database", componentClass);
+            return false;
+        }
+        return true;
+    }
+
+    private <E extends IComponent> List<E> select(Invocation invocation, Class<E> componentClass, Object parameterObject, RowBounds rowBounds) throws Exception {
+        List<E> components = loadAll(invocation, componentClass);
+        return rsqlConfiguration.getInMemoryRsqlEvaluator(componentClass).select(components, parameterObject, rowBounds);
+    }
+
+    private <E extends IComponent> List<Integer> count(Invocation invocation, Class<E> componentClass, Object parameterObject) throws Exception {
+        List<E> components = loadAll(invocation, componentClass);
+        return Collections.singletonList(rsqlConfiguration.getInMemoryRsqlEvaluator(componentClass).count(components, parameterObject));
+    }
+
+    /**
+     * Load all components with rsql statement, the result is in the second level cache after the first commit
+     */
+    private <E extends IComponent> List<E> loadAll(Invocation invocation, Class<E> componentClass) throws Exception {
+        Executor executor = (Executor) invocation.getTarget();
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        MappedStatement rsqlMs = ms.getConfiguration().getMappedStatement(RsqlStatementNameHelper.buildRsqlKey(componentClass));
+        return executor.query(rsqlMs, Request.newBuilder().build(), RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
@@ -0,0 +1,155 @@
+package com.talanlabs.mybatis.rsql.slowquery;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A slow rsql or countRsql statement, recorded by SlowQueryInterceptor
+ */
+public class SlowQuery {
+
+    private long timestamp;
+    private String statementId;
+    private Class<? extends IComponent> componentClass;
+    private String sql;
+    private Map<String, Object> additionalParameters;
+    private String rsql;
+    private String sort;
+    private Request.Rows rows;
+    private long elapsedNanos;
+    private List<String> plan;
+
+    private SlowQuery() {
+        super();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return time of record in milliseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public Class<? extends IComponent> getComponentClass() {
+        return componentClass;
+    }
+
+    /**
+     * @return final sql with ? for parameters
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return parameters built by rsql and sort, by name
+     */
+    public Map<String, Object> getAdditionalParameters() {
+        return additionalParameters;
+    }
+
+    public String getRsql() {
+        return rsql;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public Request.Rows getRows() {
+        return rows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return lines of plan, null if not explained
+     */
+    public List<String> getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("statementId", statementId).append("elapsedNanos", elapsedNanos).append("rsql", rsql).append("sort", sort).append("sql", sql)
+                .append("additionalParameters", additionalParameters).toString();
+    }
+
+    public static class Builder {
+
+        private SlowQuery slowQuery;
+
+        private Builder() {
+            super();
+
+            this.slowQuery = new SlowQuery();
+            this.slowQuery.timestamp = System.currentTimeMillis();
+            this.slowQuery.additionalParameters = Collections.emptyMap();
+        }
+
+        public Builder statementId(String statementId) {
+            slowQuery.statementId = statementId;
+            return this;
+        }
+
+        public Builder componentClass(Class<? extends IComponent> componentClass) {
+            slowQuery.componentClass = componentClass;
+            return this;
+        }
+
+        public Builder sql(String sql) {
+            slowQuery.sql = sql;
+            return this;
+        }
+
+        public Builder additionalParameters(Map<String, Object> additionalParameters) {
+            slowQuery.additionalParameters = additionalParameters != null ? Collections.unmodifiableMap(new LinkedHashMap<>(additionalParameters)) : Collections.emptyMap();
+            return this;
+        }
+
+        public Builder rsql(String rsql) {
+            slowQuery.rsql = rsql;
+            return this;
+        }
+
+        public Builder sort(String sort) {
+            slowQuery.sort = sort;
+            return this;
+        }
+
+        public Builder rows(Request.Rows rows) {
+            slowQuery.rows = rows;
+            return this;
+        }
+
+        public Builder elapsedNanos(long elapsedNanos) {
+            slowQuery.elapsedNanos = elapsedNanos;
+            return this;
+        }
+
+        public Builder plan(List<String> plan) {
+            slowQuery.plan = plan != null ? Collections.unmodifiableList(plan) : null;
+            return this;
+        }
+
+        public SlowQuery build() {
+            return slowQuery;
+        }
+    }
+}
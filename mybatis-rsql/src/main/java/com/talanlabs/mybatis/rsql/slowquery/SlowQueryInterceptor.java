@@ -0,0 +1,202 @@
+package com.talanlabs.mybatis.rsql.slowquery;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.component.helper.StatementHandlerHelper;
+import com.talanlabs.mybatis.rsql.statement.IExplainStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record rsql and countRsql statements slower than threshold in a SlowQueryLog : final sql, additional parameters, rsql, sort, rows and elapsed time.
+ * <p>
+ * If a IExplainStatementFactory is given (ex: a database handler), the plan is read with the same parameters on a connection of the explain DataSource,
+ * never in the transaction of the query, and explain writes (Oracle PLAN_TABLE) are rolled back. Explain runs in the thread of the slow query, it is a diagnostic to enable explicitly
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }) })
+public class SlowQueryInterceptor implements Interceptor {
+
+    private static final Logger LOG = LogManager.getLogger(SlowQueryInterceptor.class);
+
+    private final SlowQueryLog slowQueryLog;
+
+    private final long thresholdNanos;
+
+    private final IExplainStatementFactory explainStatementFactory;
+
+    private final DataSource explainDataSource;
+
+    public SlowQueryInterceptor(SlowQueryLog slowQueryLog, long threshold, TimeUnit unit) {
+        this(slowQueryLog, threshold, unit, null, null);
+    }
+
+    /**
+     * @param slowQueryLog            log of slow queries
+     * @param threshold               min elapsed time of a slow query
+     * @param unit                    unit of threshold
+     * @param explainStatementFactory explain factory, null for no plan
+     * @param explainDataSource       data source of explain connections, required if explain factory is not null
+     */
+    public SlowQueryInterceptor(SlowQueryLog slowQueryLog, long threshold, TimeUnit unit, IExplainStatementFactory explainStatementFactory, DataSource explainDataSource) {
+        super();
+
+        if (explainStatementFactory != null && explainDataSource == null) {
+            throw new IllegalArgumentException("Explain DataSource must not be null with an explain factory");
+        }
+
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = unit.toNanos(threshold);
+        this.explainStatementFactory = explainStatementFactory;
+        this.explainDataSource = explainDataSource;
+    }
+
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object res = invocation.proceed();
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (elapsedNanos >= thresholdNanos) {
+            MappedStatement mappedStatement = StatementHandlerHelper.getMappedStatement(invocation.getTarget());
+            if (mappedStatement != null) {
+                Class<? extends IComponent> componentClass = extractComponentClass(mappedStatement.getId());
+                if (componentClass != null) {
+                    StatementHandler statementHandler = (StatementHandler) invocation.getTarget();
+                    slowQueryLog.add(buildSlowQuery(mappedStatement.getId(), componentClass, statementHandler, elapsedNanos));
+                }
+            }
+        }
+        return res;
+    }
+
+    private Class<? extends IComponent> extractComponentClass(String key) {
+        if (RsqlStatementNameHelper.isRsqlKey(key)) {
+            return RsqlStatementNameHelper.extractComponentClassInRsqlKey(key);
+        } else if (RsqlStatementNameHelper.isCountRsqlKey(key)) {
+            return RsqlStatementNameHelper.extractComponentClassInCountRsqlKey(key);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SlowQuery buildSlowQuery(String statementId, Class<? extends IComponent> componentClass, StatementHandler statementHandler, long elapsedNanos) {
+        BoundSql boundSql = statementHandler.getBoundSql();
+        SlowQuery.Builder builder = SlowQuery.newBuilder().statementId(statementId).componentClass(componentClass).sql(boundSql.getSql())
+                .additionalParameters((Map<String, Object>) SystemMetaObject.forObject(boundSql).getValue("additionalParameters")).elapsedNanos(elapsedNanos);
+
+        Object parameterObject = boundSql.getParameterObject();
+        if (parameterObject instanceof Request) {
+            Request request = (Request) parameterObject;
+            builder.rsql(request.getRsql()).sort(request.getSort()).rows(request.getRows());
+        } else if (parameterObject instanceof String) {
+            builder.rsql((String) parameterObject);
+        }
+
+        if (explainStatementFactory != null) {
+            builder.plan(explain(statementHandler, boundSql.getSql()));
+        }
+
+        SlowQuery slowQuery = builder.build();
+        LOG.warn("Slow query {}", slowQuery);
+        return slowQuery;
+    }
+
+    /*
+     * Own connection, explain may write and must not join nor break the transaction of the query
+     */
+    private List<String> explain(StatementHandler statementHandler, String sql) {
+        try (Connection connection = explainDataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<String> plan;
+                try (PreparedStatement ps = connection.prepareStatement(explainStatementFactory.buildExplainSql(sql))) {
+                    if (hasParameters(ps)) {
+                        statementHandler.getParameterHandler().setParameters(ps);
+                    }
+                    plan = ps.execute() ? readPlan(ps.getResultSet()) : new ArrayList<>();
+                }
+
+                String explainResultSql = explainStatementFactory.buildExplainResultSql();
+                if (explainResultSql != null) {
+                    try (PreparedStatement ps = connection.prepareStatement(explainResultSql)) {
+                        plan = readPlan(ps.executeQuery());
+                    }
+                }
+                return plan;
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            LOG.warn("Failed to explain sql {}", sql, e);
+            return null;
+        }
+    }
+
+    private boolean hasParameters(PreparedStatement ps) {
+        try {
+            // Some databases explain without parameters
+            return ps.getParameterMetaData().getParameterCount() > 0;
+        } catch (SQLException e) {
+            LOG.debug("Failed to get parameter count of explain", e);
+            return true;
+        }
+    }
+
+    private List<String> readPlan(ResultSet resultSet) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (ResultSet rs = resultSet) {
+            int columnCount = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++) {
+                    if (i > 1) {
+                        sb.append(" | ");
+                    }
+                    sb.append(rs.getString(i));
+                }
+                plan.add(sb.toString());
+            }
+        }
+        return plan;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
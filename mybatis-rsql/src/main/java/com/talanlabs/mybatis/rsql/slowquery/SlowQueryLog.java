@@ -0,0 +1,84 @@
+package com.talanlabs.mybatis.rsql.slowquery;
+
+import com.talanlabs.component.IComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * Ring buffer of last slow queries, the oldest is replaced when full
+ */
+public class SlowQueryLog {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity max number of slow queries kept
+     */
+    public SlowQueryLog(int capacity) {
+        super();
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, capacity=" + capacity);
+        }
+        this.slowQueries = new AtomicReferenceArray<>(capacity);
+    }
+
+    public int getCapacity() {
+        return slowQueries.length();
+    }
+
+    /**
+     * Add a slow query, replace the oldest if full
+     *
+     * @param slowQuery slow query
+     */
+    public void add(SlowQuery slowQuery) {
+        long index = sequence.getAndIncrement();
+        slowQueries.set((int) (index % slowQueries.length()), slowQuery);
+    }
+
+    /**
+     * @return slow queries, the newest first
+     */
+    public List<SlowQuery> getSlowQueries() {
+        int capacity = slowQueries.length();
+        long last = sequence.get();
+        List<SlowQuery> res = new ArrayList<>();
+        for (long index = last - 1; index >= 0 && index >= last - capacity; index--) {
+            SlowQuery slowQuery = slowQueries.get((int) (index % capacity));
+            if (slowQuery != null) {
+                res.add(slowQuery);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param componentClass component class
+     * @return slow queries of component, the newest first
+     */
+    public List<SlowQuery> getSlowQueries(Class<? extends IComponent> componentClass) {
+        return getSlowQueries().stream().filter(slowQuery -> componentClass.equals(slowQuery.getComponentClass())).collect(Collectors.toList());
+    }
+
+    /**
+     * Remove all slow queries
+     */
+    public void clear() {
+        for (int i = 0; i < slowQueries.length(); i++) {
+            slowQueries.set(i, null);
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.talanlabs.mybatis.rsql.sort;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -8,7 +13,12 @@ import java.util.stream.Collectors;
 
 public class SortParser {
 
+    private static final long DEFAULT_MAXIMUM_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_QUERY_LENGTH = 512;
+    private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+
     private final Set<SortDirection> sortDirections;
+    private final Cache<String, List<SortNode>> sortNodesCache;
     private SortDirection defaultSortDirection = SortDirections.ASC;
     private String separator = ",";
 
@@ -21,6 +31,7 @@ public class SortParser {
 
         this.sortDirections = new TreeSet<>(this::compareSortDirection);
         this.sortDirections.addAll(sortDirections);
+        this.sortNodesCache = CacheBuilder.newBuilder().maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE).build();
     }
 
     public SortDirection getDefaultSortDirection() {
@@ -29,6 +40,7 @@ public class SortParser {
 
     public void setDefaultSortDirection(SortDirection defaultSortDirection) {
         this.defaultSortDirection = defaultSortDirection;
+        this.sortNodesCache.invalidateAll();
     }
 
     public String getSeparator() {
@@ -37,25 +49,108 @@ public class SortParser {
 
     public void setSeparator(String separator) {
         this.separator = separator;
+        this.sortNodesCache.invalidateAll();
     }
 
+    /**
+     * Sort directions, if modified call clearCache
+     *
+     * @return sort directions
+     */
     public Set<SortDirection> getSortDirections() {
         return sortDirections;
     }
 
+    /**
+     * Clear parsed sort cache
+     */
+    public void clearCache() {
+        sortNodesCache.invalidateAll();
+    }
+
+    /**
+     * Parse sort query, result is cached by query and must not be modified
+     *
+     * @param query sort query ex: -firstName,lastName
+     * @return list of sort nodes
+     */
     public List<SortNode> parse(String query) {
-        String text = query.replaceAll(" ", "");
-        String[] ss = text.split(separator);
-        return Arrays.stream(ss).map(this::buildSortNode).collect(Collectors.toList());
+        if (query.length() > MAX_CACHED_QUERY_LENGTH) {
+            return scan(query);
+        }
+        List<SortNode> sortNodes = sortNodesCache.getIfPresent(query);
+        if (sortNodes == null) {
+            sortNodes = scan(query);
+            sortNodesCache.put(query, sortNodes);
+        }
+        return sortNodes;
+    }
+
+    /*
+     * Same result as query.replaceAll(" ", "").split(separator), single pass if separator is a simple char like String.split
+     */
+    private List<SortNode> scan(String query) {
+        if (!isSimpleSeparator()) {
+            return Collections.unmodifiableList(Arrays.stream(query.replaceAll(" ", "").split(separator)).map(this::buildSortNode).collect(Collectors.toList()));
+        }
+        char separatorChar = separator.charAt(0);
+        List<SortNode> sortNodes = new ArrayList<>();
+        StringBuilder sb = new StringBuilder(query.length());
+        int emptyCount = 0;
+        boolean separatorFound = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == separatorChar && c != ' ') {
+                emptyCount = addSortNode(sortNodes, sb, emptyCount);
+                sb.setLength(0);
+                separatorFound = true;
+            } else if (c != ' ') {
+                sb.append(c);
+            }
+        }
+        if (!separatorFound) {
+            sortNodes.add(buildSortNode(sb));
+        } else {
+            addSortNode(sortNodes, sb, emptyCount);
+        }
+        return Collections.unmodifiableList(sortNodes);
+    }
+
+    private boolean isSimpleSeparator() {
+        return separator.length() == 1 && REGEX_META_CHARS.indexOf(separator.charAt(0)) == -1;
+    }
+
+    private int addSortNode(List<SortNode> sortNodes, StringBuilder sb, int emptyCount) {
+        if (sb.length() == 0) {
+            return emptyCount + 1;
+        }
+        for (int j = 0; j < emptyCount; j++) {
+            sortNodes.add(new SortNode(defaultSortDirection, ""));
+        }
+        sortNodes.add(buildSortNode(sb));
+        return 0;
     }
 
-    private SortNode buildSortNode(String s) {
+    private SortNode buildSortNode(CharSequence s) {
         for (SortDirection sortDirection : sortDirections) {
-            if (s.startsWith(sortDirection.getSymbol())) {
-                return new SortNode(sortDirection, s.substring(sortDirection.getSymbol().length()));
+            String symbol = sortDirection.getSymbol();
+            if (startsWith(s, symbol)) {
+                return new SortNode(sortDirection, s.subSequence(symbol.length(), s.length()).toString());
+            }
+        }
+        return new SortNode(defaultSortDirection, s.toString());
+    }
+
+    private static boolean startsWith(CharSequence s, String prefix) {
+        if (s.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(i) != prefix.charAt(i)) {
+                return false;
             }
         }
-        return new SortNode(defaultSortDirection, s);
+        return true;
     }
 
     private int compareSortDirection(SortDirection o1, SortDirection o2) {
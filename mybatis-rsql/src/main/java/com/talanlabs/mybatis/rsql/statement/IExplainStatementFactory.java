@@ -0,0 +1,22 @@
+package com.talanlabs.mybatis.rsql.statement;
+
+public interface IExplainStatementFactory {
+
+    /**
+     * Build explain statement, parameters are the same as sql
+     *
+     * @param sql a sql statement with parameters
+     * @return a sql statement giving the plan of sql
+     */
+    String buildExplainSql(String sql);
+
+    /**
+     * Build statement reading the plan after explain statement
+     *
+     * @return a sql statement without parameters, null if explain statement gives the plan
+     */
+    default String buildExplainResultSql() {
+        return null;
+    }
+
+}
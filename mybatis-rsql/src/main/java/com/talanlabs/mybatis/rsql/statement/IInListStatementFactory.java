@@ -0,0 +1,19 @@
+package com.talanlabs.mybatis.rsql.statement;
+
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+
+public interface IInListStatementFactory {
+
+    /**
+     * Build in list statement for operators =in= and =out=
+     *
+     * @param name    column name with table prefix
+     * @param not     true for NOT IN
+     * @param inList  values to compare
+     * @param context engine context
+     * @return a sql result
+     */
+    SqlResult buildInListSql(String name, boolean not, InList inList, EngineContext context);
+
+}
@@ -0,0 +1,89 @@
+package com.talanlabs.mybatis.rsql.statement;
+
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+import java.util.List;
+
+public class InList {
+
+    public final Class<?> javaType;
+    public final JdbcType jdbcType;
+    public final Class<? extends TypeHandler<?>> typeHandlerClass;
+    public final List<Value> values;
+
+    private InList(Class<?> javaType, JdbcType jdbcType, Class<? extends TypeHandler<?>> typeHandlerClass, List<Value> values) {
+        super();
+
+        this.javaType = javaType;
+        this.jdbcType = jdbcType;
+        this.typeHandlerClass = typeHandlerClass;
+        this.values = values;
+    }
+
+    public static InList of(Class<?> javaType, JdbcType jdbcType, Class<? extends TypeHandler<?>> typeHandlerClass, List<Value> values) {
+        return new InList(javaType, jdbcType, typeHandlerClass, values);
+    }
+
+    /**
+     * @return true if all values are converted in java type
+     */
+    public boolean isAllConverted() {
+        return values.stream().allMatch(value -> value.converted && value.value != null);
+    }
+
+    /**
+     * Build a column for value
+     *
+     * @param value value
+     * @param param name of param
+     * @return #{...}
+     */
+    public String buildColumn(Value value, String param) {
+        if (value.converted) {
+            return ComponentMyBatisHelper.buildColumn(javaType, jdbcType, typeHandlerClass, param);
+        }
+        return ComponentMyBatisHelper.buildColumn(String.class, null, null, param);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("javaType", javaType).append("jdbcType", jdbcType).append("typeHandlerClass", typeHandlerClass).append("values", values).toString();
+    }
+
+    public static class Value {
+
+        public final Object value;
+        public final boolean converted;
+
+        private Value(Object value, boolean converted) {
+            super();
+
+            this.value = value;
+            this.converted = converted;
+        }
+
+        /**
+         * @param value value converted in java type
+         * @return a value
+         */
+        public static Value converted(Object value) {
+            return new Value(value, true);
+        }
+
+        /**
+         * @param text text not converted, compare with string
+         * @return a value
+         */
+        public static Value text(String text) {
+            return new Value(text, false);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).append("value", value).append("converted", converted).toString();
+        }
+    }
+}
@@ -38,27 +38,29 @@ public class RsqlMappedStatementFactory extends AbstractMappedStatementFactory {
         if (RsqlStatementNameHelper.isRsqlKey(key)) {
             Class<? extends IComponent> componentClass = RsqlStatementNameHelper.extractComponentClassInRsqlKey(key);
             if (componentClass != null) {
-                return createRsqlMappedStatement(componentConfiguration, key, componentClass);
+                return createRsqlMappedStatement(componentConfiguration, key, componentClass, RsqlStatementNameHelper.extractProjectionInRsqlKey(key));
             }
         }
         return null;
     }
 
-    private <E extends IComponent> MappedStatement createRsqlMappedStatement(ComponentConfiguration componentConfiguration, String key, Class<E> componentClass) {
+    private <E extends IComponent> MappedStatement createRsqlMappedStatement(ComponentConfiguration componentConfiguration, String key, Class<E> componentClass,
+            String[] projection) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Create rsql for " + componentClass);
         }
 
-        ResultMap inlineResultMap = componentConfiguration.getResultMap(ResultMapNameHelper.buildResultMapKey(componentClass));
+        ResultMap inlineResultMap = componentConfiguration.getResultMap(ResultMapNameHelper.buildResultMapKey(componentClass, projection));
 
-        MappedStatement.Builder msBuilder = new MappedStatement.Builder(componentConfiguration, key, new RsqlSqlSource<>(componentConfiguration, rsqlConfiguration, componentClass),
+        MappedStatement.Builder msBuilder = new MappedStatement.Builder(componentConfiguration, key, new RsqlSqlSource<>(componentConfiguration, rsqlConfiguration, componentClass, projection),
                 SqlCommandType.SELECT);
 
         msBuilder.resultMaps(Collections.singletonList(inlineResultMap));
-        Cache cache = componentConfiguration.getCache(CacheNameHelper.buildCacheKey(componentClass));
+        // Projected components are partial, they are not shared in cache
+        Cache cache = projection == null ? componentConfiguration.getCache(CacheNameHelper.buildCacheKey(componentClass)) : null;
         msBuilder.flushCacheRequired(false);
         msBuilder.cache(cache);
-        msBuilder.useCache(true);
+        msBuilder.useCache(cache != null);
         return msBuilder.build();
     }
 }
@@ -12,7 +12,8 @@ public class RsqlStatementNameHelper {
 
     public static final String RSQL_NAME = "rsql";
     public static final String COUNT_RSQL_NAME = "countRsql";
-    public static final Pattern RSQL_PATTERN = Pattern.compile("(" + StatementNameHelper.COMPONENT_CLASS_PAT + ")/" + RSQL_NAME);
+    public static final Pattern RSQL_PATTERN = Pattern.compile(
+            "(" + StatementNameHelper.COMPONENT_CLASS_PAT + ")/" + RSQL_NAME + "(\\?" + StatementNameHelper.PROJECTION + "=(" + StatementNameHelper.PROPERTIES_PAT + "))?");
     public static final Pattern COUNT_RSQL_PATTERN = Pattern.compile("(" + StatementNameHelper.COMPONENT_CLASS_PAT + ")/" + COUNT_RSQL_NAME);
 
     private RsqlStatementNameHelper() {
@@ -28,10 +29,21 @@ public class RsqlStatementNameHelper {
      * @return key
      */
     public static <E extends IComponent> String buildRsqlKey(Class<E> componentClass) {
+        return buildRsqlKey(componentClass, (String[]) null);
+    }
+
+    /**
+     * Build rsql key with projection, Request has no projection, result map and cache of the statement depend on it
+     *
+     * @param componentClass component class
+     * @param projection     properties to select, null or empty for all
+     * @return key
+     */
+    public static <E extends IComponent> String buildRsqlKey(Class<E> componentClass, String... projection) {
         if (componentClass == null) {
             return null;
         }
-        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + RSQL_NAME;
+        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + RSQL_NAME + StatementNameHelper.buildProjection("?", projection);
     }
 
     /**
@@ -65,6 +77,24 @@ public class RsqlStatementNameHelper {
         return ComponentMyBatisHelper.loadComponentClass(m.group(1));
     }
 
+    /**
+     * Extract projection
+     *
+     * @param key key
+     * @return properties or null if not projection
+     */
+    public static String[] extractProjectionInRsqlKey(String key) {
+        if (!isRsqlKey(key)) {
+            return null;
+        }
+        Matcher m = RSQL_PATTERN.matcher(key);
+        if (!m.find()) {
+            return null;
+        }
+        String projection = m.group(4);
+        return projection != null ? projection.split(StatementNameHelper.PROPERTIES_SEPARATOR) : null;
+    }
+
     // CountRsql
 
     /**
@@ -0,0 +1,24 @@
+package com.talanlabs.mybatis.rsql.statement;
+
+import com.talanlabs.mybatis.component.metrics.IStatementTagResolver;
+import com.talanlabs.mybatis.component.metrics.StatementTag;
+
+/**
+ * Resolve tags of rsql and countRsql statements for StatementMetricsInterceptor
+ */
+public class RsqlStatementTagResolver implements IStatementTagResolver {
+
+    public RsqlStatementTagResolver() {
+        super();
+    }
+
+    @Override
+    public StatementTag resolve(String statementId) {
+        if (RsqlStatementNameHelper.isRsqlKey(statementId)) {
+            return StatementTag.of(RsqlStatementNameHelper.extractComponentClassInRsqlKey(statementId), RsqlStatementNameHelper.RSQL_NAME);
+        } else if (RsqlStatementNameHelper.isCountRsqlKey(statementId)) {
+            return StatementTag.of(RsqlStatementNameHelper.extractComponentClassInCountRsqlKey(statementId), RsqlStatementNameHelper.COUNT_RSQL_NAME);
+        }
+        return null;
+    }
+}
@@ -5,6 +5,8 @@ import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.component.factory.ComponentFactory;
 import com.talanlabs.entity.annotation.Entity;
 import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
 import com.talanlabs.mybatis.rsql.engine.EngineContext;
@@ -38,6 +40,8 @@ public abstract class AbstractRsqlSqlSource<E extends IComponent> implements Sql
 
     protected String buildSqlFromWhereOrderBy(String rsql, Request.ICustomRequest customRequest, String sort, Request.ICustomSort customSortLeft, Request.ICustomSort customSortRight,
             Map<String, Object> additionalParameters, EngineContext context) {
+        Object event = ComponentEvents.begin(ComponentEventType.RSQL_COMPILE);
+
         List<SqlResult> whereSqlResults = new ArrayList<>();
 
         if (StringUtils.isNotBlank(rsql)) {
@@ -118,6 +122,8 @@ public abstract class AbstractRsqlSqlSource<E extends IComponent> implements Sql
             additionalParameters.putAll(sortSqlResult.parameterMap);
         }
 
+        ComponentEvents.commit(event, componentClass, rsql);
+
         return sb.toString();
     }
 }
@@ -1,12 +1,12 @@
 package com.talanlabs.mybatis.rsql.statement.sqlsource;
 
 import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
 import com.talanlabs.mybatis.rsql.engine.EngineContext;
 import com.talanlabs.mybatis.rsql.statement.IPageStatementFactory;
 import com.talanlabs.mybatis.rsql.statement.Request;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.SqlSource;
 
@@ -15,8 +15,19 @@ import java.util.Map;
 
 public class RsqlSqlSource<E extends IComponent> extends AbstractRsqlSqlSource<E> {
 
+    private final String[] projection;
+
     public RsqlSqlSource(ComponentConfiguration componentConfiguration, IRsqlConfiguration rsqlConfiguration, Class<E> componentClass) {
+        this(componentConfiguration, rsqlConfiguration, componentClass, null);
+    }
+
+    /**
+     * @param projection properties to select, null for all
+     */
+    public RsqlSqlSource(ComponentConfiguration componentConfiguration, IRsqlConfiguration rsqlConfiguration, Class<E> componentClass, String[] projection) {
         super(componentConfiguration, rsqlConfiguration, componentClass);
+
+        this.projection = projection;
     }
 
     @Override
@@ -41,6 +52,7 @@ public class RsqlSqlSource<E extends IComponent> extends AbstractRsqlSqlSource<E
 
         Map<String, Object> additionalParameters = new HashMap<>();
         EngineContext context = rsqlConfiguration.newEngineContext();
+        context.setProjection(projection);
 
         String sqlFromWhereOrderBy = buildSqlFromWhereOrderBy(rsql, customRequest, sort, customSortLeft, customSortRight, additionalParameters, context);
 
@@ -52,7 +64,7 @@ public class RsqlSqlSource<E extends IComponent> extends AbstractRsqlSqlSource<E
             }
             sql = pageStatementFactory.buildPageSql(componentClass, sqlFromWhereOrderBy, rows, additionalParameters, context);
         } else {
-            sql = "SELECT " + (StringUtils.isNotBlank(context.getDefaultTableName()) ? context.getDefaultTableName() + "." : "") + "* " + sqlFromWhereOrderBy;
+            sql = "SELECT " + ComponentMyBatisHelper.buildSelectColumns(componentClass, context.getDefaultTableName(), context.getProjection()) + " " + sqlFromWhereOrderBy;
         }
 
         SqlSource sqlSource = sqlSourceParser.parse(sql, String.class, additionalParameters);
@@ -0,0 +1,25 @@
+package com.talanlabs.mybatis.rsql.test.data;
+
+import com.talanlabs.component.annotation.ComponentBean;
+import com.talanlabs.entity.IEntity;
+import com.talanlabs.entity.annotation.Cache;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Entity;
+import com.talanlabs.entity.annotation.NlsColumn;
+
+@Entity(name = "T_COUNTRY")
+@ComponentBean
+@Cache
+public interface IResidentCountry extends IEntity {
+
+    @Column(name = "CODE")
+    String getCode();
+
+    void setCode(String code);
+
+    @NlsColumn(name = "NAME")
+    String getName();
+
+    void setName(String name);
+
+}
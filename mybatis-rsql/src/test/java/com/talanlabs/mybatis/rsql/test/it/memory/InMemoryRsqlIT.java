@@ -0,0 +1,89 @@
+package com.talanlabs.mybatis.rsql.test.it.memory;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.entity.IId;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.engine.policy.AlwaysUpperStringPolicy;
+import com.talanlabs.mybatis.rsql.memory.InMemoryRsqlEvaluator;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import com.talanlabs.mybatis.rsql.test.data.PersonFields;
+import com.talanlabs.mybatis.rsql.test.it.statement.AbstractHSQLIntegration;
+import org.apache.ibatis.session.RowBounds;
+import org.assertj.core.api.Assertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class InMemoryRsqlIT extends AbstractHSQLIntegration {
+
+    private static InMemoryRsqlEvaluator<IPerson> personEvaluator;
+
+    @BeforeClass
+    public static void init() {
+        beforeClass();
+
+        IRsqlConfiguration rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().stringPolicy(stringComparePolicy).build();
+        personEvaluator = rsqlConfiguration.getInMemoryRsqlEvaluator(IPerson.class);
+    }
+
+    @Test
+    public void testSameAsDatabase() {
+        assertSameAsDatabase("age>30");
+        assertSameAsDatabase("age<=4");
+        assertSameAsDatabase("firstName==G*");
+        assertSameAsDatabase("firstName!=G*");
+        assertSameAsDatabase("age=in=(4,30,45)");
+        assertSameAsDatabase("age=out=(4,30,45)");
+        assertSameAsDatabase("age>30,firstName==G*");
+        assertSameAsDatabase("age>3;sexe==WOMAN");
+    }
+
+    @Test
+    public void testSortAndRows() {
+        List<IPerson> all = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class));
+
+        Request request = Request.newBuilder().sort("-age,firstName").rows(Request.Rows.of(1, 2)).build();
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), Request.newBuilder().sort("-age,firstName").build());
+
+        Assertions.assertThat(personEvaluator.select(all, request, RowBounds.DEFAULT)).extracting(PersonFields.id).containsExactly(persons.get(1).getId(), persons.get(2).getId());
+    }
+
+    @Test
+    public void testStringPolicyOnlyForString() {
+        Set<String> propertyNames = new HashSet<>();
+        IRsqlConfiguration rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().stringPolicy(new AlwaysUpperStringPolicy() {
+            @Override
+            public String prepareValueForMemory(Class<? extends IComponent> componentClass, String propertyName, String value) {
+                propertyNames.add(propertyName);
+                return super.prepareValueForMemory(componentClass, propertyName, value);
+            }
+        }).build();
+        InMemoryRsqlEvaluator<IPerson> evaluator = rsqlConfiguration.getInMemoryRsqlEvaluator(IPerson.class);
+
+        List<IPerson> all = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class));
+        Assertions.assertThat(evaluator.count(all, "firstName==gabriel;age=in=(36,38)")).isEqualTo(1);
+        Assertions.assertThat(propertyNames).containsOnly(PersonFields.firstName);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAssociationNotSupported() {
+        personEvaluator.count(sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class)), "address.city==Paris");
+    }
+
+    private void assertSameAsDatabase(String rsql) {
+        List<IPerson> all = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class));
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), rsql);
+
+        List<IId> ids = persons.stream().map(IPerson::getId).collect(Collectors.toList());
+
+        Assertions.assertThat(personEvaluator.select(all, rsql, RowBounds.DEFAULT)).extracting(PersonFields.id).containsOnlyElementsOf(ids).hasSize(ids.size());
+        Assertions.assertThat(personEvaluator.count(all, rsql)).isEqualTo(persons.size());
+    }
+}
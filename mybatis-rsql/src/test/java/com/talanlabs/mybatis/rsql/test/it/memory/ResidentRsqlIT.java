@@ -0,0 +1,78 @@
+package com.talanlabs.mybatis.rsql.test.it.memory;
+
+import com.talanlabs.mybatis.rsql.memory.ResidentRsqlInterceptor;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.IResidentCountry;
+import com.talanlabs.mybatis.rsql.test.data.ResidentCountryFields;
+import com.talanlabs.mybatis.rsql.test.it.statement.AbstractHSQLIntegration;
+import org.apache.ibatis.cache.Cache;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * After the first load, row ITA is deleted in database without flushing cache: memory still sees it, database not
+ */
+public class ResidentRsqlIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void init() {
+        rsqlConfigurationCustomizer = builder -> builder.residentComponents(IResidentCountry.class);
+
+        beforeClass();
+
+        configuration.addInterceptor(new ResidentRsqlInterceptor(rsqlConfiguration));
+    }
+
+    @Before
+    public void loadResident() throws SQLException {
+        configuration.getCaches().forEach(Cache::clear);
+
+        Assertions.assertThat(sqlSessionManager.<IResidentCountry>selectList(RsqlStatementNameHelper.buildRsqlKey(IResidentCountry.class))).hasSize(7);
+        sqlSessionManager.commit();
+
+        try (Statement statement = sqlSessionManager.getConnection().createStatement()) {
+            statement.executeUpdate("DELETE FROM t_country WHERE code = 'ITA'");
+        }
+    }
+
+    @Test
+    public void testRsqlInMemory() {
+        List<IResidentCountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IResidentCountry.class), "code=in=(ITA,FRA,USA)");
+        Assertions.assertThat(countries).extracting(ResidentCountryFields.code).containsOnly("ITA", "FRA", "USA");
+    }
+
+    @Test
+    public void testRequestInMemory() {
+        List<IResidentCountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IResidentCountry.class),
+                Request.newBuilder().rsql("code=out=(F%,USA)").sort("-code").rows(Request.Rows.of(1, 2)).build());
+        Assertions.assertThat(countries).extracting(ResidentCountryFields.code).containsExactly("FRA", "ESP");
+    }
+
+    @Test
+    public void testCountRsqlInMemory() {
+        Integer count = sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(IResidentCountry.class), "code==ITA,code==CHI");
+        Assertions.assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    public void testFallbackNls() {
+        Integer count = sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(IResidentCountry.class), "code==ITA,name==nothing");
+        Assertions.assertThat(count).isEqualTo(0);
+
+        List<IResidentCountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IResidentCountry.class), "code=in=(ITA,FRA),name==nothing");
+        Assertions.assertThat(countries).extracting(ResidentCountryFields.code).containsOnly("FRA");
+    }
+
+    @Test
+    public void testFallbackSort() {
+        List<IResidentCountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IResidentCountry.class), Request.newBuilder().rsql("code=in=(ITA,FRA)").sort("name").build());
+        Assertions.assertThat(countries).extracting(ResidentCountryFields.code).containsOnly("FRA");
+    }
+}
@@ -0,0 +1,71 @@
+package com.talanlabs.mybatis.rsql.test.it.slowquery;
+
+import com.talanlabs.mybatis.rsql.database.HSQLDBHandler;
+import com.talanlabs.mybatis.rsql.slowquery.SlowQuery;
+import com.talanlabs.mybatis.rsql.slowquery.SlowQueryInterceptor;
+import com.talanlabs.mybatis.rsql.slowquery.SlowQueryLog;
+import com.talanlabs.mybatis.rsql.statement.Request;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.ICountry;
+import com.talanlabs.mybatis.rsql.test.it.statement.AbstractHSQLIntegration;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class SlowQueryIT extends AbstractHSQLIntegration {
+
+    private static SlowQueryLog slowQueryLog;
+
+    @BeforeClass
+    public static void init() {
+        beforeClass();
+
+        slowQueryLog = new SlowQueryLog(2);
+        configuration.addInterceptor(new SlowQueryInterceptor(slowQueryLog, 0, TimeUnit.MILLISECONDS, new HSQLDBHandler(), configuration.getEnvironment().getDataSource()));
+    }
+
+    @Before
+    public void clearSlowQueries() {
+        slowQueryLog.clear();
+    }
+
+    @Test
+    public void testRequest() {
+        List<ICountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(ICountry.class), Request.newBuilder().rsql("code==FRA").sort("code").rows(Request.Rows.of(0, 2)).build());
+        Assertions.assertThat(countries).hasSize(1);
+
+        List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries(ICountry.class);
+        Assertions.assertThat(slowQueries).hasSize(1);
+
+        SlowQuery slowQuery = slowQueries.get(0);
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(slowQuery.getStatementId()).isEqualTo(RsqlStatementNameHelper.buildRsqlKey(ICountry.class));
+        softAssertions.assertThat(slowQuery.getRsql()).isEqualTo("code==FRA");
+        softAssertions.assertThat(slowQuery.getSort()).isEqualTo("code");
+        softAssertions.assertThat(slowQuery.getRows().limit).isEqualTo(2);
+        softAssertions.assertThat(slowQuery.getSql()).contains("LIMIT");
+        softAssertions.assertThat(slowQuery.getAdditionalParameters()).containsValue("FRA");
+        softAssertions.assertThat(slowQuery.getElapsedNanos()).isGreaterThan(0);
+        softAssertions.assertThat(slowQuery.getPlan()).isNotEmpty();
+        softAssertions.assertAll();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExplainWithoutDataSource() {
+        new SlowQueryInterceptor(slowQueryLog, 0, TimeUnit.MILLISECONDS, new HSQLDBHandler(), null);
+    }
+
+    @Test
+    public void testCountAndRingBuffer() {
+        sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(ICountry.class), "code==FRA");
+        sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(ICountry.class), "code==ITA");
+        sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(ICountry.class), "code==ESP");
+
+        Assertions.assertThat(slowQueryLog.getSlowQueries()).extracting("rsql").containsExactly("code==ESP", "code==ITA");
+    }
+}
@@ -14,6 +14,7 @@ import com.talanlabs.mybatis.component.statement.DeleteMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindComponentsByJoinTableMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindComponentsByMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindEntityByIdMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindLazyColumnMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindNlsColumnMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.InsertMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.UpdateMappedStatementFactory;
@@ -42,6 +43,7 @@ import org.junit.AfterClass;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.util.function.UnaryOperator;
 
 public abstract class AbstractHSQLIntegration {
 
@@ -55,6 +57,10 @@ public abstract class AbstractHSQLIntegration {
 
     protected static IStringPolicy stringComparePolicy = new NothingStringPolicy();
 
+    protected static UnaryOperator<RsqlConfigurationBuilder> rsqlConfigurationCustomizer = UnaryOperator.identity();
+
+    protected static IRsqlConfiguration rsqlConfiguration;
+
     protected static void beforeClass() {
         ComponentFactory.setInstance(new ComponentFactory(ComponentFactoryConfigurationBuilder.newBuilder()
                 .toStringFactory(new CompleteToStringFactory(false, true, false, IPropertyComparator.compose(IPropertyComparator.equalsKey(), IPropertyComparator.natural()))).build()));
@@ -69,13 +75,14 @@ public abstract class AbstractHSQLIntegration {
         componentConfiguration.setAggressiveLazyLoading(false);
         componentConfiguration.setNlsColumnHandler(defaultNlsColumnHandler);
 
-        IRsqlConfiguration rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().stringPolicy(stringComparePolicy).nlsColumnRsqlHandler(defaultNlsColumnHandler)
-                .pageStatementFactory(new HSQLDBHandler()).build();
+        rsqlConfiguration = rsqlConfigurationCustomizer.apply(RsqlConfigurationBuilder.newBuilder().stringPolicy(stringComparePolicy).nlsColumnRsqlHandler(defaultNlsColumnHandler)
+                .pageStatementFactory(new HSQLDBHandler())).build();
 
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindEntityByIdMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindComponentsByMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindComponentsByJoinTableMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindNlsColumnMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindLazyColumnMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new InsertMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new UpdateMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new DeleteMappedStatementFactory());
@@ -104,6 +111,8 @@ public abstract class AbstractHSQLIntegration {
     public static void afterClass() {
         sqlSessionManager = null;
         configuration = null;
+        rsqlConfiguration = null;
+        rsqlConfigurationCustomizer = UnaryOperator.identity();
     }
 
     @Before
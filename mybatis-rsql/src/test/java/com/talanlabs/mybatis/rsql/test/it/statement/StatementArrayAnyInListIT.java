@@ -0,0 +1,17 @@
+package com.talanlabs.mybatis.rsql.test.it.statement;
+
+import com.talanlabs.mybatis.rsql.database.inlist.ArrayInListStatementFactory;
+import org.junit.BeforeClass;
+
+/**
+ * Same tests with = ANY (?) and <> ALL (?), HSQLDB accepts both syntaxes
+ */
+public class StatementArrayAnyInListIT extends StatementArrayInListIT {
+
+    @BeforeClass
+    public static void init() {
+        rsqlConfigurationCustomizer = builder -> builder.inListStatementFactory(new ArrayInListStatementFactory(ArrayInListStatementFactory.Syntax.Any));
+
+        beforeClass();
+    }
+}
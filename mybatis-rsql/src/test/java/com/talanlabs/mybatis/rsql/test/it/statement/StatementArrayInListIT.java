@@ -0,0 +1,49 @@
+package com.talanlabs.mybatis.rsql.test.it.statement;
+
+import com.talanlabs.mybatis.rsql.database.HSQLDBHandler;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import com.talanlabs.mybatis.rsql.test.data.PersonFields;
+import org.assertj.core.api.Assertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Lists bound as one sql array, IN (UNNEST(?)) for HSQLDB
+ */
+public class StatementArrayInListIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void init() {
+        rsqlConfigurationCustomizer = builder -> builder.inListStatementFactory(new HSQLDBHandler());
+
+        beforeClass();
+    }
+
+    @Test
+    public void testInString() {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra,Toto)");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Gabriel", "Sandra");
+    }
+
+    @Test
+    public void testOutInteger() {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "age=out=(36,38)");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Laureline", "Raphael", "David");
+    }
+
+    @Test
+    public void testCountAndCombined() {
+        Integer count = sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra,David);age>37");
+        Assertions.assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    public void testSameListInLocalCache() {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "age=in=(1,4)");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Laureline", "Raphael");
+        Assertions.assertThat(sqlSessionManager.<IPerson>selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "age=in=(1,4)")).isSameAs(persons);
+    }
+}
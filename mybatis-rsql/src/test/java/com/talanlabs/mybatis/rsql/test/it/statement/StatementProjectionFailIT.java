@@ -0,0 +1,45 @@
+package com.talanlabs.mybatis.rsql.test.it.statement;
+
+import com.talanlabs.mybatis.component.resultmap.UnprojectedPropertyPolicy;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.CountryFields;
+import com.talanlabs.mybatis.rsql.test.data.ICountry;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import com.talanlabs.mybatis.rsql.test.data.PersonFields;
+import org.assertj.core.api.Assertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Own configuration with FAIL policy, set before any projection statement
+ */
+public class StatementProjectionFailIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void init() {
+        beforeClass();
+
+        configuration.setUnprojectedPropertyPolicy(UnprojectedPropertyPolicy.FAIL);
+    }
+
+    @Test
+    public void testFailColumnAndAssociation() {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class, PersonFields.firstName), "firstName==Gabriel");
+        Assertions.assertThat(persons).hasSize(1);
+
+        IPerson person = persons.get(0);
+        Assertions.assertThat(person.getFirstName()).isEqualTo("Gabriel");
+        Assertions.assertThatThrownBy(person::getLastName).isInstanceOf(IllegalStateException.class).hasMessageContaining(PersonFields.lastName);
+        Assertions.assertThatThrownBy(person::getAddress).isInstanceOf(IllegalStateException.class).hasMessageContaining(PersonFields.address);
+    }
+
+    @Test
+    public void testFailNlsColumn() {
+        List<ICountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(ICountry.class, CountryFields.code), "code==FRA");
+
+        Assertions.assertThat(countries).extracting(CountryFields.code).containsExactly("FRA");
+        Assertions.assertThatThrownBy(countries.get(0)::getName).isInstanceOf(IllegalStateException.class).hasMessageContaining(CountryFields.name);
+    }
+}
@@ -0,0 +1,51 @@
+package com.talanlabs.mybatis.rsql.test.it.statement;
+
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.CountryFields;
+import com.talanlabs.mybatis.rsql.test.data.ICountry;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import com.talanlabs.mybatis.rsql.test.data.PersonFields;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+public class StatementProjectionIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void init() {
+        beforeClass();
+    }
+
+    @Test
+    public void testProjectionLazy() {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class, PersonFields.firstName), "firstName==Gabriel");
+        Assertions.assertThat(persons).hasSize(1);
+
+        IPerson person = persons.get(0);
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(person.getFirstName()).isEqualTo("Gabriel");
+        softAssertions.assertThat(person.getLastName()).isEqualTo("Allaigre");
+        softAssertions.assertThat(person.getAddress()).isNotNull();
+        softAssertions.assertThat(person.getAddress().getCity()).isEqualTo("Versailles");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testProjectionNlsColumn() {
+        defaultNlsColumnHandler.setLanguageCode("fra");
+        List<ICountry> countries = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(ICountry.class, CountryFields.code), "code==FRA");
+
+        Assertions.assertThat(countries).extracting(CountryFields.code).containsExactly("FRA");
+        Assertions.assertThat(countries.get(0).getName()).isEqualTo("Fromage");
+    }
+
+    @Test
+    public void testProjectionSeveralProperties() {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class, PersonFields.firstName, PersonFields.age), "age>37");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Sandra", "David");
+        Assertions.assertThat(persons).extracting(PersonFields.age).containsOnly(38, 40);
+    }
+}
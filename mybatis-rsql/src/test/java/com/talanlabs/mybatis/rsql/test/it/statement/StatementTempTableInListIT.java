@@ -0,0 +1,71 @@
+package com.talanlabs.mybatis.rsql.test.it.statement;
+
+import com.talanlabs.mybatis.rsql.database.StandardHandler;
+import com.talanlabs.mybatis.rsql.database.inlist.TempTableInListInterceptor;
+import com.talanlabs.mybatis.rsql.database.inlist.TempTableInListStatementFactory;
+import com.talanlabs.mybatis.rsql.statement.RsqlStatementNameHelper;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import com.talanlabs.mybatis.rsql.test.data.PersonFields;
+import org.assertj.core.api.Assertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+public class StatementTempTableInListIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void init() {
+        rsqlConfigurationCustomizer = builder -> builder.inListStatementFactory(new TempTableInListStatementFactory("t_tmp_in_list", "list_id", "val", 2, new StandardHandler()));
+
+        beforeClass();
+
+        configuration.addInterceptor(new TempTableInListInterceptor());
+    }
+
+    @Test
+    public void testUnderThreshold() throws SQLException {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra)");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Gabriel", "Sandra");
+        Assertions.assertThat(countTempTable()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInTempTable() throws SQLException {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra,David,Toto)");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Gabriel", "Sandra", "David");
+        Assertions.assertThat(countTempTable()).isEqualTo(0);
+    }
+
+    @Test
+    public void testOutTempTable() throws SQLException {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "firstName=out=(Gabriel,Sandra,David)");
+        Assertions.assertThat(persons).extracting(PersonFields.firstName).containsOnly("Laureline", "Raphael");
+        Assertions.assertThat(countTempTable()).isEqualTo(0);
+    }
+
+    @Test
+    public void testCountAndCombined() throws SQLException {
+        Integer count = sqlSessionManager.selectOne(RsqlStatementNameHelper.buildCountRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra,David);age>37");
+        Assertions.assertThat(count).isEqualTo(2);
+        Assertions.assertThat(countTempTable()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSameListInLocalCache() throws SQLException {
+        List<IPerson> persons = sqlSessionManager.selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra,David)");
+        // List id is not in the cache key
+        Assertions.assertThat(sqlSessionManager.<IPerson>selectList(RsqlStatementNameHelper.buildRsqlKey(IPerson.class), "firstName=in=(Gabriel,Sandra,David)")).isSameAs(persons);
+        Assertions.assertThat(countTempTable()).isEqualTo(0);
+    }
+
+    private int countTempTable() throws SQLException {
+        try (PreparedStatement ps = sqlSessionManager.getConnection().prepareStatement("SELECT COUNT(*) FROM t_tmp_in_list"); ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.talanlabs.mybatis.rsql.test.it.where;
+
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.database.HSQLDBHandler;
+import com.talanlabs.mybatis.rsql.database.OracleHandler;
+import com.talanlabs.mybatis.rsql.database.PostgresHandler;
+import com.talanlabs.mybatis.rsql.database.StandardHandler;
+import com.talanlabs.mybatis.rsql.database.inlist.ArrayInListTypeHandler;
+import com.talanlabs.mybatis.rsql.database.inlist.TempTableInListStatementFactory;
+import com.talanlabs.mybatis.rsql.database.inlist.TempTableInListTypeHandler;
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.engine.where.ComponentRsqlVisitor;
+import com.talanlabs.mybatis.rsql.engine.where.registry.DefaultComparisonOperatorManagerRegistry;
+import com.talanlabs.mybatis.rsql.statement.IInListStatementFactory;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.StringJoiner;
+
+public class ComparisonOperatorInListRsqlIT {
+
+    private static RSQLParser rsqlParser;
+
+    private EngineContext engineContext;
+
+    @BeforeClass
+    public static void initGlobal() {
+        rsqlParser = new RSQLParser();
+    }
+
+    private static ComponentRsqlVisitor<IPerson> newVisitor(IInListStatementFactory inListStatementFactory) {
+        return new ComponentRsqlVisitor<>(IPerson.class, new DefaultComparisonOperatorManagerRegistry(RsqlConfigurationBuilder.newBuilder().inListStatementFactory(inListStatementFactory).build()));
+    }
+
+    @Before
+    public void init() {
+        engineContext = EngineContext.newBulder().defaultTablePrefix("").build();
+    }
+
+    @Test
+    public void testPaddingInRsql() {
+        SqlResult res = rsqlParser.parse("firstName=in=(FRA,ITA,ESP)").accept(newVisitor(new StandardHandler()), engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.joins).isEmpty();
+        Assertions.assertThat(res.sql)
+                .isEqualTo("FIRST_NAME IN (#{0,javaType=java.lang.String}, #{1,javaType=java.lang.String}, #{2,javaType=java.lang.String}, #{2,javaType=java.lang.String})");
+        Assertions.assertThat(res.parameterMap).hasSize(3).containsEntry("0", "FRA").containsEntry("1", "ITA").containsEntry("2", "ESP");
+    }
+
+    @Test
+    public void testPaddingOutRsql() {
+        SqlResult res = rsqlParser.parse("age=out=(1,2,3,4,5)").accept(newVisitor(new StandardHandler()), engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).startsWith("AGE NOT IN (#{0,javaType=int}").endsWith("#{4,javaType=int}, #{4,javaType=int}, #{4,javaType=int}, #{4,javaType=int})");
+        Assertions.assertThat(res.parameterMap).hasSize(5).containsEntry("0", 1).containsEntry("4", 5);
+    }
+
+    @Test
+    public void testOracleChunkInRsql() {
+        StringJoiner sj = new StringJoiner(",", "age=in=(", ")");
+        for (int i = 0; i < 1500; i++) {
+            sj.add(String.valueOf(i));
+        }
+        SqlResult res = rsqlParser.parse(sj.toString()).accept(newVisitor(new OracleHandler()), engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).startsWith("(AGE IN (#{0,javaType=int}").contains(") OR AGE IN (#{1000,javaType=int}").endsWith(")");
+        Assertions.assertThat(res.parameterMap).hasSize(1500);
+    }
+
+    @Test
+    public void testArrayInRsql() {
+        SqlResult res = rsqlParser.parse("firstName=in=(FRA,ITA,ESP)").accept(newVisitor(new PostgresHandler()), engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).isEqualTo("FIRST_NAME = ANY (#{0,javaType=java.lang.Object,typeHandler=" + ArrayInListTypeHandler.class.getName() + "})");
+        Assertions.assertThat(res.parameterMap).hasSize(1);
+        Assertions.assertThat(((ArrayInListTypeHandler.ArrayParameter) res.parameterMap.get("0")).values).containsExactly("FRA", "ITA", "ESP");
+    }
+
+    @Test
+    public void testArrayOutRsql() {
+        SqlResult res = rsqlParser.parse("age=out=(1,2)").accept(newVisitor(new HSQLDBHandler()), engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).isEqualTo("AGE NOT IN (UNNEST(#{0,javaType=java.lang.Object,typeHandler=" + ArrayInListTypeHandler.class.getName() + "}))");
+        Assertions.assertThat(((ArrayInListTypeHandler.ArrayParameter) res.parameterMap.get("0")).sqlTypeName).isEqualTo("INTEGER");
+    }
+
+    @Test
+    public void testArrayFallbackRsql() {
+        SqlResult res = rsqlParser.parse("sexe=in=(MAN,WOMAN)").accept(newVisitor(new PostgresHandler()), engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).isEqualTo("SEXE IN (#{0,javaType=com.talanlabs.mybatis.rsql.test.data.IPerson$Sexe}, #{1,javaType=com.talanlabs.mybatis.rsql.test.data.IPerson$Sexe})");
+    }
+
+    @Test
+    public void testTempTableInRsql() {
+        TempTableInListStatementFactory inListStatementFactory = new TempTableInListStatementFactory("TMP_IN_LIST", "LIST_ID", "VAL", 2, new StandardHandler());
+
+        SqlResult res = rsqlParser.parse("firstName=in=(FRA,ITA)").accept(newVisitor(inListStatementFactory), engineContext);
+        Assertions.assertThat(res.sql).isEqualTo("FIRST_NAME IN (#{0,javaType=java.lang.String}, #{1,javaType=java.lang.String})");
+
+        res = rsqlParser.parse("firstName=in=(FRA,ITA,ESP)").accept(newVisitor(inListStatementFactory), engineContext);
+        Assertions.assertThat(res.sql)
+                .isEqualTo("FIRST_NAME IN (SELECT VAL FROM TMP_IN_LIST WHERE LIST_ID = #{2,javaType=java.lang.Object,typeHandler=" + TempTableInListTypeHandler.class.getName() + "})");
+        TempTableInListStatementFactory.TempTableInList tempTableInList = (TempTableInListStatementFactory.TempTableInList) res.parameterMap.get("2");
+        Assertions.assertThat(tempTableInList.getValues()).containsExactly("FRA", "ITA", "ESP");
+
+        // Same list, other list id but same cache key
+        res = rsqlParser.parse("firstName=in=(FRA,ITA,ESP)").accept(newVisitor(inListStatementFactory), EngineContext.newBulder().defaultTablePrefix("").build());
+        TempTableInListStatementFactory.TempTableInList other = (TempTableInListStatementFactory.TempTableInList) res.parameterMap.get("0");
+        Assertions.assertThat(other.getListId()).isNotEqualTo(tempTableInList.getListId());
+        Assertions.assertThat(other).isEqualTo(tempTableInList).hasSameHashCodeAs(tempTableInList);
+    }
+}
@@ -0,0 +1,82 @@
+package com.talanlabs.mybatis.rsql.test.it.where;
+
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.RsqlComplexityException;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.engine.where.ComponentRsqlVisitor;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ComplexityGuardRsqlIT {
+
+    private static IRsqlConfiguration rsqlConfiguration;
+    private static ComponentRsqlVisitor<IPerson> personComponentRsqlVisitor;
+    private static RSQLParser rsqlParser;
+
+    private EngineContext engineContext;
+
+    @BeforeClass
+    public static void initGlobal() {
+        rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().maxDepth(3).maxNodes(6).maxJoins(1).maxInSize(3).rejectLeadingWildcard(true).build();
+        personComponentRsqlVisitor = rsqlConfiguration.getComponentRsqlVisitor(IPerson.class);
+
+        rsqlParser = new RSQLParser();
+    }
+
+    @Before
+    public void init() {
+        engineContext = EngineContext.newBulder().defaultTablePrefix("").build();
+    }
+
+    @Test
+    public void testAccepted() {
+        SqlResult res = rsqlParser.parse("firstName==Gabriel*;(age=in=(1,2,3),address.city==Paris)").accept(personComponentRsqlVisitor, engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(engineContext.getLogicalDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRejectDepth() {
+        assertRejected("firstName==a;(age==1,(age==2;(age==3,age==4)))", RsqlComplexityException.Reason.Depth);
+    }
+
+    @Test
+    public void testRejectNodes() {
+        assertRejected("age==1,age==2,age==3,age==4,age==5,age==6", RsqlComplexityException.Reason.Nodes);
+    }
+
+    @Test
+    public void testRejectJoins() {
+        assertRejected("address.city==Paris;addressBis.city==Lyon", RsqlComplexityException.Reason.Joins);
+    }
+
+    @Test
+    public void testRejectInSize() {
+        assertRejected("age=in=(1,2,3,4)", RsqlComplexityException.Reason.InSize);
+    }
+
+    @Test
+    public void testRejectLeadingWildcard() {
+        assertRejected("firstName==*briel", RsqlComplexityException.Reason.LeadingWildcard);
+    }
+
+    private void assertRejected(String rsql, RsqlComplexityException.Reason reason) {
+        long count = rsqlConfiguration.getComplexityGuard().getRejectionCount(reason);
+
+        try {
+            rsqlParser.parse(rsql).accept(personComponentRsqlVisitor, engineContext);
+            Assertions.fail("Rsql must be rejected " + rsql);
+        } catch (RsqlComplexityException e) {
+            Assertions.assertThat(e.getReason()).isEqualTo(reason);
+        }
+
+        Assertions.assertThat(rsqlConfiguration.getComplexityGuard().getRejectionCount(reason)).isEqualTo(count + 1);
+    }
+}
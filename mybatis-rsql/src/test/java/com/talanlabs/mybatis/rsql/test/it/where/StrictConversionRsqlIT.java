@@ -0,0 +1,62 @@
+package com.talanlabs.mybatis.rsql.test.it.where;
+
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.engine.EngineContext;
+import com.talanlabs.mybatis.rsql.engine.IllegalPropertyException;
+import com.talanlabs.mybatis.rsql.engine.SqlResult;
+import com.talanlabs.mybatis.rsql.engine.where.ComponentRsqlVisitor;
+import com.talanlabs.mybatis.rsql.engine.where.registry.DefaultComparisonOperatorManagerRegistry;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class StrictConversionRsqlIT {
+
+    private static ComponentRsqlVisitor<IPerson> personComponentRsqlVisitor;
+    private static ComponentRsqlVisitor<IPerson> strictPersonComponentRsqlVisitor;
+    private static RSQLParser rsqlParser;
+
+    private EngineContext engineContext;
+
+    @BeforeClass
+    public static void initGlobal() {
+        personComponentRsqlVisitor = new ComponentRsqlVisitor<>(IPerson.class, new DefaultComparisonOperatorManagerRegistry(RsqlConfigurationBuilder.newBuilder().build()));
+        strictPersonComponentRsqlVisitor = new ComponentRsqlVisitor<>(IPerson.class,
+                new DefaultComparisonOperatorManagerRegistry(RsqlConfigurationBuilder.newBuilder().strictConversion(true).build()));
+
+        rsqlParser = new RSQLParser();
+    }
+
+    @Before
+    public void init() {
+        engineContext = EngineContext.newBulder().defaultTablePrefix("").build();
+    }
+
+    @Test
+    public void testConvertedRsql() {
+        SqlResult res = rsqlParser.parse("age==12").accept(strictPersonComponentRsqlVisitor, engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).isEqualTo("AGE = #{0,javaType=int}");
+        Assertions.assertThat(res.parameterMap).containsEntry("0", 12);
+    }
+
+    @Test
+    public void testNotStrictRsql() {
+        SqlResult res = rsqlParser.parse("age==abc").accept(personComponentRsqlVisitor, engineContext);
+
+        Assertions.assertThat(res).isNotNull();
+        Assertions.assertThat(res.sql).isEqualTo("AGE = #{0,javaType=java.lang.String}");
+        Assertions.assertThat(res.parameterMap).containsEntry("0", "abc");
+    }
+
+    @Test
+    public void testStrictRsql() {
+        Assertions.assertThatThrownBy(() -> rsqlParser.parse("age==abc").accept(strictPersonComponentRsqlVisitor, engineContext)).isInstanceOf(IllegalPropertyException.class);
+        Assertions.assertThatThrownBy(() -> rsqlParser.parse("age=in=(12,abc)").accept(strictPersonComponentRsqlVisitor, engineContext)).isInstanceOf(IllegalPropertyException.class);
+        Assertions.assertThatThrownBy(() -> rsqlParser.parse("sexe==CHILD").accept(strictPersonComponentRsqlVisitor, engineContext)).isInstanceOf(IllegalPropertyException.class);
+    }
+}
@@ -12,6 +12,7 @@ public class RsqlStatementNameHelperTest {
         SoftAssertions softAssertions = new SoftAssertions();
         softAssertions.assertThat(RsqlStatementNameHelper.buildRsqlKey(null)).isNull();
         softAssertions.assertThat(RsqlStatementNameHelper.buildRsqlKey(ICountry.class)).isEqualTo("com.talanlabs.mybatis.rsql.test.data.ICountry/rsql");
+        softAssertions.assertThat(RsqlStatementNameHelper.buildRsqlKey(ICountry.class, "code", "name")).isEqualTo("com.talanlabs.mybatis.rsql.test.data.ICountry/rsql?projection=code,name");
         softAssertions.assertAll();
     }
 
@@ -26,6 +27,8 @@ public class RsqlStatementNameHelperTest {
         softAssertions.assertThat(RsqlStatementNameHelper.isRsqlKey("model.IUser")).isFalse();
         softAssertions.assertThat(RsqlStatementNameHelper.isRsqlKey("/rsql")).isFalse();
         softAssertions.assertThat(RsqlStatementNameHelper.isRsqlKey("model-IUser/rsql")).isFalse();
+        softAssertions.assertThat(RsqlStatementNameHelper.isRsqlKey("model.IUser/rsql?projection=code,name")).isTrue();
+        softAssertions.assertThat(RsqlStatementNameHelper.isRsqlKey("model.IUser/rsql?projection=")).isFalse();
         softAssertions.assertAll();
     }
 
@@ -37,4 +40,13 @@ public class RsqlStatementNameHelperTest {
         softAssertions.assertThat(RsqlStatementNameHelper.extractComponentClassInRsqlKey("model.IUser/rsql")).isNull();
         softAssertions.assertAll();
     }
+
+    @Test
+    public void testExtractProjectionInRsqlKey() {
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(RsqlStatementNameHelper.extractProjectionInRsqlKey(null)).isNull();
+        softAssertions.assertThat(RsqlStatementNameHelper.extractProjectionInRsqlKey("com.talanlabs.mybatis.rsql.test.data.ICountry/rsql")).isNull();
+        softAssertions.assertThat(RsqlStatementNameHelper.extractProjectionInRsqlKey("com.talanlabs.mybatis.rsql.test.data.ICountry/rsql?projection=code,name")).containsExactly("code", "name");
+        softAssertions.assertAll();
+    }
 }
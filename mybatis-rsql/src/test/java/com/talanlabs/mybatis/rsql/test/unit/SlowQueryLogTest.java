@@ -0,0 +1,27 @@
+package com.talanlabs.mybatis.rsql.test.unit;
+
+import com.talanlabs.mybatis.rsql.slowquery.SlowQuery;
+import com.talanlabs.mybatis.rsql.slowquery.SlowQueryLog;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class SlowQueryLogTest {
+
+    @Test
+    public void testRingBuffer() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(3);
+        for (int i = 0; i < 5; i++) {
+            slowQueryLog.add(SlowQuery.newBuilder().rsql("id==" + i).build());
+        }
+
+        Assertions.assertThat(slowQueryLog.getSlowQueries()).extracting("rsql").containsExactly("id==4", "id==3", "id==2");
+
+        slowQueryLog.clear();
+        Assertions.assertThat(slowQueryLog.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    public void testWrongCapacity() {
+        Assertions.assertThatThrownBy(() -> new SlowQueryLog(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.talanlabs.mybatis.rsql.test.unit;
+
+import com.talanlabs.mybatis.rsql.sort.SortDirections;
+import com.talanlabs.mybatis.rsql.sort.SortNode;
+import com.talanlabs.mybatis.rsql.sort.SortParser;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import java.util.List;
+
+public class SortParserTest {
+
+    @Test
+    public void testParse() {
+        SortParser sortParser = new SortParser();
+
+        List<SortNode> sortNodes = sortParser.parse(" -firstName , lastName,++age");
+        Assertions.assertThat(sortNodes).hasSize(3);
+        Assertions.assertThat(sortNodes).extracting(SortNode::getSelector).containsExactly("firstName", "lastName", "age");
+        Assertions.assertThat(sortNodes).extracting(SortNode::getDirection).containsExactly(SortDirections.DESC, SortDirections.ASC, SortDirections.ASC_NULLS_FIRST);
+    }
+
+    @Test
+    public void testSplit() {
+        SortParser sortParser = new SortParser();
+
+        Assertions.assertThat(sortParser.parse("firstName,,")).extracting(SortNode::getSelector).containsExactly("firstName");
+        Assertions.assertThat(sortParser.parse(",firstName")).extracting(SortNode::getSelector).containsExactly("", "firstName");
+        Assertions.assertThat(sortParser.parse("firstName,,lastName")).extracting(SortNode::getSelector).containsExactly("firstName", "", "lastName");
+        Assertions.assertThat(sortParser.parse(",")).isEmpty();
+        Assertions.assertThat(sortParser.parse("")).extracting(SortNode::getSelector).containsExactly("");
+    }
+
+    @Test
+    public void testSeparator() {
+        SortParser sortParser = new SortParser();
+
+        Assertions.assertThat(sortParser.parse("firstName , - lastName")).extracting(SortNode::getSelector).containsExactly("firstName", "lastName");
+
+        sortParser.setSeparator("[,;]");
+        Assertions.assertThat(sortParser.parse("firstName; lastName,age")).extracting(SortNode::getSelector).containsExactly("firstName", "lastName", "age");
+
+        sortParser.setSeparator(" ");
+        Assertions.assertThat(sortParser.parse("firstName lastName")).extracting(SortNode::getSelector).containsExactly("firstNamelastName");
+    }
+
+    @Test
+    public void testCache() {
+        SortParser sortParser = new SortParser();
+
+        List<SortNode> sortNodes = sortParser.parse("-firstName,lastName");
+        Assertions.assertThat(sortParser.parse("-firstName,lastName")).isSameAs(sortNodes);
+
+        sortParser.setSeparator(";");
+        Assertions.assertThat(sortParser.parse("-firstName,lastName")).isNotSameAs(sortNodes).hasSize(1);
+    }
+}
@@ -0,0 +1,142 @@
+package com.talanlabs.mybatis.rsql.test.unit;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.rsql.configuration.IRsqlConfiguration;
+import com.talanlabs.mybatis.rsql.configuration.RsqlConfigurationBuilder;
+import com.talanlabs.mybatis.rsql.engine.converter.IValueConverter;
+import com.talanlabs.mybatis.rsql.engine.converter.ValueConverterRegistry;
+import com.talanlabs.mybatis.rsql.engine.converter.ValueConverters;
+import com.talanlabs.mybatis.rsql.test.data.IPerson;
+import com.talanlabs.rtext.Rtext;
+import com.talanlabs.rtext.configuration.RtextConfigurationBuilder;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+public class ValueConverterRegistryTest {
+
+    private final ValueConverterRegistry valueConverterRegistry = new ValueConverterRegistry(new Rtext(RtextConfigurationBuilder.newBuilder().build()));
+
+    @Test
+    public void testInteger() {
+        IValueConverter valueConverter = valueConverterRegistry.getValueConverter(int.class);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(valueConverter.convert("12")).isEqualTo(12);
+        softAssertions.assertThat(valueConverter.convert("-12")).isEqualTo(-12);
+        softAssertions.assertThat(valueConverter.convert("+12")).isEqualTo(12);
+        softAssertions.assertThat(valueConverter.convert("2147483648")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverter.convert("12a")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverter.convert("-")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverter.convert("")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testLong() {
+        IValueConverter valueConverter = valueConverterRegistry.getValueConverter(Long.class);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(valueConverter.convert("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+        softAssertions.assertThat(valueConverter.convert("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+        softAssertions.assertThat(valueConverter.convert("9223372036854775808")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testDecimal() {
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(double.class).convert("1.5")).isEqualTo(1.5);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(double.class).convert("-1e3")).isEqualTo(-1000.0);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(double.class).convert("1e")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(double.class).convert(".")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(float.class).convert("abc")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(BigDecimal.class).convert("10.25")).isEqualTo(new BigDecimal("10.25"));
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testEnumAndBoolean() {
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(IPerson.Sexe.class).convert("MAN")).isEqualTo(IPerson.Sexe.MAN);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(IPerson.Sexe.class).convert("CHILD")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(boolean.class).convert("TRUE")).isEqualTo(true);
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(Boolean.class).convert("false")).isEqualTo(false);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testDateAndIdUseRtext() {
+        Rtext rtext = new Rtext(RtextConfigurationBuilder.newBuilder().build());
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(Date.class).convert("31/01/2000")).isEqualTo(ValueConverters.rtext(rtext, Date.class).convert("31/01/2000"));
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(IId.class).convert("12")).isEqualTo(ValueConverters.rtext(rtext, IId.class).convert("12"));
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testIsoDateAndId() throws ParseException {
+        ValueConverterRegistry isoValueConverterRegistry = RsqlConfigurationBuilder.newBuilder().valueConverter(Date.class, ValueConverters.date()).valueConverter(IId.class, ValueConverters.id())
+                .build().getValueConverterRegistry();
+        IValueConverter dateValueConverter = isoValueConverterRegistry.getValueConverter(Date.class);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(dateValueConverter.convert("2000-01-31")).isEqualTo(new SimpleDateFormat("yyyy-MM-dd").parse("2000-01-31"));
+        softAssertions.assertThat(dateValueConverter.convert("2000-01-31T10:20:30")).isEqualTo(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2000-01-31 10:20:30"));
+        softAssertions.assertThat(dateValueConverter.convert("2000-02-31")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(dateValueConverter.convert("yesterday")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(isoValueConverterRegistry.getValueConverter(IId.class).convert("12")).isEqualTo(IdFactory.IdString.from("12"));
+        softAssertions.assertThat(isoValueConverterRegistry.getValueConverter(IId.class).convert("")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testSameConverter() {
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(IPerson.Sexe.class)).isSameAs(valueConverterRegistry.getValueConverter(IPerson.Sexe.class));
+        softAssertions.assertThat(valueConverterRegistry.getValueConverter(String.class).convert("abc")).isEqualTo("abc");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testWithoutBuiltInConverters() {
+        ValueConverterRegistry rtextValueConverterRegistry = new ValueConverterRegistry(new Rtext(RtextConfigurationBuilder.newBuilder().build()), false);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(int.class)).isNotSameAs(valueConverterRegistry.getValueConverter(int.class));
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(int.class).convert("12")).isEqualTo(12);
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(int.class).convert("12a")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testUserConverterFirst() {
+        IValueConverter valueConverter = text -> text.length();
+        IRsqlConfiguration rsqlConfiguration = RsqlConfigurationBuilder.newBuilder().valueConverter(int.class, valueConverter).build();
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(rsqlConfiguration.getValueConverterRegistry().getValueConverter(int.class)).isSameAs(valueConverter);
+        softAssertions.assertThat(RsqlConfigurationBuilder.newBuilder().rtext(new Rtext(RtextConfigurationBuilder.newBuilder().build())).build().getValueConverterRegistry()
+                .getValueConverter(IPerson.Sexe.class).convert("MAN")).isEqualTo(IPerson.Sexe.MAN);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testRtextKeepsBuiltInConverters() {
+        Rtext rtext = new Rtext(RtextConfigurationBuilder.newBuilder().build());
+        ValueConverterRegistry rtextValueConverterRegistry = RsqlConfigurationBuilder.newBuilder().rtext(rtext, int.class).build().getValueConverterRegistry();
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(int.class)).isNotSameAs(valueConverterRegistry.getValueConverter(int.class));
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(int.class).convert("12")).isEqualTo(12);
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(long.class).convert("12a")).isSameAs(IValueConverter.NOT_CONVERTIBLE);
+        softAssertions.assertThat(rtextValueConverterRegistry.getValueConverter(String.class).convert("abc")).isEqualTo("abc");
+        softAssertions.assertAll();
+    }
+}
@@ -132,4 +132,12 @@ IF EXISTS;
 CREATE TABLE T_ASSO_PERSON_ADDRESS (
   person_id  VARCHAR(256),
   address_id VARCHAR(256)
-);
\ No newline at end of file
+);
+
+DROP TABLE t_tmp_in_list
+IF EXISTS;
+
+CREATE GLOBAL TEMPORARY TABLE t_tmp_in_list (
+  list_id VARCHAR(36),
+  val     VARCHAR(256)
+) ON COMMIT DELETE ROWS;
@@ -1,6 +1,8 @@
 package com.talanlabs.mybatis.component.cache;
 
 import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
 import org.apache.ibatis.cache.Cache;
 import org.apache.ibatis.cache.CacheException;
 import org.apache.ibatis.session.Configuration;
@@ -28,16 +30,33 @@ public abstract class AbstractComponentCache<E extends IComponent> implements Ca
         return id;
     }
 
+    protected Configuration getConfiguration() {
+        return configuration;
+    }
+
+    protected ComponentCacheManager getComponentCacheManager() {
+        return componentCacheManager;
+    }
+
+    protected Class<E> getComponentClass() {
+        return componentClass;
+    }
+
     @Override
     public void clear() {
         if (componentCacheManager.isDispatch()) {
+            Object event = ComponentEvents.begin(ComponentEventType.CACHE_CLEAR);
+
             componentCacheManager.undispatch();
 
+            // Link cascades are in the duration
             componentCacheManager.getCacheLinks(componentClass).forEach(cacheName -> configuration.getCache(cacheName).clear());
 
             componentCacheManager.dispatch();
 
             componentCacheManager.fireCleared(getId());
+
+            ComponentEvents.commit(event, componentClass, getId());
         }
     }
 
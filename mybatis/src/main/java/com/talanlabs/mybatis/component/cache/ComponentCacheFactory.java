@@ -67,28 +67,28 @@ public class ComponentCacheFactory extends AbstractCacheFactory {
         });
 
         com.talanlabs.entity.annotation.Cache cache = componentClass.getAnnotation(com.talanlabs.entity.annotation.Cache.class);
-
-        Cache res;
         if (cache == null) {
-            res = new ComponentNoCache<>(componentConfiguration, componentCacheManager, componentClass, key);
-        } else {
-            res = new ComponentCache<>(componentConfiguration, componentCacheManager, componentClass, key);
-            res = new LruCache(res);
-            ((LruCache) res).setSize(cache.size());
-            res = new ScheduledCache(res);
-            ((ScheduledCache) res).setClearInterval(cache.clearInterval());
-            if (cache.readWrite()) {
-                res = new SerializedCache(res);
-            }
-            res = new LoggingCache(res);
-            res = new SynchronizedCache(res);
+            return new ComponentNoCache<>(componentConfiguration, componentCacheManager, componentClass, key);
         }
 
         INlsColumnHandler nlsColumnHandler = componentConfiguration.getNlsColumnHandler();
         if (nlsColumnHandler != null && ComponentMyBatisHelper.isAllUseNlsColumn(componentClass)) {
-            res = new NlsColumnCache(nlsColumnHandler, res);
+            // NlsColumnCache cascades once for all contexts, a clear interval of a region cascades as the whole cache
+            return new NlsColumnCache<>(componentConfiguration, componentCacheManager, componentClass, key, nlsColumnHandler, region -> decorateCache(region, cache));
         }
+        return decorateCache(new ComponentCache<>(componentConfiguration, componentCacheManager, componentClass, key), cache);
+    }
 
+    private Cache decorateCache(Cache delegate, com.talanlabs.entity.annotation.Cache cache) {
+        Cache res = new LruCache(delegate);
+        ((LruCache) res).setSize(cache.size());
+        res = new ScheduledCache(res);
+        ((ScheduledCache) res).setClearInterval(cache.clearInterval());
+        if (cache.readWrite()) {
+            res = new SerializedCache(res);
+        }
+        res = new LoggingCache(res);
+        res = new SynchronizedCache(res);
         return res;
     }
 }
@@ -1,109 +1,160 @@
 package com.talanlabs.mybatis.component.cache;
 
+import com.talanlabs.component.IComponent;
 import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.ibatis.cache.Cache;
-
-import java.util.concurrent.locks.ReadWriteLock;
-
-public class NlsColumnCache implements Cache {
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache partitioned by context of INlsColumnHandler, each context has its own region (size, eviction and clear)
+ * <p>
+ * Regions are decorations of a plain cache. Clear of whole cache or of a region by its decorations (ScheduledCache) cascades to linked caches and fires cleared,
+ * clear of a context clears only the regions of this context, here and in linked nls caches.
+ * <p>
+ * Writes of components (insert, update, delete) and their translations flush the whole cache at commit, as any component cache
+ */
+public class NlsColumnCache<E extends IComponent> extends AbstractComponentCache<E> {
+
+    private static final Object NULL_CONTEXT = new Object();
 
     private final INlsColumnHandler nlsColumnHandler;
 
-    private final Cache delegate;
+    private final UnaryOperator<Cache> regionDecorator;
 
-    public NlsColumnCache(INlsColumnHandler nlsColumnHandler, Cache delegate) {
-        super();
+    private final Map<Object, Cache> regionMap = new ConcurrentHashMap<>();
 
-        this.nlsColumnHandler = nlsColumnHandler;
-        this.delegate = delegate;
-    }
+    /**
+     * @param configuration         configuration for linked caches
+     * @param componentCacheManager manager of links and listeners
+     * @param componentClass        component class
+     * @param id                    cache id
+     * @param nlsColumnHandler      handler for context
+     * @param regionDecorator       decorate the plain cache of a new region (size, eviction, clear interval)
+     */
+    public NlsColumnCache(Configuration configuration, ComponentCacheManager componentCacheManager, Class<E> componentClass, String id, INlsColumnHandler nlsColumnHandler,
+            UnaryOperator<Cache> regionDecorator) {
+        super(configuration, componentCacheManager, componentClass, id);
 
-    private Object buildKey(Object key) {
-        return new MyKey(key, nlsColumnHandler.getContext());
+        this.nlsColumnHandler = nlsColumnHandler;
+        this.regionDecorator = regionDecorator;
     }
 
-    @Override
-    public String getId() {
-        return delegate.getId();
+    private Cache getRegion(Object context) {
+        return regionMap.computeIfAbsent(toContext(context), k -> regionDecorator.apply(new RegionCache(getId())));
     }
 
     @Override
     public void putObject(Object key, Object value) {
-        delegate.putObject(buildKey(key), value);
+        getRegion(nlsColumnHandler.getContext()).putObject(key, value);
     }
 
     @Override
     public Object getObject(Object key) {
-        return delegate.getObject(buildKey(key));
+        Cache region = regionMap.get(toContext(nlsColumnHandler.getContext()));
+        return region != null ? region.getObject(key) : null;
     }
 
     @Override
     public Object removeObject(Object key) {
-        return delegate.removeObject(buildKey(key));
+        Cache region = regionMap.get(toContext(nlsColumnHandler.getContext()));
+        return region != null ? region.removeObject(key) : null;
     }
 
     @Override
     public void clear() {
-        delegate.clear();
+        undispatched(() -> regionMap.values().forEach(Cache::clear));
+
+        super.clear();
     }
 
-    @Override
-    public int getSize() {
-        return delegate.getSize();
+    /**
+     * Clear only regions of context, after a translation change committed outside component writes. Not transactional, call it after commit.
+     * Regions of context of linked nls caches are cleared, other linked caches are cleared, no cleared is fired
+     *
+     * @param context context of nls handler
+     */
+    public void clear(Object context) {
+        clear(context, new HashSet<>());
     }
 
-    @Override
-    public ReadWriteLock getReadWriteLock() {
-        return delegate.getReadWriteLock();
+    private void clear(Object context, Set<String> dejaVues) {
+        if (!dejaVues.add(getId())) {
+            return;
+        }
+
+        Cache region = regionMap.get(toContext(context));
+        if (region != null) {
+            undispatched(region::clear);
+        }
+
+        for (String cacheName : getComponentCacheManager().getCacheLinks(getComponentClass())) {
+            Cache cache = getConfiguration().getCache(cacheName);
+            if (cache instanceof NlsColumnCache) {
+                ((NlsColumnCache<?>) cache).clear(context, dejaVues);
+            } else if (dejaVues.add(cacheName)) {
+                undispatched(cache::clear);
+            }
+        }
     }
 
-    @Override
-    public int hashCode() {
-        return delegate.hashCode();
+    /*
+     * Clear made by this cache, regions do not cascade
+     */
+    private void undispatched(Runnable runnable) {
+        boolean dispatch = getComponentCacheManager().isDispatch();
+        if (dispatch) {
+            getComponentCacheManager().undispatch();
+        }
+        try {
+            runnable.run();
+        } finally {
+            if (dispatch) {
+                getComponentCacheManager().dispatch();
+            }
+        }
     }
 
     @Override
-    public boolean equals(Object obj) {
-        return delegate.equals(obj);
+    public int getSize() {
+        return regionMap.values().stream().mapToInt(Cache::getSize).sum();
     }
 
-    private class MyKey {
-
-        final Object key;
-
-        final Object context;
-
-        MyKey(Object key, Object context) {
-            super();
-            this.key = key;
-            this.context = context;
-        }
+    /**
+     * Size of region of context
+     *
+     * @param context context of nls handler
+     * @return size or 0 if no region
+     */
+    public int getSize(Object context) {
+        Cache region = regionMap.get(toContext(context));
+        return region != null ? region.getSize() : 0;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
+    private static Object toContext(Object context) {
+        return context != null ? context : NULL_CONTEXT;
+    }
 
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
+    /*
+     * Base of a region, a clear by its decorations (clear interval) cascades as the whole cache
+     */
+    private class RegionCache extends PerpetualCache {
 
-            MyKey myKey = (MyKey) o;
-            return new EqualsBuilder().append(key, myKey.key).append(context, myKey.context).isEquals();
+        RegionCache(String id) {
+            super(id);
         }
 
         @Override
-        public int hashCode() {
-            return new HashCodeBuilder(17, 37).append(key).append(context).toHashCode();
-        }
+        public void clear() {
+            super.clear();
 
-        @Override
-        public String toString() {
-            return new ToStringBuilder(this).append("key", key).append("context", context).toString();
+            NlsColumnCache.super.clear();
         }
     }
 }
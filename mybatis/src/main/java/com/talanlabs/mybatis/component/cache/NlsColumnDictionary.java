@@ -0,0 +1,292 @@
+package com.talanlabs.mybatis.component.cache;
+
+import com.talanlabs.mybatis.component.session.handler.NlsColumnValue;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dictionary of translations by table, column, id and context of INlsColumnHandler, ids are compared by string value.
+ * <p>
+ * A table preloaded for a context is complete : a missing translation is {@link #NO_TRANSLATION}. The dictionary is not bounded.
+ * <p>
+ * Writes of a transaction are invalidated at its commit, see {@link NlsColumnDictionaryInterceptor}. Until then the transaction does not use the dictionary.
+ * Writes of a SqlSessionManager without managed session are committed by statement and invalidated at once.
+ * <p>
+ * A translation read in database is put with the generation of its table read before the select, it is skipped if the table was invalidated in between
+ */
+public class NlsColumnDictionary {
+
+    /**
+     * Known without translation, the default value of table is used
+     */
+    public static final Object NO_TRANSLATION = new Object();
+
+    // Invalidated after preload, must be read in database
+    private static final Object UNKNOWN = new Object();
+
+    private static final Object NULL_CONTEXT = new Object();
+
+    private final Map<Key, Map<Object, Object>> translationMap = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Object>> completeContextMap = new ConcurrentHashMap<>();
+
+    // Incremented by each invalidation of table
+    private final Map<String, AtomicLong> generationMap = new ConcurrentHashMap<>();
+
+    // Invalidations of transactions not yet committed, by transaction key (connection)
+    private final Map<Object, Set<Key>> pendingMap = new ConcurrentHashMap<>();
+
+    public NlsColumnDictionary() {
+        super();
+    }
+
+    /**
+     * Get translation
+     *
+     * @param tableName  table name
+     * @param columnName column name
+     * @param id         id
+     * @param context    context of nls handler
+     * @return translation, NO_TRANSLATION or null if not in dictionary
+     */
+    public Object get(String tableName, String columnName, Object id, Object context) {
+        Map<Object, Object> contextMap = translationMap.get(new Key(tableName, columnName, id));
+        Object value = contextMap != null ? contextMap.get(toContext(context)) : null;
+        if (value == UNKNOWN) {
+            return null;
+        }
+        if (value == null) {
+            Set<Object> completeContexts = completeContextMap.get(tableName);
+            if (completeContexts != null && completeContexts.contains(toContext(context))) {
+                return NO_TRANSLATION;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Generation of table, read before the select of translations to put
+     *
+     * @param tableName table name
+     * @return generation, changed by each invalidation of table
+     */
+    public long getGeneration(String tableName) {
+        return getGenerationCounter(tableName).get();
+    }
+
+    /**
+     * Put translation, without check of generation
+     *
+     * @param tableName  table name
+     * @param columnName column name
+     * @param id         id
+     * @param context    context of nls handler
+     * @param meaning    translation, null or NO_TRANSLATION if default value
+     */
+    public void put(String tableName, String columnName, Object id, Object context, Object meaning) {
+        put(tableName, columnName, id, context, meaning, getGeneration(tableName));
+    }
+
+    /**
+     * Put translation read in database, skipped if table was invalidated since generation
+     *
+     * @param tableName  table name
+     * @param columnName column name
+     * @param id         id
+     * @param context    context of nls handler
+     * @param meaning    translation, null or NO_TRANSLATION if default value
+     * @param generation generation of table read before the select
+     * @return true if put
+     */
+    public boolean put(String tableName, String columnName, Object id, Object context, Object meaning, long generation) {
+        AtomicLong generationCounter = getGenerationCounter(tableName);
+        if (generationCounter.get() != generation) {
+            return false;
+        }
+        Object contextKey = toContext(context);
+        Object value = meaning != null ? meaning : NO_TRANSLATION;
+        Map<Object, Object> contextMap = translationMap.computeIfAbsent(new Key(tableName, columnName, id), k -> new ConcurrentHashMap<>());
+        contextMap.put(contextKey, value);
+        if (generationCounter.get() != generation) {
+            // Invalidated during put, the invalidation may have removed the translation before it was put
+            contextMap.remove(contextKey, value);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Preload all translations of table for a context, missing translations are NO_TRANSLATION. Without check of generation
+     *
+     * @param tableName       table name
+     * @param context         context of nls handler
+     * @param nlsColumnValues all translations of table for context
+     */
+    public void preload(String tableName, Object context, Collection<NlsColumnValue> nlsColumnValues) {
+        preload(tableName, context, nlsColumnValues, getGeneration(tableName));
+    }
+
+    /**
+     * Preload all translations of table for a context read in database, the table is not complete if invalidated since generation
+     *
+     * @param tableName       table name
+     * @param context         context of nls handler
+     * @param nlsColumnValues all translations of table for context
+     * @param generation      generation of table read before the select
+     * @return true if table is complete for context
+     */
+    public boolean preload(String tableName, Object context, Collection<NlsColumnValue> nlsColumnValues, long generation) {
+        for (NlsColumnValue nlsColumnValue : nlsColumnValues) {
+            put(tableName, nlsColumnValue.getColumnName(), nlsColumnValue.getId(), context, nlsColumnValue.getMeaning(), generation);
+        }
+        AtomicLong generationCounter = getGenerationCounter(tableName);
+        if (generationCounter.get() != generation) {
+            return false;
+        }
+        Set<Object> completeContexts = completeContextMap.computeIfAbsent(tableName, k -> ConcurrentHashMap.newKeySet());
+        completeContexts.add(toContext(context));
+        if (generationCounter.get() != generation) {
+            // Invalidated key may not be UNKNOWN for this context
+            completeContexts.remove(toContext(context));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Invalidate translations of a column for all contexts, after merge or delete
+     *
+     * @param tableName  table name
+     * @param columnName column name
+     * @param id         id
+     */
+    public void invalidate(String tableName, String columnName, Object id) {
+        invalidate(new Key(tableName, columnName, id));
+    }
+
+    /**
+     * Invalidate translations of a column written by a transaction, applied at commit and discarded at rollback
+     *
+     * @param transactionKey key of transaction, the connection
+     * @param tableName      table name
+     * @param columnName     column name
+     * @param id             id
+     */
+    public void invalidate(Object transactionKey, String tableName, String columnName, Object id) {
+        pendingMap.computeIfAbsent(transactionKey, k -> ConcurrentHashMap.newKeySet()).add(new Key(tableName, columnName, id));
+    }
+
+    /**
+     * @return true if a transaction has invalidations not yet committed
+     */
+    public boolean hasPending() {
+        return !pendingMap.isEmpty();
+    }
+
+    /**
+     * @param transactionKey key of transaction, the connection
+     * @return true if transaction has written nls columns, it must not read nor fill the dictionary
+     */
+    public boolean isWritten(Object transactionKey) {
+        return transactionKey != null && pendingMap.containsKey(transactionKey);
+    }
+
+    /**
+     * Apply invalidations of a committed transaction
+     *
+     * @param transactionKey key of transaction, the connection
+     */
+    public void commit(Object transactionKey) {
+        Set<Key> keys = pendingMap.remove(transactionKey);
+        if (keys != null) {
+            keys.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Discard invalidations of a transaction rolled back or closed
+     *
+     * @param transactionKey key of transaction, the connection
+     */
+    public void rollback(Object transactionKey) {
+        pendingMap.remove(transactionKey);
+    }
+
+    private void invalidate(Key key) {
+        // Before remove, a put of a translation read before sees it
+        getGenerationCounter(key.tableName).incrementAndGet();
+        translationMap.remove(key);
+        // Complete contexts of table must not answer NO_TRANSLATION
+        Set<Object> completeContexts = completeContextMap.get(key.tableName);
+        if (completeContexts != null && !completeContexts.isEmpty()) {
+            Map<Object, Object> contextMap = translationMap.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+            completeContexts.forEach(context -> contextMap.put(context, UNKNOWN));
+        }
+    }
+
+    /**
+     * Clear all translations and preloaded tables
+     */
+    public void clear() {
+        generationMap.values().forEach(AtomicLong::incrementAndGet);
+        completeContextMap.clear();
+        translationMap.clear();
+    }
+
+    private AtomicLong getGenerationCounter(String tableName) {
+        return generationMap.computeIfAbsent(tableName, k -> new AtomicLong());
+    }
+
+    private static Object toContext(Object context) {
+        return context != null ? context : NULL_CONTEXT;
+    }
+
+    private static final class Key {
+
+        final String tableName;
+
+        final String columnName;
+
+        final String id;
+
+        final int hash;
+
+        Key(String tableName, String columnName, Object id) {
+            super();
+            this.tableName = tableName;
+            this.columnName = columnName;
+            this.id = Objects.toString(id);
+            this.hash = 31 * (31 * Objects.hashCode(tableName) + Objects.hashCode(columnName)) + this.id.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return hash == key.hash && id.equals(key.id) && Objects.equals(columnName, key.columnName) && Objects.equals(tableName, key.tableName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).append("tableName", tableName).append("columnName", columnName).append("id", id).toString();
+        }
+    }
+}
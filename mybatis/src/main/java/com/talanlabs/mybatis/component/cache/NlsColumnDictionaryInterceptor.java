@@ -0,0 +1,166 @@
+package com.talanlabs.mybatis.component.cache;
+
+import com.talanlabs.mybatis.component.routing.RoutingTransaction;
+import com.talanlabs.mybatis.component.statement.sqlsource.FindNlsColumnSqlSource;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.transaction.Transaction;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Answer findNlsColumn statements with NlsColumnDictionary, the statement is not prepared if translation is in dictionary.
+ * FindNlsColumnSqlSource gives a lookup in additional parameter {@link #LOOKUP_PARAMETER}
+ * <p>
+ * Invalidations of a transaction are applied to dictionary at commit, a transaction which has written nls columns reads database and does not fill the dictionary.
+ * A translation is not put if its table was invalidated during the select.
+ * Reads on replica of a RoutingTransaction do not fill the dictionary either.
+ * Added by ComponentConfiguration#setNlsColumnDictionary
+ */
+@Intercepts({ @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type = Executor.class, method = "commit", args = { boolean.class }), @Signature(type = Executor.class, method = "rollback", args = { boolean.class }),
+        @Signature(type = Executor.class, method = "close", args = { boolean.class }) })
+public class NlsColumnDictionaryInterceptor implements Interceptor {
+
+    public static final String LOOKUP_PARAMETER = "_nlsColumnDictionaryLookup";
+
+    private final NlsColumnDictionary nlsColumnDictionary;
+
+    public NlsColumnDictionaryInterceptor(NlsColumnDictionary nlsColumnDictionary) {
+        super();
+
+        this.nlsColumnDictionary = nlsColumnDictionary;
+    }
+
+    /**
+     * Key of transaction of executor for dictionary, only if a transaction has written nls columns
+     *
+     * @param nlsColumnDictionary dictionary
+     * @param executor            executor
+     * @return connection of executor or null
+     */
+    public static Object getTransactionKey(NlsColumnDictionary nlsColumnDictionary, Executor executor) {
+        if (!nlsColumnDictionary.hasPending() || executor.isClosed()) {
+            return null;
+        }
+        try {
+            return executor.getTransaction().getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to get connection of transaction", e);
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Executor executor = (Executor) invocation.getTarget();
+        switch (invocation.getMethod().getName()) {
+        case "commit": {
+            Object transactionKey = getTransactionKey(nlsColumnDictionary, executor);
+            Object res = invocation.proceed();
+            if (transactionKey != null) {
+                nlsColumnDictionary.commit(transactionKey);
+            }
+            return res;
+        }
+        case "rollback":
+        case "close": {
+            // Close without rollback is an executor sharing connection of session (batch), its transaction goes on
+            Object transactionKey = "rollback".equals(invocation.getMethod().getName()) || (Boolean) invocation.getArgs()[0] ? getTransactionKey(nlsColumnDictionary, executor) : null;
+            if (transactionKey != null) {
+                nlsColumnDictionary.rollback(transactionKey);
+            }
+            return invocation.proceed();
+        }
+        default:
+            return query(invocation, executor);
+        }
+    }
+
+    private Object query(Invocation invocation, Executor executor) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        if (!(mappedStatement.getSqlSource() instanceof FindNlsColumnSqlSource)) {
+            return invocation.proceed();
+        }
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : mappedStatement.getBoundSql(args[1]);
+        if (!boundSql.hasAdditionalParameter(LOOKUP_PARAMETER) || nlsColumnDictionary.isWritten(getTransactionKey(nlsColumnDictionary, executor))) {
+            return invocation.proceed();
+        }
+
+        Lookup lookup = (Lookup) boundSql.getAdditionalParameter(LOOKUP_PARAMETER);
+        Object value = lookup.nlsColumnDictionary.get(lookup.tableName, lookup.columnName, lookup.id, lookup.context);
+        if (value != null) {
+            return Collections.singletonList(value == NlsColumnDictionary.NO_TRANSLATION ? lookup.defaultValue : value);
+        }
+
+        // Whatever order of interceptors, the replica connection is taken inside the query
+        long generation = lookup.nlsColumnDictionary.getGeneration(lookup.tableName);
+        Transaction transaction = executor.getTransaction();
+        long replicaReadCount = transaction instanceof RoutingTransaction ? ((RoutingTransaction) transaction).getReplicaReadCount() : 0L;
+        List<?> res = (List<?>) invocation.proceed();
+        if (transaction instanceof RoutingTransaction && ((RoutingTransaction) transaction).getReplicaReadCount() != replicaReadCount) {
+            return res;
+        }
+        if (res != null && res.size() == 1) {
+            // Same value as table is kept as default, it follows update of default value
+            Object meaning = res.get(0);
+            lookup.nlsColumnDictionary.put(lookup.tableName, lookup.columnName, lookup.id, lookup.context, Objects.equals(meaning, lookup.defaultValue) ? NlsColumnDictionary.NO_TRANSLATION : meaning,
+                    generation);
+        }
+        return res;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+
+    public static final class Lookup {
+
+        public final NlsColumnDictionary nlsColumnDictionary;
+
+        public final String tableName;
+
+        public final String columnName;
+
+        public final Object id;
+
+        public final Object context;
+
+        public final Object defaultValue;
+
+        private Lookup(NlsColumnDictionary nlsColumnDictionary, String tableName, String columnName, Object id, Object context, Object defaultValue) {
+            super();
+
+            this.nlsColumnDictionary = nlsColumnDictionary;
+            this.tableName = tableName;
+            this.columnName = columnName;
+            this.id = id;
+            this.context = context;
+            this.defaultValue = defaultValue;
+        }
+
+        public static Lookup of(NlsColumnDictionary nlsColumnDictionary, String tableName, String columnName, Object id, Object context, Object defaultValue) {
+            return new Lookup(nlsColumnDictionary, tableName, columnName, id, context, defaultValue);
+        }
+    }
+}
@@ -4,6 +4,10 @@ import com.talanlabs.component.IComponent;
 import com.talanlabs.component.factory.ComponentBeanMethod;
 import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
+import com.talanlabs.mybatis.component.lazy.LazyLoadDetector;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import org.apache.ibatis.executor.loader.ResultLoaderMap;
 import org.apache.ibatis.executor.loader.WriteReplaceInterface;
 import org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory;
@@ -16,6 +20,8 @@ import org.apache.logging.log4j.Logger;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -60,6 +66,8 @@ public class ComponentProxyFactory implements org.apache.ibatis.executor.loader.
 
         private static final String WRITE_REPLACE_METHOD = "writeReplace";
 
+        private final Class<E> componentClass;
+
         private final ComponentDescriptor componentDescriptor;
 
         private final E component;
@@ -68,12 +76,25 @@ public class ComponentProxyFactory implements org.apache.ibatis.executor.loader.
 
         private final boolean aggressive;
 
+        // Properties not loaded by projection, known when the proxy is created
+        private final Set<String> failPropertyNames;
+
+        private final LazyLoadDetector lazyLoadDetector;
+
+        private final LazyLoadDetector.Origin origin;
+
         public ComponentInvocationHandler(Class<E> componentClass, E component, ResultLoaderMap lazyLoader, Configuration configuration) {
             super();
+            this.componentClass = componentClass;
             this.componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
             this.component = component;
             this.lazyLoader = lazyLoader;
             this.aggressive = configuration.isAggressiveLazyLoading();
+            this.failPropertyNames = configuration instanceof ComponentConfiguration ?
+                    ((ComponentConfiguration) configuration).getCurrentFailPropertyNames(componentClass) :
+                    Collections.emptySet();
+            this.lazyLoadDetector = configuration instanceof ComponentConfiguration ? ((ComponentConfiguration) configuration).getLazyLoadDetector() : null;
+            this.origin = lazyLoadDetector != null ? lazyLoadDetector.getCurrentOrigin() : null;
         }
 
         @SuppressWarnings("unchecked")
@@ -83,47 +104,38 @@ public class ComponentProxyFactory implements org.apache.ibatis.executor.loader.
                 Object res;
                 synchronized (lazyLoader) {
                     if (isWriteReplaceMethod(method)) {
-                        lazyLoader.loadAll();
+                        // Serialization (cache) is not counted by detector, properties not loaded by projection stay unloaded
+                        loadAll(false);
                         res = component;
                     } else {
                         if (lazyLoader.size() > 0 && !isFinalizeMethod(method)) {
                             if (aggressive) {
-                                lazyLoader.loadAll();
+                                loadAll(true);
                             } else {
                                 ComponentBeanMethod cbm = componentDescriptor.getComponentBeanMethod(method.toGenericString());
                                 if (cbm != null) {
                                     switch (cbm) {
                                     case GET:
-                                    case SET: {
-                                        String propertyName = cbm.inferName(method);
-                                        if (lazyLoader.hasLoader(propertyName)) {
-                                            lazyLoader.load(propertyName);
-                                        }
-                                    }
-                                    break;
+                                    case SET:
+                                        loadOrFail(cbm.inferName(method), ComponentBeanMethod.SET.equals(cbm));
+                                        break;
                                     case STRAIGHT_GET_PROPERTY:
-                                    case STRAIGHT_SET_PROPERTY: {
-                                        String propertyName = (String) args[0];
-                                        if (lazyLoader.hasLoader(propertyName)) {
-                                            lazyLoader.load(propertyName);
-                                        }
-                                    }
-                                    break;
+                                    case STRAIGHT_SET_PROPERTY:
+                                        loadOrFail((String) args[0], ComponentBeanMethod.STRAIGHT_SET_PROPERTY.equals(cbm));
+                                        break;
                                     case EQUALS:
                                     case HASHCODE:
                                         Set<String> propertyNames = componentDescriptor.getEqualsKeyPropertyNames();
                                         if (propertyNames != null && !propertyNames.isEmpty()) {
                                             for (String propertyName : propertyNames) {
-                                                if (lazyLoader.hasLoader(propertyName)) {
-                                                    lazyLoader.load(propertyName);
-                                                }
+                                                loadOrFail(propertyName, false);
                                             }
                                         }
                                         break;
                                     case TO_STRING:
                                     case STRAIGHT_GET_PROPERTIES:
                                     case STRAIGHT_SET_PROPERTIES:
-                                        lazyLoader.loadAll();
+                                        loadAll(true);
                                         break;
                                     default:
                                         break;
@@ -141,6 +153,61 @@ public class ComponentProxyFactory implements org.apache.ibatis.executor.loader.
             }
         }
 
+        /*
+         * Property not loaded by projection fails on get, a set replaces its loader
+         */
+        private void loadOrFail(String propertyName, boolean set) throws SQLException {
+            if (!lazyLoader.hasLoader(propertyName)) {
+                return;
+            }
+            if (failPropertyNames.contains(propertyName)) {
+                if (!set) {
+                    throw new IllegalStateException("Property not loaded by projection for Component=" + componentClass + " with property=" + propertyName);
+                }
+                lazyLoader.remove(propertyName);
+            } else {
+                load(propertyName);
+            }
+        }
+
+        private void load(String propertyName) throws SQLException {
+            Object event = ComponentEvents.begin(ComponentEventType.LAZY_LOAD);
+            if (lazyLoadDetector == null) {
+                lazyLoader.load(propertyName);
+            } else {
+                lazyLoadDetector.beginLazyLoad(origin, componentClass, propertyName);
+                try {
+                    lazyLoader.load(propertyName);
+                } catch (Throwable t) {
+                    lazyLoadDetector.abortLazyLoad();
+                    throw t;
+                }
+                // Strict mode throws only after a successful load, never hides an error of load
+                lazyLoadDetector.endLazyLoad();
+            }
+            ComponentEvents.commit(event, componentClass, propertyName);
+        }
+
+        private void loadAll(boolean detect) throws SQLException {
+            boolean fail = !failPropertyNames.isEmpty();
+            if (fail || (detect && lazyLoadDetector != null)) {
+                // Property by property to count each lazy load and to skip properties not loaded by projection
+                Set<String> propertyNames = componentDescriptor.getPropertyNames();
+                for (String propertyName : propertyNames) {
+                    if (lazyLoader.hasLoader(propertyName) && !failPropertyNames.contains(propertyName)) {
+                        if (detect) {
+                            load(propertyName);
+                        } else {
+                            lazyLoader.load(propertyName);
+                        }
+                    }
+                }
+            }
+            if (!fail) {
+                lazyLoader.loadAll();
+            }
+        }
+
         private boolean isWriteReplaceMethod(Method method) {
             if (!Object.class.equals(method.getReturnType())) {
                 return false;
@@ -6,6 +6,7 @@ import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.component.factory.ComponentFactory;
 import com.talanlabs.component.helper.ComponentHelper;
 import com.talanlabs.entity.annotation.*;
+import com.talanlabs.entity.helper.EntityHelper;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeHandler;
@@ -16,14 +17,25 @@ import org.apache.logging.log4j.Logger;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class ComponentMyBatisHelper {
 
     private static final Logger LOG = LogManager.getLogger(ComponentMyBatisHelper.class);
 
+    private static final Map<Class<?>, List<String>> SELECT_COLUMN_NAMES_MAP = new ConcurrentHashMap<>();
+
+    private static final Map<String, List<String>> PROJECTION_COLUMN_NAMES_MAP = new ConcurrentHashMap<>();
+
     private ComponentMyBatisHelper() {
         super();
     }
@@ -479,4 +491,131 @@ public class ComponentMyBatisHelper {
 
         throw new IllegalArgumentException(String.format("Property %s not accepted, not use Component", propertyName));
     }
+
+    /**
+     * Get column names to select for component, Column not lazy and default value of NlsColumn
+     *
+     * @param componentClass component class
+     * @return column names, in order of properties
+     */
+    public static <E extends IComponent> List<String> getSelectColumnNames(Class<E> componentClass) {
+        return SELECT_COLUMN_NAMES_MAP.computeIfAbsent(componentClass, c -> {
+            ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+            Set<String> columnNames = new LinkedHashSet<>();
+            for (String propertyName : componentDescriptor.getPropertyNames()) {
+                ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+                Column column = getColumnAnnotation(componentDescriptor, propertyDescriptor);
+                if (column != null) {
+                    if (!FetchType.LAZY.equals(column.fetchType())) {
+                        columnNames.add(column.name());
+                    }
+                } else {
+                    NlsColumn nlsColumn = getNlsColumnAnnotation(componentDescriptor, propertyDescriptor);
+                    if (nlsColumn != null) {
+                        columnNames.add(nlsColumn.name());
+                    }
+                }
+            }
+            return Collections.unmodifiableList(new ArrayList<>(columnNames));
+        });
+    }
+
+    /**
+     * Get column names to select for a projection, id, columns used by projected properties and source columns of unprojected NlsColumn, Association and Collection
+     *
+     * @param componentClass component class
+     * @param projection     properties, null or empty for all
+     * @return column names
+     */
+    public static <E extends IComponent> List<String> getSelectColumnNames(Class<E> componentClass, String... projection) {
+        if (projection == null || projection.length == 0) {
+            return getSelectColumnNames(componentClass);
+        }
+        return PROJECTION_COLUMN_NAMES_MAP.computeIfAbsent(componentClassToString(componentClass) + "?" + String.join(",", projection), k -> {
+            ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+            Set<String> columnNames = new LinkedHashSet<>();
+            String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
+            if (idPropertyName != null) {
+                addSourceColumnNames(componentDescriptor, columnNames, new String[] { idPropertyName }, false);
+            }
+            Set<String> projectedPropertyNames = new HashSet<>(Arrays.asList(projection));
+            for (String propertyName : projection) {
+                if (componentDescriptor.getPropertyDescriptor(propertyName) == null) {
+                    throw new IllegalArgumentException("Not exists property for Component=" + componentClass + " with property=" + propertyName);
+                }
+            }
+            // Unprojected NlsColumn, Association and Collection are lazy loaded from their source columns
+            for (String propertyName : componentDescriptor.getPropertyNames()) {
+                ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+                Column column = getColumnAnnotation(componentDescriptor, propertyDescriptor);
+                NlsColumn nlsColumn = getNlsColumnAnnotation(componentDescriptor, propertyDescriptor);
+                if (column != null) {
+                    if (projectedPropertyNames.contains(propertyName) && !FetchType.LAZY.equals(column.fetchType())) {
+                        columnNames.add(column.name());
+                    }
+                } else if (nlsColumn != null) {
+                    columnNames.add(nlsColumn.name());
+                    addSourceColumnNames(componentDescriptor, columnNames, nlsColumn.propertySource(), true);
+                } else if (propertyDescriptor.getMethod().isAnnotationPresent(Association.class)) {
+                    addSourceColumnNames(componentDescriptor, columnNames, propertyDescriptor.getMethod().getAnnotation(Association.class).propertySource(), true);
+                } else if (propertyDescriptor.getMethod().isAnnotationPresent(Collection.class)) {
+                    addSourceColumnNames(componentDescriptor, columnNames, propertyDescriptor.getMethod().getAnnotation(Collection.class).propertySource(), true);
+                }
+            }
+            return Collections.unmodifiableList(new ArrayList<>(columnNames));
+        });
+    }
+
+    private static void addSourceColumnNames(ComponentDescriptor<?> componentDescriptor, Set<String> columnNames, String[] propertyNames, boolean idIfEmpty) {
+        if (propertyNames.length == 0 && idIfEmpty) {
+            String idPropertyName = EntityHelper.findIdPropertyName(componentDescriptor.getComponentClass());
+            if (idPropertyName != null) {
+                addSourceColumnNames(componentDescriptor, columnNames, new String[] { idPropertyName }, false);
+            }
+            return;
+        }
+        for (String propertyName : propertyNames) {
+            ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+            Column column = propertyDescriptor != null ? getColumnAnnotation(componentDescriptor, propertyDescriptor) : null;
+            if (column == null) {
+                throw new IllegalArgumentException("Not present annotation Column for Component=" + componentDescriptor.getComponentClass() + " with property=" + propertyName);
+            }
+            columnNames.add(column.name());
+        }
+    }
+
+    /**
+     * Build select columns for component, ex: t.ID, t.VERSION, t.CODE
+     *
+     * @param componentClass component class
+     * @param tableAlias     table alias, may be blank
+     * @return columns for select, alias.* if component has no column
+     */
+    public static <E extends IComponent> String buildSelectColumns(Class<E> componentClass, String tableAlias) {
+        return buildSelectColumns(componentClass, tableAlias, (String[]) null);
+    }
+
+    /**
+     * Build select columns for component with projection, ex: t.ID, t.CODE
+     *
+     * @param componentClass component class
+     * @param tableAlias     table alias, may be blank
+     * @param projection     properties, null or empty for all
+     * @return columns for select, alias.* if component has no column
+     */
+    public static <E extends IComponent> String buildSelectColumns(Class<E> componentClass, String tableAlias, String... projection) {
+        String prefix = StringUtils.isNotBlank(tableAlias) ? tableAlias + "." : "";
+        List<String> columnNames = getSelectColumnNames(componentClass, projection);
+        if (columnNames.isEmpty()) {
+            return prefix + "*";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String columnName : columnNames) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(prefix).append(columnName);
+        }
+        return sb.toString();
+    }
 }
@@ -0,0 +1,32 @@
+package com.talanlabs.mybatis.component.helper;
+
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+
+import java.lang.reflect.Proxy;
+
+public class StatementHandlerHelper {
+
+    private StatementHandlerHelper() {
+        super();
+    }
+
+    /**
+     * Get mapped statement of a StatementHandler, target of an interceptor
+     *
+     * @param statementHandler RoutingStatementHandler, maybe wrapped by other plugins
+     * @return mapped statement or null if not found
+     */
+    public static MappedStatement getMappedStatement(Object statementHandler) {
+        MetaObject metaObject = SystemMetaObject.forObject(statementHandler);
+        // Other plugins on StatementHandler
+        while (Proxy.isProxyClass(metaObject.getOriginalObject().getClass())) {
+            metaObject = SystemMetaObject.forObject(metaObject.getValue("h.target"));
+        }
+        if (!metaObject.hasGetter("delegate")) {
+            return null;
+        }
+        return (MappedStatement) metaObject.getValue("delegate.mappedStatement");
+    }
+}
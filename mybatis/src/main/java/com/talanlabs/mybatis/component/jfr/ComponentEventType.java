@@ -0,0 +1,10 @@
+package com.talanlabs.mybatis.component.jfr;
+
+/**
+ * Types of Java Flight Recorder events of mapping layer
+ */
+public enum ComponentEventType {
+
+    STATEMENT_CREATION, RESULT_MAP_CREATION, CACHE_CREATION, LAZY_LOAD, CACHE_CLEAR, TRIGGER_DISPATCH, RSQL_COMPILE
+
+}
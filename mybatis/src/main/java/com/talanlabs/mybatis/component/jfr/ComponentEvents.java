@@ -0,0 +1,62 @@
+package com.talanlabs.mybatis.component.jfr;
+
+/**
+ * Emit Java Flight Recorder events of mapping layer.
+ * <p>
+ * Events are recorded only if module component-mybatis-jfr is in classpath and JFR in runtime, its recorder is loaded by reflection so this module is compiled and runs without jdk.jfr.
+ * Without recorder or without recording of event, begin returns null and nothing is done
+ * <pre>
+ * Object event = ComponentEvents.begin(ComponentEventType.LAZY_LOAD);
+ * ...
+ * ComponentEvents.commit(event, componentClass, propertyName);
+ * </pre>
+ */
+public final class ComponentEvents {
+
+    private static final String JFR_RECORDER_CLASS_NAME = "com.talanlabs.mybatis.jfr.JfrComponentEventRecorder";
+
+    private static final IComponentEventRecorder RECORDER = loadRecorder();
+
+    private ComponentEvents() {
+        super();
+    }
+
+    /**
+     * @return true if JFR recorder is loaded
+     */
+    public static boolean isAvailable() {
+        return RECORDER != null;
+    }
+
+    /**
+     * Begin an event
+     *
+     * @param type type of event
+     * @return event, null if not recorded
+     */
+    public static Object begin(ComponentEventType type) {
+        return RECORDER != null ? RECORDER.begin(type) : null;
+    }
+
+    /**
+     * End and commit an event
+     *
+     * @param event          event of begin, nothing if null
+     * @param componentClass component class, maybe null
+     * @param key            statement, cache, property, trigger or rsql
+     */
+    public static void commit(Object event, Class<?> componentClass, String key) {
+        if (event != null) {
+            RECORDER.commit(event, componentClass, key);
+        }
+    }
+
+    private static IComponentEventRecorder loadRecorder() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ComponentEvents.class.getClassLoader());
+            return (IComponentEventRecorder) Class.forName(JFR_RECORDER_CLASS_NAME, true, ComponentEvents.class.getClassLoader()).newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.talanlabs.mybatis.component.jfr;
+
+/**
+ * Recorder of events of mapping layer, implemented with JFR by module component-mybatis-jfr
+ */
+public interface IComponentEventRecorder {
+
+    /**
+     * Begin an event
+     *
+     * @param type type of event
+     * @return event, null if not recorded
+     */
+    Object begin(ComponentEventType type);
+
+    /**
+     * End and commit an event of begin
+     *
+     * @param event          event, never null
+     * @param componentClass component class, maybe null
+     * @param key            statement, cache, property, trigger or rsql
+     */
+    void commit(Object event, Class<?> componentClass, String key);
+
+}
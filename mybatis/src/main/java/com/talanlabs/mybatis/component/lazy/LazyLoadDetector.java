@@ -0,0 +1,267 @@
+package com.talanlabs.mybatis.component.lazy;
+
+import com.talanlabs.component.IComponent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Detect N+1 lazy loads : count nested queries of lazy loads of ComponentProxyFactory by pattern, for each execution of outer statement and for the unit of work of thread.
+ * <p>
+ * A pattern over threshold is logged and counted in detections, in strict mode a LazyLoadThresholdException is thrown. LazyLoadDetectorInterceptor must be added to know statements
+ */
+public class LazyLoadDetector {
+
+    private static final Logger LOG = LogManager.getLogger(LazyLoadDetector.class);
+
+    public static final int DEFAULT_THRESHOLD = 50;
+
+    // Origin of components created outside a known statement, not counted by statement
+    private static final Origin NO_ORIGIN = new Origin(null);
+
+    private final int threshold;
+
+    private final boolean strict;
+
+    private final Map<LazyLoadPattern, LongAdder> lazyLoadCountMap = new ConcurrentHashMap<>();
+
+    private final Map<LazyLoadPattern, LongAdder> detectionCountMap = new ConcurrentHashMap<>();
+
+    // Created only by LazyLoadDetectorInterceptor
+    private final ThreadLocal<Deque<Origin>> originStack = new ThreadLocal<>();
+
+    private final ThreadLocal<LazyLoad> currentLazyLoad = new ThreadLocal<>();
+
+    private final ThreadLocal<Map<LazyLoadPattern, AtomicInteger>> unitOfWork = new ThreadLocal<>();
+
+    public LazyLoadDetector() {
+        this(DEFAULT_THRESHOLD, false);
+    }
+
+    /**
+     * @param threshold max lazy loads of a pattern
+     * @param strict    if true throw LazyLoadThresholdException over threshold (for tests)
+     */
+    public LazyLoadDetector(int threshold, boolean strict) {
+        super();
+
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive, threshold=" + threshold);
+        }
+        this.threshold = threshold;
+        this.strict = strict;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * Start a unit of work for current thread, lazy loads are counted until end
+     */
+    public void beginUnitOfWork() {
+        unitOfWork.set(new HashMap<>());
+    }
+
+    /**
+     * End unit of work of current thread
+     *
+     * @return lazy loads by pattern during unit of work
+     */
+    public Map<LazyLoadPattern, Integer> endUnitOfWork() {
+        Map<LazyLoadPattern, AtomicInteger> countMap = unitOfWork.get();
+        unitOfWork.remove();
+        if (countMap == null) {
+            return Collections.emptyMap();
+        }
+        return countMap.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+    }
+
+    /**
+     * @return all lazy loads by pattern
+     */
+    public Map<LazyLoadPattern, Long> getLazyLoadCounts() {
+        return lazyLoadCountMap.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    /**
+     * @return number of times a pattern has exceeded threshold
+     */
+    public Map<LazyLoadPattern, Long> getDetectionCounts() {
+        return detectionCountMap.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    /**
+     * Clear lazy load and detection counts
+     */
+    public void reset() {
+        lazyLoadCountMap.clear();
+        detectionCountMap.clear();
+    }
+
+    /**
+     * Called by LazyLoadDetectorInterceptor before a statement
+     *
+     * @param statementId statement
+     */
+    public void enterStatement(String statementId) {
+        LazyLoad lazyLoad = currentLazyLoad.get();
+        if (lazyLoad != null && lazyLoad.nestedStatementId == null) {
+            lazyLoad.nestedStatementId = statementId;
+        }
+        Deque<Origin> origins = originStack.get();
+        if (origins == null) {
+            origins = new ArrayDeque<>();
+            originStack.set(origins);
+        }
+        origins.push(new Origin(statementId));
+    }
+
+    /**
+     * Called by LazyLoadDetectorInterceptor after a statement
+     */
+    public void exitStatement() {
+        Deque<Origin> origins = originStack.get();
+        if (origins == null) {
+            return;
+        }
+        origins.pop();
+        if (origins.isEmpty()) {
+            originStack.remove();
+        }
+    }
+
+    /**
+     * @return origin of components created now, given to lazy loads, a shared origin without statement if none
+     */
+    public Origin getCurrentOrigin() {
+        Deque<Origin> origins = originStack.get();
+        Origin origin = origins != null ? origins.peek() : null;
+        return origin != null ? origin : NO_ORIGIN;
+    }
+
+    /**
+     * Called by proxy before a lazy load
+     *
+     * @param origin         origin of component
+     * @param componentClass component class
+     * @param propertyName   property
+     */
+    public void beginLazyLoad(Origin origin, Class<? extends IComponent> componentClass, String propertyName) {
+        currentLazyLoad.set(new LazyLoad(currentLazyLoad.get(), origin, componentClass, propertyName));
+    }
+
+    /**
+     * Called by proxy after a failed lazy load, not counted
+     */
+    public void abortLazyLoad() {
+        popLazyLoad();
+    }
+
+    /**
+     * Called by proxy after a successful lazy load, count and check threshold
+     */
+    public void endLazyLoad() {
+        LazyLoad lazyLoad = popLazyLoad();
+        if (lazyLoad == null) {
+            return;
+        }
+        // Answered by cache, no nested query
+        if (lazyLoad.nestedStatementId == null) {
+            return;
+        }
+
+        LazyLoadPattern pattern = LazyLoadPattern.of(lazyLoad.origin.statementId, lazyLoad.componentClass, lazyLoad.propertyName, lazyLoad.nestedStatementId);
+        lazyLoadCountMap.computeIfAbsent(pattern, k -> new LongAdder()).increment();
+
+        if (lazyLoad.origin.statementId != null) {
+            check(pattern, lazyLoad.origin.countMap.computeIfAbsent(pattern, k -> new AtomicInteger()).incrementAndGet(), "statement");
+        }
+
+        Map<LazyLoadPattern, AtomicInteger> countMap = unitOfWork.get();
+        if (countMap != null) {
+            check(pattern, countMap.computeIfAbsent(pattern, k -> new AtomicInteger()).incrementAndGet(), "unit of work");
+        }
+    }
+
+    private LazyLoad popLazyLoad() {
+        LazyLoad lazyLoad = currentLazyLoad.get();
+        if (lazyLoad == null) {
+            return null;
+        }
+        if (lazyLoad.previous != null) {
+            currentLazyLoad.set(lazyLoad.previous);
+        } else {
+            currentLazyLoad.remove();
+        }
+        return lazyLoad;
+    }
+
+    private void check(LazyLoadPattern pattern, int count, String scope) {
+        // Only once by scope, when threshold is exceeded
+        if (count != threshold + 1) {
+            return;
+        }
+        detectionCountMap.computeIfAbsent(pattern, k -> new LongAdder()).increment();
+        String msg = "N+1 lazy loads in " + scope + " : " + pattern.describe(count) + " (threshold=" + threshold + ")";
+        if (strict) {
+            throw new LazyLoadThresholdException(pattern, count, msg);
+        }
+        LOG.warn(msg);
+    }
+
+    /**
+     * Outer statement execution, components created during statement keep it
+     */
+    public static final class Origin {
+
+        private final String statementId;
+
+        private final Map<LazyLoadPattern, AtomicInteger> countMap = new ConcurrentHashMap<>();
+
+        private Origin(String statementId) {
+            super();
+
+            this.statementId = statementId;
+        }
+
+        public String getStatementId() {
+            return statementId;
+        }
+    }
+
+    private static class LazyLoad {
+
+        final LazyLoad previous;
+
+        final Origin origin;
+
+        final Class<? extends IComponent> componentClass;
+
+        final String propertyName;
+
+        String nestedStatementId;
+
+        LazyLoad(LazyLoad previous, Origin origin, Class<? extends IComponent> componentClass, String propertyName) {
+            super();
+
+            this.previous = previous;
+            this.origin = origin;
+            this.componentClass = componentClass;
+            this.propertyName = propertyName;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.talanlabs.mybatis.component.lazy;
+
+import com.talanlabs.mybatis.component.helper.StatementHandlerHelper;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Give statements in progress to LazyLoadDetector, components created during a statement are linked to it
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }) })
+public class LazyLoadDetectorInterceptor implements Interceptor {
+
+    private final LazyLoadDetector lazyLoadDetector;
+
+    public LazyLoadDetectorInterceptor(LazyLoadDetector lazyLoadDetector) {
+        super();
+
+        this.lazyLoadDetector = lazyLoadDetector;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = StatementHandlerHelper.getMappedStatement(invocation.getTarget());
+        lazyLoadDetector.enterStatement(mappedStatement != null ? mappedStatement.getId() : null);
+        try {
+            return invocation.proceed();
+        } finally {
+            lazyLoadDetector.exitStatement();
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
@@ -0,0 +1,73 @@
+package com.talanlabs.mybatis.component.lazy;
+
+import com.talanlabs.component.IComponent;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Lazy loads of a property, for components read by an outer statement
+ */
+public final class LazyLoadPattern {
+
+    /**
+     * Outer statement which has read the components, null if unknown
+     */
+    public final String statementId;
+
+    public final Class<? extends IComponent> componentClass;
+
+    public final String propertyName;
+
+    /**
+     * Nested statement executed by lazy load
+     */
+    public final String nestedStatementId;
+
+    private LazyLoadPattern(String statementId, Class<? extends IComponent> componentClass, String propertyName, String nestedStatementId) {
+        super();
+
+        this.statementId = statementId;
+        this.componentClass = componentClass;
+        this.propertyName = propertyName;
+        this.nestedStatementId = nestedStatementId;
+    }
+
+    public static LazyLoadPattern of(String statementId, Class<? extends IComponent> componentClass, String propertyName, String nestedStatementId) {
+        return new LazyLoadPattern(statementId, componentClass, propertyName, nestedStatementId);
+    }
+
+    /**
+     * @param count number of lazy loads
+     * @return description ex: 1 rsql + 500 findComponentsBy via ICountry.states
+     */
+    public String describe(int count) {
+        return "1 " + statementId + " + " + count + " " + nestedStatementId + " via " + componentClass.getSimpleName() + "." + propertyName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        LazyLoadPattern that = (LazyLoadPattern) o;
+        return new EqualsBuilder().append(statementId, that.statementId).append(componentClass, that.componentClass).append(propertyName, that.propertyName)
+                .append(nestedStatementId, that.nestedStatementId).isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37).append(statementId).append(componentClass).append(propertyName).append(nestedStatementId).toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("statementId", statementId).append("componentClass", componentClass).append("propertyName", propertyName)
+                .append("nestedStatementId", nestedStatementId).toString();
+    }
+}
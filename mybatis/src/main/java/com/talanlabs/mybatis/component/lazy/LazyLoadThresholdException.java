@@ -0,0 +1,26 @@
+package com.talanlabs.mybatis.component.lazy;
+
+/**
+ * Thrown by LazyLoadDetector in strict mode when lazy loads exceed threshold
+ */
+public class LazyLoadThresholdException extends RuntimeException {
+
+    private final LazyLoadPattern lazyLoadPattern;
+
+    private final int count;
+
+    public LazyLoadThresholdException(LazyLoadPattern lazyLoadPattern, int count, String msg) {
+        super(msg);
+
+        this.lazyLoadPattern = lazyLoadPattern;
+        this.count = count;
+    }
+
+    public LazyLoadPattern getLazyLoadPattern() {
+        return lazyLoadPattern;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,39 @@
+package com.talanlabs.mybatis.component.metrics;
+
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+
+/**
+ * Resolve tags of statements generated by component-mybatis with StatementNameHelper
+ */
+public class ComponentStatementTagResolver implements IStatementTagResolver {
+
+    public ComponentStatementTagResolver() {
+        super();
+    }
+
+    @Override
+    public StatementTag resolve(String statementId) {
+        if (StatementNameHelper.isFindEntityByIdKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInFindEntityByIdKey(statementId), StatementNameHelper.FIND_ENTITY_BY_ID_NAME);
+        } else if (StatementNameHelper.isFindComponentsByKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInFindComponentsByKey(statementId), StatementNameHelper.FIND_COMPONENTS_BY_NAME);
+        } else if (StatementNameHelper.isFindComponentsByJoinTableKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInFindComponentsByJoinTableKey(statementId), StatementNameHelper.FIND_COMPONENTS_BY_JOIN_TABLE_NAME);
+        } else if (StatementNameHelper.isFindNlsColumnKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInFindNlsColumnKey(statementId), StatementNameHelper.FIND_NLS_COLUMN_NAME);
+        } else if (StatementNameHelper.isFindLazyColumnKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInFindLazyColumnKey(statementId), StatementNameHelper.FIND_LAZY_COLUMN_NAME);
+        } else if (StatementNameHelper.isInsertKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInInsertKey(statementId), StatementNameHelper.INSERT_NAME);
+        } else if (StatementNameHelper.isUpdateKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInUpdateKey(statementId), StatementNameHelper.UPDATE_NAME);
+        } else if (StatementNameHelper.isDeleteKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInDeleteKey(statementId), StatementNameHelper.DELETE_NAME);
+        } else if (StatementNameHelper.isDeleteEntityByIdKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInDeleteEntityByIdKey(statementId), StatementNameHelper.DELETE_ENTITY_BY_ID_NAME);
+        } else if (StatementNameHelper.isDeleteComponentsByKey(statementId)) {
+            return StatementTag.of(StatementNameHelper.extractComponentClassInDeleteComponentsByKey(statementId), StatementNameHelper.DELETE_COMPONENTS_BY_NAME);
+        }
+        return null;
+    }
+}
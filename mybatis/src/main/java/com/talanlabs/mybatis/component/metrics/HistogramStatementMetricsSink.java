@@ -0,0 +1,46 @@
+package com.talanlabs.mybatis.component.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default sink, keep StatementMetrics by tag in memory. Use it to export metrics to a monitoring system
+ */
+public class HistogramStatementMetricsSink implements IStatementMetricsSink {
+
+    private final Map<StatementTag, StatementMetrics> statementMetricsMap = new ConcurrentHashMap<>();
+
+    public HistogramStatementMetricsSink() {
+        super();
+    }
+
+    @Override
+    public void record(StatementTag statementTag, long durationNanos, int rowCount, Throwable error) {
+        statementMetricsMap.computeIfAbsent(statementTag, k -> new StatementMetrics()).record(durationNanos, rowCount, error != null);
+    }
+
+    /**
+     * @return all metrics by tag, live view
+     */
+    public Map<StatementTag, StatementMetrics> getStatementMetricsMap() {
+        return Collections.unmodifiableMap(statementMetricsMap);
+    }
+
+    /**
+     * Get metrics of tag
+     *
+     * @param statementTag tag
+     * @return metrics or null if never recorded
+     */
+    public StatementMetrics getStatementMetrics(StatementTag statementTag) {
+        return statementMetricsMap.get(statementTag);
+    }
+
+    /**
+     * Remove all metrics
+     */
+    public void clear() {
+        statementMetricsMap.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package com.talanlabs.mybatis.component.metrics;
+
+public interface IStatementMetricsSink {
+
+    /**
+     * Record an execution of statement, called by StatementMetricsInterceptor in thread of execution
+     *
+     * @param statementTag  tag of statement
+     * @param durationNanos duration of execution and mapping of results
+     * @param rowCount      rows returned for a query, updated rows for an update, 0 if error
+     * @param error         exception or null if success
+     */
+    void record(StatementTag statementTag, long durationNanos, int rowCount, Throwable error);
+
+}
@@ -0,0 +1,13 @@
+package com.talanlabs.mybatis.component.metrics;
+
+public interface IStatementTagResolver {
+
+    /**
+     * Resolve tag of a statement
+     *
+     * @param statementId id of mapped statement
+     * @return tag or null if not a known statement
+     */
+    StatementTag resolve(String statementId);
+
+}
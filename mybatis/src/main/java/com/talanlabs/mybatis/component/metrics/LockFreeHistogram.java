@@ -0,0 +1,139 @@
+package com.talanlabs.mybatis.component.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of positive long values without lock, buckets are log-linear (16 sub-buckets by power of 2, relative error less than 1/16).
+ * <p>
+ * Record is only atomic increments, a percentile reads a non atomic snapshot of buckets
+ */
+public class LockFreeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    public LockFreeHistogram() {
+        super();
+    }
+
+    /**
+     * Record a value, negative value is recorded as 0
+     *
+     * @param value value
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+
+        long currentMax = max.get();
+        while (v > currentMax && !max.compareAndSet(currentMax, v)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * @return number of values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return sum of values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return max value, 0 if empty
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean value, 0 if empty
+     */
+    public double getMean() {
+        long c = count.sum();
+        return c > 0 ? (double) sum.sum() / c : 0.0;
+    }
+
+    /**
+     * Get value at percentile
+     *
+     * @param percentile between 0 and 100
+     * @return middle of bucket of percentile, 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, percentile=" + percentile);
+        }
+
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long current = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            current += snapshot[i];
+            if (current >= rank) {
+                return Math.min(middleOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Reset all values, values recorded during reset can be lost
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long middleOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lower = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+}
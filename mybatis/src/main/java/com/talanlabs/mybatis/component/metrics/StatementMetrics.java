@@ -0,0 +1,79 @@
+package com.talanlabs.mybatis.component.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a statement tag, latency in nanoseconds, rows and errors
+ */
+public class StatementMetrics {
+
+    private final LockFreeHistogram latencyHistogram = new LockFreeHistogram();
+
+    private final LongAdder rowCount = new LongAdder();
+
+    private final LongAdder errorCount = new LongAdder();
+
+    public StatementMetrics() {
+        super();
+    }
+
+    /**
+     * Record an execution
+     *
+     * @param durationNanos duration
+     * @param rows          rows
+     * @param error         true if failed
+     */
+    public void record(long durationNanos, int rows, boolean error) {
+        latencyHistogram.record(durationNanos);
+        rowCount.add(rows);
+        if (error) {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * @return histogram of latencies in nanoseconds
+     */
+    public LockFreeHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    /**
+     * @return number of executions
+     */
+    public long getCount() {
+        return latencyHistogram.getCount();
+    }
+
+    /**
+     * @return number of rows for all executions
+     */
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+
+    /**
+     * @return number of failed executions
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * @return failed executions by executions, 0 if no execution
+     */
+    public double getErrorRate() {
+        long count = getCount();
+        return count > 0 ? (double) getErrorCount() / count : 0.0;
+    }
+
+    /**
+     * Reset all metrics
+     */
+    public void reset() {
+        latencyHistogram.reset();
+        rowCount.reset();
+        errorCount.reset();
+    }
+}
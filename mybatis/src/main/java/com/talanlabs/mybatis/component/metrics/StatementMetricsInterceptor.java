@@ -0,0 +1,119 @@
+package com.talanlabs.mybatis.component.metrics;
+
+import com.talanlabs.mybatis.component.helper.StatementHandlerHelper;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Record latency, rows and errors of component statements in a IStatementMetricsSink.
+ * <p>
+ * Intercept StatementHandler, so nested queries (associations, nls columns) are measured, hits of cache are not. Other statements are ignored
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }),
+        @Signature(type = StatementHandler.class, method = "update", args = { Statement.class }) })
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private static final StatementTag NO_TAG = StatementTag.of(null, null);
+
+    private final IStatementMetricsSink statementMetricsSink;
+
+    private final List<IStatementTagResolver> statementTagResolvers;
+
+    private final Map<String, StatementTag> statementTagMap = new ConcurrentHashMap<>();
+
+    public StatementMetricsInterceptor() {
+        this(new HistogramStatementMetricsSink());
+    }
+
+    public StatementMetricsInterceptor(IStatementMetricsSink statementMetricsSink) {
+        this(statementMetricsSink, new ComponentStatementTagResolver());
+    }
+
+    /**
+     * @param statementMetricsSink  sink of metrics
+     * @param statementTagResolvers resolvers, first tag found is used
+     */
+    public StatementMetricsInterceptor(IStatementMetricsSink statementMetricsSink, IStatementTagResolver... statementTagResolvers) {
+        super();
+
+        this.statementMetricsSink = statementMetricsSink;
+        this.statementTagResolvers = Collections.unmodifiableList(Arrays.asList(statementTagResolvers));
+    }
+
+    /**
+     * @return sink of metrics
+     */
+    public IStatementMetricsSink getStatementMetricsSink() {
+        return statementMetricsSink;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        StatementTag statementTag = getStatementTag(invocation.getTarget());
+        if (statementTag == null) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object res;
+        try {
+            res = invocation.proceed();
+        } catch (Throwable t) {
+            statementMetricsSink.record(statementTag, System.nanoTime() - start, 0, t);
+            throw t;
+        }
+        long duration = System.nanoTime() - start;
+
+        int rowCount = 0;
+        if (res instanceof List) {
+            rowCount = ((List<?>) res).size();
+        } else if (res instanceof Integer) {
+            rowCount = (Integer) res;
+        }
+        statementMetricsSink.record(statementTag, duration, rowCount, null);
+        return res;
+    }
+
+    private StatementTag getStatementTag(Object target) {
+        MappedStatement mappedStatement = StatementHandlerHelper.getMappedStatement(target);
+        if (mappedStatement == null) {
+            return null;
+        }
+        StatementTag statementTag = statementTagMap.computeIfAbsent(mappedStatement.getId(), this::resolveStatementTag);
+        return statementTag != NO_TAG ? statementTag : null;
+    }
+
+    private StatementTag resolveStatementTag(String statementId) {
+        for (IStatementTagResolver statementTagResolver : statementTagResolvers) {
+            StatementTag statementTag = statementTagResolver.resolve(statementId);
+            if (statementTag != null) {
+                return statementTag;
+            }
+        }
+        return NO_TAG;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
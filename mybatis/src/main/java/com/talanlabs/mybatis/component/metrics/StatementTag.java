@@ -0,0 +1,51 @@
+package com.talanlabs.mybatis.component.metrics;
+
+import com.talanlabs.component.IComponent;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Tag of a component statement, component class and operation (name of statement, findEntityById, insert, rsql...)
+ */
+public final class StatementTag {
+
+    public final Class<? extends IComponent> componentClass;
+
+    public final String operation;
+
+    private StatementTag(Class<? extends IComponent> componentClass, String operation) {
+        super();
+
+        this.componentClass = componentClass;
+        this.operation = operation;
+    }
+
+    public static StatementTag of(Class<? extends IComponent> componentClass, String operation) {
+        return new StatementTag(componentClass, operation);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        StatementTag statementTag = (StatementTag) o;
+        return new EqualsBuilder().append(componentClass, statementTag.componentClass).append(operation, statementTag.operation).isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37).append(componentClass).append(operation).toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).append("componentClass", componentClass).append("operation", operation).toString();
+    }
+}
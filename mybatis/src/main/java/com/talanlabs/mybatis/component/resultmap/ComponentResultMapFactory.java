@@ -3,9 +3,13 @@ package com.talanlabs.mybatis.component.resultmap;
 import com.talanlabs.component.IComponent;
 import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.FetchType;
+import com.talanlabs.entity.helper.EntityHelper;
 import com.talanlabs.mybatis.component.resultmap.factory.AssociationResultMappingFactory;
 import com.talanlabs.mybatis.component.resultmap.factory.CollectionResultMappingFactory;
 import com.talanlabs.mybatis.component.resultmap.factory.ColumnResultMappingFactory;
+import com.talanlabs.mybatis.component.resultmap.factory.ComponentResultMapHelper;
 import com.talanlabs.mybatis.component.resultmap.factory.IResultMappingFactory;
 import com.talanlabs.mybatis.component.resultmap.factory.NlsColumnResultMappingFactory;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
@@ -16,6 +20,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -53,18 +59,20 @@ public class ComponentResultMapFactory extends AbstractResultMapFactory {
         if (ResultMapNameHelper.isResultMapKey(key)) {
             Class<? extends IComponent> componentClass = ResultMapNameHelper.extractComponentClassInResultMapKey(key);
             if (componentClass != null) {
-                return createComponentResultMap(componentConfiguration, componentClass, key);
+                return createComponentResultMap(componentConfiguration, componentClass, key, ResultMapNameHelper.extractProjectionInResultMapKey(key));
             }
         }
         return null;
     }
 
-    private ResultMap createComponentResultMap(ComponentConfiguration componentConfiguration, Class<? extends IComponent> componentClass, String key) {
+    private ResultMap createComponentResultMap(ComponentConfiguration componentConfiguration, Class<? extends IComponent> componentClass, String key, String[] projection) {
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Create ResultMap for " + componentClass);
+            LOG.debug("Create ResultMap for " + componentClass + (projection != null ? " with projection " + String.join(",", projection) : ""));
         }
 
-        List<ResultMapping> resultMappings = createResultMappings(componentConfiguration, componentClass);
+        List<ResultMapping> resultMappings = projection != null ?
+                createProjectionResultMappings(componentConfiguration, componentClass, projection) :
+                createResultMappings(componentConfiguration, componentClass);
         ResultMap.Builder inlineResultMapBuilder = new ResultMap.Builder(componentConfiguration, key, componentClass, resultMappings, null);
         return inlineResultMapBuilder.build();
     }
@@ -91,6 +99,63 @@ public class ComponentResultMapFactory extends AbstractResultMapFactory {
         return resultMappings;
     }
 
+    /*
+     * Projected properties use the factories, other properties are lazy or fail on access
+     */
+    private List<ResultMapping> createProjectionResultMappings(ComponentConfiguration componentConfiguration, Class<? extends IComponent> componentClass, String[] projection) {
+        ComponentDescriptor<?> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+
+        Set<String> projectedPropertyNames = new HashSet<>(Arrays.asList(projection));
+        String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
+        if (idPropertyName != null) {
+            projectedPropertyNames.add(idPropertyName);
+        }
+        for (String propertyName : projectedPropertyNames) {
+            if (componentDescriptor.getPropertyDescriptor(propertyName) == null) {
+                throw new IllegalArgumentException("Not exists property for Component=" + componentClass + " with property=" + propertyName);
+            }
+        }
+
+        boolean fail = UnprojectedPropertyPolicy.FAIL.equals(componentConfiguration.getUnprojectedPropertyPolicy());
+
+        List<ResultMapping> resultMappings = new ArrayList<>();
+        for (String propertyName : componentDescriptor.getPropertyNames()) {
+            ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+
+            ResultMapping resultMapping;
+            Column column = propertyDescriptor.getMethod().getAnnotation(Column.class);
+            if (projectedPropertyNames.contains(propertyName) || (column != null && FetchType.LAZY.equals(column.fetchType()))) {
+                resultMapping = buildResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor);
+            } else if (column != null) {
+                Class<?> javaType = column.javaType() != void.class ? column.javaType() : propertyDescriptor.getPropertyClass();
+                resultMapping = ComponentResultMapHelper.buildLazyColumnResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor, javaType, fail);
+            } else if (fail) {
+                resultMapping = isMapped(componentDescriptor, propertyDescriptor) ?
+                        ComponentResultMapHelper.buildLazyColumnResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor, propertyDescriptor.getPropertyClass(), true) :
+                        null;
+            } else {
+                // NlsColumn, Association or Collection, source columns are selected, load on first access
+                resultMapping = buildResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor);
+                if (resultMapping != null) {
+                    resultMapping = ComponentResultMapHelper.toLazyResultMapping(componentConfiguration, resultMapping);
+                }
+            }
+            if (resultMapping != null) {
+                resultMappings.add(resultMapping);
+            }
+        }
+        return resultMappings;
+    }
+
+    private boolean isMapped(ComponentDescriptor<?> componentDescriptor, ComponentDescriptor.PropertyDescriptor propertyDescriptor) {
+        for (IResultMappingFactory resultMappingFactory : resultMappingFactories) {
+            if (resultMappingFactory.acceptProperty(componentDescriptor, propertyDescriptor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private ResultMapping buildResultMapping(ComponentConfiguration componentConfiguration, ComponentDescriptor<?> componentDescriptor, ComponentDescriptor.PropertyDescriptor propertyDescriptor) {
         for (IResultMappingFactory resultMappingFactory : resultMappingFactories) {
             if (resultMappingFactory.acceptProperty(componentDescriptor, propertyDescriptor)) {
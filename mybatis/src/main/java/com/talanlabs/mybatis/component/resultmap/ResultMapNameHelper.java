@@ -2,6 +2,7 @@ package com.talanlabs.mybatis.component.resultmap;
 
 import com.talanlabs.component.IComponent;
 import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.regex.Matcher;
@@ -13,7 +14,8 @@ public class ResultMapNameHelper {
 
     private static final String COMPONENT_CLASS_PAT = "([a-zA-Z_$][a-zA-Z\\d_$]*\\.)*[a-zA-Z_$][a-zA-Z\\d_$]*";
 
-    private static final Pattern RESULT_MAP_PATTERN = Pattern.compile("(" + COMPONENT_CLASS_PAT + ")/" + RESULT_MAP_NAME);
+    private static final Pattern RESULT_MAP_PATTERN = Pattern.compile(
+            "(" + COMPONENT_CLASS_PAT + ")/" + RESULT_MAP_NAME + "(\\?" + StatementNameHelper.PROJECTION + "=(" + StatementNameHelper.PROPERTIES_PAT + "))?");
 
     private ResultMapNameHelper() {
         super();
@@ -28,10 +30,21 @@ public class ResultMapNameHelper {
      * @return key
      */
     public static <E extends IComponent> String buildResultMapKey(Class<E> componentClass) {
+        return buildResultMapKey(componentClass, (String[]) null);
+    }
+
+    /**
+     * Build key for result map with projection
+     *
+     * @param componentClass component class
+     * @param projection     properties to select, null or empty for all
+     * @return key
+     */
+    public static <E extends IComponent> String buildResultMapKey(Class<E> componentClass, String... projection) {
         if (componentClass == null) {
             return null;
         }
-        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + RESULT_MAP_NAME;
+        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + RESULT_MAP_NAME + StatementNameHelper.buildProjection("?", projection);
     }
 
     /**
@@ -64,4 +77,21 @@ public class ResultMapNameHelper {
         }
         return ComponentMyBatisHelper.loadComponentClass(m.group(1));
     }
+
+    /**
+     * Extract projection in the key
+     *
+     * @param key key
+     * @return properties or null if not projection
+     */
+    public static String[] extractProjectionInResultMapKey(String key) {
+        if (!isResultMapKey(key)) {
+            return null;
+        }
+        Matcher m = RESULT_MAP_PATTERN.matcher(key);
+        if (!m.find() || m.group(4) == null) {
+            return null;
+        }
+        return m.group(4).split(StatementNameHelper.PROPERTIES_SEPARATOR);
+    }
 }
@@ -0,0 +1,103 @@
+package com.talanlabs.mybatis.component.resultmap;
+
+import com.talanlabs.mybatis.component.helper.StatementHandlerHelper;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Give statements in progress to ComponentProxyFactory, properties not loaded by projection of result map fail on access without query.
+ * <p>
+ * Added by ComponentConfiguration#setUnprojectedPropertyPolicy with FAIL. Components read from a Cursor are created after the statement, their properties fail when the loader is called
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }) })
+public class UnprojectedPropertyInterceptor implements Interceptor {
+
+    private final ThreadLocal<Deque<MappedStatement>> statementStack = new ThreadLocal<>();
+
+    private final Map<ResultMap, Set<String>> failPropertyNamesMap = new ConcurrentHashMap<>();
+
+    public UnprojectedPropertyInterceptor() {
+        super();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = StatementHandlerHelper.getMappedStatement(invocation.getTarget());
+        if (mappedStatement == null) {
+            return invocation.proceed();
+        }
+        Deque<MappedStatement> mappedStatements = statementStack.get();
+        if (mappedStatements == null) {
+            mappedStatements = new ArrayDeque<>();
+            statementStack.set(mappedStatements);
+        }
+        mappedStatements.push(mappedStatement);
+        try {
+            return invocation.proceed();
+        } finally {
+            mappedStatements.pop();
+            if (mappedStatements.isEmpty()) {
+                statementStack.remove();
+            }
+        }
+    }
+
+    /**
+     * Properties not loaded by projection for a component created now
+     *
+     * @param componentClass component class
+     * @return properties of result map of statement in progress, empty if none
+     */
+    public Set<String> getCurrentFailPropertyNames(Class<?> componentClass) {
+        Deque<MappedStatement> mappedStatements = statementStack.get();
+        MappedStatement mappedStatement = mappedStatements != null ? mappedStatements.peek() : null;
+        if (mappedStatement == null) {
+            return Collections.emptySet();
+        }
+        for (ResultMap resultMap : mappedStatement.getResultMaps()) {
+            if (componentClass.equals(resultMap.getType())) {
+                return failPropertyNamesMap.computeIfAbsent(resultMap, this::computeFailPropertyNames);
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    private Set<String> computeFailPropertyNames(ResultMap resultMap) {
+        Set<String> res = new HashSet<>();
+        for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
+            if (resultMapping.getNestedQueryId() != null && StatementNameHelper.isFailInFindLazyColumnKey(resultMapping.getNestedQueryId())) {
+                res.add(resultMapping.getProperty());
+            }
+        }
+        return res.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(res);
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
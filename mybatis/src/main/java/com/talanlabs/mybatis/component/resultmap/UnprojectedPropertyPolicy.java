@@ -0,0 +1,16 @@
+package com.talanlabs.mybatis.component.resultmap;
+
+/**
+ * Behavior of a property not selected by a projection, Column is loaded by id, NlsColumn, Association and Collection by their source columns
+ */
+public enum UnprojectedPropertyPolicy {
+
+    /**
+     * Load by id on first access
+     */
+    LAZY,
+    /**
+     * Throw IllegalStateException on access without query, a set replaces it, toString and serialization keep it unloaded
+     */
+    FAIL
+}
@@ -2,8 +2,10 @@ package com.talanlabs.mybatis.component.resultmap.factory;
 
 import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.FetchType;
 import com.talanlabs.entity.annotation.Id;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.simple.handler.IdLongTypeHandler;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.mapping.ResultFlag;
 import org.apache.ibatis.mapping.ResultMapping;
@@ -30,6 +32,10 @@ public class ColumnResultMappingFactory extends AbstractResultMappingFactory<Col
 
         Class<?> javaType = column.javaType() != void.class ? column.javaType() : propertyDescriptor.getPropertyClass();
 
+        if (FetchType.LAZY.equals(column.fetchType())) {
+            return ComponentResultMapHelper.buildLazyColumnResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor, javaType, false);
+        }
+
         ResultMapping.Builder resultMappingBuilder = new ResultMapping.Builder(componentConfiguration, propertyDescriptor.getPropertyName(), columnName, javaType);
         if (propertyDescriptor.getMethod().isAnnotationPresent(Id.class)) {
             resultMappingBuilder.flags(Collections.singletonList(ResultFlag.ID));
@@ -39,6 +45,9 @@ public class ColumnResultMappingFactory extends AbstractResultMappingFactory<Col
         }
         if (!UnknownTypeHandler.class.equals(column.typeHandler())) {
             resultMappingBuilder.typeHandler(componentConfiguration.getTypeHandler(column.typeHandler()));
+        } else if (ComponentResultMapHelper.isSequenceId(componentDescriptor, propertyDescriptor, javaType)) {
+            // Numeric id from sequence, same IdLong as generated for id and foreign keys
+            resultMappingBuilder.typeHandler(componentConfiguration.getTypeHandler(IdLongTypeHandler.class));
         }
         return resultMappingBuilder.build();
     }
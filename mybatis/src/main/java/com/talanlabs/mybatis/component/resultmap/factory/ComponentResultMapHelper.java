@@ -1,10 +1,17 @@
 package com.talanlabs.mybatis.component.resultmap.factory;
 
+import com.talanlabs.component.IComponent;
 import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.annotation.Association;
 import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Id;
 import com.talanlabs.entity.annotation.JoinTable;
 import com.talanlabs.entity.annotation.OrderBy;
+import com.talanlabs.entity.annotation.Sequence;
+import com.talanlabs.entity.factory.IdFactory;
 import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import com.talanlabs.mybatis.component.statement.StatementNameHelper;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -12,6 +19,7 @@ import org.apache.ibatis.mapping.ResultMapping;
 import org.apache.ibatis.session.Configuration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ComponentResultMapHelper {
@@ -96,6 +104,38 @@ public class ComponentResultMapHelper {
         return composites;
     }
 
+    /**
+     * Id of a Sequence entity is read as IdLong wherever it appears : id of entity, source of an association to its id or java type IdLong
+     *
+     * @param componentDescriptor component
+     * @param propertyDescriptor  property with annotation Column
+     * @param javaType            java type of column
+     * @return true if column is read with IdLongTypeHandler
+     */
+    public static boolean isSequenceId(ComponentDescriptor<?> componentDescriptor, ComponentDescriptor.PropertyDescriptor propertyDescriptor, Class<?> javaType) {
+        if (IdFactory.IdLong.class.isAssignableFrom(javaType)) {
+            return true;
+        }
+        if (propertyDescriptor.getMethod().isAnnotationPresent(Id.class)) {
+            return componentDescriptor.getComponentClass().isAnnotationPresent(Sequence.class);
+        }
+        for (ComponentDescriptor.PropertyDescriptor pd : componentDescriptor.getPropertyDescriptors()) {
+            Association association = pd.getMethod().getAnnotation(Association.class);
+            if (association != null && association.joinTable().length == 0) {
+                int index = Arrays.asList(association.propertySource()).indexOf(propertyDescriptor.getPropertyName());
+                Class<?> targetClass = association.javaType() != void.class ? association.javaType() : pd.getPropertyClass();
+                if (index >= 0 && targetClass.isAnnotationPresent(Sequence.class) && ComponentFactory.getInstance().isComponentType(targetClass)) {
+                    String[] propertyTarget = association.propertyTarget();
+                    if (propertyTarget.length == 0 || propertyTarget.length > index && propertyTarget[index]
+                            .equals(EntityHelper.findIdPropertyName((Class<? extends IComponent>) targetClass))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Check target properties
      *
@@ -202,4 +242,55 @@ public class ComponentResultMapHelper {
         }
         return res;
     }
+
+    /**
+     * Build a lazy mapping for a column, loaded by id on first access
+     *
+     * @param componentConfiguration configuration
+     * @param componentDescriptor    component descriptor
+     * @param propertyDescriptor     property descriptor
+     * @param javaType               java type of property
+     * @param fail                   first access throws an exception instead of loading
+     * @return result mapping
+     */
+    public static ResultMapping buildLazyColumnResultMapping(ComponentConfiguration componentConfiguration, ComponentDescriptor<?> componentDescriptor,
+            ComponentDescriptor.PropertyDescriptor propertyDescriptor, Class<?> javaType, boolean fail) {
+        if (propertyDescriptor.getMethod().isAnnotationPresent(Id.class)) {
+            throw new IllegalArgumentException("Id column is not lazy for Component=" + componentDescriptor.getComponentClass() + " with property=" + propertyDescriptor.getPropertyName());
+        }
+        String idPropertyName = EntityHelper.findIdPropertyName(componentDescriptor.getComponentClass());
+        if (idPropertyName == null) {
+            throw new IllegalArgumentException("Not find Id property for lazy Component=" + componentDescriptor.getComponentClass() + " with property=" + propertyDescriptor.getPropertyName());
+        }
+        ComponentDescriptor.PropertyDescriptor idPropertyDescriptor = componentDescriptor.getPropertyDescriptor(idPropertyName);
+        checkColumn(componentDescriptor, idPropertyDescriptor);
+
+        ResultMapping.Builder resultMappingBuilder = new ResultMapping.Builder(componentConfiguration, propertyDescriptor.getPropertyName(),
+                idPropertyDescriptor.getMethod().getAnnotation(Column.class).name(), javaType);
+        resultMappingBuilder.lazy(true);
+        resultMappingBuilder.nestedQueryId(StatementNameHelper.buildFindLazyColumnKey(componentDescriptor.getComponentClass(), propertyDescriptor.getPropertyName(), fail));
+        return resultMappingBuilder.build();
+    }
+
+    /**
+     * Copy a result mapping with a nested query as lazy, other result mappings are returned as is
+     *
+     * @param configuration configuration
+     * @param resultMapping result mapping
+     * @return lazy result mapping
+     */
+    public static ResultMapping toLazyResultMapping(Configuration configuration, ResultMapping resultMapping) {
+        if (resultMapping.getNestedQueryId() == null || resultMapping.isLazy()) {
+            return resultMapping;
+        }
+        ResultMapping.Builder resultMappingBuilder = new ResultMapping.Builder(configuration, resultMapping.getProperty(), resultMapping.getColumn(), resultMapping.getJavaType());
+        resultMappingBuilder.jdbcType(resultMapping.getJdbcType());
+        resultMappingBuilder.typeHandler(resultMapping.getTypeHandler());
+        resultMappingBuilder.flags(resultMapping.getFlags());
+        resultMappingBuilder.composites(resultMapping.getComposites());
+        resultMappingBuilder.notNullColumns(resultMapping.getNotNullColumns());
+        resultMappingBuilder.nestedQueryId(resultMapping.getNestedQueryId());
+        resultMappingBuilder.lazy(true);
+        return resultMappingBuilder.build();
+    }
 }
@@ -5,6 +5,7 @@ import com.talanlabs.entity.annotation.FetchType;
 import com.talanlabs.entity.annotation.Id;
 import com.talanlabs.entity.annotation.NlsColumn;
 import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.resultmap.nls.NlsColumnBatchInterceptor;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import com.talanlabs.mybatis.component.statement.StatementNameHelper;
 import org.apache.commons.lang3.StringUtils;
@@ -37,7 +38,8 @@ public class NlsColumnResultMappingFactory extends AbstractResultMappingFactory<
 
         Class<?> javaType = nlsColumn.javaType() != void.class ? nlsColumn.javaType() : propertyDescriptor.getPropertyClass();
 
-        if (componentConfiguration.getNlsColumnHandler() == null) {
+        // Batched nls columns are read with default value, NlsColumnBatchInterceptor sets translations after all rows
+        if (componentConfiguration.getNlsColumnHandler() == null || NlsColumnBatchInterceptor.isBatchNlsColumn(componentConfiguration, componentDescriptor, propertyDescriptor)) {
             return buildDefaultColumnResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor, nlsColumn, javaType, columnName);
         } else {
             return buildNlsColumnResultMapping(componentConfiguration, componentDescriptor, propertyDescriptor, nlsColumn, javaType, columnName);
@@ -0,0 +1,159 @@
+package com.talanlabs.mybatis.component.resultmap.fastpath;
+
+import com.talanlabs.mybatis.component.factory.ComponentObjectFactory;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Map rows of component result maps without MetaObject and ObjectFactory when the result map has only simple columns.
+ * Lazy, nested, discriminated mappings, result handlers and multiple result sets use the standard DefaultResultSetHandler.
+ * The fallback is decided before the statement is read, so the default handler always starts on an untouched statement.
+ * Statement of DefaultResultSetHandler is read in its private fields, checked at construction
+ */
+@Intercepts({ @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = { Statement.class }) })
+public class ComponentResultSetHandlerInterceptor implements Interceptor {
+
+    private static final Logger LOG = LogManager.getLogger(ComponentResultSetHandlerInterceptor.class);
+
+    private final Map<ResultMap, Optional<ComponentRowMapper<?>>> rowMapperMap = new ConcurrentHashMap<>();
+
+    private final Field mappedStatementField;
+
+    private final Field resultHandlerField;
+
+    private final Field rowBoundsField;
+
+    private final LongAdder fastPathCount = new LongAdder();
+
+    /**
+     * @throws IllegalStateException if DefaultResultSetHandler of this MyBatis version has not the expected fields
+     */
+    public ComponentResultSetHandlerInterceptor() {
+        super();
+
+        this.mappedStatementField = getField("mappedStatement", MappedStatement.class);
+        this.resultHandlerField = getField("resultHandler", ResultHandler.class);
+        this.rowBoundsField = getField("rowBounds", RowBounds.class);
+    }
+
+    private static Field getField(String name, Class<?> type) {
+        try {
+            Field field = DefaultResultSetHandler.class.getDeclaredField(name);
+            if (!type.isAssignableFrom(field.getType())) {
+                throw new IllegalStateException("Field " + name + " of DefaultResultSetHandler is not a " + type.getName() + ", fast path is not compatible with this MyBatis version");
+            }
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("DefaultResultSetHandler has no field " + name + ", fast path is not compatible with this MyBatis version", e);
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof DefaultResultSetHandler) {
+            Object resultSetHandler = invocation.getTarget();
+            MappedStatement mappedStatement = (MappedStatement) mappedStatementField.get(resultSetHandler);
+            if (resultHandlerField.get(resultSetHandler) == null && mappedStatement.getResultSets() == null && mappedStatement.getResultMaps().size() == 1 && mappedStatement.getConfiguration()
+                    .getObjectFactory() instanceof ComponentObjectFactory) {
+                ComponentRowMapper<?> rowMapper = getRowMapper(mappedStatement, mappedStatement.getResultMaps().get(0));
+                if (rowMapper != null) {
+                    List<Object> res = handleResultSets((Statement) invocation.getArgs()[0], rowMapper, (RowBounds) rowBoundsField.get(resultSetHandler));
+                    if (res != null) {
+                        fastPathCount.increment();
+                        return res;
+                    }
+                }
+            }
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * @return number of result sets mapped by the fast path
+     */
+    public long getFastPathCount() {
+        return fastPathCount.sum();
+    }
+
+    private ComponentRowMapper<?> getRowMapper(MappedStatement mappedStatement, ResultMap resultMap) {
+        return rowMapperMap.computeIfAbsent(resultMap, rm -> {
+            ComponentRowMapper<?> rowMapper = ComponentRowMapper.of(mappedStatement.getConfiguration(), rm);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Row mapper for ResultMap " + rm.getId() + (rowMapper != null ? " uses fast path" : " uses default handler"));
+            }
+            return Optional.ofNullable(rowMapper);
+        }).orElse(null);
+    }
+
+    private List<Object> handleResultSets(Statement statement, ComponentRowMapper<?> rowMapper, RowBounds rowBounds) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (resultSet == null) {
+            // Update counts before the result set (procedure), default handler moves the statement itself
+            return null;
+        }
+        // Metadata only, the result set is not moved
+        int[] columnIndexes = rowMapper.resolveColumnIndexes(resultSet);
+        if (columnIndexes == null) {
+            // Columns are auto-mapped, default handler reads the same result set
+            return null;
+        }
+        try {
+            List<Object> res = new ArrayList<>();
+            skipRows(resultSet, rowBounds);
+            while (res.size() < rowBounds.getLimit() && !resultSet.isClosed() && resultSet.next()) {
+                res.add(rowMapper.mapRow(resultSet, columnIndexes));
+            }
+            return res;
+        } finally {
+            resultSet.close();
+        }
+    }
+
+    private void skipRows(ResultSet resultSet, RowBounds rowBounds) throws SQLException {
+        if (resultSet.getType() != ResultSet.TYPE_FORWARD_ONLY) {
+            if (rowBounds.getOffset() != RowBounds.NO_ROW_OFFSET) {
+                resultSet.absolute(rowBounds.getOffset());
+            }
+        } else {
+            for (int i = 0; i < rowBounds.getOffset(); i++) {
+                if (!resultSet.next()) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
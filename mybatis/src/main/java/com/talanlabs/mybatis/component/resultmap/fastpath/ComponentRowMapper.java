@@ -0,0 +1,152 @@
+package com.talanlabs.mybatis.component.resultmap.fastpath;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.session.AutoMappingBehavior;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Row mapper for component result map with only simple columns, values are read with type handler and set with straightSetProperty.
+ * Same rules as DefaultResultSetHandler : null values are not set, and an empty row gives null
+ */
+public class ComponentRowMapper<E extends IComponent> {
+
+    private final Class<E> componentClass;
+    private final String[] propertyNames;
+    private final String[] columnNames;
+    private final TypeHandler<?>[] typeHandlers;
+    private final boolean[] primitives;
+    private final Set<String> autoMappingPropertyNames;
+    private final boolean callSettersOnNulls;
+    private final boolean returnInstanceForEmptyRow;
+    private final boolean useColumnLabel;
+
+    private ComponentRowMapper(Configuration configuration, ResultMap resultMap, Class<E> componentClass) {
+        super();
+
+        this.componentClass = componentClass;
+
+        List<ResultMapping> resultMappings = resultMap.getPropertyResultMappings();
+        this.propertyNames = new String[resultMappings.size()];
+        this.columnNames = new String[resultMappings.size()];
+        this.typeHandlers = new TypeHandler<?>[resultMappings.size()];
+        this.primitives = new boolean[resultMappings.size()];
+        ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+        int i = 0;
+        for (ResultMapping resultMapping : resultMappings) {
+            propertyNames[i] = resultMapping.getProperty();
+            columnNames[i] = resultMapping.getColumn().toUpperCase(Locale.ENGLISH);
+            typeHandlers[i] = resultMapping.getTypeHandler();
+            ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(resultMapping.getProperty());
+            primitives[i] = propertyDescriptor != null && propertyDescriptor.getPropertyClass().isPrimitive();
+            i++;
+        }
+
+        this.autoMappingPropertyNames = new HashSet<>();
+        if (isAutoMapping(configuration, resultMap)) {
+            for (String propertyName : componentDescriptor.getPropertyNames()) {
+                autoMappingPropertyNames.add(propertyName.toUpperCase(Locale.ENGLISH));
+            }
+        }
+        this.callSettersOnNulls = configuration.isCallSettersOnNulls();
+        this.returnInstanceForEmptyRow = configuration.isReturnInstanceForEmptyRow();
+        this.useColumnLabel = configuration.isUseColumnLabel();
+    }
+
+    /**
+     * Create a row mapper if result map contains only simple columns
+     *
+     * @param configuration configuration
+     * @param resultMap     result map
+     * @return row mapper or null if not supported
+     */
+    @SuppressWarnings("unchecked")
+    public static ComponentRowMapper<?> of(Configuration configuration, ResultMap resultMap) {
+        if (!ComponentFactory.getInstance().isComponentType(resultMap.getType())) {
+            return null;
+        }
+        if (resultMap.hasNestedQueries() || resultMap.hasNestedResultMaps() || resultMap.getDiscriminator() != null || !resultMap.getConstructorResultMappings().isEmpty()) {
+            return null;
+        }
+        for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
+            if (resultMapping.getColumn() == null || resultMapping.isCompositeResult() || resultMapping.getTypeHandler() == null || resultMapping.getProperty() == null || resultMapping.getProperty()
+                    .contains(".")) {
+                return null;
+            }
+        }
+        return new ComponentRowMapper<>(configuration, resultMap, (Class<IComponent>) resultMap.getType());
+    }
+
+    private static boolean isAutoMapping(Configuration configuration, ResultMap resultMap) {
+        if (resultMap.getAutoMapping() != null) {
+            return resultMap.getAutoMapping();
+        }
+        return configuration.getAutoMappingBehavior() != AutoMappingBehavior.NONE;
+    }
+
+    /**
+     * Resolve column indexes once per result set
+     *
+     * @param resultSet result set
+     * @return indexes by mapping, 0 if column is absent, or null if a column would be auto-mapped
+     */
+    public int[] resolveColumnIndexes(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        Map<String, Integer> indexMap = new HashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String columnName = (useColumnLabel ? metaData.getColumnLabel(i) : metaData.getColumnName(i)).toUpperCase(Locale.ENGLISH);
+            indexMap.putIfAbsent(columnName, i);
+        }
+        int[] columnIndexes = new int[columnNames.length];
+        Set<String> unmappedColumnNames = new HashSet<>(indexMap.keySet());
+        for (int i = 0; i < columnNames.length; i++) {
+            Integer index = indexMap.get(columnNames[i]);
+            columnIndexes[i] = index != null ? index : 0;
+            unmappedColumnNames.remove(columnNames[i]);
+        }
+        for (String unmappedColumnName : unmappedColumnNames) {
+            if (autoMappingPropertyNames.contains(unmappedColumnName) || autoMappingPropertyNames.contains(unmappedColumnName.replace("_", ""))) {
+                return null;
+            }
+        }
+        return columnIndexes;
+    }
+
+    /**
+     * Map current row
+     *
+     * @param resultSet     result set
+     * @param columnIndexes indexes given by resolveColumnIndexes
+     * @return component or null if all values are null
+     */
+    public E mapRow(ResultSet resultSet, int[] columnIndexes) throws SQLException {
+        E component = ComponentFactory.getInstance().createInstance(componentClass);
+        boolean foundValues = false;
+        for (int i = 0; i < columnIndexes.length; i++) {
+            if (columnIndexes[i] > 0) {
+                Object value = typeHandlers[i].getResult(resultSet, columnIndexes[i]);
+                if (value != null) {
+                    foundValues = true;
+                    component.straightSetProperty(propertyNames[i], value);
+                } else if (callSettersOnNulls && !primitives[i]) {
+                    component.straightSetProperty(propertyNames[i], null);
+                }
+            }
+        }
+        return foundValues || returnInstanceForEmptyRow ? component : null;
+    }
+}
@@ -0,0 +1,451 @@
+package com.talanlabs.mybatis.component.resultmap.nls;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.annotation.FetchType;
+import com.talanlabs.entity.annotation.NlsColumn;
+import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionary;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionaryInterceptor;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
+import com.talanlabs.mybatis.component.session.handler.NlsBatchMode;
+import com.talanlabs.mybatis.component.session.handler.NlsColumnValue;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.exceptions.ExceptionFactory;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Resolve eager nls columns after mapping of result set, one select per row (ROW) or one select for all rows (PAGE).
+ * Batched nls properties are mapped with default value of table, see {@link #isBatchNlsColumn(ComponentConfiguration, ComponentDescriptor, ComponentDescriptor.PropertyDescriptor)}
+ * <p>
+ * Added by ComponentConfiguration#setNlsBatchMode if absent. Add after ComponentResultSetHandlerInterceptor, the last interceptor is called first.
+ * Results given to a ResultHandler or read from a Cursor are resolved one select per row. A statement with several result maps or a nested result map with batched nls columns is rejected.
+ * Translations in NlsColumnDictionary of configuration are not selected, unless the transaction has written nls columns.
+ * Statement and executor of DefaultResultSetHandler are read in its private fields, checked at construction
+ */
+@Intercepts({ @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = { Statement.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class, RowBounds.class }) })
+public class NlsColumnBatchInterceptor implements Interceptor {
+
+    private static final Logger LOG = LogManager.getLogger(NlsColumnBatchInterceptor.class);
+
+    private static final int MAX_IDS = 1000;
+
+    private final Map<ResultMap, Optional<NlsBatch>> nlsBatchMap = new ConcurrentHashMap<>();
+
+    private final Map<ResultMap, Boolean> nestedNlsBatchMap = new ConcurrentHashMap<>();
+
+    private final Field mappedStatementField;
+
+    private final Field executorField;
+
+    /**
+     * @throws IllegalStateException if DefaultResultSetHandler of this MyBatis version has not the expected fields
+     */
+    public NlsColumnBatchInterceptor() {
+        super();
+
+        this.mappedStatementField = getField("mappedStatement", MappedStatement.class);
+        this.executorField = getField("executor", Executor.class);
+    }
+
+    private static Field getField(String name, Class<?> type) {
+        try {
+            Field field = DefaultResultSetHandler.class.getDeclaredField(name);
+            if (!type.isAssignableFrom(field.getType())) {
+                throw new IllegalStateException("Field " + name + " of DefaultResultSetHandler is not a " + type.getName() + ", nls batch is not compatible with this MyBatis version");
+            }
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("DefaultResultSetHandler has no field " + name + ", nls batch is not compatible with this MyBatis version", e);
+        }
+    }
+
+    /**
+     * Nls column is loaded by batch : handler gives a select for component, eager fetch, no custom select and one source property
+     *
+     * @param componentConfiguration configuration
+     * @param componentDescriptor    component descriptor
+     * @param propertyDescriptor     property descriptor with NlsColumn
+     * @return true if batched
+     */
+    public static boolean isBatchNlsColumn(ComponentConfiguration componentConfiguration, ComponentDescriptor<?> componentDescriptor, ComponentDescriptor.PropertyDescriptor propertyDescriptor) {
+        INlsColumnHandler nlsColumnHandler = componentConfiguration.getNlsColumnHandler();
+        if (nlsColumnHandler == null || componentConfiguration.getNlsBatchMode() == null || NlsBatchMode.NONE.equals(componentConfiguration.getNlsBatchMode())) {
+            return false;
+        }
+        NlsColumn nlsColumn = ComponentMyBatisHelper.getNlsColumnAnnotation(componentDescriptor, propertyDescriptor);
+        return nlsColumn != null && StringUtils.isBlank(nlsColumn.select()) && !FetchType.LAZY.equals(nlsColumn.fetchType()) && nlsColumn.propertySource().length <= 1
+                && nlsColumnHandler.getSelectNlsColumnsId(componentDescriptor.getComponentClass()) != null;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof Executor) {
+            return interceptExecutor(invocation);
+        }
+        return interceptResultSetHandler(invocation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptResultSetHandler(Invocation invocation) throws Throwable {
+        if (!(invocation.getTarget() instanceof DefaultResultSetHandler)) {
+            return invocation.proceed();
+        }
+        MappedStatement mappedStatement = (MappedStatement) mappedStatementField.get(invocation.getTarget());
+        if (!(mappedStatement.getConfiguration() instanceof ComponentConfiguration)) {
+            return invocation.proceed();
+        }
+        ComponentConfiguration componentConfiguration = (ComponentConfiguration) mappedStatement.getConfiguration();
+        NlsBatch nlsBatch = getStatementNlsBatch(componentConfiguration, mappedStatement);
+
+        Object res = invocation.proceed();
+        if (nlsBatch != null && res instanceof List && !((List<?>) res).isEmpty()) {
+            resolve(componentConfiguration, (Executor) executorField.get(invocation.getTarget()), nlsBatch, (List<Object>) res);
+        }
+        return res;
+    }
+
+    /*
+     * Result handler and cursor are given rows one by one, each row is resolved before
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptExecutor(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        boolean cursor = "queryCursor".equals(invocation.getMethod().getName());
+        if (!(mappedStatement.getConfiguration() instanceof ComponentConfiguration) || !cursor && args[3] == Executor.NO_RESULT_HANDLER) {
+            return invocation.proceed();
+        }
+        ComponentConfiguration componentConfiguration = (ComponentConfiguration) mappedStatement.getConfiguration();
+        NlsBatch nlsBatch = getStatementNlsBatch(componentConfiguration, mappedStatement);
+        if (nlsBatch == null) {
+            return invocation.proceed();
+        }
+
+        Executor executor = (Executor) invocation.getTarget();
+        if (cursor) {
+            return new NlsCursor((Cursor<Object>) invocation.proceed(), row -> resolveRow(componentConfiguration, executor, nlsBatch, row));
+        }
+        ResultHandler<Object> resultHandler = (ResultHandler<Object>) args[3];
+        args[3] = (ResultHandler<Object>) resultContext -> {
+            resolveRow(componentConfiguration, executor, nlsBatch, resultContext.getResultObject());
+            resultHandler.handleResult(resultContext);
+        };
+        return invocation.proceed();
+    }
+
+    private void resolveRow(ComponentConfiguration componentConfiguration, Executor executor, NlsBatch nlsBatch, Object row) {
+        if (row instanceof IComponent) {
+            try {
+                resolve(componentConfiguration, executor, nlsBatch, Collections.singletonList(row));
+            } catch (Exception e) {
+                throw ExceptionFactory.wrapException("Error resolving nls columns of " + nlsBatch.componentClass, e);
+            }
+        }
+    }
+
+    /*
+     * Batch of the single result map of statement, null if none. Statements whose results can not be patched are rejected
+     */
+    private NlsBatch getStatementNlsBatch(ComponentConfiguration componentConfiguration, MappedStatement mappedStatement) {
+        List<ResultMap> resultMaps = mappedStatement.getResultMaps();
+        if (resultMaps.size() == 1 && mappedStatement.getResultSets() == null) {
+            ResultMap resultMap = resultMaps.get(0);
+            if (hasNestedNlsBatch(componentConfiguration, resultMap)) {
+                throw new ExecutorException("Statement " + mappedStatement.getId() + " has a nested result map with batched nls columns, use a nested select or NlsBatchMode.NONE");
+            }
+            return getNlsBatch(componentConfiguration, resultMap);
+        }
+        for (ResultMap resultMap : resultMaps) {
+            if (getNlsBatch(componentConfiguration, resultMap) != null || hasNestedNlsBatch(componentConfiguration, resultMap)) {
+                throw new ExecutorException("Statement " + mappedStatement.getId() + " has several result maps with batched nls columns, use NlsBatchMode.NONE");
+            }
+        }
+        return null;
+    }
+
+    private boolean hasNestedNlsBatch(ComponentConfiguration componentConfiguration, ResultMap resultMap) {
+        Boolean res = nestedNlsBatchMap.get(resultMap);
+        if (res == null) {
+            res = computeNestedNlsBatch(componentConfiguration, resultMap, new HashSet<>());
+            nestedNlsBatchMap.put(resultMap, res);
+        }
+        return res;
+    }
+
+    /*
+     * Nested result maps are mapped row by row, the results can not be patched
+     */
+    private boolean computeNestedNlsBatch(ComponentConfiguration componentConfiguration, ResultMap resultMap, Set<String> dejaVues) {
+        if (!dejaVues.add(resultMap.getId())) {
+            return false;
+        }
+        if (resultMap.getDiscriminator() != null) {
+            for (String nestedResultMapId : resultMap.getDiscriminator().getDiscriminatorMap().values()) {
+                ResultMap nestedResultMap = componentConfiguration.getResultMap(nestedResultMapId);
+                if (getNlsBatch(componentConfiguration, nestedResultMap) != null || computeNestedNlsBatch(componentConfiguration, nestedResultMap, dejaVues)) {
+                    return true;
+                }
+            }
+        }
+        for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+            if (resultMapping.getNestedResultMapId() != null) {
+                ResultMap nestedResultMap = componentConfiguration.getResultMap(resultMapping.getNestedResultMapId());
+                if (getNlsBatch(componentConfiguration, nestedResultMap) != null || computeNestedNlsBatch(componentConfiguration, nestedResultMap, dejaVues)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private NlsBatch getNlsBatch(ComponentConfiguration componentConfiguration, ResultMap resultMap) {
+        return nlsBatchMap.computeIfAbsent(resultMap, rm -> Optional.ofNullable(createNlsBatch(componentConfiguration, rm))).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private NlsBatch createNlsBatch(ComponentConfiguration componentConfiguration, ResultMap resultMap) {
+        if (!ComponentFactory.getInstance().isComponentType(resultMap.getType())) {
+            return null;
+        }
+        Class<? extends IComponent> componentClass = (Class<? extends IComponent>) resultMap.getType();
+        ComponentDescriptor<?> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+
+        Map<String, String> columnNameMap = new LinkedHashMap<>();
+        Map<String, String> sourcePropertyNameMap = new HashMap<>();
+        for (String propertyName : resultMap.getMappedProperties()) {
+            ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+            if (propertyDescriptor != null && isBatchNlsColumn(componentConfiguration, componentDescriptor, propertyDescriptor)) {
+                NlsColumn nlsColumn = ComponentMyBatisHelper.getNlsColumnAnnotation(componentDescriptor, propertyDescriptor);
+                columnNameMap.put(nlsColumn.name(), propertyName);
+                sourcePropertyNameMap.put(propertyName, nlsColumn.propertySource().length == 1 ? nlsColumn.propertySource()[0] : EntityHelper.findIdPropertyName(componentClass));
+            }
+        }
+        if (columnNameMap.isEmpty()) {
+            return null;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Nls columns " + columnNameMap.keySet() + " are batched for ResultMap " + resultMap.getId());
+        }
+        return new NlsBatch(componentClass, ComponentMyBatisHelper.getEntityAnnotation(componentDescriptor).name(), columnNameMap, sourcePropertyNameMap);
+    }
+
+    private void resolve(ComponentConfiguration componentConfiguration, Executor executor, NlsBatch nlsBatch, List<Object> components) throws Exception {
+        INlsColumnHandler nlsColumnHandler = componentConfiguration.getNlsColumnHandler();
+        MappedStatement mappedStatement = componentConfiguration.getMappedStatement(nlsColumnHandler.getSelectNlsColumnsId(nlsBatch.componentClass));
+
+        // Additional parameters are scoped by column, columns with same parameters are selected together
+        Map<Map<String, Object>, Map<String, String>> columnGroupMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : nlsBatch.columnNameMap.entrySet()) {
+            Map<String, Object> aps = nlsColumnHandler.getAdditionalParameter(nlsBatch.componentClass, entry.getValue());
+            columnGroupMap.computeIfAbsent(aps != null ? aps : Collections.emptyMap(), k -> new LinkedHashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+
+        NlsColumnDictionary nlsColumnDictionary = componentConfiguration.getNlsColumnDictionary();
+        if (nlsColumnDictionary != null && nlsColumnDictionary.isWritten(NlsColumnDictionaryInterceptor.getTransactionKey(nlsColumnDictionary, executor))) {
+            // Transaction has written nls columns, not committed
+            nlsColumnDictionary = null;
+        }
+        Object context = nlsColumnHandler.getContext();
+
+        for (Map.Entry<Map<String, Object>, Map<String, String>> columnGroup : columnGroupMap.entrySet()) {
+            Map<String, Object> parameter = new HashMap<>(columnGroup.getKey());
+            parameter.put("tableName", nlsBatch.tableName);
+            parameter.put("columnNames", new ArrayList<>(columnGroup.getValue().keySet()));
+
+            if (NlsBatchMode.ROW.equals(componentConfiguration.getNlsBatchMode())) {
+                for (Object component : components) {
+                    resolve(executor, mappedStatement, parameter, nlsBatch, columnGroup.getValue(), nlsColumnDictionary, context, Collections.singletonList((IComponent) component));
+                }
+            } else {
+                for (int i = 0; i < components.size(); i += MAX_IDS) {
+                    List<IComponent> page = new ArrayList<>();
+                    components.subList(i, Math.min(i + MAX_IDS, components.size())).forEach(c -> page.add((IComponent) c));
+                    resolve(executor, mappedStatement, parameter, nlsBatch, columnGroup.getValue(), nlsColumnDictionary, context, page);
+                }
+            }
+        }
+    }
+
+    private void resolve(Executor executor, MappedStatement mappedStatement, Map<String, Object> parameter, NlsBatch nlsBatch, Map<String, String> columnNameMap,
+            NlsColumnDictionary nlsColumnDictionary, Object context, List<IComponent> components) throws Exception {
+        // Translations in dictionary are set, ids of others sources are selected
+        Map<String, Object> idMap = new LinkedHashMap<>();
+        for (IComponent component : components) {
+            for (Map.Entry<String, String> entry : columnNameMap.entrySet()) {
+                Object id = component.straightGetProperty(nlsBatch.sourcePropertyNameMap.get(entry.getValue()));
+                if (id != null) {
+                    Object meaning = nlsColumnDictionary != null ? nlsColumnDictionary.get(nlsBatch.tableName, entry.getKey(), id, context) : null;
+                    if (meaning == null) {
+                        idMap.putIfAbsent(Objects.toString(id), id);
+                    } else if (meaning != NlsColumnDictionary.NO_TRANSLATION) {
+                        component.straightSetProperty(entry.getValue(), meaning);
+                    }
+                }
+            }
+        }
+        if (idMap.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> param = new HashMap<>(parameter);
+        param.put("ids", new ArrayList<>(idMap.values()));
+        // Translations are not put if table is invalidated during select
+        long generation = nlsColumnDictionary != null ? nlsColumnDictionary.getGeneration(nlsBatch.tableName) : 0L;
+        List<NlsColumnValue> nlsColumnValues = executor.query(mappedStatement, param, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+
+        Map<String, Object> meaningMap = new HashMap<>();
+        if (nlsColumnValues != null) {
+            for (NlsColumnValue nlsColumnValue : nlsColumnValues) {
+                meaningMap.put(nlsColumnValue.getColumnName() + "/" + Objects.toString(nlsColumnValue.getId()), nlsColumnValue.getMeaning());
+            }
+        }
+        if (nlsColumnDictionary != null) {
+            // Select gives all translations of ids, others are NO_TRANSLATION
+            for (String columnName : columnNameMap.keySet()) {
+                for (Map.Entry<String, Object> entry : idMap.entrySet()) {
+                    nlsColumnDictionary.put(nlsBatch.tableName, columnName, entry.getValue(), context, meaningMap.get(columnName + "/" + entry.getKey()), generation);
+                }
+            }
+        }
+        for (IComponent component : components) {
+            for (Map.Entry<String, String> entry : columnNameMap.entrySet()) {
+                Object id = component.straightGetProperty(nlsBatch.sourcePropertyNameMap.get(entry.getValue()));
+                String key = entry.getKey() + "/" + Objects.toString(id);
+                if (id != null && meaningMap.containsKey(key)) {
+                    component.straightSetProperty(entry.getValue(), meaningMap.get(key));
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+
+    /*
+     * Cursor resolving each row when it is read
+     */
+    private static class NlsCursor implements Cursor<Object> {
+
+        private final Cursor<Object> cursor;
+
+        private final Consumer<Object> rowResolver;
+
+        NlsCursor(Cursor<Object> cursor, Consumer<Object> rowResolver) {
+            super();
+
+            this.cursor = cursor;
+            this.rowResolver = rowResolver;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return cursor.isOpen();
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return cursor.isConsumed();
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return cursor.getCurrentIndex();
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            Iterator<Object> iterator = cursor.iterator();
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    Object row = iterator.next();
+                    rowResolver.accept(row);
+                    return row;
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            cursor.close();
+        }
+    }
+
+    private static class NlsBatch {
+
+        final Class<? extends IComponent> componentClass;
+
+        final String tableName;
+
+        // Column name -> property name
+        final Map<String, String> columnNameMap;
+
+        // Property name -> source property name
+        final Map<String, String> sourcePropertyNameMap;
+
+        NlsBatch(Class<? extends IComponent> componentClass, String tableName, Map<String, String> columnNameMap, Map<String, String> sourcePropertyNameMap) {
+            super();
+
+            this.componentClass = componentClass;
+            this.tableName = tableName;
+            this.columnNameMap = columnNameMap;
+            this.sourcePropertyNameMap = sourcePropertyNameMap;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.talanlabs.mybatis.component.routing;
+
+/**
+ * Data source of a statement
+ */
+public enum DataSourceRoute {
+
+    PRIMARY, REPLICA
+
+}
@@ -0,0 +1,164 @@
+package com.talanlabs.mybatis.component.routing;
+
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Policy of read/write split. Reads with a replica operation go to replica, except in a write transaction, in a primary scope or while pinned.
+ * After commit of writes the pin key reads from primary during pin duration, replica lag must be below it.
+ * <p>
+ * Default pin key is the thread, it is only right when a user stays on one thread : in a pooled server the next request of the user runs on another thread and reads
+ * a replica without its writes. Give a pin key of user or http session there
+ */
+public class ReadWriteRouting {
+
+    public static final long DEFAULT_PIN_MILLIS = 2000L;
+
+    /**
+     * Operations of StatementTag read on replica, rsql and countRsql are tagged by RsqlStatementTagResolver
+     */
+    public static final Set<String> DEFAULT_REPLICA_OPERATIONS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(StatementNameHelper.FIND_ENTITY_BY_ID_NAME, StatementNameHelper.FIND_COMPONENTS_BY_NAME, StatementNameHelper.FIND_NLS_COLUMN_NAME, "rsql", "countRsql")));
+
+    private static final int CLEAN_PINS_SIZE = 1024;
+
+    private final ThreadLocal<int[]> primaryDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Map<Object, Long> pins = new ConcurrentHashMap<>();
+
+    private final long pinMillis;
+
+    private final Supplier<Object> pinKeySupplier;
+
+    private volatile Set<String> replicaOperations = DEFAULT_REPLICA_OPERATIONS;
+
+    /**
+     * Pin key is the thread, single thread use only, see {@link #ReadWriteRouting(long, Supplier)}
+     */
+    public ReadWriteRouting() {
+        this(DEFAULT_PIN_MILLIS);
+    }
+
+    /**
+     * Pin key is the thread, single thread use only, see {@link #ReadWriteRouting(long, Supplier)}
+     *
+     * @param pinMillis duration of reads from primary after a commit of writes, 0 for none
+     */
+    public ReadWriteRouting(long pinMillis) {
+        this(pinMillis, () -> Thread.currentThread().getId());
+    }
+
+    /**
+     * @param pinMillis      duration of reads from primary after a commit of writes, 0 for none
+     * @param pinKeySupplier key of pin, ex : user of request
+     */
+    public ReadWriteRouting(long pinMillis, Supplier<Object> pinKeySupplier) {
+        super();
+
+        if (pinMillis < 0) {
+            throw new IllegalArgumentException("Pin duration must be positive");
+        }
+        if (pinKeySupplier == null) {
+            throw new IllegalArgumentException("Pin key supplier must not be null");
+        }
+        this.pinMillis = pinMillis;
+        this.pinKeySupplier = pinKeySupplier;
+    }
+
+    /**
+     * @return operations read on replica
+     */
+    public Set<String> getReplicaOperations() {
+        return replicaOperations;
+    }
+
+    /**
+     * @param replicaOperations operations read on replica, default DEFAULT_REPLICA_OPERATIONS
+     */
+    public void setReplicaOperations(Set<String> replicaOperations) {
+        this.replicaOperations = Collections.unmodifiableSet(new HashSet<>(replicaOperations));
+    }
+
+    /**
+     * @param operation operation of statement or null
+     * @return true if operation may be read on replica
+     */
+    public boolean isReplicaOperation(String operation) {
+        return operation != null && replicaOperations.contains(operation);
+    }
+
+    /**
+     * Begin a scope where all statements of thread go to primary, ex : read before write
+     */
+    public void beginPrimary() {
+        primaryDepth.get()[0]++;
+    }
+
+    /**
+     * End a primary scope
+     */
+    public void endPrimary() {
+        int[] depth = primaryDepth.get();
+        if (depth[0] <= 0) {
+            throw new IllegalStateException("No primary scope in progress");
+        }
+        depth[0]--;
+        if (depth[0] == 0) {
+            primaryDepth.remove();
+        }
+    }
+
+    /**
+     * @return true in a primary scope
+     */
+    public boolean isInPrimary() {
+        return primaryDepth.get()[0] > 0;
+    }
+
+    /**
+     * Reads of current pin key go to primary during pin duration, called at commit of writes
+     */
+    public void pin() {
+        if (pinMillis == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (pins.size() >= CLEAN_PINS_SIZE) {
+            pins.values().removeIf(until -> until <= now);
+        }
+        pins.put(pinKeySupplier.get(), now + pinMillis);
+    }
+
+    /**
+     * Remove pin of current pin key
+     */
+    public void unpin() {
+        pins.remove(pinKeySupplier.get());
+    }
+
+    /**
+     * @return true if current pin key reads from primary
+     */
+    public boolean isPinned() {
+        if (pins.isEmpty()) {
+            return false;
+        }
+        Object key = pinKeySupplier.get();
+        Long until = pins.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            pins.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+}
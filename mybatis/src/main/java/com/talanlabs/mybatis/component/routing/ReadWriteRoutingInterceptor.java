@@ -0,0 +1,175 @@
+package com.talanlabs.mybatis.component.routing;
+
+import com.talanlabs.mybatis.component.metrics.ComponentStatementTagResolver;
+import com.talanlabs.mybatis.component.metrics.IStatementTagResolver;
+import com.talanlabs.mybatis.component.metrics.StatementTag;
+import com.talanlabs.mybatis.component.session.writebehind.UnitOfWork;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.transaction.Transaction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Route statements of a RoutingTransaction. Writes go to primary and make the transaction a write transaction,
+ * reads of a replica operation go to replica if the transaction has no write, no write is queued in unit of work, not in primary scope and not pinned.
+ * <p>
+ * Reads on replica use the second level cache but do not fill it, a lagging replica would be seen by all sessions until next write. Only primary reads are cached
+ */
+@Intercepts({ @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class, RowBounds.class }) })
+public class ReadWriteRoutingInterceptor implements Interceptor {
+
+    private static final String NO_OPERATION = "";
+
+    private final ReadWriteRouting readWriteRouting;
+
+    private final List<IStatementTagResolver> statementTagResolvers;
+
+    private final Map<String, String> operationMap = new ConcurrentHashMap<>();
+
+    private final Map<MappedStatement, MappedStatement> noCacheStatementMap = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingInterceptor(ReadWriteRouting readWriteRouting) {
+        this(readWriteRouting, new ComponentStatementTagResolver());
+    }
+
+    /**
+     * @param readWriteRouting      policy of routing
+     * @param statementTagResolvers resolvers of operation, first tag found is used
+     */
+    public ReadWriteRoutingInterceptor(ReadWriteRouting readWriteRouting, IStatementTagResolver... statementTagResolvers) {
+        super();
+
+        this.readWriteRouting = readWriteRouting;
+        this.statementTagResolvers = Collections.unmodifiableList(Arrays.asList(statementTagResolvers));
+    }
+
+    /**
+     * @return policy of routing
+     */
+    public ReadWriteRouting getReadWriteRouting() {
+        return readWriteRouting;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Transaction transaction = ((Executor) invocation.getTarget()).getTransaction();
+        if (!(transaction instanceof RoutingTransaction)) {
+            return invocation.proceed();
+        }
+
+        RoutingTransaction routingTransaction = (RoutingTransaction) transaction;
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        DataSourceRoute route;
+        if ("update".equals(invocation.getMethod().getName())) {
+            routingTransaction.markWritten();
+            route = DataSourceRoute.PRIMARY;
+        } else {
+            route = isReadOnReplica(routingTransaction, mappedStatement) ? DataSourceRoute.REPLICA : DataSourceRoute.PRIMARY;
+        }
+
+        if (route == DataSourceRoute.REPLICA && "query".equals(invocation.getMethod().getName()) && mappedStatement.getCache() != null && mappedStatement.isUseCache()) {
+            Object cached = getCached(invocation, mappedStatement);
+            if (cached != null) {
+                return cached;
+            }
+            invocation.getArgs()[0] = noCacheStatementMap.computeIfAbsent(mappedStatement, this::buildNoCacheStatement);
+        }
+
+        DataSourceRoute previous = routingTransaction.route(route);
+        try {
+            return invocation.proceed();
+        } finally {
+            routingTransaction.route(previous);
+        }
+    }
+
+    private boolean isReadOnReplica(RoutingTransaction routingTransaction, MappedStatement mappedStatement) {
+        if (routingTransaction.isWritten() || readWriteRouting.isInPrimary() || !readWriteRouting.isReplicaOperation(operationMap.computeIfAbsent(mappedStatement.getId(), this::resolveOperation))) {
+            return false;
+        }
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        return (unitOfWork == null || unitOfWork.isEmpty()) && !readWriteRouting.isPinned();
+    }
+
+    /*
+     * Entry of second level cache, the transaction has no write so its TransactionalCache has nothing to clear
+     */
+    private Object getCached(Invocation invocation, MappedStatement mappedStatement) {
+        Object[] args = invocation.getArgs();
+        if (args[3] != null) {
+            return null;
+        }
+        CacheKey cacheKey;
+        if (args.length == 6) {
+            cacheKey = (CacheKey) args[4];
+        } else {
+            BoundSql boundSql = mappedStatement.getBoundSql(args[1]);
+            cacheKey = ((Executor) invocation.getTarget()).createCacheKey(mappedStatement, args[1], (RowBounds) args[2], boundSql);
+        }
+        return mappedStatement.getCache().getObject(cacheKey);
+    }
+
+    /*
+     * Same statement without use of cache, CachingExecutor neither reads nor fills the cache
+     */
+    private MappedStatement buildNoCacheStatement(MappedStatement mappedStatement) {
+        MappedStatement.Builder msBuilder = new MappedStatement.Builder(mappedStatement.getConfiguration(), mappedStatement.getId(), mappedStatement.getSqlSource(),
+                mappedStatement.getSqlCommandType());
+        msBuilder.resource(mappedStatement.getResource());
+        msBuilder.parameterMap(mappedStatement.getParameterMap());
+        msBuilder.resultMaps(mappedStatement.getResultMaps());
+        msBuilder.resultSetType(mappedStatement.getResultSetType());
+        msBuilder.fetchSize(mappedStatement.getFetchSize());
+        msBuilder.timeout(mappedStatement.getTimeout());
+        msBuilder.statementType(mappedStatement.getStatementType());
+        msBuilder.cache(mappedStatement.getCache());
+        msBuilder.flushCacheRequired(mappedStatement.isFlushCacheRequired());
+        msBuilder.useCache(false);
+        msBuilder.resultOrdered(mappedStatement.isResultOrdered());
+        msBuilder.keyGenerator(mappedStatement.getKeyGenerator());
+        msBuilder.databaseId(mappedStatement.getDatabaseId());
+        msBuilder.lang(mappedStatement.getLang());
+        if (mappedStatement.getResultSets() != null) {
+            msBuilder.resultSets(String.join(",", mappedStatement.getResultSets()));
+        }
+        return msBuilder.build();
+    }
+
+    private String resolveOperation(String statementId) {
+        for (IStatementTagResolver statementTagResolver : statementTagResolvers) {
+            StatementTag statementTag = statementTagResolver.resolve(statementId);
+            if (statementTag != null && statementTag.operation != null) {
+                return statementTag.operation;
+            }
+        }
+        return NO_OPERATION;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
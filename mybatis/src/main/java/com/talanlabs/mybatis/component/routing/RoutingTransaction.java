@@ -0,0 +1,143 @@
+package com.talanlabs.mybatis.component.routing;
+
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Transaction on a primary and a replica connection, each opened on first use. ReadWriteRoutingInterceptor routes statements,
+ * a connection asked outside a routed statement is the primary one. Writes made directly on it must call markWritten.
+ * <p>
+ * ExecutorType.REUSE is rejected by ComponentConfiguration, ReuseExecutor keeps statements by sql and not by connection
+ */
+public class RoutingTransaction implements Transaction {
+
+    private final ReadWriteRouting readWriteRouting;
+
+    private final JdbcTransaction primaryTransaction;
+
+    private final JdbcTransaction replicaTransaction;
+
+    private final boolean autoCommit;
+
+    private DataSourceRoute route;
+
+    private boolean written;
+
+    private boolean replicaOpened;
+
+    private long replicaReadCount;
+
+    public RoutingTransaction(ReadWriteRouting readWriteRouting, DataSource primaryDataSource, DataSource replicaDataSource, TransactionIsolationLevel level, boolean autoCommit) {
+        super();
+
+        this.readWriteRouting = readWriteRouting;
+        this.primaryTransaction = new JdbcTransaction(primaryDataSource, level, autoCommit);
+        this.replicaTransaction = new JdbcTransaction(replicaDataSource, level, autoCommit);
+        this.autoCommit = autoCommit;
+    }
+
+    /**
+     * @param route route of next connections, null outside a statement
+     * @return previous route
+     */
+    public DataSourceRoute route(DataSourceRoute route) {
+        DataSourceRoute res = this.route;
+        this.route = route;
+        return res;
+    }
+
+    /**
+     * A write was made on primary, reads of transaction go to primary
+     */
+    public void markWritten() {
+        written = true;
+        if (autoCommit) {
+            readWriteRouting.pin();
+        }
+    }
+
+    /**
+     * @return true if a write was made on primary in transaction
+     */
+    public boolean isWritten() {
+        return written;
+    }
+
+    /**
+     * @return number of connections given on replica route, a query which changed it has read replica
+     */
+    public long getReplicaReadCount() {
+        return replicaReadCount;
+    }
+
+    /**
+     * @return connection of primary, whatever the route
+     * @throws SQLException failed to open connection
+     */
+    public Connection getPrimaryConnection() throws SQLException {
+        return primaryTransaction.getConnection();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (route == DataSourceRoute.REPLICA) {
+            Connection connection = replicaTransaction.getConnection();
+            if (!replicaOpened) {
+                connection.setReadOnly(true);
+                replicaOpened = true;
+            }
+            replicaReadCount++;
+            return connection;
+        }
+        return primaryTransaction.getConnection();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        try {
+            primaryTransaction.commit();
+            if (written) {
+                readWriteRouting.pin();
+            }
+        } finally {
+            written = false;
+            replicaTransaction.commit();
+        }
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        written = false;
+        try {
+            primaryTransaction.rollback();
+        } finally {
+            replicaTransaction.rollback();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            primaryTransaction.close();
+        } finally {
+            try {
+                if (replicaOpened) {
+                    replicaOpened = false;
+                    replicaTransaction.getConnection().setReadOnly(false);
+                }
+            } finally {
+                replicaTransaction.close();
+            }
+        }
+    }
+
+    @Override
+    public Integer getTimeout() throws SQLException {
+        return primaryTransaction.getTimeout();
+    }
+}
@@ -0,0 +1,58 @@
+package com.talanlabs.mybatis.component.routing;
+
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Properties;
+
+/**
+ * Factory of RoutingTransaction, data source of environment is ignored and should be the primary one
+ */
+public class RoutingTransactionFactory implements TransactionFactory {
+
+    private final DataSource primaryDataSource;
+
+    private final DataSource replicaDataSource;
+
+    private final ReadWriteRouting readWriteRouting;
+
+    public RoutingTransactionFactory(DataSource primaryDataSource, DataSource replicaDataSource, ReadWriteRouting readWriteRouting) {
+        super();
+
+        if (primaryDataSource == null || replicaDataSource == null) {
+            throw new IllegalArgumentException("Primary and replica data sources must not be null");
+        }
+        if (readWriteRouting == null) {
+            throw new IllegalArgumentException("ReadWriteRouting must not be null");
+        }
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.readWriteRouting = readWriteRouting;
+    }
+
+    /**
+     * @return policy of routing
+     */
+    public ReadWriteRouting getReadWriteRouting() {
+        return readWriteRouting;
+    }
+
+    @Override
+    public void setProperties(Properties props) {
+        // Nothing
+    }
+
+    @Override
+    public Transaction newTransaction(Connection conn) {
+        return new JdbcTransaction(conn);
+    }
+
+    @Override
+    public Transaction newTransaction(DataSource dataSource, TransactionIsolationLevel level, boolean autoCommit) {
+        return new RoutingTransaction(readWriteRouting, primaryDataSource, replicaDataSource, level, autoCommit);
+    }
+}
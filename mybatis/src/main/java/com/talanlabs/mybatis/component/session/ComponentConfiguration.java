@@ -1,5 +1,18 @@
 package com.talanlabs.mybatis.component.session;
 
+import com.talanlabs.mybatis.component.cache.CacheNameHelper;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionary;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionaryInterceptor;
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
+import com.talanlabs.mybatis.component.lazy.LazyLoadDetector;
+import com.talanlabs.mybatis.component.metrics.ComponentStatementTagResolver;
+import com.talanlabs.mybatis.component.metrics.StatementTag;
+import com.talanlabs.mybatis.component.resultmap.ResultMapNameHelper;
+import com.talanlabs.mybatis.component.resultmap.UnprojectedPropertyInterceptor;
+import com.talanlabs.mybatis.component.resultmap.UnprojectedPropertyPolicy;
+import com.talanlabs.mybatis.component.resultmap.nls.NlsColumnBatchInterceptor;
+import com.talanlabs.mybatis.component.routing.RoutingTransaction;
 import com.talanlabs.mybatis.component.session.defaults.DefaultTypeHandlerFactory;
 import com.talanlabs.mybatis.component.session.dispatcher.TriggerDispatcher;
 import com.talanlabs.mybatis.component.session.factory.ICacheFactory;
@@ -7,16 +20,29 @@ import com.talanlabs.mybatis.component.session.factory.IMappedStatementFactory;
 import com.talanlabs.mybatis.component.session.factory.IResultMapFactory;
 import com.talanlabs.mybatis.component.session.factory.ITypeHandlerFactory;
 import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
+import com.talanlabs.mybatis.component.session.handler.NlsBatchMode;
 import com.talanlabs.mybatis.component.session.registry.CacheFactoryRegistry;
 import com.talanlabs.mybatis.component.session.registry.MappedStatementFactoryRegistry;
 import com.talanlabs.mybatis.component.session.registry.ResultMapFactoryRegistry;
 import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.executor.BaseExecutor;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.CachingExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.ReuseExecutor;
+import org.apache.ibatis.executor.SimpleExecutor;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.transaction.Transaction;
 import org.apache.ibatis.type.TypeHandler;
 
+import java.util.Collections;
+import java.util.Set;
+
 public class ComponentConfiguration extends Configuration {
 
     protected MappedStatementFactoryRegistry mappedStatementFactoryRegistry = new MappedStatementFactoryRegistry();
@@ -31,6 +57,18 @@ public class ComponentConfiguration extends Configuration {
 
     protected ITypeHandlerFactory typeHandlerFactory = new DefaultTypeHandlerFactory();
 
+    protected UnprojectedPropertyPolicy unprojectedPropertyPolicy = UnprojectedPropertyPolicy.LAZY;
+
+    protected UnprojectedPropertyInterceptor unprojectedPropertyInterceptor = null;
+
+    protected NlsBatchMode nlsBatchMode = NlsBatchMode.NONE;
+
+    protected NlsColumnDictionary nlsColumnDictionary = null;
+
+    protected NlsColumnDictionaryInterceptor nlsColumnDictionaryInterceptor = null;
+
+    protected LazyLoadDetector lazyLoadDetector = null;
+
     public ComponentConfiguration() {
         super();
     }
@@ -39,6 +77,34 @@ public class ComponentConfiguration extends Configuration {
         super(environment);
     }
 
+    /**
+     * Same executor as MyBatis. With a NlsColumnDictionary, nested queries of result maps go through NlsColumnDictionaryInterceptor only
+     * (MyBatis gives them the executor without interceptors), other interceptors do not see them.
+     * REUSE is rejected with a RoutingTransaction, ReuseExecutor reuses statements by sql whatever the connection they were prepared on
+     */
+    @Override
+    public Executor newExecutor(Transaction transaction, ExecutorType executorType) {
+        ExecutorType type = executorType != null ? executorType : defaultExecutorType;
+        if (ExecutorType.REUSE == type && transaction instanceof RoutingTransaction) {
+            throw new ExecutorException("ExecutorType.REUSE is not supported with RoutingTransaction, a statement prepared on replica would be reused on primary");
+        }
+        if (nlsColumnDictionaryInterceptor == null) {
+            return super.newExecutor(transaction, executorType);
+        }
+
+        BaseExecutor baseExecutor;
+        if (ExecutorType.BATCH == type) {
+            baseExecutor = new BatchExecutor(this, transaction);
+        } else if (ExecutorType.REUSE == type) {
+            baseExecutor = new ReuseExecutor(this, transaction);
+        } else {
+            baseExecutor = new SimpleExecutor(this, transaction);
+        }
+        Executor executor = cacheEnabled ? new CachingExecutor(baseExecutor) : baseExecutor;
+        baseExecutor.setExecutorWrapper((Executor) nlsColumnDictionaryInterceptor.plugin(executor));
+        return (Executor) interceptorChain.pluginAll(executor);
+    }
+
     /**
      * @return get mapped statement factory registry, default null
      */
@@ -123,6 +189,107 @@ public class ComponentConfiguration extends Configuration {
         this.typeHandlerFactory = typeHandlerFactory;
     }
 
+    /**
+     * @return policy for properties not in projection, default LAZY
+     */
+    public UnprojectedPropertyPolicy getUnprojectedPropertyPolicy() {
+        return unprojectedPropertyPolicy;
+    }
+
+    /**
+     * Set before the first projection statement, result maps are cached by key. FAIL adds an UnprojectedPropertyInterceptor if none
+     *
+     * @param unprojectedPropertyPolicy policy for properties not in projection
+     */
+    public void setUnprojectedPropertyPolicy(UnprojectedPropertyPolicy unprojectedPropertyPolicy) {
+        this.unprojectedPropertyPolicy = unprojectedPropertyPolicy;
+
+        if (UnprojectedPropertyPolicy.FAIL.equals(unprojectedPropertyPolicy) && unprojectedPropertyInterceptor == null) {
+            unprojectedPropertyInterceptor = (UnprojectedPropertyInterceptor) getInterceptors().stream().filter(UnprojectedPropertyInterceptor.class::isInstance).findFirst().orElse(null);
+            if (unprojectedPropertyInterceptor == null) {
+                unprojectedPropertyInterceptor = new UnprojectedPropertyInterceptor();
+                addInterceptor(unprojectedPropertyInterceptor);
+            }
+        }
+    }
+
+    /**
+     * Called by ComponentProxyFactory when a component is created
+     *
+     * @param componentClass component class
+     * @return properties not loaded by projection of statement in progress, they fail on access
+     */
+    public Set<String> getCurrentFailPropertyNames(Class<?> componentClass) {
+        if (!UnprojectedPropertyPolicy.FAIL.equals(unprojectedPropertyPolicy) || unprojectedPropertyInterceptor == null) {
+            return Collections.emptySet();
+        }
+        return unprojectedPropertyInterceptor.getCurrentFailPropertyNames(componentClass);
+    }
+
+    /**
+     * @return batch mode for eager nls columns, default NONE
+     */
+    public NlsBatchMode getNlsBatchMode() {
+        return nlsBatchMode;
+    }
+
+    /**
+     * Set before the first statement, result maps are cached by key. ROW and PAGE add a NlsColumnBatchInterceptor if none,
+     * set after ComponentResultSetHandlerInterceptor is added
+     *
+     * @param nlsBatchMode batch mode for eager nls columns
+     */
+    public void setNlsBatchMode(NlsBatchMode nlsBatchMode) {
+        this.nlsBatchMode = nlsBatchMode;
+
+        if ((NlsBatchMode.ROW.equals(nlsBatchMode) || NlsBatchMode.PAGE.equals(nlsBatchMode)) && getInterceptors().stream().noneMatch(NlsColumnBatchInterceptor.class::isInstance)) {
+            addInterceptor(new NlsColumnBatchInterceptor());
+        }
+    }
+
+    /**
+     * @return dictionary of translations, default null
+     */
+    public NlsColumnDictionary getNlsColumnDictionary() {
+        return nlsColumnDictionary;
+    }
+
+    /**
+     * Set once, adds a NlsColumnDictionaryInterceptor for single nls columns and commits, batched nls columns use the dictionary directly.
+     * Nested queries of executors created after then go through this interceptor
+     *
+     * @param nlsColumnDictionary dictionary of translations
+     */
+    public void setNlsColumnDictionary(NlsColumnDictionary nlsColumnDictionary) {
+        this.nlsColumnDictionary = nlsColumnDictionary;
+
+        if (nlsColumnDictionary != null) {
+            nlsColumnDictionaryInterceptor = (NlsColumnDictionaryInterceptor) getInterceptors().stream().filter(NlsColumnDictionaryInterceptor.class::isInstance).findFirst().orElse(null);
+            if (nlsColumnDictionaryInterceptor == null) {
+                nlsColumnDictionaryInterceptor = new NlsColumnDictionaryInterceptor(nlsColumnDictionary);
+                addInterceptor(nlsColumnDictionaryInterceptor);
+            }
+        } else {
+            nlsColumnDictionaryInterceptor = null;
+        }
+    }
+
+    /**
+     * @return detector of N+1 lazy loads, default null
+     */
+    public LazyLoadDetector getLazyLoadDetector() {
+        return lazyLoadDetector;
+    }
+
+    /**
+     * Lazy loads of ComponentProxyFactory are counted, LazyLoadDetectorInterceptor must be added
+     *
+     * @param lazyLoadDetector detector of N+1 lazy loads
+     */
+    public void setLazyLoadDetector(LazyLoadDetector lazyLoadDetector) {
+        this.lazyLoadDetector = lazyLoadDetector;
+    }
+
     /**
      * Get a type handler
      *
@@ -158,7 +325,11 @@ public class ComponentConfiguration extends Configuration {
         if (cacheFactoryRegistry != null) {
             ICacheFactory cacheFactory = cacheFactoryRegistry.getCacheFactory(id);
             if (cacheFactory != null) {
+                Object event = ComponentEvents.begin(ComponentEventType.CACHE_CREATION);
                 Cache cache = cacheFactory.createCache(this, id);
+                if (event != null) {
+                    ComponentEvents.commit(event, CacheNameHelper.isCacheKey(id) ? CacheNameHelper.extractComponentClassInCacheKey(id) : null, id);
+                }
                 if (cache != null) {
                     addCache(cache);
                     return true;
@@ -189,7 +360,11 @@ public class ComponentConfiguration extends Configuration {
         if (resultMapFactoryRegistry != null) {
             IResultMapFactory resultMapFactory = resultMapFactoryRegistry.getResultMapFactory(id);
             if (resultMapFactory != null) {
+                Object event = ComponentEvents.begin(ComponentEventType.RESULT_MAP_CREATION);
                 ResultMap resultMap = resultMapFactory.createResultMap(this, id);
+                if (event != null) {
+                    ComponentEvents.commit(event, ResultMapNameHelper.isResultMapKey(id) ? ResultMapNameHelper.extractComponentClassInResultMapKey(id) : null, id);
+                }
                 if (resultMap != null) {
                     addResultMap(resultMap);
                     return true;
@@ -220,7 +395,12 @@ public class ComponentConfiguration extends Configuration {
         if (mappedStatementFactoryRegistry != null) {
             IMappedStatementFactory mappedStatementFactory = mappedStatementFactoryRegistry.getMappedStatementFactory(id);
             if (mappedStatementFactory != null) {
+                Object event = ComponentEvents.begin(ComponentEventType.STATEMENT_CREATION);
                 MappedStatement mappedStatement = mappedStatementFactory.createMappedStatement(this, id);
+                if (event != null) {
+                    StatementTag statementTag = new ComponentStatementTagResolver().resolve(id);
+                    ComponentEvents.commit(event, statementTag != null ? statementTag.componentClass : null, id);
+                }
                 if (mappedStatement != null) {
                     addMappedStatement(mappedStatement);
                     return true;
@@ -2,8 +2,12 @@ package com.talanlabs.mybatis.component.session;
 
 import com.talanlabs.component.IComponent;
 import com.talanlabs.mybatis.component.session.defaults.DefaultComponentSqlSession;
+import com.talanlabs.mybatis.component.session.writebehind.WriteBehindComponentSqlSession;
+import com.talanlabs.mybatis.component.session.writebehind.WriteBehindInterceptor;
 import org.apache.ibatis.session.SqlSessionManager;
 
+import java.util.Collection;
+
 public class ComponentSqlSessionManager implements IComponentSqlSession {
 
     private final IComponentSqlSession componentSqlSession;
@@ -14,8 +18,18 @@ public class ComponentSqlSessionManager implements IComponentSqlSession {
         this.componentSqlSession = componentSqlSession;
     }
 
+    /**
+     * Writes are queued in unit of work if WriteBehindInterceptor is in configuration
+     *
+     * @param sqlSessionManager session manager
+     * @return component session manager
+     */
     public static ComponentSqlSessionManager newInstance(SqlSessionManager sqlSessionManager) {
-        return new ComponentSqlSessionManager(new DefaultComponentSqlSession(sqlSessionManager));
+        IComponentSqlSession componentSqlSession = new DefaultComponentSqlSession(sqlSessionManager);
+        if (sqlSessionManager.getConfiguration().getInterceptors().stream().anyMatch(WriteBehindInterceptor.class::isInstance)) {
+            componentSqlSession = new WriteBehindComponentSqlSession(sqlSessionManager, componentSqlSession);
+        }
+        return new ComponentSqlSessionManager(componentSqlSession);
     }
 
     @Override
@@ -23,18 +37,38 @@ public class ComponentSqlSessionManager implements IComponentSqlSession {
         return componentSqlSession.findById(componentClass, id);
     }
 
+    @Override
+    public <E extends IComponent> E findById(Class<E> componentClass, Object id, String... projection) {
+        return componentSqlSession.findById(componentClass, id, projection);
+    }
+
     @Override
     public <E extends IComponent> int insert(E component) {
         return componentSqlSession.insert(component);
     }
 
+    @Override
+    public <E extends IComponent> int insertAll(Collection<E> components) {
+        return componentSqlSession.insertAll(components);
+    }
+
     @Override
     public <E extends IComponent> int update(E component) {
         return componentSqlSession.update(component);
     }
 
+    @Override
+    public <E extends IComponent> int updateAll(Collection<E> components) {
+        return componentSqlSession.updateAll(components);
+    }
+
     @Override
     public <E extends IComponent> int delete(E component) {
         return componentSqlSession.delete(component);
     }
+
+    @Override
+    public <E extends IComponent> int deleteAll(Collection<E> components) {
+        return componentSqlSession.deleteAll(components);
+    }
 }
@@ -2,6 +2,12 @@ package com.talanlabs.mybatis.component.session;
 
 import com.talanlabs.component.IComponent;
 
+import java.util.Collection;
+
+/**
+ * In a unit of work with WriteBehindInterceptor, insert, update and delete are queued and return 1 without any statement.
+ * A deferred update or delete on no row (row deleted or version changed) is not seen by the caller, it fails the commit or the flush with an ExecutorException
+ */
 public interface IComponentSqlSession {
 
     /**
@@ -13,6 +19,16 @@ public interface IComponentSqlSession {
      */
     <E extends IComponent> E findById(Class<E> componentClass, Object id);
 
+    /**
+     * Find component by id, select only id and projected properties
+     *
+     * @param componentClass component class
+     * @param id             identifier unique
+     * @param projection     properties to load, others are lazy loaded or fail depends on UnprojectedPropertyPolicy
+     * @return component
+     */
+    <E extends IComponent> E findById(Class<E> componentClass, Object id, String... projection);
+
     /**
      * Insert component, generate id and set version to 0, set Tracable
      *
@@ -21,20 +37,71 @@ public interface IComponentSqlSession {
      */
     <E extends IComponent> int insert(E component);
 
+    /**
+     * Insert components, default one by one, nls columns may be merged together after all inserts
+     *
+     * @param components components to insert
+     * @return number of inserts
+     */
+    default <E extends IComponent> int insertAll(Collection<E> components) {
+        if (components == null) {
+            return 0;
+        }
+        int res = 0;
+        for (E component : components) {
+            res += insert(component);
+        }
+        return res;
+    }
+
     /**
      * Update component, update version +1, set Tracable
      *
      * @param component component to update
-     * @return 0 or 1 if insert
+     * @return 0 or 1 if update, 1 if queued in a unit of work
      */
     <E extends IComponent> int update(E component);
 
+    /**
+     * Update components, default one by one, nls columns may be merged together after all updates
+     *
+     * @param components components to update
+     * @return number of updates
+     */
+    default <E extends IComponent> int updateAll(Collection<E> components) {
+        if (components == null) {
+            return 0;
+        }
+        int res = 0;
+        for (E component : components) {
+            res += update(component);
+        }
+        return res;
+    }
+
     /**
      * Delete component
      *
      * @param component component to delete
-     * @return 0 or 1 if delete
+     * @return 0 or 1 if delete, 1 if queued in a unit of work
      */
     <E extends IComponent> int delete(E component);
 
+    /**
+     * Delete components, default one by one, nls columns may be deleted together after all deletes
+     *
+     * @param components components to delete
+     * @return number of deletes
+     */
+    default <E extends IComponent> int deleteAll(Collection<E> components) {
+        if (components == null) {
+            return 0;
+        }
+        int res = 0;
+        for (E component : components) {
+            res += delete(component);
+        }
+        return res;
+    }
+
 }
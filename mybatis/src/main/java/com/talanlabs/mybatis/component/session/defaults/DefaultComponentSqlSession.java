@@ -6,19 +6,35 @@ import com.talanlabs.component.factory.ComponentFactory;
 import com.talanlabs.entity.annotation.Entity;
 import com.talanlabs.entity.annotation.NlsColumn;
 import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionary;
 import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import com.talanlabs.mybatis.component.session.IComponentSqlSession;
 import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
+import com.talanlabs.mybatis.component.session.handler.NlsColumnValue;
 import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
 import com.talanlabs.mybatis.component.statement.StatementNameHelper;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.ibatis.exceptions.ExceptionFactory;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.ExecutorException;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,21 +55,42 @@ public class DefaultComponentSqlSession implements IComponentSqlSession {
         return sqlSession.selectOne(StatementNameHelper.buildFindEntityByIdKey(componentClass), id);
     }
 
+    @Override
+    public <E extends IComponent> E findById(Class<E> componentClass, Object id, String... projection) {
+        return sqlSession.selectOne(StatementNameHelper.buildFindEntityByIdKey(componentClass, projection), id);
+    }
+
     @Override
     public <E extends IComponent> int insert(E component) {
         if (component == null) {
             return 0;
         }
 
-        Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+        return insertAll(Collections.singletonList(component));
+    }
 
-        triggerBefore(ITriggerObserver.Type.Insert, component);
-        int res = sqlSession.insert(StatementNameHelper.buildInsertKey(componentClass), component);
+    @Override
+    public <E extends IComponent> int insertAll(Collection<E> components) {
+        if (components == null || components.isEmpty()) {
+            return 0;
+        }
 
         Configuration configuration = sqlSession.getConfiguration();
-        mergeNlsComponent(configuration, componentClass, component);
+        List<NlsMerge> nlsMerges = new ArrayList<>();
 
-        triggerAfter(ITriggerObserver.Type.Insert, component);
+        int res = 0;
+        for (E component : components) {
+            Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+
+            triggerBefore(ITriggerObserver.Type.Insert, component);
+            res += sqlSession.insert(getInsertStatementId(componentClass, component), component);
+
+            addNlsMerges(configuration, componentClass, component, nlsMerges);
+        }
+
+        mergeNlsComponents(configuration, nlsMerges);
+
+        components.forEach(component -> triggerAfter(ITriggerObserver.Type.Insert, component));
         return res;
     }
 
@@ -63,32 +100,47 @@ public class DefaultComponentSqlSession implements IComponentSqlSession {
             return 0;
         }
 
-        Set<String> nlsPropertyNames = new HashSet<>();
+        return updateAll(Collections.singletonList(component));
+    }
 
-        Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
-        Configuration configuration = sqlSession.getConfiguration();
-        if (configuration instanceof ComponentConfiguration && ((ComponentConfiguration) configuration).getNlsColumnHandler() != null) {
-            INlsColumnHandler nlsColumnHandler = ((ComponentConfiguration) configuration).getNlsColumnHandler();
+    @Override
+    public <E extends IComponent> int updateAll(Collection<E> components) {
+        if (components == null || components.isEmpty()) {
+            return 0;
+        }
 
-            NlsComponentCache nlsComponentCache = buildNlsComponentCache(componentClass);
-            if (nlsComponentCache != null && nlsComponentCache.columnMap != null) {
-                for (Map.Entry<String, String> entry : nlsComponentCache.columnMap.entrySet()) {
-                    String propertyName = entry.getKey();
-                    if (nlsColumnHandler.isUpdateDefaultNlsColumn(componentClass, propertyName)) {
-                        nlsPropertyNames.add(propertyName);
+        Configuration configuration = sqlSession.getConfiguration();
+        List<NlsMerge> nlsMerges = new ArrayList<>();
+
+        int res = 0;
+        for (E component : components) {
+            Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+
+            Set<String> nlsPropertyNames = new HashSet<>();
+            if (configuration instanceof ComponentConfiguration && ((ComponentConfiguration) configuration).getNlsColumnHandler() != null) {
+                INlsColumnHandler nlsColumnHandler = ((ComponentConfiguration) configuration).getNlsColumnHandler();
+
+                NlsComponentCache nlsComponentCache = getNlsComponentCache(componentClass);
+                if (nlsComponentCache != null && nlsComponentCache.columnMap != null) {
+                    for (Map.Entry<String, String> entry : nlsComponentCache.columnMap.entrySet()) {
+                        String propertyName = entry.getKey();
+                        if (nlsColumnHandler.isUpdateDefaultNlsColumn(componentClass, propertyName)) {
+                            nlsPropertyNames.add(propertyName);
+                        }
                     }
                 }
             }
-        }
 
-        triggerBefore(ITriggerObserver.Type.Update, component);
+            triggerBefore(ITriggerObserver.Type.Update, component);
+
+            res += sqlSession.update(StatementNameHelper.buildUpdateKey(componentClass, nlsPropertyNames.toArray(new String[nlsPropertyNames.size()])), component);
 
-        int res = sqlSession
-                .update(StatementNameHelper.buildUpdateKey(ComponentFactory.getInstance().getComponentClass(component), nlsPropertyNames.toArray(new String[nlsPropertyNames.size()])), component);
+            addNlsMerges(configuration, componentClass, component, nlsMerges);
+        }
 
-        mergeNlsComponent(configuration, componentClass, component);
+        mergeNlsComponents(configuration, nlsMerges);
 
-        triggerAfter(ITriggerObserver.Type.Update, component);
+        components.forEach(component -> triggerAfter(ITriggerObserver.Type.Update, component));
         return res;
     }
 
@@ -98,18 +150,48 @@ public class DefaultComponentSqlSession implements IComponentSqlSession {
             return 0;
         }
 
-        Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+        return deleteAll(Collections.singletonList(component));
+    }
 
-        triggerBefore(ITriggerObserver.Type.Delete, component);
+    @Override
+    public <E extends IComponent> int deleteAll(Collection<E> components) {
+        if (components == null || components.isEmpty()) {
+            return 0;
+        }
+
+        Configuration configuration = sqlSession.getConfiguration();
+        List<Pair<String, Map<String, Object>>> batchUpdates = new ArrayList<>();
+        List<NlsMerge> nlsDeletes = new ArrayList<>();
 
-        int res = sqlSession.delete(StatementNameHelper.buildDeleteKey(componentClass), component);
+        int res = 0;
+        for (E component : components) {
+            Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
 
-        deleteNlsComponent(sqlSession.getConfiguration(), componentClass, component);
+            triggerBefore(ITriggerObserver.Type.Delete, component);
 
-        triggerAfter(ITriggerObserver.Type.Delete, component);
+            res += sqlSession.delete(StatementNameHelper.buildDeleteKey(componentClass), component);
+
+            deleteNlsComponent(configuration, componentClass, component, batchUpdates, nlsDeletes);
+        }
+
+        if (!batchUpdates.isEmpty()) {
+            executeBatch(configuration, batchUpdates, false);
+        }
+        nlsDeletes.forEach(nlsDelete -> invalidateNlsColumn(configuration, nlsDelete.tableName, nlsDelete.columnName, nlsDelete.id));
+
+        components.forEach(component -> triggerAfter(ITriggerObserver.Type.Delete, component));
         return res;
     }
 
+    /**
+     * @param componentClass component class
+     * @param component      component to insert
+     * @return id of insert statement, default the generated insert
+     */
+    protected <E extends IComponent> String getInsertStatementId(Class<E> componentClass, E component) {
+        return StatementNameHelper.buildInsertKey(componentClass);
+    }
+
     private <E extends IComponent> void triggerBefore(ITriggerObserver.Type type, E component) {
         if (sqlSession.getConfiguration() instanceof ComponentConfiguration && ((ComponentConfiguration) sqlSession.getConfiguration()).getTriggerDispatcher() != null) {
             ((ComponentConfiguration) sqlSession.getConfiguration()).getTriggerDispatcher().triggerBefore(sqlSession, type, component);
@@ -122,49 +204,149 @@ public class DefaultComponentSqlSession implements IComponentSqlSession {
         }
     }
 
-    private <E extends IComponent> void mergeNlsComponent(Configuration configuration, Class<E> componentClass, E component) {
+    private <E extends IComponent> void addNlsMerges(Configuration configuration, Class<E> componentClass, E component, List<NlsMerge> nlsMerges) {
         if (configuration instanceof ComponentConfiguration && ((ComponentConfiguration) configuration).getNlsColumnHandler() != null) {
-            INlsColumnHandler nlsColumnHandler = ((ComponentConfiguration) configuration).getNlsColumnHandler();
-
-            NlsComponentCache nlsComponentCache = nlsComponentCacheMap.get(componentClass);
-            if (nlsComponentCache == null) {
-                nlsComponentCache = buildNlsComponentCache(componentClass);
-                nlsComponentCacheMap.put(componentClass, nlsComponentCache);
-            }
-
+            NlsComponentCache nlsComponentCache = getNlsComponentCache(componentClass);
             if (nlsComponentCache != null && nlsComponentCache.columnMap != null) {
+                Object id = component.straightGetProperty(nlsComponentCache.idName);
                 for (Map.Entry<String, String> entry : nlsComponentCache.columnMap.entrySet()) {
-                    String propertyName = entry.getKey();
-                    String mergeId = nlsColumnHandler.getMergeNlsColumnId(componentClass, propertyName);
+                    nlsMerges.add(new NlsMerge(componentClass, nlsComponentCache.tableName, entry.getKey(), entry.getValue(), id, component.straightGetProperty(entry.getKey())));
+                }
+            }
+        }
+    }
+
+    /*
+     * Multi-row merge by component class if handler gives it, else merges by column in one JDBC batch or one by one
+     */
+    private void mergeNlsComponents(Configuration configuration, List<NlsMerge> nlsMerges) {
+        if (nlsMerges.isEmpty()) {
+            return;
+        }
+
+        INlsColumnHandler nlsColumnHandler = ((ComponentConfiguration) configuration).getNlsColumnHandler();
+
+        Map<Class<? extends IComponent>, List<NlsMerge>> nlsMergesMap = new LinkedHashMap<>();
+        nlsMerges.forEach(nlsMerge -> nlsMergesMap.computeIfAbsent(nlsMerge.componentClass, k -> new ArrayList<>()).add(nlsMerge));
+
+        List<Pair<String, Map<String, Object>>> batchUpdates = new ArrayList<>();
+        for (Map.Entry<Class<? extends IComponent>, List<NlsMerge>> entry : nlsMergesMap.entrySet()) {
+            Class<? extends IComponent> componentClass = entry.getKey();
+            String mergesId = nlsColumnHandler.getMergeNlsColumnsId(componentClass);
+            if (StringUtils.isNotBlank(mergesId)) {
+                sqlSession.update(mergesId, buildMergeNlsColumnsParameter(nlsColumnHandler, componentClass, entry.getValue()));
+            } else {
+                boolean batch = nlsColumnHandler.isBatchNlsColumn(componentClass);
+                for (NlsMerge nlsMerge : entry.getValue()) {
+                    String mergeId = nlsColumnHandler.getMergeNlsColumnId(componentClass, nlsMerge.propertyName);
                     if (StringUtils.isNotBlank(mergeId)) {
-                        Map<String, Object> parameter = new HashMap<>();
-                        parameter.put("tableName", nlsComponentCache.tableName);
-                        parameter.put("columnName", entry.getValue());
-                        parameter.put("id", component.straightGetProperty(nlsComponentCache.idName));
-                        parameter.put("meaning", component.straightGetProperty(propertyName));
-
-                        Map<String, Object> additionalParameter = nlsColumnHandler.getAdditionalParameter(componentClass, propertyName);
-                        if (additionalParameter != null) {
-                            parameter.putAll(additionalParameter);
+                        Map<String, Object> parameter = buildMergeNlsColumnParameter(nlsColumnHandler, nlsMerge);
+                        if (batch) {
+                            batchUpdates.add(Pair.of(mergeId, parameter));
+                        } else {
+                            sqlSession.update(mergeId, parameter);
                         }
-
-                        sqlSession.update(mergeId, parameter);
                     }
                 }
             }
         }
+        if (!batchUpdates.isEmpty()) {
+            executeBatch(configuration, batchUpdates, true);
+        }
+
+        nlsMerges.forEach(nlsMerge -> invalidateNlsColumn(configuration, nlsMerge.tableName, nlsMerge.columnName, nlsMerge.id));
     }
 
-    private <E extends IComponent> void deleteNlsComponent(Configuration configuration, Class<E> componentClass, E component) {
-        if (configuration instanceof ComponentConfiguration && ((ComponentConfiguration) configuration).getNlsColumnHandler() != null) {
-            INlsColumnHandler nlsColumnHandler = ((ComponentConfiguration) configuration).getNlsColumnHandler();
+    private Map<String, Object> buildMergeNlsColumnParameter(INlsColumnHandler nlsColumnHandler, NlsMerge nlsMerge) {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("tableName", nlsMerge.tableName);
+        parameter.put("columnName", nlsMerge.columnName);
+        parameter.put("id", nlsMerge.id);
+        parameter.put("meaning", nlsMerge.meaning);
 
-            NlsComponentCache nlsComponentCache = nlsComponentCacheMap.get(componentClass);
-            if (nlsComponentCache == null) {
-                nlsComponentCache = buildNlsComponentCache(componentClass);
-                nlsComponentCacheMap.put(componentClass, nlsComponentCache);
+        Map<String, Object> additionalParameter = nlsColumnHandler.getAdditionalParameter(nlsMerge.componentClass, nlsMerge.propertyName);
+        if (additionalParameter != null) {
+            parameter.putAll(additionalParameter);
+        }
+        return parameter;
+    }
+
+    private Map<String, Object> buildMergeNlsColumnsParameter(INlsColumnHandler nlsColumnHandler, Class<? extends IComponent> componentClass, List<NlsMerge> nlsMerges) {
+        List<NlsColumnValue> nlsColumnValues = new ArrayList<>(nlsMerges.size());
+        for (NlsMerge nlsMerge : nlsMerges) {
+            NlsColumnValue nlsColumnValue = new NlsColumnValue();
+            nlsColumnValue.setId(nlsMerge.id);
+            nlsColumnValue.setColumnName(nlsMerge.columnName);
+            nlsColumnValue.setMeaning(nlsMerge.meaning);
+            // Scoped by value, properties may give same names with different values
+            nlsColumnValue.setAdditionalParameter(nlsColumnHandler.getAdditionalParameter(componentClass, nlsMerge.propertyName));
+            nlsColumnValues.add(nlsColumnValue);
+        }
+
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("tableName", nlsMerges.get(0).tableName);
+        parameter.put("nlsColumnValues", nlsColumnValues);
+        return parameter;
+    }
+
+    /*
+     * Batch executor with plugins on connection of session, the connection is not closed nor committed.
+     * Without managed session, a batch session of its own is committed
+     */
+    private void executeBatch(Configuration configuration, List<Pair<String, Map<String, Object>>> batchUpdates, boolean merge) {
+        if (isAutoCommitSession()) {
+            try (SqlSession batchSqlSession = ((SqlSessionManager) sqlSession).openSession(ExecutorType.BATCH)) {
+                batchUpdates.forEach(batchUpdate -> batchSqlSession.update(batchUpdate.getLeft(), batchUpdate.getRight()));
+                List<BatchResult> batchResults = batchSqlSession.flushStatements();
+                if (merge) {
+                    verifyMergeBatchResults(batchResults);
+                }
+                batchSqlSession.commit();
             }
+            return;
+        }
+
+        // Statements pending in a batch session are executed first, nls rows follow their component
+        sqlSession.flushStatements();
+
+        Executor batchExecutor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+        try {
+            for (Pair<String, Map<String, Object>> batchUpdate : batchUpdates) {
+                batchExecutor.update(configuration.getMappedStatement(batchUpdate.getLeft()), batchUpdate.getRight());
+            }
+            List<BatchResult> batchResults = batchExecutor.flushStatements();
+            if (merge) {
+                verifyMergeBatchResults(batchResults);
+            }
+        } catch (SQLException e) {
+            throw ExceptionFactory.wrapException("Error executing batch of nls columns", e);
+        } finally {
+            batchExecutor.close(false);
+        }
+        sqlSession.clearCache();
+    }
+
+    /*
+     * A merge writes one row, a delete may find no translation
+     */
+    private void verifyMergeBatchResults(List<BatchResult> batchResults) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0 || updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    throw new ExecutorException(
+                            "No row for nls statement=" + batchResult.getMappedStatement().getId() + " parameter=" + batchResult.getParameterObjects().get(i) + ", merge failed");
+                }
+            }
+        }
+    }
 
+    private <E extends IComponent> void deleteNlsComponent(Configuration configuration, Class<E> componentClass, E component, List<Pair<String, Map<String, Object>>> batchUpdates,
+            List<NlsMerge> nlsDeletes) {
+        if (configuration instanceof ComponentConfiguration && ((ComponentConfiguration) configuration).getNlsColumnHandler() != null) {
+            INlsColumnHandler nlsColumnHandler = ((ComponentConfiguration) configuration).getNlsColumnHandler();
+
+            NlsComponentCache nlsComponentCache = getNlsComponentCache(componentClass);
             if (nlsComponentCache != null && nlsComponentCache.columnMap != null) {
                 String deleteId = nlsColumnHandler.getDeleteNlsColumnsId(componentClass);
                 if (StringUtils.isNotBlank(deleteId)) {
@@ -172,12 +354,44 @@ public class DefaultComponentSqlSession implements IComponentSqlSession {
                     parameter.put("tableName", nlsComponentCache.tableName);
                     parameter.put("id", component.straightGetProperty(nlsComponentCache.idName));
 
-                    sqlSession.delete(deleteId, parameter);
+                    if (nlsColumnHandler.isBatchNlsColumn(componentClass)) {
+                        batchUpdates.add(Pair.of(deleteId, parameter));
+                    } else {
+                        sqlSession.delete(deleteId, parameter);
+                    }
+
+                    for (Map.Entry<String, String> entry : nlsComponentCache.columnMap.entrySet()) {
+                        nlsDeletes.add(new NlsMerge(componentClass, nlsComponentCache.tableName, entry.getKey(), entry.getValue(), parameter.get("id"), null));
+                    }
                 }
             }
         }
     }
 
+    private void invalidateNlsColumn(Configuration configuration, String tableName, String columnName, Object id) {
+        NlsColumnDictionary nlsColumnDictionary = ((ComponentConfiguration) configuration).getNlsColumnDictionary();
+        if (nlsColumnDictionary != null) {
+            if (isAutoCommitSession()) {
+                // Statement is already committed
+                nlsColumnDictionary.invalidate(tableName, columnName, id);
+            } else {
+                // Applied at commit by NlsColumnDictionaryInterceptor, until then this transaction reads database
+                nlsColumnDictionary.invalidate(sqlSession.getConnection(), tableName, columnName, id);
+            }
+        }
+    }
+
+    /*
+     * SqlSessionManager without managed session runs and commits each statement in its own session, it has no connection
+     */
+    private boolean isAutoCommitSession() {
+        return sqlSession instanceof SqlSessionManager && !((SqlSessionManager) sqlSession).isManagedSessionStarted();
+    }
+
+    private <E extends IComponent> NlsComponentCache getNlsComponentCache(Class<E> componentClass) {
+        return nlsComponentCacheMap.computeIfAbsent(componentClass, this::buildNlsComponentCache);
+    }
+
     private <E extends IComponent> NlsComponentCache buildNlsComponentCache(Class<E> componentClass) {
         NlsComponentCache res = new NlsComponentCache();
 
@@ -205,6 +419,32 @@ public class DefaultComponentSqlSession implements IComponentSqlSession {
         return res;
     }
 
+    private static class NlsMerge {
+
+        final Class<? extends IComponent> componentClass;
+
+        final String tableName;
+
+        final String propertyName;
+
+        final String columnName;
+
+        final Object id;
+
+        final Object meaning;
+
+        NlsMerge(Class<? extends IComponent> componentClass, String tableName, String propertyName, String columnName, Object id, Object meaning) {
+            super();
+
+            this.componentClass = componentClass;
+            this.tableName = tableName;
+            this.propertyName = propertyName;
+            this.columnName = columnName;
+            this.id = id;
+            this.meaning = meaning;
+        }
+    }
+
     private class NlsComponentCache {
 
         String tableName = null;
@@ -1,6 +1,9 @@
 package com.talanlabs.mybatis.component.session.dispatcher;
 
 import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
 import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
 import org.apache.ibatis.session.SqlSession;
 
@@ -37,9 +40,13 @@ public class TriggerDispatcher {
      * @param component  component
      */
     public <E extends IComponent> void triggerBefore(SqlSession sqlSession, ITriggerObserver.Type type, E component) {
+        Object event = ComponentEvents.begin(ComponentEventType.TRIGGER_DISPATCH);
         for (ITriggerObserver triggerObserver : triggerObservers) {
             triggerObserver.triggerBefore(sqlSession, type, component);
         }
+        if (event != null) {
+            ComponentEvents.commit(event, ComponentFactory.getInstance().getComponentClass(component), "before" + type);
+        }
     }
 
     /**
@@ -50,8 +57,12 @@ public class TriggerDispatcher {
      * @param component  component
      */
     public <E extends IComponent> void triggerAfter(SqlSession sqlSession, ITriggerObserver.Type type, E component) {
+        Object event = ComponentEvents.begin(ComponentEventType.TRIGGER_DISPATCH);
         for (ITriggerObserver triggerObserver : triggerObservers) {
             triggerObserver.triggerAfter(sqlSession, type, component);
         }
+        if (event != null) {
+            ComponentEvents.commit(event, ComponentFactory.getInstance().getComponentClass(component), "after" + type);
+        }
     }
 }
@@ -39,6 +39,24 @@ public interface INlsColumnHandler {
      */
     String getSelectNlsColumnId(Class<? extends IComponent> componentClass, String propertyName);
 
+    /**
+     * Select id for all nls columns of many rows, used by NlsBatchMode ROW and PAGE, default parameter :
+     * <p>
+     * - tableName : Table name, String
+     * <p>
+     * - columnNames : Column names, List of String
+     * <p>
+     * - ids : unique ids, List
+     * <p>
+     * Result type is NlsColumnValue (id, columnName, meaning), only for existing translations. Ids are matched by string value
+     *
+     * @param componentClass component class
+     * @return select id or null if not batched
+     */
+    default String getSelectNlsColumnsId(Class<? extends IComponent> componentClass) {
+        return null;
+    }
+
     /**
      * Update original nls column
      *
@@ -65,6 +83,32 @@ public interface INlsColumnHandler {
      */
     String getMergeNlsColumnId(Class<? extends IComponent> componentClass, String propertyName);
 
+    /**
+     * Merge id for all nls columns of many rows, one multi-row merge for a write or a batch of writes, default parameter :
+     * <p>
+     * - tableName : Table name, String
+     * <p>
+     * - nlsColumnValues : values, List of NlsColumnValue (id, columnName, meaning, additionalParameter)
+     * <p>
+     * Additional parameters are given by value, in additionalParameter of NlsColumnValue
+     *
+     * @param componentClass component class
+     * @return merge id or null if use getMergeNlsColumnId
+     */
+    default String getMergeNlsColumnsId(Class<? extends IComponent> componentClass) {
+        return null;
+    }
+
+    /**
+     * Send merges and deletes of nls columns by getMergeNlsColumnId and getDeleteNlsColumnsId in one JDBC batch
+     *
+     * @param componentClass component class
+     * @return true if batched
+     */
+    default boolean isBatchNlsColumn(Class<? extends IComponent> componentClass) {
+        return false;
+    }
+
     /**
      * Delete id for nls column
      * <p>
@@ -0,0 +1,20 @@
+package com.talanlabs.mybatis.component.session.handler;
+
+/**
+ * Loading of eager NlsColumn when the handler gives a select for all columns, see {@link INlsColumnHandler#getSelectNlsColumnsId(Class)}
+ */
+public enum NlsBatchMode {
+
+    /**
+     * One select per nls property and per row
+     */
+    NONE,
+    /**
+     * One select per row for all nls properties
+     */
+    ROW,
+    /**
+     * One select per result set for all nls properties of all rows, ids in IN list
+     */
+    PAGE
+}
@@ -0,0 +1,51 @@
+package com.talanlabs.mybatis.component.session.handler;
+
+import java.util.Map;
+
+/**
+ * Row of select nls columns, a translation of column for one id
+ * <p>
+ * For multi-row merge, additionalParameter gives additional parameter of the property
+ */
+public class NlsColumnValue {
+
+    private Object id;
+
+    private String columnName;
+
+    private Object meaning;
+
+    private Map<String, Object> additionalParameter;
+
+    public Object getId() {
+        return id;
+    }
+
+    public void setId(Object id) {
+        this.id = id;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public void setColumnName(String columnName) {
+        this.columnName = columnName;
+    }
+
+    public Object getMeaning() {
+        return meaning;
+    }
+
+    public void setMeaning(Object meaning) {
+        this.meaning = meaning;
+    }
+
+    public Map<String, Object> getAdditionalParameter() {
+        return additionalParameter;
+    }
+
+    public void setAdditionalParameter(Map<String, Object> additionalParameter) {
+        this.additionalParameter = additionalParameter;
+    }
+}
@@ -0,0 +1,115 @@
+package com.talanlabs.mybatis.component.session.writebehind;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.annotation.Association;
+import com.talanlabs.entity.annotation.Collection;
+import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Order of component classes by foreign key, the class holding the foreign key comes after the referenced class. Links are read in Association and Collection without join table
+ */
+final class ForeignKeyOrder {
+
+    private static final Map<Class<? extends IComponent>, Links> LINKS_MAP = new ConcurrentHashMap<>();
+
+    private ForeignKeyOrder() {
+        super();
+    }
+
+    /**
+     * Sort component classes, parents first. In a cycle, the first class given is taken first
+     *
+     * @param componentClasses component classes in order of first write
+     * @return sorted component classes
+     */
+    static List<Class<? extends IComponent>> sort(java.util.Collection<Class<? extends IComponent>> componentClasses) {
+        Set<Class<? extends IComponent>> remaining = new LinkedHashSet<>(componentClasses);
+        if (remaining.size() <= 1) {
+            return new ArrayList<>(remaining);
+        }
+
+        Map<Class<? extends IComponent>, Set<Class<? extends IComponent>>> parentsMap = new HashMap<>();
+        for (Class<? extends IComponent> componentClass : remaining) {
+            Links links = getLinks(componentClass);
+            links.parents.stream().filter(parent -> parent != componentClass && remaining.contains(parent))
+                    .forEach(parent -> parentsMap.computeIfAbsent(componentClass, k -> new HashSet<>()).add(parent));
+            links.children.stream().filter(child -> child != componentClass && remaining.contains(child))
+                    .forEach(child -> parentsMap.computeIfAbsent(child, k -> new HashSet<>()).add(componentClass));
+        }
+
+        List<Class<? extends IComponent>> res = new ArrayList<>(remaining.size());
+        while (!remaining.isEmpty()) {
+            Class<? extends IComponent> next = remaining.stream().filter(componentClass -> {
+                Set<Class<? extends IComponent>> parents = parentsMap.get(componentClass);
+                return parents == null || parents.stream().noneMatch(remaining::contains);
+            }).findFirst().orElse(remaining.iterator().next());
+            remaining.remove(next);
+            res.add(next);
+        }
+        return res;
+    }
+
+    private static Links getLinks(Class<? extends IComponent> componentClass) {
+        return LINKS_MAP.computeIfAbsent(componentClass, ForeignKeyOrder::buildLinks);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends IComponent> Links buildLinks(Class<E> componentClass) {
+        Links res = new Links();
+
+        String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
+        ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+        for (ComponentDescriptor.PropertyDescriptor propertyDescriptor : componentDescriptor.getPropertyDescriptors()) {
+            if (propertyDescriptor.getMethod().isAnnotationPresent(Association.class)) {
+                Association association = propertyDescriptor.getMethod().getAnnotation(Association.class);
+
+                Class<?> javaType = association.javaType() != void.class ? association.javaType() : propertyDescriptor.getPropertyClass();
+                if (association.joinTable().length == 0 && ComponentFactory.getInstance().isComponentType(javaType)) {
+                    Class<? extends IComponent> targetClass = (Class<? extends IComponent>) javaType;
+                    if (association.propertyTarget().length == 0 || isId(association.propertyTarget(), EntityHelper.findIdPropertyName(targetClass))) {
+                        res.parents.add(targetClass);
+                    } else if (isId(association.propertySource(), idPropertyName)) {
+                        res.children.add(targetClass);
+                    }
+                }
+            } else if (propertyDescriptor.getMethod().isAnnotationPresent(Collection.class)) {
+                Collection collection = propertyDescriptor.getMethod().getAnnotation(Collection.class);
+
+                Class<?> elementClass = ComponentMyBatisHelper.getCollectionElementClass(componentDescriptor, propertyDescriptor, collection);
+                if (collection.joinTable().length == 0 && ComponentFactory.getInstance().isComponentType(elementClass)) {
+                    Class<? extends IComponent> targetClass = (Class<? extends IComponent>) elementClass;
+                    if (collection.propertySource().length == 0 || isId(collection.propertySource(), idPropertyName)) {
+                        res.children.add(targetClass);
+                    } else if (isId(collection.propertyTarget(), EntityHelper.findIdPropertyName(targetClass))) {
+                        res.parents.add(targetClass);
+                    }
+                }
+            }
+        }
+        return res;
+    }
+
+    private static boolean isId(String[] propertyNames, String idPropertyName) {
+        return idPropertyName != null && propertyNames.length == 1 && idPropertyName.equals(propertyNames[0]);
+    }
+
+    private static class Links {
+
+        final Set<Class<? extends IComponent>> parents = new HashSet<>();
+
+        final Set<Class<? extends IComponent>> children = new HashSet<>();
+
+    }
+}
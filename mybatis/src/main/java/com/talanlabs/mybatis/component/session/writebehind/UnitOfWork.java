@@ -0,0 +1,474 @@
+package com.talanlabs.mybatis.component.session.writebehind;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.ICancelable;
+import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.session.defaults.DefaultComponentSqlSession;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Writes of a transaction, by thread. Writes are coalesced by component instance, ordered by foreign key and flushed through executor of session by WriteBehindInterceptor before commit,
+ * a query or a statement of this session (in JDBC batches if executor is BATCH).
+ * <p>
+ * Queued writes are bound to the connection of the session which queued them, statements of other sessions do not flush them
+ */
+public final class UnitOfWork {
+
+    private static final Logger LOG = LogManager.getLogger(UnitOfWork.class);
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private static final String PRE_KEYED_INSERT_SUFFIX = "#preKeyed";
+
+    private final Map<Object, PendingWrite> pendingWrites = new LinkedHashMap<>();
+
+    private final Set<IComponent> preKeyedComponents = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Configuration configuration;
+
+    private SqlSession sqlSession;
+
+    private Connection connection;
+
+    private int depth;
+
+    private boolean flushing;
+
+    private UnitOfWork() {
+        super();
+    }
+
+    /**
+     * Begin a unit of work on current thread, nested begins join the current one
+     */
+    public static void begin() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            unitOfWork = new UnitOfWork();
+            CURRENT.set(unitOfWork);
+        }
+        unitOfWork.depth++;
+    }
+
+    /**
+     * End the unit of work, the last end removes it. Writes not flushed are discarded
+     *
+     * @return number of discarded writes
+     */
+    public static int end() {
+        UnitOfWork unitOfWork = CURRENT.get();
+        if (unitOfWork == null) {
+            throw new IllegalStateException("No unit of work in progress");
+        }
+        unitOfWork.depth--;
+        if (unitOfWork.depth > 0) {
+            return 0;
+        }
+        CURRENT.remove();
+
+        int discarded = unitOfWork.pendingWrites.size();
+        if (discarded > 0) {
+            LOG.warn("Unit of work ended with " + discarded + " writes not flushed, no commit in unit of work");
+        }
+        unitOfWork.clear();
+        return discarded;
+    }
+
+    /**
+     * @return unit of work of current thread or null
+     */
+    public static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return true if no write is waiting
+     */
+    public boolean isEmpty() {
+        return pendingWrites.isEmpty();
+    }
+
+    /**
+     * @return number of writes waiting
+     */
+    public int size() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * @return true during a flush or a key generation, writes of triggers are not queued
+     */
+    public boolean isFlushing() {
+        return flushing;
+    }
+
+    /**
+     * @param connection connection of a transaction
+     * @return true if queued writes are of this connection
+     */
+    public boolean isBoundTo(Connection connection) {
+        return this.connection != null && this.connection == connection;
+    }
+
+    /**
+     * Discard all writes, after a rollback
+     */
+    public void clear() {
+        pendingWrites.clear();
+        preKeyedComponents.clear();
+    }
+
+    /*
+     * Writes of another session are flushed on their own session before
+     */
+    private void bind(SqlSession sqlSession) {
+        Connection sessionConnection = sqlSession.getConnection();
+        if (!pendingWrites.isEmpty() && sessionConnection != connection) {
+            flush(this.sqlSession);
+        }
+        this.configuration = sqlSession.getConfiguration();
+        this.sqlSession = sqlSession;
+        this.connection = sessionConnection;
+    }
+
+    /**
+     * Queue an insert, id is generated now if key generator gives it before insert
+     *
+     * @param sqlSession session of transaction
+     * @param component  component to insert
+     */
+    <E extends IComponent> void insert(SqlSession sqlSession, E component) {
+        Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+        bind(sqlSession);
+        boolean preKeyed = generateKey(sqlSession, componentClass, component);
+
+        Object key = buildKey(componentClass, component);
+        if (pendingWrites.containsKey(key)) {
+            flush(sqlSession);
+        }
+        if (preKeyed) {
+            preKeyedComponents.add(component);
+        }
+        pendingWrites.put(key, new PendingWrite(WriteType.INSERT, componentClass, component));
+    }
+
+    /**
+     * Queue an update, several updates of a component instance become one, update of a queued insert stays an insert.
+     * Another instance with same id is a write of its own, the queued one is flushed before so that a conflict of version is seen
+     *
+     * @param sqlSession session of transaction
+     * @param component  component to update
+     */
+    <E extends IComponent> void update(SqlSession sqlSession, E component) {
+        Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+        bind(sqlSession);
+
+        Object key = buildKey(componentClass, component);
+        PendingWrite pendingWrite = pendingWrites.get(key);
+        if (pendingWrite == null) {
+            pendingWrites.put(key, new PendingWrite(WriteType.UPDATE, componentClass, component));
+        } else if (pendingWrite.type == WriteType.DELETE || pendingWrite.component != component) {
+            flush(sqlSession);
+            pendingWrites.put(key, new PendingWrite(WriteType.UPDATE, componentClass, component));
+        }
+    }
+
+    /**
+     * Queue a delete, delete of a queued insert of same instance removes both if component is not cancelable
+     *
+     * @param sqlSession session of transaction
+     * @param component  component to delete
+     */
+    <E extends IComponent> void delete(SqlSession sqlSession, E component) {
+        Class<E> componentClass = ComponentFactory.getInstance().getComponentClass(component);
+        bind(sqlSession);
+
+        Object key = buildKey(componentClass, component);
+        PendingWrite pendingWrite = pendingWrites.get(key);
+        if (pendingWrite == null) {
+            pendingWrites.put(key, new PendingWrite(WriteType.DELETE, componentClass, component));
+        } else if (pendingWrite.component != component || pendingWrite.type == WriteType.INSERT && component instanceof ICancelable) {
+            flush(sqlSession);
+            pendingWrites.put(key, new PendingWrite(WriteType.DELETE, componentClass, component));
+        } else if (pendingWrite.type == WriteType.UPDATE) {
+            pendingWrites.put(key, new PendingWrite(WriteType.DELETE, componentClass, component));
+        } else if (pendingWrite.type == WriteType.INSERT) {
+            pendingWrites.remove(key);
+            preKeyedComponents.remove(pendingWrite.component);
+        }
+    }
+
+    /**
+     * Flush writes through executor of transaction, the transaction is not committed. Inserts and updates parents first, then deletes children first.
+     * Caches are cleared by the executor at commit of transaction
+     *
+     * @param executor executor of session of transaction
+     */
+    public void flush(Executor executor) {
+        flush(new DefaultSqlSession(configuration, executor, false));
+    }
+
+    private void flush(SqlSession sqlSession) {
+        if (flushing || pendingWrites.isEmpty()) {
+            return;
+        }
+        flushing = true;
+        try {
+            while (!pendingWrites.isEmpty()) {
+                List<PendingWrite> writes = new ArrayList<>(pendingWrites.values());
+                pendingWrites.clear();
+                flushWrites(sqlSession, writes);
+            }
+        } finally {
+            flushing = false;
+            preKeyedComponents.clear();
+        }
+    }
+
+    private void flushWrites(SqlSession sqlSession, List<PendingWrite> writes) {
+        Map<Class<? extends IComponent>, Map<WriteType, List<IComponent>>> writesMap = new LinkedHashMap<>();
+        for (PendingWrite write : writes) {
+            writesMap.computeIfAbsent(write.componentClass, k -> new LinkedHashMap<>()).computeIfAbsent(write.type, k -> new ArrayList<>()).add(write.component);
+        }
+        List<Class<? extends IComponent>> componentClasses = ForeignKeyOrder.sort(writesMap.keySet());
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Flush " + writes.size() + " writes for " + componentClasses);
+        }
+
+        // Through executor of session, its caches are cleared at commit and its plugins see the statements
+        SqlSession flushSqlSession = newVerifyingSqlSession(sqlSession);
+        boolean success = false;
+        try {
+            DefaultComponentSqlSession componentSqlSession = new PreKeyedComponentSqlSession(flushSqlSession);
+            for (Class<? extends IComponent> componentClass : componentClasses) {
+                componentSqlSession.insertAll(getWrites(writesMap, componentClass, WriteType.INSERT));
+            }
+            for (Class<? extends IComponent> componentClass : componentClasses) {
+                componentSqlSession.updateAll(getWrites(writesMap, componentClass, WriteType.UPDATE));
+            }
+            for (int i = componentClasses.size() - 1; i >= 0; i--) {
+                componentSqlSession.deleteAll(getWrites(writesMap, componentClasses.get(i), WriteType.DELETE));
+            }
+
+            // Only sends batch if executor is BATCH, nothing is committed
+            verifyBatchResults(flushSqlSession.flushStatements());
+            success = true;
+        } finally {
+            if (!success) {
+                clear();
+            }
+        }
+    }
+
+    /*
+     * A deferred update or delete on 0 row was a conflict of version, in batch counts are given by flushStatements
+     */
+    private static SqlSession newVerifyingSqlSession(SqlSession sqlSession) {
+        return (SqlSession) Proxy.newProxyInstance(UnitOfWork.class.getClassLoader(), new Class<?>[] { SqlSession.class }, (proxy, method, args) -> {
+            Object res;
+            try {
+                res = method.invoke(sqlSession, args);
+            } catch (Throwable t) {
+                throw ExceptionUtil.unwrapThrowable(t);
+            }
+            if (("update".equals(method.getName()) || "delete".equals(method.getName())) && args != null && args.length == 2 && Integer.valueOf(0).equals(res)) {
+                String id = (String) args[0];
+                if (StatementNameHelper.isUpdateKey(id) || StatementNameHelper.isDeleteKey(id)) {
+                    throw new ExecutorException("No row for deferred statement=" + id + " parameter=" + args[1] + ", row deleted or version changed");
+                }
+            }
+            return res;
+        });
+    }
+
+    private List<IComponent> getWrites(Map<Class<? extends IComponent>, Map<WriteType, List<IComponent>>> writesMap, Class<? extends IComponent> componentClass, WriteType type) {
+        List<IComponent> res = writesMap.get(componentClass).get(type);
+        return res != null ? res : Collections.emptyList();
+    }
+
+    /*
+     * A deferred update or delete on 0 row was a conflict of version, caller has no count to check
+     */
+    private void verifyBatchResults(List<BatchResult> batchResults) {
+        for (BatchResult batchResult : batchResults) {
+            String id = batchResult.getMappedStatement().getId();
+            if (StatementNameHelper.isUpdateKey(id) || StatementNameHelper.isDeleteKey(id)) {
+                int[] updateCounts = batchResult.getUpdateCounts();
+                for (int i = 0; i < updateCounts.length; i++) {
+                    if (updateCounts[i] == 0) {
+                        throw new ExecutorException("No row for deferred statement=" + id + " parameter=" + batchResult.getParameterObjects().get(i) + ", row deleted or version changed");
+                    }
+                }
+            }
+        }
+    }
+
+    private <E extends IComponent> boolean generateKey(SqlSession sqlSession, Class<E> componentClass, E component) {
+        String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
+        if (idPropertyName == null) {
+            return false;
+        }
+
+        MappedStatement mappedStatement = configuration.getMappedStatement(StatementNameHelper.buildInsertKey(componentClass));
+        if (mappedStatement.getKeyGenerator() == null || mappedStatement.getKeyGenerator() instanceof NoKeyGenerator) {
+            return false;
+        }
+
+        // Executor of key is not the transaction, WriteBehindInterceptor neither flushes nor discards on its close
+        Executor keyExecutor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.SIMPLE);
+        boolean wasFlushing = flushing;
+        flushing = true;
+        try {
+            mappedStatement.getKeyGenerator().processBefore(keyExecutor, mappedStatement, null, component);
+        } finally {
+            try {
+                keyExecutor.close(false);
+            } finally {
+                flushing = wasFlushing;
+            }
+        }
+        return component.straightGetProperty(idPropertyName) != null;
+    }
+
+    private <E extends IComponent> Object buildKey(Class<E> componentClass, E component) {
+        String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
+        Object id = idPropertyName != null ? component.straightGetProperty(idPropertyName) : null;
+        return id != null ? new IdKey(componentClass, id) : new IdentityKey(component);
+    }
+
+    /*
+     * Insert without key generator for components with a generated id
+     */
+    private static synchronized String getPreKeyedInsertStatementId(Configuration configuration, Class<? extends IComponent> componentClass) {
+        String insertKey = StatementNameHelper.buildInsertKey(componentClass);
+        String id = insertKey + PRE_KEYED_INSERT_SUFFIX;
+        if (!configuration.hasStatement(id, false)) {
+            MappedStatement mappedStatement = configuration.getMappedStatement(insertKey);
+            MappedStatement.Builder msBuilder = new MappedStatement.Builder(configuration, id, mappedStatement.getSqlSource(), mappedStatement.getSqlCommandType());
+            msBuilder.resultMaps(mappedStatement.getResultMaps());
+            msBuilder.keyGenerator(NoKeyGenerator.INSTANCE);
+            msBuilder.flushCacheRequired(mappedStatement.isFlushCacheRequired());
+            msBuilder.cache(mappedStatement.getCache());
+            msBuilder.useCache(mappedStatement.isUseCache());
+            msBuilder.statementType(mappedStatement.getStatementType());
+            msBuilder.timeout(mappedStatement.getTimeout());
+            msBuilder.databaseId(mappedStatement.getDatabaseId());
+            configuration.addMappedStatement(msBuilder.build());
+        }
+        return id;
+    }
+
+    private enum WriteType {
+
+        INSERT, UPDATE, DELETE
+
+    }
+
+    private static class PendingWrite {
+
+        final WriteType type;
+
+        final Class<? extends IComponent> componentClass;
+
+        IComponent component;
+
+        PendingWrite(WriteType type, Class<? extends IComponent> componentClass, IComponent component) {
+            super();
+
+            this.type = type;
+            this.componentClass = componentClass;
+            this.component = component;
+        }
+    }
+
+    private static class IdKey {
+
+        final Class<? extends IComponent> componentClass;
+
+        final Object id;
+
+        IdKey(Class<? extends IComponent> componentClass, Object id) {
+            super();
+
+            this.componentClass = componentClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            IdKey idKey = (IdKey) o;
+            return componentClass == idKey.componentClass && Objects.equals(id, idKey.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * componentClass.hashCode() + id.hashCode();
+        }
+    }
+
+    private static class IdentityKey {
+
+        final IComponent component;
+
+        IdentityKey(IComponent component) {
+            super();
+
+            this.component = component;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).component == component;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(component);
+        }
+    }
+
+    private class PreKeyedComponentSqlSession extends DefaultComponentSqlSession {
+
+        PreKeyedComponentSqlSession(SqlSession sqlSession) {
+            super(sqlSession);
+        }
+
+        @Override
+        protected <E extends IComponent> String getInsertStatementId(Class<E> componentClass, E component) {
+            if (preKeyedComponents.contains(component)) {
+                return getPreKeyedInsertStatementId(configuration, componentClass);
+            }
+            return super.getInsertStatementId(componentClass, component);
+        }
+    }
+}
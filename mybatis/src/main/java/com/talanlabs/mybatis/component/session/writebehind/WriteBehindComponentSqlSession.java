@@ -0,0 +1,112 @@
+package com.talanlabs.mybatis.component.session.writebehind;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.mybatis.component.session.IComponentSqlSession;
+import org.apache.ibatis.session.SqlSession;
+
+import java.util.Collection;
+
+/**
+ * Queue writes in the unit of work of current thread if any, else write now. A queued write returns 1, rows are verified at flush
+ */
+public class WriteBehindComponentSqlSession implements IComponentSqlSession {
+
+    private final SqlSession sqlSession;
+
+    private final IComponentSqlSession componentSqlSession;
+
+    public WriteBehindComponentSqlSession(SqlSession sqlSession, IComponentSqlSession componentSqlSession) {
+        super();
+
+        this.sqlSession = sqlSession;
+        this.componentSqlSession = componentSqlSession;
+    }
+
+    @Override
+    public <E extends IComponent> E findById(Class<E> componentClass, Object id) {
+        return componentSqlSession.findById(componentClass, id);
+    }
+
+    @Override
+    public <E extends IComponent> E findById(Class<E> componentClass, Object id, String... projection) {
+        return componentSqlSession.findById(componentClass, id, projection);
+    }
+
+    @Override
+    public <E extends IComponent> int insert(E component) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing()) {
+            return componentSqlSession.insert(component);
+        }
+        if (component == null) {
+            return 0;
+        }
+        unitOfWork.insert(sqlSession, component);
+        return 1;
+    }
+
+    @Override
+    public <E extends IComponent> int insertAll(Collection<E> components) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing()) {
+            return componentSqlSession.insertAll(components);
+        }
+        if (components == null) {
+            return 0;
+        }
+        components.forEach(component -> unitOfWork.insert(sqlSession, component));
+        return components.size();
+    }
+
+    @Override
+    public <E extends IComponent> int update(E component) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing()) {
+            return componentSqlSession.update(component);
+        }
+        if (component == null) {
+            return 0;
+        }
+        unitOfWork.update(sqlSession, component);
+        return 1;
+    }
+
+    @Override
+    public <E extends IComponent> int updateAll(Collection<E> components) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing()) {
+            return componentSqlSession.updateAll(components);
+        }
+        if (components == null) {
+            return 0;
+        }
+        components.forEach(component -> unitOfWork.update(sqlSession, component));
+        return components.size();
+    }
+
+    @Override
+    public <E extends IComponent> int delete(E component) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing()) {
+            return componentSqlSession.delete(component);
+        }
+        if (component == null) {
+            return 0;
+        }
+        unitOfWork.delete(sqlSession, component);
+        return 1;
+    }
+
+    @Override
+    public <E extends IComponent> int deleteAll(Collection<E> components) {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing()) {
+            return componentSqlSession.deleteAll(components);
+        }
+        if (components == null) {
+            return 0;
+        }
+        components.forEach(component -> unitOfWork.delete(sqlSession, component));
+        return components.size();
+    }
+}
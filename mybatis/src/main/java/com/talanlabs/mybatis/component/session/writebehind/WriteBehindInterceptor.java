@@ -0,0 +1,83 @@
+package com.talanlabs.mybatis.component.session.writebehind;
+
+import com.talanlabs.mybatis.component.routing.RoutingTransaction;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.transaction.Transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Flush the unit of work of current thread before commit, before a query or a statement so that they see the queued writes, and discard it on rollback or close.
+ * Only executors on the transaction of the unit of work flush it, other sessions of the thread do not see its writes.
+ * Add it to configuration, ComponentSqlSessionManager then queues writes when a unit of work is begun
+ */
+@Intercepts({ @Signature(type = Executor.class, method = "commit", args = { boolean.class }), @Signature(type = Executor.class, method = "rollback", args = { boolean.class }),
+        @Signature(type = Executor.class, method = "close", args = { boolean.class }), @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class, RowBounds.class }) })
+public class WriteBehindInterceptor implements Interceptor {
+
+    public WriteBehindInterceptor() {
+        super();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        UnitOfWork unitOfWork = UnitOfWork.current();
+        if (unitOfWork == null || unitOfWork.isFlushing() || unitOfWork.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        Executor executor = (Executor) invocation.getTarget();
+        if (executor.isClosed()) {
+            return invocation.proceed();
+        }
+        Transaction transaction = executor.getTransaction();
+        if (!unitOfWork.isBoundTo(getPrimaryConnection(transaction))) {
+            return invocation.proceed();
+        }
+
+        String methodName = invocation.getMethod().getName();
+        if ("rollback".equals(methodName) || "close".equals(methodName)) {
+            unitOfWork.clear();
+            return invocation.proceed();
+        }
+
+        if (transaction instanceof RoutingTransaction) {
+            ((RoutingTransaction) transaction).markWritten();
+        }
+        // Through this executor, its caches are cleared at commit
+        unitOfWork.flush(executor);
+        if ("commit".equals(methodName)) {
+            invocation.getArgs()[0] = true;
+        }
+        return invocation.proceed();
+    }
+
+    private Connection getPrimaryConnection(Transaction transaction) throws SQLException {
+        return transaction instanceof RoutingTransaction ? ((RoutingTransaction) transaction).getPrimaryConnection() : transaction.getConnection();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
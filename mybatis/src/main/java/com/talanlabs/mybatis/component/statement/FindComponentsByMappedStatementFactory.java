@@ -34,27 +34,29 @@ public class FindComponentsByMappedStatementFactory extends AbstractMappedStatem
             boolean ignoreCancel = StatementNameHelper.isIgnoreCancelInFindComponentsByKey(key);
             List<Pair<String, String>> orderBies = StatementNameHelper.extractOrderBiesInFindComponentsByKey(key);
             if (componentClass != null && propertyNames != null && propertyNames.length > 0) {
-                return createFindComponentsByMappedStatement(componentConfiguration, key, componentClass, ignoreCancel, propertyNames, orderBies);
+                return createFindComponentsByMappedStatement(componentConfiguration, key, componentClass, ignoreCancel, propertyNames, orderBies,
+                        StatementNameHelper.extractProjectionInFindComponentsByKey(key));
             }
         }
         return null;
     }
 
     private <E extends IComponent> MappedStatement createFindComponentsByMappedStatement(ComponentConfiguration componentConfiguration, String key, Class<E> componentClass, boolean ignoreCancel,
-            String[] propertyNames, List<Pair<String, String>> orderBies) {
+            String[] propertyNames, List<Pair<String, String>> orderBies, String[] projection) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Create findComponentsBy for " + componentClass);
         }
 
-        ResultMap inlineResultMap = componentConfiguration.getResultMap(ResultMapNameHelper.buildResultMapKey(componentClass));
+        ResultMap inlineResultMap = componentConfiguration.getResultMap(ResultMapNameHelper.buildResultMapKey(componentClass, projection));
 
         MappedStatement.Builder msBuilder = new MappedStatement.Builder(componentConfiguration, key,
-                new FindComponentsByPropertyNameSqlSource<>(componentConfiguration, componentClass, ignoreCancel, propertyNames, orderBies), SqlCommandType.SELECT);
+                new FindComponentsByPropertyNameSqlSource<>(componentConfiguration, componentClass, ignoreCancel, propertyNames, orderBies, projection), SqlCommandType.SELECT);
         msBuilder.resultMaps(Collections.singletonList(inlineResultMap));
-        Cache cache = componentConfiguration.getCache(CacheNameHelper.buildCacheKey(componentClass));
+        // Projected components are partial, they are not shared in cache
+        Cache cache = projection == null ? componentConfiguration.getCache(CacheNameHelper.buildCacheKey(componentClass)) : null;
         msBuilder.flushCacheRequired(false);
         msBuilder.cache(cache);
-        msBuilder.useCache(true);
+        msBuilder.useCache(cache != null);
         return msBuilder.build();
     }
 }
@@ -30,29 +30,31 @@ public class FindEntityByIdMappedStatementFactory extends AbstractMappedStatemen
         if (StatementNameHelper.isFindEntityByIdKey(key)) {
             Class<? extends IComponent> componentClass = StatementNameHelper.extractComponentClassInFindEntityByIdKey(key);
             if (componentClass != null) {
-                return createFindEntityByIdMappedStatement(componentConfiguration, key, componentClass);
+                return createFindEntityByIdMappedStatement(componentConfiguration, key, componentClass, StatementNameHelper.extractProjectionInFindEntityByIdKey(key));
             }
         }
         return null;
     }
 
-    private <E extends IComponent> MappedStatement createFindEntityByIdMappedStatement(ComponentConfiguration componentConfiguration, String key, Class<E> componentClass) {
+    private <E extends IComponent> MappedStatement createFindEntityByIdMappedStatement(ComponentConfiguration componentConfiguration, String key, Class<E> componentClass,
+            String[] projection) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Create findEntityById for " + componentClass);
         }
 
-        ResultMap inlineResultMap = componentConfiguration.getResultMap(ResultMapNameHelper.buildResultMapKey(componentClass));
+        ResultMap inlineResultMap = componentConfiguration.getResultMap(ResultMapNameHelper.buildResultMapKey(componentClass, projection));
 
         String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
 
         MappedStatement.Builder msBuilder = new MappedStatement.Builder(componentConfiguration, key,
-                new FindComponentsByPropertyNameSqlSource<>(componentConfiguration, componentClass, false, new String[] { idPropertyName }, null), SqlCommandType.SELECT);
+                new FindComponentsByPropertyNameSqlSource<>(componentConfiguration, componentClass, false, new String[] { idPropertyName }, null, projection), SqlCommandType.SELECT);
 
         msBuilder.resultMaps(Collections.singletonList(inlineResultMap));
-        Cache cache = componentConfiguration.getCache(CacheNameHelper.buildCacheKey(componentClass));
+        // Projected components are partial, they are not shared in cache
+        Cache cache = projection == null ? componentConfiguration.getCache(CacheNameHelper.buildCacheKey(componentClass)) : null;
         msBuilder.flushCacheRequired(false);
         msBuilder.cache(cache);
-        msBuilder.useCache(true);
+        msBuilder.useCache(cache != null);
         return msBuilder.build();
     }
 }
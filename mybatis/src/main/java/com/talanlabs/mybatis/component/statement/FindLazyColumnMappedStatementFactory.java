@@ -0,0 +1,70 @@
+package com.talanlabs.mybatis.component.statement;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.factory.AbstractMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.sqlsource.FindLazyColumnSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Select one column with fetchType LAZY by id, the value is read with the registered type handler for java type
+ * <p>
+ * With fail flag (property not loaded by projection), the statement throws an IllegalStateException
+ */
+public class FindLazyColumnMappedStatementFactory extends AbstractMappedStatementFactory {
+
+    private static final Logger LOG = LogManager.getLogger(FindLazyColumnMappedStatementFactory.class);
+
+    @Override
+    public boolean acceptKey(String key) {
+        return StatementNameHelper.isFindLazyColumnKey(key);
+    }
+
+    @Override
+    public MappedStatement createMappedStatement(ComponentConfiguration componentConfiguration, String key) {
+        if (StatementNameHelper.isFindLazyColumnKey(key)) {
+            Class<? extends IComponent> componentClass = StatementNameHelper.extractComponentClassInFindLazyColumnKey(key);
+            String propertyName = StatementNameHelper.extractPropertyNameInFindLazyColumnByKey(key);
+            if (componentClass != null) {
+                return createFindLazyColumnMappedStatement(componentConfiguration, key, componentClass, propertyName, StatementNameHelper.isFailInFindLazyColumnKey(key));
+            }
+        }
+        return null;
+    }
+
+    private <E extends IComponent> MappedStatement createFindLazyColumnMappedStatement(ComponentConfiguration componentConfiguration, String key, Class<E> componentClass, String propertyName,
+            boolean fail) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Create find lazy column for " + componentClass);
+        }
+
+        ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+        ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+        if (propertyDescriptor == null) {
+            throw new IllegalArgumentException("Not exists property for Component=" + componentClass + " with property=" + propertyName);
+        }
+        Column column = ComponentMyBatisHelper.getColumnAnnotation(componentDescriptor, propertyDescriptor);
+        Class<?> javaType = column != null && column.javaType() != void.class ? column.javaType() : propertyDescriptor.getPropertyClass();
+
+        ResultMap.Builder inlineResultMapBuilder = new ResultMap.Builder(componentConfiguration, key + "-Inline", javaType, new ArrayList<>(), null);
+
+        MappedStatement.Builder msBuilder = new MappedStatement.Builder(componentConfiguration, key, new FindLazyColumnSqlSource<>(componentConfiguration, componentClass, propertyName, fail),
+                SqlCommandType.SELECT);
+        msBuilder.resultMaps(Collections.singletonList(inlineResultMapBuilder.build()));
+        msBuilder.flushCacheRequired(false);
+        msBuilder.cache(null);
+        msBuilder.useCache(false);
+        return msBuilder.build();
+    }
+}
@@ -25,11 +25,13 @@ public class StatementNameHelper {
 
     public static final String DELETE_NAME = "delete";
 
-    private static final String DELETE_ENTITY_BY_ID_NAME = "deleteEntityById";
+    public static final String DELETE_ENTITY_BY_ID_NAME = "deleteEntityById";
 
-    private static final String DELETE_COMPONENTS_BY_NAME = "deleteComponentsBy";
+    public static final String DELETE_COMPONENTS_BY_NAME = "deleteComponentsBy";
 
-    private static final String FIND_NLS_COLUMN_NAME = "findNlsColumn";
+    public static final String FIND_NLS_COLUMN_NAME = "findNlsColumn";
+
+    public static final String FIND_LAZY_COLUMN_NAME = "findLazyColumn";
 
     public static final String PROPERTY = "property";
 
@@ -49,6 +51,10 @@ public class StatementNameHelper {
 
     public static final String ORDER_BY = "orderBy";
 
+    public static final String PROJECTION = "projection";
+
+    public static final String FAIL = "fail";
+
     public static final String PARAM = "";
 
     public static final String PROPERTIES_SEPARATOR = ",";
@@ -69,10 +75,10 @@ public class StatementNameHelper {
 
     public static final String ORDERS_BY_PAT = "(" + ORDER_BY_PAT + "#)*" + ORDER_BY_PAT;
 
-    public static final Pattern FIND_ENTITY_BY_ID_PATTERN = Pattern.compile("(" + COMPONENT_CLASS_PAT + ")/" + FIND_ENTITY_BY_ID_NAME);
+    public static final Pattern FIND_ENTITY_BY_ID_PATTERN = Pattern.compile("(" + COMPONENT_CLASS_PAT + ")/" + FIND_ENTITY_BY_ID_NAME + "(\\?" + PROJECTION + "=(" + PROPERTIES_PAT + "))?");
 
     public static final Pattern FIND_COMPONENTS_BY_PATTERN = Pattern.compile(
-            "(" + COMPONENT_CLASS_PAT + ")/" + FIND_COMPONENTS_BY_NAME + "\\?" + PROPERTIES + "=(" + PROPERTIES_PAT + ")(&" + ORDER_BY + "=(" + ORDERS_BY_PAT + "))?(&(" + IGNORE_CANCEL + "))?");
+            "(" + COMPONENT_CLASS_PAT + ")/" + FIND_COMPONENTS_BY_NAME + "\\?" + PROPERTIES + "=(" + PROPERTIES_PAT + ")(&" + ORDER_BY + "=(" + ORDERS_BY_PAT + "))?(&(" + IGNORE_CANCEL + "))?(&" + PROJECTION + "=(" + PROPERTIES_PAT + "))?");
 
     public static final Pattern FIND_COMPONENTS_BY_JOIN_TABLE_PATTERN = Pattern.compile(
             "(" + COMPONENT_CLASS_PAT + ")/" + FIND_COMPONENTS_BY_JOIN_TABLE_NAME + "\\?" + SOURCE_COMPONENT + "=(" + COMPONENT_CLASS_PAT + ")&" + SOURCE_PROPERTIES + "=(" + PROPERTIES_PAT + ")&"
@@ -90,6 +96,8 @@ public class StatementNameHelper {
 
     private static final Pattern FIND_NLS_COLUMN_PATTERN = Pattern.compile("(" + COMPONENT_CLASS_PAT + ")/" + FIND_NLS_COLUMN_NAME + "\\?" + PROPERTY + "=(" + PROPERTY_PAT + ")");
 
+    private static final Pattern FIND_LAZY_COLUMN_PATTERN = Pattern.compile("(" + COMPONENT_CLASS_PAT + ")/" + FIND_LAZY_COLUMN_NAME + "\\?" + PROPERTY + "=(" + PROPERTY_PAT + ")(&(" + FAIL + "))?");
+
     private StatementNameHelper() {
         super();
     }
@@ -104,6 +112,20 @@ public class StatementNameHelper {
         return PARAM + i;
     }
 
+    /**
+     * Build projection part of key
+     *
+     * @param prefix     ? or &amp;
+     * @param projection properties
+     * @return empty if no projection
+     */
+    public static String buildProjection(String prefix, String... projection) {
+        if (projection == null || projection.length == 0) {
+            return "";
+        }
+        return prefix + PROJECTION + "=" + String.join(PROPERTIES_SEPARATOR, projection);
+    }
+
     // FindEntityById
 
     /**
@@ -113,10 +135,21 @@ public class StatementNameHelper {
      * @return key
      */
     public static <E extends IComponent> String buildFindEntityByIdKey(Class<E> componentClass) {
+        return buildFindEntityByIdKey(componentClass, (String[]) null);
+    }
+
+    /**
+     * Build find entity by id key with projection
+     *
+     * @param componentClass component class
+     * @param projection     properties to select, null or empty for all
+     * @return key
+     */
+    public static <E extends IComponent> String buildFindEntityByIdKey(Class<E> componentClass, String... projection) {
         if (componentClass == null) {
             return null;
         }
-        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + FIND_ENTITY_BY_ID_NAME;
+        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + FIND_ENTITY_BY_ID_NAME + buildProjection("?", projection);
     }
 
     /**
@@ -150,6 +183,23 @@ public class StatementNameHelper {
         return ComponentMyBatisHelper.loadComponentClass(m.group(1));
     }
 
+    /**
+     * Extract projection
+     *
+     * @param key key
+     * @return properties or null if not projection
+     */
+    public static String[] extractProjectionInFindEntityByIdKey(String key) {
+        if (!isFindEntityByIdKey(key)) {
+            return null;
+        }
+        Matcher m = FIND_ENTITY_BY_ID_PATTERN.matcher(key);
+        if (!m.find() || m.group(4) == null) {
+            return null;
+        }
+        return m.group(4).split(PROPERTIES_SEPARATOR);
+    }
+
     // FindComponentsBy
 
     /**
@@ -162,13 +212,28 @@ public class StatementNameHelper {
      * @return key
      */
     public static <E extends IComponent> String buildFindComponentsByKey(Class<E> componentClass, boolean useCheckCancel, String[] propertyNames, List<Pair<String, String>> orderBys) {
+        return buildFindComponentsByKey(componentClass, useCheckCancel, propertyNames, orderBys, (String[]) null);
+    }
+
+    /**
+     * Build find components by id key with projection
+     *
+     * @param componentClass component class
+     * @param useCheckCancel use check cancel
+     * @param propertyNames  array of property
+     * @param orderBys       list of order by
+     * @param projection     properties to select, null or empty for all
+     * @return key
+     */
+    public static <E extends IComponent> String buildFindComponentsByKey(Class<E> componentClass, boolean useCheckCancel, String[] propertyNames, List<Pair<String, String>> orderBys,
+            String... projection) {
         if (componentClass == null || propertyNames == null || propertyNames.length == 0) {
             return null;
         }
         List<String> os = orderBys != null && !orderBys.isEmpty() ? orderBys.stream().map(o -> o.getLeft() + ";" + o.getRight()).collect(Collectors.toList()) : null;
         return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + FIND_COMPONENTS_BY_NAME + "?" + PROPERTIES + "=" + String.join(PROPERTIES_SEPARATOR, propertyNames) + (os != null ?
                 "&" + ORDER_BY + "=" + String.join("#", os) :
-                "") + (useCheckCancel ? "&" + IGNORE_CANCEL : "");
+                "") + (useCheckCancel ? "&" + IGNORE_CANCEL : "") + buildProjection("&", projection);
     }
 
     /**
@@ -259,6 +324,23 @@ public class StatementNameHelper {
         return m.find() && IGNORE_CANCEL.equals(m.group(11));
     }
 
+    /**
+     * Extract projection
+     *
+     * @param key key
+     * @return properties or null if not projection
+     */
+    public static String[] extractProjectionInFindComponentsByKey(String key) {
+        if (!isFindComponentsByKey(key)) {
+            return null;
+        }
+        Matcher m = FIND_COMPONENTS_BY_PATTERN.matcher(key);
+        if (!m.find() || m.group(13) == null) {
+            return null;
+        }
+        return m.group(13).split(PROPERTIES_SEPARATOR);
+    }
+
     // FindComponentsByJoinTable
 
     /**
@@ -653,6 +735,96 @@ public class StatementNameHelper {
         return m.group(3);
     }
 
+    // LazyColumn
+
+    /**
+     * Build lazy column key
+     *
+     * @param componentClass component class
+     * @param property       property
+     * @return key
+     */
+    public static <E extends IComponent> String buildFindLazyColumnKey(Class<E> componentClass, String property) {
+        return buildFindLazyColumnKey(componentClass, property, false);
+    }
+
+    /**
+     * Build lazy column key
+     *
+     * @param componentClass component class
+     * @param property       property
+     * @param fail           loading throws an exception, property is not loaded
+     * @return key
+     */
+    public static <E extends IComponent> String buildFindLazyColumnKey(Class<E> componentClass, String property, boolean fail) {
+        if (componentClass == null) {
+            return null;
+        }
+        return ComponentMyBatisHelper.componentClassToString(componentClass) + "/" + FIND_LAZY_COLUMN_NAME + "?" + PROPERTY + "=" + property + (fail ? "&" + FAIL : "");
+    }
+
+    /**
+     * Verify is lazy column key
+     *
+     * @param key key
+     * @return true or false
+     */
+    public static boolean isFindLazyColumnKey(String key) {
+        if (StringUtils.isBlank(key)) {
+            return false;
+        }
+        Matcher m = FIND_LAZY_COLUMN_PATTERN.matcher(key);
+        return m.matches();
+    }
+
+    /**
+     * Extract component in the key
+     *
+     * @param key key
+     * @return component class
+     */
+    public static <E extends IComponent> Class<E> extractComponentClassInFindLazyColumnKey(String key) {
+        if (!isFindLazyColumnKey(key)) {
+            return null;
+        }
+        Matcher m = FIND_LAZY_COLUMN_PATTERN.matcher(key);
+        if (!m.find()) {
+            return null;
+        }
+        return ComponentMyBatisHelper.loadComponentClass(m.group(1));
+    }
+
+    /**
+     * Extract property
+     *
+     * @param key key
+     * @return property
+     */
+    public static String extractPropertyNameInFindLazyColumnByKey(String key) {
+        if (!isFindLazyColumnKey(key)) {
+            return null;
+        }
+        Matcher m = FIND_LAZY_COLUMN_PATTERN.matcher(key);
+        if (!m.find()) {
+            return null;
+        }
+        return m.group(3);
+    }
+
+    /**
+     * Extract fail
+     *
+     * @param key key
+     * @return true if loading fails
+     */
+    public static boolean isFailInFindLazyColumnKey(String key) {
+        if (!isFindLazyColumnKey(key)) {
+            return false;
+        }
+        Matcher m = FIND_LAZY_COLUMN_PATTERN.matcher(key);
+        return m.find() && FAIL.equals(m.group(5));
+    }
+
     // DeleteEntityById
 
     /**
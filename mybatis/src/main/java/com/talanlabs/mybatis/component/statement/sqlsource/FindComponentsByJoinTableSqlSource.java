@@ -59,7 +59,7 @@ public class FindComponentsByJoinTableSqlSource<E extends IComponent> implements
         Entity entity = ComponentMyBatisHelper.getEntityAnnotation(componentDescriptor);
 
         SQL sqlBuilder = new SQL();
-        sqlBuilder.SELECT("t.*");
+        sqlBuilder.SELECT(ComponentMyBatisHelper.buildSelectColumns(componentClass, "t"));
         sqlBuilder.FROM(entity.name() + " t");
         int i = 0;
         for (int j = joins.size() - 1; j >= 0; j--) {
@@ -31,13 +31,21 @@ public class FindComponentsByPropertyNameSqlSource<E extends IComponent> impleme
 
     public FindComponentsByPropertyNameSqlSource(ComponentConfiguration componentConfiguration, Class<E> componentClass, boolean ignoreCancel, String[] propertyNames,
             List<Pair<String, String>> orderBies) {
+        this(componentConfiguration, componentClass, ignoreCancel, propertyNames, orderBies, null);
+    }
+
+    /**
+     * @param projection properties to select, null for all
+     */
+    public FindComponentsByPropertyNameSqlSource(ComponentConfiguration componentConfiguration, Class<E> componentClass, boolean ignoreCancel, String[] propertyNames,
+            List<Pair<String, String>> orderBies, String[] projection) {
         super();
 
         this.ignoreCancel = ignoreCancel && ICancelable.class.isAssignableFrom(componentClass);
 
         SqlSourceBuilder sqlSourceParser = new SqlSourceBuilder(componentConfiguration);
 
-        String sql = buildFindComponentsByPropertyName(componentClass, propertyNames, orderBies);
+        String sql = buildFindComponentsByPropertyName(componentClass, propertyNames, orderBies, projection);
         sqlSource = sqlSourceParser.parse(sql, Map.class, new HashMap<>());
     }
 
@@ -50,13 +58,13 @@ public class FindComponentsByPropertyNameSqlSource<E extends IComponent> impleme
         return boundSql;
     }
 
-    private String buildFindComponentsByPropertyName(Class<E> componentClass, String[] propertyNames, List<Pair<String, String>> orderBies) {
+    private String buildFindComponentsByPropertyName(Class<E> componentClass, String[] propertyNames, List<Pair<String, String>> orderBies, String[] projection) {
         ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
 
         Entity entity = ComponentMyBatisHelper.getEntityAnnotation(componentDescriptor);
 
         SQL sqlBuilder = new SQL();
-        sqlBuilder.SELECT("t.*");
+        sqlBuilder.SELECT(ComponentMyBatisHelper.buildSelectColumns(componentClass, "t", projection));
         sqlBuilder.FROM(entity.name() + " t");
         int param = 1;
         for (String propertyName : propertyNames) {
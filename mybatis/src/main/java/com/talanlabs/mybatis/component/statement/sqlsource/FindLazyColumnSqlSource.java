@@ -0,0 +1,147 @@
+package com.talanlabs.mybatis.component.statement.sqlsource;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentDescriptor;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Entity;
+import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import org.apache.ibatis.builder.SqlSourceBuilder;
+import org.apache.ibatis.jdbc.SQL;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FindLazyColumnSqlSource<E extends IComponent> implements SqlSource {
+
+    private static final Logger LOG = LogManager.getLogger(FindLazyColumnSqlSource.class);
+
+    private static final String FAIL_PARAMETER = "fail";
+
+    private final ComponentConfiguration componentConfiguration;
+    private final Class<E> componentClass;
+    private final String propertyName;
+    private final boolean fail;
+    private final SqlSource sqlSource;
+
+    public FindLazyColumnSqlSource(ComponentConfiguration componentConfiguration, Class<E> componentClass, String propertyName) {
+        this(componentConfiguration, componentClass, propertyName, false);
+    }
+
+    /**
+     * @param fail if true, throw an exception instead of loading the column (property not loaded by projection)
+     */
+    public FindLazyColumnSqlSource(ComponentConfiguration componentConfiguration, Class<E> componentClass, String propertyName, boolean fail) {
+        super();
+
+        this.componentConfiguration = componentConfiguration;
+        this.componentClass = componentClass;
+        this.propertyName = propertyName;
+        this.fail = fail;
+
+        SqlSourceBuilder sqlSourceParser = new SqlSourceBuilder(componentConfiguration);
+
+        // Property may not be a Column when fail, the statement selects the id and is never executed
+        String sql = buildFindLazyColumn(componentClass, fail ? EntityHelper.findIdPropertyName(componentClass) : propertyName);
+        sqlSource = sqlSourceParser.parse(sql, Map.class, new HashMap<>());
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        BoundSql boundSql = sqlSource.getBoundSql(parameterObject);
+        if (fail) {
+            // ComponentProxyFactory throws before loading, other proxies and components read from a Cursor load the nested query and fail when the parameter is set
+            ParameterMapping failParameterMapping = new ParameterMapping.Builder(componentConfiguration, FAIL_PARAMETER, new FailTypeHandler(componentClass, propertyName)).build();
+            BoundSql failBoundSql = new BoundSql(componentConfiguration, boundSql.getSql(), Collections.singletonList(failParameterMapping), parameterObject);
+            failBoundSql.setAdditionalParameter(FAIL_PARAMETER, propertyName);
+            return failBoundSql;
+        }
+        return boundSql;
+    }
+
+    private String buildFindLazyColumn(Class<E> componentClass, String propertyName) {
+        ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
+
+        Entity entity = ComponentMyBatisHelper.getEntityAnnotation(componentDescriptor);
+
+        ComponentDescriptor.PropertyDescriptor propertyDescriptor = componentDescriptor.getPropertyDescriptor(propertyName);
+        if (propertyDescriptor == null) {
+            throw new IllegalArgumentException("Not exists property for Component=" + componentClass + " with property=" + propertyName);
+        }
+        Column column = ComponentMyBatisHelper.getColumnAnnotation(componentDescriptor, propertyDescriptor);
+        if (column == null) {
+            throw new IllegalArgumentException("Not present annotation Column for Component=" + componentClass + " with property=" + propertyName);
+        }
+
+        String idPropertyName = EntityHelper.findIdPropertyName(componentClass);
+        if (idPropertyName == null) {
+            throw new IllegalArgumentException("Not find Id property for Component=" + componentClass);
+        }
+        ComponentDescriptor.PropertyDescriptor idPropertyDescriptor = componentDescriptor.getPropertyDescriptor(idPropertyName);
+        Column idColumn = ComponentMyBatisHelper.getColumnAnnotation(componentDescriptor, idPropertyDescriptor);
+        if (idColumn == null) {
+            throw new IllegalArgumentException("Not present annotation Column for Component=" + componentClass + " with property=" + idPropertyName);
+        }
+
+        SQL sqlBuilder = new SQL();
+        sqlBuilder.SELECT("t." + column.name());
+        sqlBuilder.FROM(entity.name() + " t");
+        sqlBuilder.WHERE("t." + idColumn.name() + " = " + ComponentMyBatisHelper.buildColumn(componentDescriptor, idPropertyDescriptor, idColumn, StatementNameHelper.buildParam(1)));
+        String sql = sqlBuilder.toString();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(sql);
+        }
+        return sql;
+    }
+
+    private static class FailTypeHandler implements TypeHandler<Object> {
+
+        private final Class<?> componentClass;
+        private final String propertyName;
+
+        FailTypeHandler(Class<?> componentClass, String propertyName) {
+            super();
+
+            this.componentClass = componentClass;
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public void setParameter(PreparedStatement ps, int i, Object parameter, JdbcType jdbcType) {
+            throw fail();
+        }
+
+        @Override
+        public Object getResult(ResultSet rs, String columnName) {
+            throw fail();
+        }
+
+        @Override
+        public Object getResult(ResultSet rs, int columnIndex) {
+            throw fail();
+        }
+
+        @Override
+        public Object getResult(CallableStatement cs, int columnIndex) {
+            throw fail();
+        }
+
+        private IllegalStateException fail() {
+            return new IllegalStateException("Property not loaded by projection for Component=" + componentClass + " with property=" + propertyName);
+        }
+    }
+}
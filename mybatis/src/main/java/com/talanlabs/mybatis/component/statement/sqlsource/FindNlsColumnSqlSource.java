@@ -5,6 +5,9 @@ import com.talanlabs.component.factory.ComponentDescriptor;
 import com.talanlabs.component.factory.ComponentFactory;
 import com.talanlabs.entity.annotation.Entity;
 import com.talanlabs.entity.annotation.NlsColumn;
+import com.talanlabs.entity.helper.EntityHelper;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionary;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionaryInterceptor;
 import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
 import com.talanlabs.mybatis.component.session.ComponentConfiguration;
 import com.talanlabs.mybatis.component.session.handler.INlsColumnHandler;
@@ -27,6 +30,8 @@ public class FindNlsColumnSqlSource<E extends IComponent> implements SqlSource {
 
     private final NlsColumn nlsColumn;
 
+    private final String sourcePropertyName;
+
     public FindNlsColumnSqlSource(ComponentConfiguration componentConfiguration, Class<E> componentClass, String propertyName) {
         super();
 
@@ -37,6 +42,11 @@ public class FindNlsColumnSqlSource<E extends IComponent> implements SqlSource {
         ComponentDescriptor<E> componentDescriptor = ComponentFactory.getInstance().getDescriptor(componentClass);
         entity = ComponentMyBatisHelper.getEntityAnnotation(componentDescriptor);
         nlsColumn = ComponentMyBatisHelper.getNlsColumnAnnotation(componentDescriptor, componentDescriptor.getPropertyDescriptor(propertyName));
+        if (nlsColumn.propertySource().length == 0) {
+            sourcePropertyName = EntityHelper.findIdPropertyName(componentClass);
+        } else {
+            sourcePropertyName = nlsColumn.propertySource().length == 1 ? nlsColumn.propertySource()[0] : null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -59,6 +69,13 @@ public class FindNlsColumnSqlSource<E extends IComponent> implements SqlSource {
         String selectId = nlsColumnHandler.getSelectNlsColumnId(componentClass, propertyName);
         MappedStatement mappedStatement = componentConfiguration.getMappedStatement(selectId);
 
+        NlsColumnDictionary nlsColumnDictionary = componentConfiguration.getNlsColumnDictionary();
+        if (nlsColumnDictionary != null && sourcePropertyName != null && parameterObject instanceof Map) {
+            Map<String, Object> parameter = (Map<String, Object>) parameterObject;
+            additionalParameters.put(NlsColumnDictionaryInterceptor.LOOKUP_PARAMETER, NlsColumnDictionaryInterceptor.Lookup
+                    .of(nlsColumnDictionary, entity.name(), nlsColumn.name(), parameter.get(sourcePropertyName), nlsColumnHandler.getContext(), parameter.get("defaultValue")));
+        }
+
         BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
         additionalParameters.entrySet().forEach(e -> boundSql.setAdditionalParameter(e.getKey(), e.getValue()));
         return boundSql;
@@ -0,0 +1,125 @@
+package com.talanlabs.mybatis.simple.handler;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+import org.apache.ibatis.type.TypeException;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+
+/**
+ * Type handler of IdBinary, register it instead of IdTypeHandler. Legacy IdString and String parameters are converted, IdLong of @Sequence entities stays numeric.
+ * <p>
+ * Read accepts byte[], UUID and String columns, so legacy VARCHAR ids can be read during a migration, numeric columns are read as IdLong
+ */
+@MappedTypes({ IId.class, IdFactory.IdBinary.class, IdFactory.IdString.class, IdFactory.IdLong.class })
+public class BinaryIdTypeHandler extends BaseTypeHandler<Object> {
+
+    public enum Storage {
+        /**
+         * BINARY(16) for HSQLDB, H2, MySQL, SQL Server, RAW(16) for Oracle, BYTEA for PostgreSQL
+         */
+        BINARY,
+        /**
+         * Native UUID type for PostgreSQL and H2
+         */
+        UUID
+    }
+
+    private final Storage storage;
+
+    public BinaryIdTypeHandler() {
+        this(Storage.BINARY);
+    }
+
+    public BinaryIdTypeHandler(Storage storage) {
+        super();
+
+        if (storage == null) {
+            throw new IllegalArgumentException("Storage must not be null");
+        }
+        this.storage = storage;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, Object parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter == null) {
+            try {
+                ps.setNull(i, storage == Storage.UUID ? Types.OTHER : Types.BINARY);
+            } catch (SQLException e) {
+                throw new TypeException("Error setting null for parameter #" + i + " with JdbcType " + jdbcType + " . "
+                        + "Try setting a different JdbcType for this parameter or a different jdbcTypeForNull configuration property. " + "Cause: " + e, e);
+            }
+        } else {
+            setNonNullParameter(ps, i, parameter, jdbcType);
+        }
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Object parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter instanceof IdFactory.IdLong) {
+            ps.setLong(i, ((IdFactory.IdLong) parameter).getValue());
+            return;
+        }
+        IdFactory.IdBinary idBinary = toIdBinary(parameter);
+        if (storage == Storage.UUID) {
+            ps.setObject(i, idBinary.toUuid());
+        } else {
+            ps.setBytes(i, idBinary.toBytes());
+        }
+    }
+
+    private IdFactory.IdBinary toIdBinary(Object parameter) {
+        if (parameter instanceof IdFactory.IdBinary) {
+            return (IdFactory.IdBinary) parameter;
+        } else if (parameter instanceof IdFactory.IdString) {
+            return IdFactory.IdBinary.fromString(((IdFactory.IdString) parameter).getId());
+        } else if (parameter instanceof String) {
+            return IdFactory.IdBinary.fromString((String) parameter);
+        } else if (parameter instanceof UUID) {
+            return IdFactory.IdBinary.from((UUID) parameter);
+        }
+        throw new IllegalArgumentException("Not IId for parameter=" + parameter);
+    }
+
+    @Override
+    public IId getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return parse(rs.getObject(columnName));
+    }
+
+    @Override
+    public IId getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return parse(rs.getObject(columnIndex));
+    }
+
+    @Override
+    public IId getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return parse(cs.getObject(columnIndex));
+    }
+
+    private IId parse(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return IdFactory.IdBinary.fromBytes((byte[]) value);
+        } else if (value instanceof UUID) {
+            return IdFactory.IdBinary.from((UUID) value);
+        } else if (value instanceof String) {
+            return IdFactory.IdBinary.fromString((String) value);
+        } else if (value instanceof Number) {
+            return IdFactory.IdLong.of(((Number) value).longValue());
+        }
+        throw new TypeException("Not binary id for value of " + value.getClass());
+    }
+}
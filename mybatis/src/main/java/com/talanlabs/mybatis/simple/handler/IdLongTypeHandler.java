@@ -0,0 +1,44 @@
+package com.talanlabs.mybatis.simple.handler;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Numeric ids read as IdLong, used for id of entities with @Sequence. Other ids stay IdString with IdTypeHandler
+ */
+public class IdLongTypeHandler extends BaseTypeHandler<IId> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, IId parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter instanceof IdFactory.IdLong) {
+            ps.setLong(i, ((IdFactory.IdLong) parameter).getValue());
+        } else {
+            ps.setString(i, parameter.toString());
+        }
+    }
+
+    @Override
+    public IId getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        long value = rs.getLong(columnName);
+        return rs.wasNull() ? null : new IdFactory.IdLong(value);
+    }
+
+    @Override
+    public IId getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        long value = rs.getLong(columnIndex);
+        return rs.wasNull() ? null : new IdFactory.IdLong(value);
+    }
+
+    @Override
+    public IId getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        long value = cs.getLong(columnIndex);
+        return cs.wasNull() ? null : new IdFactory.IdLong(value);
+    }
+}
@@ -12,7 +12,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-@MappedTypes({ IId.class, IdFactory.IdString.class })
+@MappedTypes({ IId.class, IdFactory.IdString.class, IdFactory.IdBinary.class, IdFactory.IdLong.class })
 public class IdTypeHandler extends BaseTypeHandler<Object> {
 
     @Override
@@ -35,6 +35,10 @@ public class IdTypeHandler extends BaseTypeHandler<Object> {
             ps.setString(i, ((IdFactory.IdString) parameter).getId());
         } else if (parameter instanceof String) {
             ps.setString(i, (String) parameter);
+        } else if (parameter instanceof IdFactory.IdLong) {
+            ps.setLong(i, ((IdFactory.IdLong) parameter).getValue());
+        } else if (parameter instanceof IdFactory.IdBinary) {
+            ps.setString(i, parameter.toString());
         } else {
             throw new IllegalArgumentException("Not IId for parameter=" + parameter);
         }
@@ -58,6 +62,7 @@ public class IdTypeHandler extends BaseTypeHandler<Object> {
         return parse(bs);
     }
 
+    // Always IdString, numeric ids of @Sequence entities are read by IdLongTypeHandler
     private IId parse(String bs) throws SQLException {
         return bs != null ? new IdFactory.IdString(bs) : null;
     }
@@ -0,0 +1,23 @@
+package com.talanlabs.mybatis.test.data;
+
+import com.talanlabs.component.annotation.ComponentBean;
+import com.talanlabs.entity.IEntity;
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Entity;
+
+@Entity(name = "T_BINARY_ITEM")
+@ComponentBean
+public interface IBinaryItem extends IEntity {
+
+    @Column(name = "NAME")
+    String getName();
+
+    void setName(String name);
+
+    @Column(name = "ITEM_ID")
+    IId getItemId();
+
+    void setItemId(IId itemId);
+
+}
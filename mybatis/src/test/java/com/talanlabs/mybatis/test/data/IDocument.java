@@ -0,0 +1,24 @@
+package com.talanlabs.mybatis.test.data;
+
+import com.talanlabs.component.annotation.ComponentBean;
+import com.talanlabs.entity.IEntity;
+import com.talanlabs.entity.ITracable;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Entity;
+import com.talanlabs.entity.annotation.FetchType;
+
+@Entity(name = "T_DOCUMENT")
+@ComponentBean
+public interface IDocument extends IEntity, ITracable {
+
+    @Column(name = "NAME")
+    String getName();
+
+    void setName(String name);
+
+    @Column(name = "CONTENT", fetchType = FetchType.LAZY)
+    String getContent();
+
+    void setContent(String content);
+
+}
@@ -0,0 +1,19 @@
+package com.talanlabs.mybatis.test.data;
+
+import com.talanlabs.component.annotation.ComponentBean;
+import com.talanlabs.entity.IEntity;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Entity;
+import com.talanlabs.entity.annotation.Sequence;
+
+@Entity(name = "T_ITEM")
+@Sequence(name = "S_ITEM", allocationSize = 10)
+@ComponentBean
+public interface IItem extends IEntity {
+
+    @Column(name = "NAME")
+    String getName();
+
+    void setName(String name);
+
+}
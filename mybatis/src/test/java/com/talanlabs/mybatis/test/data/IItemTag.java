@@ -0,0 +1,35 @@
+package com.talanlabs.mybatis.test.data;
+
+import com.talanlabs.component.annotation.ComponentBean;
+import com.talanlabs.entity.IEntity;
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.annotation.Association;
+import com.talanlabs.entity.annotation.Column;
+import com.talanlabs.entity.annotation.Entity;
+import com.talanlabs.entity.factory.IdFactory;
+
+@Entity(name = "T_ITEM_TAG")
+@ComponentBean
+public interface IItemTag extends IEntity {
+
+    @Column(name = "NAME")
+    String getName();
+
+    void setName(String name);
+
+    @Column(name = "ITEM_ID")
+    IId getItemId();
+
+    void setItemId(IId itemId);
+
+    @Association(propertySource = ItemTagFields.itemId)
+    IItem getItem();
+
+    void setItem(IItem item);
+
+    @Column(name = "ORIGIN_ITEM_ID", javaType = IdFactory.IdLong.class)
+    IId getOriginItemId();
+
+    void setOriginItemId(IId originItemId);
+
+}
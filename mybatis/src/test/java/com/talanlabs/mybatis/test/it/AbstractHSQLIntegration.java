@@ -12,6 +12,7 @@ import com.talanlabs.mybatis.component.statement.DeleteMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindComponentsByJoinTableMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindComponentsByMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindEntityByIdMappedStatementFactory;
+import com.talanlabs.mybatis.component.statement.FindLazyColumnMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.FindNlsColumnMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.InsertMappedStatementFactory;
 import com.talanlabs.mybatis.component.statement.UpdateMappedStatementFactory;
@@ -50,18 +51,28 @@ public abstract class AbstractHSQLIntegration {
         Environment environment = new Environment.Builder("test").dataSource(new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_TEST", "sa", ""))
                 .transactionFactory(new JdbcTransactionFactory()).build();
 
+        defaultNlsColumnHandler = new DefaultNlsColumnHandler();
+        configuration = createComponentConfiguration(environment, defaultNlsColumnHandler);
+
+        SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        sqlSessionManager = SqlSessionManager.newInstance(sqlSessionFactory);
+
+        componentSqlSessionManager = ComponentSqlSessionManager.newInstance(sqlSessionManager);
+    }
+
+    protected static ComponentConfiguration createComponentConfiguration(Environment environment, DefaultNlsColumnHandler nlsColumnHandler) {
         ComponentConfiguration componentConfiguration = new ComponentConfiguration(environment);
         componentConfiguration.setObjectFactory(new ComponentObjectFactory());
         componentConfiguration.setProxyFactory(new ComponentProxyFactory());
         componentConfiguration.setLazyLoadingEnabled(true);
         componentConfiguration.setAggressiveLazyLoading(false);
-        defaultNlsColumnHandler = new DefaultNlsColumnHandler();
-        componentConfiguration.setNlsColumnHandler(defaultNlsColumnHandler);
+        componentConfiguration.setNlsColumnHandler(nlsColumnHandler);
 
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindEntityByIdMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindComponentsByMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindComponentsByJoinTableMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindNlsColumnMappedStatementFactory());
+        componentConfiguration.getMappedStatementFactoryRegistry().registry(new FindLazyColumnMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new InsertMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new UpdateMappedStatementFactory());
         componentConfiguration.getMappedStatementFactoryRegistry().registry(new DeleteMappedStatementFactory());
@@ -78,12 +89,7 @@ public abstract class AbstractHSQLIntegration {
 
         componentConfiguration.addMapper(NlsMapper.class);
 
-        configuration = componentConfiguration;
-
-        SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-        sqlSessionManager = SqlSessionManager.newInstance(sqlSessionFactory);
-
-        componentSqlSessionManager = ComponentSqlSessionManager.newInstance(sqlSessionManager);
+        return componentConfiguration;
     }
 
     @AfterClass
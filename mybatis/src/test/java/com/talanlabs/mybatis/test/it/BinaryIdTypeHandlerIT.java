@@ -0,0 +1,162 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.entity.factory.UuidV7IdGenerator;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.simple.handler.BinaryIdTypeHandler;
+import com.talanlabs.mybatis.test.data.BinaryItemBuilder;
+import com.talanlabs.mybatis.test.data.IBinaryItem;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+public class BinaryIdTypeHandlerIT extends AbstractHSQLIntegration {
+
+    private static IdFactory previousIdFactory;
+
+    private static SqlSessionManager binarySqlSessionManager;
+
+    private static SqlSessionManager uuidSqlSessionManager;
+
+    private BinaryIdTypeHandler binaryIdTypeHandler = new BinaryIdTypeHandler();
+
+    /*
+     * Type handler is resolved when the statements are built, each storage has its own configuration
+     */
+    @BeforeClass
+    public static void beforeBinaryClass() {
+        previousIdFactory = IdFactory.getInstance();
+        IdFactory.setInstance(new IdFactory(new UuidV7IdGenerator(true)));
+
+        binarySqlSessionManager = newSqlSessionManager("binary", BinaryIdTypeHandler.Storage.BINARY);
+        uuidSqlSessionManager = newSqlSessionManager("uuid", BinaryIdTypeHandler.Storage.UUID);
+    }
+
+    @AfterClass
+    public static void afterBinaryClass() {
+        IdFactory.setInstance(previousIdFactory);
+    }
+
+    private static SqlSessionManager newSqlSessionManager(String environmentId, BinaryIdTypeHandler.Storage storage) {
+        Environment environment = new Environment.Builder(environmentId).dataSource(new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_TEST", "sa", ""))
+                .transactionFactory(new JdbcTransactionFactory()).build();
+        ComponentConfiguration binaryConfiguration = createComponentConfiguration(environment, defaultNlsColumnHandler);
+        binaryConfiguration.getTypeHandlerRegistry().register(new BinaryIdTypeHandler(storage));
+        return SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(binaryConfiguration));
+    }
+
+    @Before
+    public void createTable() throws SQLException {
+        try (Statement statement = sqlSessionManager.getConnection().createStatement()) {
+            statement.execute("DROP TABLE t_binary_id IF EXISTS");
+            statement.execute("CREATE TABLE t_binary_id (id BINARY(16), legacy_id VARCHAR(36))");
+        }
+    }
+
+    @Test
+    public void testBinary() throws SQLException {
+        IId id = new UuidV7IdGenerator(true).newId();
+        insert(id, null);
+
+        Assertions.assertThat(select("id")).isEqualTo(id);
+    }
+
+    @Test
+    public void testLegacyString() throws SQLException {
+        String legacy = "123e4567-e89b-12d3-a456-426655440000";
+        insert(IdFactory.IdString.from(legacy), legacy);
+
+        IId id = select("id");
+        Assertions.assertThat(id).isEqualTo(IdFactory.IdBinary.fromString(legacy));
+        Assertions.assertThat(select("legacy_id")).isEqualTo(id);
+    }
+
+    @Test
+    public void testNull() throws SQLException {
+        insert(null, null);
+
+        Assertions.assertThat(select("id")).isNull();
+    }
+
+    @Test
+    public void testInsertAndFindById() {
+        assertInsertAndFindById(binarySqlSessionManager);
+    }
+
+    @Test
+    public void testUuidStorage() {
+        // HSQLDB binds UUID objects to BINARY(16), PostgreSQL and H2 to their native UUID
+        assertInsertAndFindById(uuidSqlSessionManager);
+    }
+
+    @Test
+    public void testIdLongParameter() {
+        binarySqlSessionManager.startManagedSession();
+        try {
+            ComponentSqlSessionManager binaryComponentSqlSessionManager = ComponentSqlSessionManager.newInstance(binarySqlSessionManager);
+            binaryComponentSqlSessionManager.insert(BinaryItemBuilder.newBuilder().name("first").itemId(IdFactory.IdLong.of(11)).build());
+
+            List<IBinaryItem> items = binarySqlSessionManager
+                    .selectList(StatementNameHelper.buildFindComponentsByKey(IBinaryItem.class, false, new String[] { "itemId" }, null), IdFactory.IdLong.of(11));
+            Assertions.assertThat(items).extracting(IBinaryItem::getName).containsExactly("first");
+            Assertions.assertThat(items.get(0).getItemId()).isEqualTo(IdFactory.IdLong.of(11));
+        } finally {
+            binarySqlSessionManager.close();
+        }
+    }
+
+    private void assertInsertAndFindById(SqlSessionManager storageSqlSessionManager) {
+        storageSqlSessionManager.startManagedSession();
+        try {
+            ComponentSqlSessionManager storageComponentSqlSessionManager = ComponentSqlSessionManager.newInstance(storageSqlSessionManager);
+            IBinaryItem item = BinaryItemBuilder.newBuilder().name("first").build();
+
+            Assertions.assertThat(storageComponentSqlSessionManager.insert(item)).isEqualTo(1);
+            Assertions.assertThat(item.getId()).isInstanceOf(IdFactory.IdBinary.class);
+
+            IBinaryItem item2 = storageComponentSqlSessionManager.findById(IBinaryItem.class, item.getId());
+            Assertions.assertThat(item2).isNotNull();
+            Assertions.assertThat(item2.getId()).isInstanceOf(IdFactory.IdBinary.class).isEqualTo(item.getId());
+            Assertions.assertThat(item2.getName()).isEqualTo("first");
+
+            // Legacy IdString parameter is converted
+            Assertions.assertThat(storageComponentSqlSessionManager.findById(IBinaryItem.class, IdFactory.IdString.from(item.getId().toString()))).isNotNull();
+        } finally {
+            storageSqlSessionManager.close();
+        }
+    }
+
+    private void insert(IId id, String legacyId) throws SQLException {
+        Connection connection = sqlSessionManager.getConnection();
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO t_binary_id (id, legacy_id) VALUES (?, ?)")) {
+            binaryIdTypeHandler.setParameter(ps, 1, id, null);
+            ps.setString(2, legacyId);
+            ps.executeUpdate();
+        }
+    }
+
+    private IId select(String columnName) throws SQLException {
+        Connection connection = sqlSessionManager.getConnection();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery("SELECT id, legacy_id FROM t_binary_id")) {
+            Assertions.assertThat(rs.next()).isTrue();
+            return (IId) binaryIdTypeHandler.getResult(rs, columnName);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.resultmap.fastpath.ComponentResultSetHandlerInterceptor;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.IGroup;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.ibatis.session.RowBounds;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class FastPathResultSetIT extends AbstractHSQLIntegration {
+
+    private static final String FIND_GROUPS_BY_USER_ID = StatementNameHelper
+            .buildFindComponentsByKey(IGroup.class, false, new String[] { "userId" }, Collections.singletonList(Pair.of("name", "Asc")));
+
+    private static ComponentResultSetHandlerInterceptor componentResultSetHandlerInterceptor;
+
+    @BeforeClass
+    public static void init() {
+        componentResultSetHandlerInterceptor = new ComponentResultSetHandlerInterceptor();
+        configuration.addInterceptor(componentResultSetHandlerInterceptor);
+    }
+
+    @Test
+    public void testFindGroups() {
+        long count = componentResultSetHandlerInterceptor.getFastPathCount();
+        List<IGroup> groups = sqlSessionManager.selectList(FIND_GROUPS_BY_USER_ID, IdFactory.IdString.from("1"));
+        Assertions.assertThat(componentResultSetHandlerInterceptor.getFastPathCount()).isEqualTo(count + 1);
+
+        Assertions.assertThat(groups).extracting(IGroup::getName).containsExactly("admin", "simple", "system");
+
+        IGroup group = groups.get(1);
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(group.getId()).isEqualTo(IdFactory.IdString.from("4"));
+        softAssertions.assertThat(group.getVersion()).isEqualTo(0);
+        softAssertions.assertThat(group.getUserId()).isEqualTo(IdFactory.IdString.from("1"));
+        softAssertions.assertThat(group.getCreatedBy()).isEqualTo("GABY");
+        softAssertions.assertThat(group.getCreatedDate()).isNotNull();
+        softAssertions.assertThat(group.isCanceled()).isTrue();
+        softAssertions.assertThat(group.getCanceledBy()).isEqualTo("GABY");
+        softAssertions.assertThat(group.getUpdatedBy()).isNull();
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testFindGroupsWithRowBounds() {
+        long count = componentResultSetHandlerInterceptor.getFastPathCount();
+        List<IGroup> groups = sqlSessionManager.selectList(FIND_GROUPS_BY_USER_ID, IdFactory.IdString.from("1"), new RowBounds(1, 1));
+        Assertions.assertThat(componentResultSetHandlerInterceptor.getFastPathCount()).isEqualTo(count + 1);
+
+        Assertions.assertThat(groups).extracting(IGroup::getName).containsExactly("simple");
+    }
+
+    @Test
+    public void testFindNoGroup() {
+        long count = componentResultSetHandlerInterceptor.getFastPathCount();
+        List<IGroup> groups = sqlSessionManager.selectList(FIND_GROUPS_BY_USER_ID, IdFactory.IdString.from("99"));
+        Assertions.assertThat(componentResultSetHandlerInterceptor.getFastPathCount()).isEqualTo(count + 1);
+
+        Assertions.assertThat(groups).isEmpty();
+    }
+}
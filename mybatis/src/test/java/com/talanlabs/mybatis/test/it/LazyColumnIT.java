@@ -0,0 +1,41 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.IDocument;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+public class LazyColumnIT extends AbstractHSQLIntegration {
+
+    @Test
+    public void testSelectColumns() {
+        Assertions.assertThat(ComponentMyBatisHelper.getSelectColumnNames(IDocument.class)).contains("ID", "NAME").doesNotContain("CONTENT");
+    }
+
+    @Test
+    public void testFindDocumentById() {
+        IDocument document = sqlSessionManager.selectOne(StatementNameHelper.buildFindEntityByIdKey(IDocument.class), IdFactory.IdString.from("1"));
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(document.getId()).isEqualTo(IdFactory.IdString.from("1"));
+        softAssertions.assertThat(document.getName()).isEqualTo("readme");
+        softAssertions.assertThat(document.getContent()).isEqualTo("A very long content");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testUpdateKeepContent() {
+        IDocument document = sqlSessionManager.selectOne(StatementNameHelper.buildFindEntityByIdKey(IDocument.class), IdFactory.IdString.from("1"));
+        document.setName("readme2");
+
+        int i = sqlSessionManager.update(StatementNameHelper.buildUpdateKey(IDocument.class), document);
+        Assertions.assertThat(i).isEqualTo(1);
+
+        document = sqlSessionManager.selectOne(StatementNameHelper.buildFindEntityByIdKey(IDocument.class), IdFactory.IdString.from("1"));
+        Assertions.assertThat(document.getName()).isEqualTo("readme2");
+        Assertions.assertThat(document.getContent()).isEqualTo("A very long content");
+    }
+}
@@ -0,0 +1,85 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.lazy.LazyLoadDetector;
+import com.talanlabs.mybatis.component.lazy.LazyLoadDetectorInterceptor;
+import com.talanlabs.mybatis.component.lazy.LazyLoadPattern;
+import com.talanlabs.mybatis.component.lazy.LazyLoadThresholdException;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.IAddress;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class LazyLoadDetectorIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void beforeLazyLoadDetector() {
+        configuration.setLazyLoadDetector(new LazyLoadDetector(1, true));
+        configuration.addInterceptor(new LazyLoadDetectorInterceptor(configuration.getLazyLoadDetector()));
+    }
+
+    @Before
+    public void resetDetector() {
+        configuration.getCacheNames().stream().filter(name -> name.contains(".")).forEach(name -> configuration.getCache(name).clear());
+        configuration.getLazyLoadDetector().reset();
+    }
+
+    @After
+    public void endUnitOfWork() {
+        configuration.getLazyLoadDetector().endUnitOfWork();
+    }
+
+    @Test
+    public void testByStatement() {
+        String key = StatementNameHelper.buildFindComponentsByKey(IUser.class, false, new String[] { "version" }, null);
+        List<IUser> users = sqlSessionManager.selectList(key, 0);
+        Assertions.assertThat(users).hasSize(2);
+
+        IAddress address = users.get(0).getAddress();
+        Assertions.assertThat(address).isNotNull();
+
+        Assertions.assertThatThrownBy(() -> users.get(1).getAddress()).isInstanceOf(LazyLoadThresholdException.class).hasMessageContaining("IUser.address");
+
+        Map<LazyLoadPattern, Long> detectionCounts = configuration.getLazyLoadDetector().getDetectionCounts();
+        Assertions.assertThat(detectionCounts).hasSize(1);
+
+        LazyLoadPattern pattern = detectionCounts.keySet().iterator().next();
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(pattern.statementId).isEqualTo(key);
+        softAssertions.assertThat(pattern.componentClass).isEqualTo(IUser.class);
+        softAssertions.assertThat(pattern.propertyName).isEqualTo("address");
+        softAssertions.assertThat(pattern.nestedStatementId).isEqualTo(StatementNameHelper.buildFindEntityByIdKey(IAddress.class));
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testByUnitOfWork() {
+        configuration.getLazyLoadDetector().beginUnitOfWork();
+
+        IUser user1 = componentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user1.getAddress()).isNotNull();
+
+        IUser user2 = componentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2"));
+        Assertions.assertThatThrownBy(user2::getAddress).isInstanceOf(LazyLoadThresholdException.class).hasMessageContaining("unit of work");
+    }
+
+    @Test
+    public void testUnderThreshold() {
+        configuration.getLazyLoadDetector().beginUnitOfWork();
+
+        IUser user = componentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user.getAddress()).isNotNull();
+
+        Map<LazyLoadPattern, Integer> counts = configuration.getLazyLoadDetector().endUnitOfWork();
+        Assertions.assertThat(counts).hasSize(1).containsValue(1);
+        Assertions.assertThat(configuration.getLazyLoadDetector().getDetectionCounts()).isEmpty();
+    }
+}
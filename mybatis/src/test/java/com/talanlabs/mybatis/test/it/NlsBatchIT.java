@@ -0,0 +1,152 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.resultmap.nls.NlsColumnBatchInterceptor;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.handler.NlsBatchMode;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.IAddress;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.it.config.CountStatementInterceptor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PAGE and ROW modes have their own configuration, NlsColumnBatchInterceptor is added by setNlsBatchMode
+ */
+public class NlsBatchIT extends AbstractHSQLIntegration {
+
+    private static final String NLS_TABLE = "from t_nls";
+
+    private static ComponentConfiguration pageConfiguration;
+
+    private static SqlSessionManager pageSqlSessionManager;
+
+    private static CountStatementInterceptor pageCountStatementInterceptor;
+
+    private static ComponentConfiguration rowConfiguration;
+
+    private static SqlSessionManager rowSqlSessionManager;
+
+    private static CountStatementInterceptor rowCountStatementInterceptor;
+
+    @BeforeClass
+    public static void beforeNlsBatch() {
+        pageConfiguration = createNlsBatchConfiguration("page");
+        pageCountStatementInterceptor = new CountStatementInterceptor(NLS_TABLE);
+        pageConfiguration.addInterceptor(pageCountStatementInterceptor);
+        pageConfiguration.setNlsBatchMode(NlsBatchMode.PAGE);
+        pageSqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(pageConfiguration));
+
+        rowConfiguration = createNlsBatchConfiguration("row");
+        rowCountStatementInterceptor = new CountStatementInterceptor(NLS_TABLE);
+        rowConfiguration.addInterceptor(rowCountStatementInterceptor);
+        rowConfiguration.setNlsBatchMode(NlsBatchMode.ROW);
+        rowSqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(rowConfiguration));
+    }
+
+    private static ComponentConfiguration createNlsBatchConfiguration(String id) {
+        Environment environment = new Environment.Builder(id).dataSource(new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_TEST", "sa", ""))
+                .transactionFactory(new JdbcTransactionFactory()).build();
+        return createComponentConfiguration(environment, defaultNlsColumnHandler);
+    }
+
+    @Before
+    public void startNlsBatchSessions() {
+        pageCountStatementInterceptor.reset();
+        rowCountStatementInterceptor.reset();
+        pageSqlSessionManager.startManagedSession();
+        rowSqlSessionManager.startManagedSession();
+    }
+
+    @After
+    public void closeNlsBatchSessions() {
+        pageSqlSessionManager.close();
+        rowSqlSessionManager.close();
+    }
+
+    @Test
+    public void testInterceptorInstalled() {
+        Assertions.assertThat(pageConfiguration.getInterceptors()).filteredOn(NlsColumnBatchInterceptor.class::isInstance).hasSize(1);
+        Assertions.assertThat(rowConfiguration.getInterceptors()).filteredOn(NlsColumnBatchInterceptor.class::isInstance).hasSize(1);
+    }
+
+    @Test
+    public void testFindCountriesPage() {
+        List<ICountry> countries = findCountries(pageSqlSessionManager);
+
+        Assertions.assertThat(countries).extracting("code").containsExactly("CHI", "ENG", "FRA");
+        Assertions.assertThat(countries).extracting("name").containsExactly("chine", "england", "Fromage");
+        Assertions.assertThat(pageCountStatementInterceptor.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFindCountriesRow() {
+        List<ICountry> countries = findCountries(rowSqlSessionManager);
+
+        Assertions.assertThat(countries).extracting("code").containsExactly("CHI", "ENG", "FRA");
+        Assertions.assertThat(countries).extracting("name").containsExactly("chine", "england", "Fromage");
+        Assertions.assertThat(rowCountStatementInterceptor.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testFindCountriesResultHandler() {
+        List<ICountry> countries = new ArrayList<>();
+        pageSqlSessionManager.select(findCountriesKey(), 0, resultContext -> countries.add((ICountry) resultContext.getResultObject()));
+
+        Assertions.assertThat(countries).extracting("name").containsExactly("chine", "england", "Fromage");
+        Assertions.assertThat(pageCountStatementInterceptor.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testFindCountriesCursor() throws IOException {
+        List<ICountry> countries = new ArrayList<>();
+        try (Cursor<ICountry> cursor = pageSqlSessionManager.selectCursor(findCountriesKey(), 0)) {
+            cursor.forEach(countries::add);
+        }
+
+        Assertions.assertThat(countries).extracting("name").containsExactly("chine", "england", "Fromage");
+        Assertions.assertThat(pageCountStatementInterceptor.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testFindCountryById() {
+        defaultNlsColumnHandler.setLanguageCode("eng");
+        try {
+            ICountry country = pageSqlSessionManager.selectOne(StatementNameHelper.buildFindEntityByIdKey(ICountry.class), IdFactory.IdString.from("1"));
+            Assertions.assertThat(country.getName()).isEqualTo("Cheese");
+            Assertions.assertThat(pageCountStatementInterceptor.getCount()).isEqualTo(1);
+        } finally {
+            defaultNlsColumnHandler.setLanguageCode("fra");
+        }
+    }
+
+    @Test
+    public void testNestedCountry() {
+        IAddress address = rowSqlSessionManager.selectOne(StatementNameHelper.buildFindEntityByIdKey(IAddress.class), IdFactory.IdString.from("2"));
+        Assertions.assertThat(address.getCountry().getName()).isEqualTo("Fromage");
+    }
+
+    private List<ICountry> findCountries(SqlSessionManager manager) {
+        return manager.selectList(findCountriesKey(), 0);
+    }
+
+    private String findCountriesKey() {
+        return StatementNameHelper.buildFindComponentsByKey(ICountry.class, false, new String[] { "version" }, Collections.singletonList(Pair.of("code", "Asc")));
+    }
+}
@@ -0,0 +1,134 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionary;
+import com.talanlabs.mybatis.component.session.handler.NlsColumnValue;
+import com.talanlabs.mybatis.test.data.ICountry;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+public class NlsDictionaryIT extends AbstractHSQLIntegration {
+
+    @BeforeClass
+    public static void beforeNlsDictionary() {
+        configuration.setNlsColumnDictionary(new NlsColumnDictionary());
+    }
+
+    @Before
+    public void clearDictionary() {
+        configuration.getNlsColumnDictionary().clear();
+    }
+
+    @Test
+    public void testReadFromDictionary() throws SQLException {
+        ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(country.getName()).isEqualTo("Fromage");
+
+        updateMeaning("Fromage2");
+
+        country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(country.getName()).isEqualTo("Fromage");
+    }
+
+    @Test
+    public void testInvalidateByMerge() throws SQLException {
+        ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        country.setName("Fromage3");
+        componentSqlSessionManager.update(country);
+
+        updateMeaning("Fromage4");
+
+        country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(country.getName()).isEqualTo("Fromage4");
+    }
+
+    @Test
+    public void testInvalidateAtCommit() {
+        ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        country.setName("Fromage3");
+        componentSqlSessionManager.update(country);
+
+        Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+
+        sqlSessionManager.commit();
+
+        Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isNull();
+    }
+
+    @Test
+    public void testRollbackKeepsDictionary() {
+        ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        country.setName("Fromage3");
+        componentSqlSessionManager.update(country);
+
+        // Transaction has written nls columns, the dictionary is not filled
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2")).getName()).isEqualTo("chine");
+        Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "2", "fra")).isNull();
+
+        sqlSessionManager.rollback();
+
+        Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+        Assertions.assertThat(configuration.getNlsColumnDictionary().hasPending()).isFalse();
+    }
+
+    @Test
+    public void testInvalidateWithoutManagedSession() {
+        sqlSessionManager.close();
+        try {
+            ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+            Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+
+            country.setName("Fromage3");
+            componentSqlSessionManager.update(country);
+
+            // Each statement is committed, invalidation is immediate
+            Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isNull();
+            Assertions.assertThat(configuration.getNlsColumnDictionary().hasPending()).isFalse();
+
+            Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1")).getName()).isEqualTo("Fromage3");
+        } finally {
+            sqlSessionManager.startManagedSession();
+        }
+    }
+
+    @Test
+    public void testDeleteWithoutManagedSession() {
+        sqlSessionManager.close();
+        try {
+            ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+            Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+
+            componentSqlSessionManager.delete(country);
+
+            Assertions.assertThat(configuration.getNlsColumnDictionary().get("T_COUNTRY", "NAME", "1", "fra")).isNull();
+            Assertions.assertThat(configuration.getNlsColumnDictionary().hasPending()).isFalse();
+        } finally {
+            sqlSessionManager.startManagedSession();
+        }
+    }
+
+    @Test
+    public void testPreload() {
+        NlsColumnValue nlsColumnValue = new NlsColumnValue();
+        nlsColumnValue.setId("2");
+        nlsColumnValue.setColumnName("NAME");
+        nlsColumnValue.setMeaning("Chine");
+        configuration.getNlsColumnDictionary().preload("T_COUNTRY", "fra", Collections.singletonList(nlsColumnValue));
+
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1")).getName()).isEqualTo("france");
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2")).getName()).isEqualTo("Chine");
+    }
+
+    private void updateMeaning(String meaning) throws SQLException {
+        try (Statement statement = sqlSessionManager.getConnection().createStatement()) {
+            statement.executeUpdate("UPDATE t_nls SET meaning = '" + meaning + "' WHERE table_name = 'T_COUNTRY' AND table_id = '1' AND language_code = 'fra'");
+        }
+        sqlSessionManager.clearCache();
+    }
+}
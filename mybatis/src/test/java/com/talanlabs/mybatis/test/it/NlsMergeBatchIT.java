@@ -0,0 +1,166 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.test.data.CountryBuilder;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.it.config.CountStatementInterceptor;
+import org.apache.ibatis.session.ExecutorType;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NlsMergeBatchIT extends AbstractHSQLIntegration {
+
+    private static CountStatementInterceptor countStatementInterceptor;
+
+    @BeforeClass
+    public static void init() {
+        countStatementInterceptor = new CountStatementInterceptor("MERGE INTO t_nls");
+        configuration.addInterceptor(countStatementInterceptor);
+    }
+
+    @Before
+    public void resetCount() {
+        countStatementInterceptor.reset();
+    }
+
+    @After
+    public void resetNlsColumnHandler() {
+        defaultNlsColumnHandler.setMergeNlsColumns(false);
+        defaultNlsColumnHandler.setBatchNlsColumn(false);
+    }
+
+    @Test
+    public void testInsertAllMergeNlsColumns() {
+        defaultNlsColumnHandler.setMergeNlsColumns(true);
+
+        assertInsertAll();
+        Assertions.assertThat(countStatementInterceptor.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInsertAllBatchNlsColumn() {
+        defaultNlsColumnHandler.setBatchNlsColumn(true);
+
+        assertInsertAll();
+        // Batch executor is plugged, each merge is seen by interceptors
+        Assertions.assertThat(countStatementInterceptor.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testUpdateAllMergeNlsColumns() {
+        defaultNlsColumnHandler.setMergeNlsColumns(true);
+
+        assertUpdateAll();
+        Assertions.assertThat(countStatementInterceptor.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testUpdateAllBatchNlsColumn() {
+        defaultNlsColumnHandler.setBatchNlsColumn(true);
+
+        assertUpdateAll();
+        Assertions.assertThat(countStatementInterceptor.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInsertAllBatchNlsColumnWithoutManagedSession() {
+        defaultNlsColumnHandler.setBatchNlsColumn(true);
+
+        sqlSessionManager.close();
+        try {
+            ICountry country1 = CountryBuilder.newBuilder().code("ITA").name("Italie").build();
+            ICountry country2 = CountryBuilder.newBuilder().code("ESP").name("Espagne").build();
+            int i = componentSqlSessionManager.insertAll(Arrays.asList(country1, country2));
+
+            Assertions.assertThat(i).isEqualTo(2);
+            Assertions.assertThat(countStatementInterceptor.getCount()).isEqualTo(2);
+            Assertions.assertThat(countNlsColumns(country1.getId())).isEqualTo(1);
+            Assertions.assertThat(countNlsColumns(country2.getId())).isEqualTo(1);
+        } finally {
+            sqlSessionManager.startManagedSession();
+        }
+    }
+
+    @Test
+    public void testInsertAllBatchNlsColumnInBatchSession() {
+        defaultNlsColumnHandler.setBatchNlsColumn(true);
+
+        sqlSessionManager.close();
+        sqlSessionManager.startManagedSession(ExecutorType.BATCH);
+
+        ICountry country1 = CountryBuilder.newBuilder().code("ITA").name("Italie").build();
+        ICountry country2 = CountryBuilder.newBuilder().code("ESP").name("Espagne").build();
+        componentSqlSessionManager.insertAll(Arrays.asList(country1, country2));
+
+        // Inserts of countries were flushed before merges
+        Assertions.assertThat(sqlSessionManager.flushStatements()).isEmpty();
+
+        sqlSessionManager.commit();
+        sqlSessionManager.clearCache();
+
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, country1.getId()).getName()).isEqualTo("Italie");
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, country2.getId()).getName()).isEqualTo("Espagne");
+    }
+
+    @Test
+    public void testDeleteAllBatchNlsColumn() {
+        defaultNlsColumnHandler.setBatchNlsColumn(true);
+
+        ICountry country1 = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+        ICountry country2 = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2"));
+        int i = componentSqlSessionManager.deleteAll(Arrays.asList(country1, country2));
+
+        Assertions.assertThat(i).isEqualTo(2);
+        Assertions.assertThat(countNlsColumns(IdFactory.IdString.from("1"))).isEqualTo(0);
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2"))).isNull();
+    }
+
+    private void assertInsertAll() {
+        ICountry country1 = CountryBuilder.newBuilder().code("ITA").name("Italie").build();
+        ICountry country2 = CountryBuilder.newBuilder().code("ESP").name("Espagne").build();
+        int i = componentSqlSessionManager.insertAll(Arrays.asList(country1, country2));
+
+        Assertions.assertThat(i).isEqualTo(2);
+        Assertions.assertThat(countNlsColumns(country1.getId())).isEqualTo(1);
+        Assertions.assertThat(countNlsColumns(country2.getId())).isEqualTo(1);
+
+        sqlSessionManager.commit();
+        sqlSessionManager.clearCache();
+
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, country1.getId()).getName()).isEqualTo("Italie");
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, country2.getId()).getName()).isEqualTo("Espagne");
+    }
+
+    private void assertUpdateAll() {
+        List<ICountry> countries = Arrays.asList(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1")),
+                componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2")));
+        countries.get(0).setName("Fromage bleu");
+        countries.get(1).setName("Chine populaire");
+        int i = componentSqlSessionManager.updateAll(countries);
+
+        Assertions.assertThat(i).isEqualTo(2);
+        Assertions.assertThat(countries.get(0).getVersion()).isEqualTo(1);
+        Assertions.assertThat(countries.get(1).getVersion()).isEqualTo(1);
+
+        sqlSessionManager.commit();
+        sqlSessionManager.clearCache();
+
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1")).getName()).isEqualTo("Fromage bleu");
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2")).getName()).isEqualTo("Chine populaire");
+    }
+
+    private Integer countNlsColumns(Object id) {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("tableName", "T_COUNTRY");
+        parameter.put("id", id);
+        return sqlSessionManager.selectOne("com.talanlabs.mybatis.test.it.mapper.NlsMapper.countNlsColumns", parameter);
+    }
+}
@@ -0,0 +1,133 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.helper.ComponentMyBatisHelper;
+import com.talanlabs.mybatis.component.resultmap.UnprojectedPropertyPolicy;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.data.IDocument;
+import com.talanlabs.mybatis.test.data.ITrain;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ProjectionIT extends AbstractHSQLIntegration {
+
+    private static SqlSessionManager failSqlSessionManager;
+
+    private static ComponentSqlSessionManager failComponentSqlSessionManager;
+
+    /*
+     * Policy is read when the result map is built, FAIL has its own configuration
+     */
+    @BeforeClass
+    public static void beforeProjectionClass() {
+        Environment environment = new Environment.Builder("fail").dataSource(new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_TEST", "sa", ""))
+                .transactionFactory(new JdbcTransactionFactory()).build();
+        ComponentConfiguration failConfiguration = createComponentConfiguration(environment, defaultNlsColumnHandler);
+        failConfiguration.setUnprojectedPropertyPolicy(UnprojectedPropertyPolicy.FAIL);
+
+        failSqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(failConfiguration));
+        failComponentSqlSessionManager = ComponentSqlSessionManager.newInstance(failSqlSessionManager);
+    }
+
+    @Test
+    public void testSelectColumns() {
+        Assertions.assertThat(ComponentMyBatisHelper.getSelectColumnNames(IDocument.class, "name")).containsOnly("ID", "NAME");
+        Assertions.assertThat(ComponentMyBatisHelper.buildSelectColumns(IDocument.class, "t", "name")).isEqualTo("t.ID, t.NAME");
+        Assertions.assertThat(ComponentMyBatisHelper.getSelectColumnNames(ICountry.class, "code")).containsOnly("ID", "CODE", "NAME");
+    }
+
+    @Test
+    public void testFindByIdProjection() {
+        IDocument document = componentSqlSessionManager.findById(IDocument.class, IdFactory.IdString.from("1"), "name");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(document.getId()).isEqualTo(IdFactory.IdString.from("1"));
+        softAssertions.assertThat(document.getName()).isEqualTo("readme");
+        softAssertions.assertThat(document.getContent()).isEqualTo("A very long content");
+        softAssertions.assertThat(document.getCreatedBy()).isEqualTo("GABY");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testFindComponentsByProjection() {
+        List<IDocument> documents = sqlSessionManager.selectList(StatementNameHelper.buildFindComponentsByKey(IDocument.class, false, new String[] { "name" }, null, "name"), "readme");
+
+        Assertions.assertThat(documents).hasSize(1);
+        Assertions.assertThat(documents.get(0).getId()).isEqualTo(IdFactory.IdString.from("1"));
+        Assertions.assertThat(documents.get(0).getName()).isEqualTo("readme");
+    }
+
+    @Test
+    public void testLazyNlsColumnAndCollection() {
+        defaultNlsColumnHandler.setLanguageCode("fra");
+        ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"), "code");
+        Assertions.assertThat(country.getCode()).isEqualTo("FRA");
+        Assertions.assertThat(country.getName()).isEqualTo("Fromage");
+
+        ITrain train = componentSqlSessionManager.findById(ITrain.class, IdFactory.IdString.from("1"), "code");
+        Assertions.assertThat(train.getCode()).isEqualTo("00001");
+        Assertions.assertThat(train.getWagons()).hasSize(5);
+    }
+
+    @Test
+    public void testToStringLoadsLazyProperties() {
+        IDocument document = componentSqlSessionManager.findById(IDocument.class, IdFactory.IdString.from("1"), "name");
+
+        Assertions.assertThat(document.toString()).contains("A very long content");
+    }
+
+    @Test
+    public void testFailPolicy() {
+        failSqlSessionManager.startManagedSession();
+        try {
+            IDocument document = failComponentSqlSessionManager.findById(IDocument.class, IdFactory.IdString.from("1"), "content");
+
+            Assertions.assertThat(document.getId()).isEqualTo(IdFactory.IdString.from("1"));
+            Assertions.assertThat(document.getContent()).isEqualTo("A very long content");
+            Assertions.assertThatThrownBy(document::getName).isInstanceOf(IllegalStateException.class).hasMessageContaining("name");
+
+            ICountry country = failComponentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"), "code");
+            Assertions.assertThat(country.getCode()).isEqualTo("FRA");
+            Assertions.assertThatThrownBy(country::getName).isInstanceOf(IllegalStateException.class).hasMessageContaining("name");
+
+            ITrain train = failComponentSqlSessionManager.findById(ITrain.class, IdFactory.IdString.from("1"), "code");
+            Assertions.assertThat(train.getCode()).isEqualTo("00001");
+            Assertions.assertThatThrownBy(train::getWagons).isInstanceOf(IllegalStateException.class).hasMessageContaining("wagons");
+        } finally {
+            failSqlSessionManager.close();
+        }
+    }
+
+    @Test
+    public void testFailPolicyToStringAndSet() {
+        failSqlSessionManager.startManagedSession();
+        try {
+            IDocument document = failComponentSqlSessionManager.findById(IDocument.class, IdFactory.IdString.from("1"), "content");
+
+            Assertions.assertThat(document.toString()).contains("A very long content");
+            Assertions.assertThatThrownBy(document::getName).isInstanceOf(IllegalStateException.class).hasMessageContaining("name");
+
+            document.setName("other");
+            Assertions.assertThat(document.getName()).isEqualTo("other");
+        } finally {
+            failSqlSessionManager.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProperty() {
+        componentSqlSessionManager.findById(IDocument.class, IdFactory.IdString.from("1"), "unknown");
+    }
+}
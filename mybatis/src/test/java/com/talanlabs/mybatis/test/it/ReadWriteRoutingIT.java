@@ -0,0 +1,160 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.routing.ReadWriteRouting;
+import com.talanlabs.mybatis.component.routing.ReadWriteRoutingInterceptor;
+import com.talanlabs.mybatis.component.routing.RoutingTransactionFactory;
+import com.talanlabs.mybatis.component.session.ComponentConfiguration;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.test.data.IUser;
+import com.talanlabs.mybatis.test.it.config.DefaultNlsColumnHandler;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Primary is the database of AbstractHSQLIntegration, replica is a second HSQLDB with other logins
+ */
+public class ReadWriteRoutingIT extends AbstractHSQLIntegration {
+
+    private static PooledDataSource replicaDataSource;
+
+    private static ReadWriteRouting readWriteRouting;
+
+    private static ComponentConfiguration routingConfiguration;
+
+    private static SqlSessionManager routingSqlSessionManager;
+
+    private static ComponentSqlSessionManager routingComponentSqlSessionManager;
+
+    @BeforeClass
+    public static void beforeRoutingClass() {
+        PooledDataSource primaryDataSource = new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_TEST", "sa", "");
+        replicaDataSource = new PooledDataSource(null, "org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mybatis-guice_REPLICA", "sa", "");
+        readWriteRouting = new ReadWriteRouting(60000L);
+
+        Environment environment = new Environment.Builder("routing").dataSource(primaryDataSource)
+                .transactionFactory(new RoutingTransactionFactory(primaryDataSource, replicaDataSource, readWriteRouting)).build();
+        routingConfiguration = createComponentConfiguration(environment, new DefaultNlsColumnHandler());
+        routingConfiguration.addInterceptor(new ReadWriteRoutingInterceptor(readWriteRouting));
+
+        routingSqlSessionManager = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(routingConfiguration));
+        routingComponentSqlSessionManager = ComponentSqlSessionManager.newInstance(routingSqlSessionManager);
+    }
+
+    @Before
+    public void startRoutingSqlSession() throws SQLException, IOException {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            ScriptRunner scriptRunner = new ScriptRunner(connection);
+            scriptRunner.setLogWriter(null);
+            scriptRunner.runScript(Resources.getResourceAsReader("init-script.sql"));
+
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE t_user SET login = 'replica'");
+            }
+            connection.commit();
+        }
+        sqlSessionManager.commit();
+
+        routingConfiguration.getCaches().forEach(Cache::clear);
+        readWriteRouting.unpin();
+        routingSqlSessionManager.startManagedSession();
+    }
+
+    @After
+    public void closeRoutingSqlSession() {
+        routingSqlSessionManager.close();
+    }
+
+    @Test
+    public void testReadOnReplica() {
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1")).getLogin()).isEqualTo("replica");
+    }
+
+    @Test
+    public void testReadYourWritesInTransaction() {
+        IUser user = routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2"));
+        user.setLogin("Toto");
+        Assertions.assertThat(routingComponentSqlSessionManager.update(user)).isEqualTo(1);
+
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2")).getLogin()).isEqualTo("Toto");
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1")).getLogin()).isEqualTo("gabriel");
+    }
+
+    @Test
+    public void testPinnedAfterCommit() {
+        IUser user = routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2"));
+        user.setLogin("Toto");
+        routingComponentSqlSessionManager.update(user);
+        routingSqlSessionManager.commit();
+        routingSqlSessionManager.close();
+
+        Assertions.assertThat(readWriteRouting.isPinned()).isTrue();
+
+        routingSqlSessionManager.startManagedSession();
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2")).getLogin()).isEqualTo("Toto");
+        routingSqlSessionManager.close();
+
+        // Read of primary was cached, replica reads it from cache
+        readWriteRouting.unpin();
+        routingSqlSessionManager.startManagedSession();
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2")).getLogin()).isEqualTo("Toto");
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1")).getLogin()).isEqualTo("replica");
+    }
+
+    @Test
+    public void testReplicaReadNotCachedAfterCommit() {
+        IUser user = routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2"));
+        user.setLogin("Toto");
+        routingComponentSqlSessionManager.update(user);
+        routingSqlSessionManager.commit();
+        routingSqlSessionManager.close();
+
+        // Another user, replica lags behind the commit
+        readWriteRouting.unpin();
+        routingSqlSessionManager.startManagedSession();
+        Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2")).getLogin()).isEqualTo("replica");
+        routingSqlSessionManager.close();
+
+        routingSqlSessionManager.startManagedSession();
+        readWriteRouting.beginPrimary();
+        try {
+            Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("2")).getLogin()).isEqualTo("Toto");
+        } finally {
+            readWriteRouting.endPrimary();
+        }
+    }
+
+    @Test
+    public void testPrimaryScope() {
+        readWriteRouting.beginPrimary();
+        try {
+            Assertions.assertThat(routingComponentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1")).getLogin()).isEqualTo("gabriel");
+        } finally {
+            readWriteRouting.endPrimary();
+        }
+    }
+
+    @Test
+    public void testReuseExecutorRejected() {
+        Assertions.assertThatThrownBy(() -> routingSqlSessionManager.openSession(ExecutorType.REUSE)).isInstanceOf(PersistenceException.class)
+                .hasCauseInstanceOf(ExecutorException.class);
+    }
+}
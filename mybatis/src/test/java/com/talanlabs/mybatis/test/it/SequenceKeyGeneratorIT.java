@@ -0,0 +1,90 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.IId;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.data.IItem;
+import com.talanlabs.mybatis.test.data.IItemTag;
+import com.talanlabs.mybatis.test.data.ItemBuilder;
+import com.talanlabs.mybatis.test.data.ItemTagBuilder;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SequenceKeyGeneratorIT extends AbstractHSQLIntegration {
+
+    @Test
+    public void testInsert() {
+        IItem item = ItemBuilder.newBuilder().name("first").build();
+        int i = componentSqlSessionManager.insert(item);
+
+        Assertions.assertThat(i).isEqualTo(1);
+        Assertions.assertThat(item.getId()).isInstanceOf(IdFactory.IdLong.class);
+
+        IItem item2 = componentSqlSessionManager.findById(IItem.class, item.getId());
+        Assertions.assertThat(item2).isNotNull();
+        Assertions.assertThat(item2.getId()).isInstanceOf(IdFactory.IdLong.class).isEqualTo(item.getId());
+        Assertions.assertThat(item2.getName()).isEqualTo("first");
+    }
+
+    @Test
+    public void testOtherIdsStayString() {
+        // Only ids of @Sequence entities are read as IdLong
+        Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1")).getId()).isEqualTo(IdFactory.IdString.from("1"));
+    }
+
+    @Test
+    public void testInsertAll() throws SQLException {
+        // Exhaust the block left by other tests, the new block has 9 values left
+        long nextValue = getSequenceNextValue();
+        while (getSequenceNextValue() == nextValue) {
+            componentSqlSessionManager.insert(ItemBuilder.newBuilder().name("first").build());
+        }
+        long before = getSequenceNextValue();
+
+        List<IItem> items = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            items.add(ItemBuilder.newBuilder().name("item" + i).build());
+        }
+        int res = componentSqlSessionManager.insertAll(items);
+
+        Assertions.assertThat(res).isEqualTo(25);
+        List<IId> ids = items.stream().map(IItem::getId).collect(Collectors.toList());
+        Assertions.assertThat(ids).doesNotHaveDuplicates().doesNotContainNull();
+        // Blocks of 10 : 9 values left, then 2 round trips for 16 values
+        Assertions.assertThat((getSequenceNextValue() - before) / 10).isEqualTo(2);
+        long first = ((IdFactory.IdLong) ids.get(0)).getValue();
+        Assertions.assertThat(((IdFactory.IdLong) ids.get(8)).getValue()).isEqualTo(first + 8);
+    }
+
+    @Test
+    public void testForeignKeyIsIdLong() {
+        IItem item = ItemBuilder.newBuilder().name("first").build();
+        componentSqlSessionManager.insert(item);
+
+        IItemTag itemTag = ItemTagBuilder.newBuilder().name("tag").itemId(item.getId()).originItemId(item.getId()).build();
+        componentSqlSessionManager.insert(itemTag);
+
+        sqlSessionManager.clearCache();
+
+        // Source of association and java type IdLong are read as the id of IItem
+        IItemTag itemTag2 = componentSqlSessionManager.findById(IItemTag.class, itemTag.getId());
+        Assertions.assertThat(itemTag2.getItemId()).isInstanceOf(IdFactory.IdLong.class).isEqualTo(item.getId());
+        Assertions.assertThat(itemTag2.getOriginItemId()).isInstanceOf(IdFactory.IdLong.class).isEqualTo(item.getId());
+        Assertions.assertThat(itemTag2.getItem().getId()).isEqualTo(itemTag2.getItemId());
+    }
+
+    private long getSequenceNextValue() throws SQLException {
+        try (Statement statement = sqlSessionManager.getConnection().createStatement();
+                ResultSet rs = statement.executeQuery("SELECT NEXT_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'S_ITEM'")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
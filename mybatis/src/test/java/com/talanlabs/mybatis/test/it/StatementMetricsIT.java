@@ -0,0 +1,50 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.metrics.HistogramStatementMetricsSink;
+import com.talanlabs.mybatis.component.metrics.StatementMetrics;
+import com.talanlabs.mybatis.component.metrics.StatementMetricsInterceptor;
+import com.talanlabs.mybatis.component.metrics.StatementTag;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class StatementMetricsIT extends AbstractHSQLIntegration {
+
+    private static HistogramStatementMetricsSink statementMetricsSink;
+
+    @BeforeClass
+    public static void beforeStatementMetrics() {
+        statementMetricsSink = new HistogramStatementMetricsSink();
+        configuration.addInterceptor(new StatementMetricsInterceptor(statementMetricsSink));
+    }
+
+    @Before
+    public void clearMetrics() {
+        statementMetricsSink.clear();
+    }
+
+    @Test
+    public void testFindAndUpdate() {
+        IUser user = componentSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        user.setLogin("Toto");
+        componentSqlSessionManager.update(user);
+
+        StatementMetrics findMetrics = statementMetricsSink.getStatementMetrics(StatementTag.of(IUser.class, StatementNameHelper.FIND_ENTITY_BY_ID_NAME));
+        StatementMetrics updateMetrics = statementMetricsSink.getStatementMetrics(StatementTag.of(IUser.class, StatementNameHelper.UPDATE_NAME));
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(findMetrics).isNotNull();
+        softAssertions.assertThat(findMetrics.getCount()).isEqualTo(1);
+        softAssertions.assertThat(findMetrics.getRowCount()).isEqualTo(1);
+        softAssertions.assertThat(findMetrics.getErrorCount()).isEqualTo(0);
+        softAssertions.assertThat(findMetrics.getLatencyHistogram().getMax()).isGreaterThan(0);
+        softAssertions.assertThat(updateMetrics).isNotNull();
+        softAssertions.assertThat(updateMetrics.getCount()).isEqualTo(1);
+        softAssertions.assertThat(updateMetrics.getRowCount()).isEqualTo(1);
+        softAssertions.assertAll();
+    }
+}
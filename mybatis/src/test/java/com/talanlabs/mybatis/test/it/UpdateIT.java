@@ -1,6 +1,8 @@
 package com.talanlabs.mybatis.test.it;
 
 import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.cache.CacheNameHelper;
+import com.talanlabs.mybatis.component.cache.NlsColumnCache;
 import com.talanlabs.mybatis.component.statement.StatementNameHelper;
 import com.talanlabs.mybatis.test.data.CountryBuilder;
 import com.talanlabs.mybatis.test.data.ICountry;
@@ -100,4 +102,36 @@ public class UpdateIT extends AbstractHSQLIntegration {
         Assertions.assertThat(componentSqlSessionManager.findById(ICountry.class, country.getId()).getName()).isEqualTo("French");
 
     }
+
+    @Test
+    public void testUpdateNlsColumnClearsCacheAtCommit() {
+        NlsColumnCache<?> nlsColumnCache = (NlsColumnCache<?>) configuration.getCache(CacheNameHelper.buildCacheKey(ICountry.class));
+        nlsColumnCache.clear();
+        try {
+            defaultNlsColumnHandler.setLanguageCode("fra");
+            componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2"));
+            defaultNlsColumnHandler.setLanguageCode("eng");
+            componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("2"));
+            sqlSessionManager.commit();
+
+            Assertions.assertThat(nlsColumnCache.getSize("fra")).isEqualTo(1);
+            Assertions.assertThat(nlsColumnCache.getSize("eng")).isEqualTo(1);
+
+            defaultNlsColumnHandler.setLanguageCode("fra");
+            ICountry country = componentSqlSessionManager.findById(ICountry.class, IdFactory.IdString.from("1"));
+            country.setName("Fromage bleu");
+            componentSqlSessionManager.update(country);
+
+            // Not committed, other sessions keep reading the cache
+            Assertions.assertThat(nlsColumnCache.getSize("fra")).isEqualTo(1);
+            Assertions.assertThat(nlsColumnCache.getSize("eng")).isEqualTo(1);
+
+            // Update flushes all regions at commit
+            sqlSessionManager.commit();
+            Assertions.assertThat(nlsColumnCache.getSize("fra")).isEqualTo(0);
+            Assertions.assertThat(nlsColumnCache.getSize("eng")).isEqualTo(0);
+        } finally {
+            defaultNlsColumnHandler.setLanguageCode("fra");
+        }
+    }
 }
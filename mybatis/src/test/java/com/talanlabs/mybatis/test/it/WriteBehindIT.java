@@ -0,0 +1,239 @@
+package com.talanlabs.mybatis.test.it;
+
+import com.talanlabs.component.IComponent;
+import com.talanlabs.component.factory.ComponentFactory;
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.session.ComponentSqlSessionManager;
+import com.talanlabs.mybatis.component.session.observer.ITriggerObserver;
+import com.talanlabs.mybatis.component.session.writebehind.UnitOfWork;
+import com.talanlabs.mybatis.component.session.writebehind.WriteBehindInterceptor;
+import com.talanlabs.mybatis.test.data.CountryBuilder;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.data.ITrain;
+import com.talanlabs.mybatis.test.data.IUser;
+import com.talanlabs.mybatis.test.data.IWagon;
+import com.talanlabs.mybatis.test.data.TrainBuilder;
+import com.talanlabs.mybatis.test.data.UserBuilder;
+import com.talanlabs.mybatis.test.data.WagonBuilder;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class WriteBehindIT extends AbstractHSQLIntegration {
+
+    private static ComponentSqlSessionManager writeBehindSqlSessionManager;
+
+    private final List<String> triggers = new ArrayList<>();
+
+    private final ITriggerObserver recordTriggerObserver = new ITriggerObserver() {
+
+        @Override
+        public <E extends IComponent> void triggerBefore(SqlSession sqlSession, Type type, E component) {
+            triggers.add(type + " " + ComponentFactory.getInstance().getComponentClass(component).getSimpleName());
+        }
+
+        @Override
+        public <E extends IComponent> void triggerAfter(SqlSession sqlSession, Type type, E component) {
+            // Nothing
+        }
+    };
+
+    @BeforeClass
+    public static void beforeWriteBehindClass() {
+        configuration.addInterceptor(new WriteBehindInterceptor());
+        writeBehindSqlSessionManager = ComponentSqlSessionManager.newInstance(sqlSessionManager);
+    }
+
+    @Before
+    public void beginUnitOfWork() {
+        configuration.getTriggerDispatcher().addTriggerObserver(recordTriggerObserver);
+        UnitOfWork.begin();
+    }
+
+    @After
+    public void endUnitOfWork() {
+        UnitOfWork.end();
+        configuration.getTriggerDispatcher().removeTriggerObserver(recordTriggerObserver);
+    }
+
+    @Test
+    public void testInsertFlushedAtCommit() {
+        IUser user = UserBuilder.newBuilder().login("Gabriel").build();
+        int i = writeBehindSqlSessionManager.insert(user);
+
+        Assertions.assertThat(i).isEqualTo(1);
+        Assertions.assertThat(user.getId()).isNotNull();
+        Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+        Assertions.assertThat(triggers).isEmpty();
+
+        sqlSessionManager.commit();
+
+        Assertions.assertThat(UnitOfWork.current().isEmpty()).isTrue();
+        Assertions.assertThat(triggers).containsExactly("Insert IUser");
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(IUser.class, user.getId()).getLogin()).isEqualTo("Gabriel");
+    }
+
+    @Test
+    public void testCoalesceUpdates() {
+        IUser user = writeBehindSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        user.setLogin("Toto");
+        writeBehindSqlSessionManager.update(user);
+        user.setLogin("Titi");
+        writeBehindSqlSessionManager.update(user);
+
+        Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+
+        sqlSessionManager.commit();
+        sqlSessionManager.clearCache();
+
+        Assertions.assertThat(triggers).containsExactly("Update IUser");
+        IUser user2 = writeBehindSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(user2.getLogin()).isEqualTo("Titi");
+        Assertions.assertThat(user2.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCoalesceInsertUpdateDelete() {
+        IUser user = UserBuilder.newBuilder().login("Gabriel").build();
+        writeBehindSqlSessionManager.insert(user);
+        user.setLogin("Gaby");
+        writeBehindSqlSessionManager.update(user);
+
+        Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+
+        IUser user2 = UserBuilder.newBuilder().login("Sandra").build();
+        writeBehindSqlSessionManager.insert(user2);
+        writeBehindSqlSessionManager.delete(user2);
+
+        Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+
+        sqlSessionManager.commit();
+
+        Assertions.assertThat(triggers).containsExactly("Insert IUser");
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(IUser.class, user.getId()).getLogin()).isEqualTo("Gaby");
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(IUser.class, user2.getId())).isNull();
+    }
+
+    @Test
+    public void testForeignKeyOrder() {
+        ITrain train = TrainBuilder.newBuilder().code("00003").build();
+        IWagon wagon1 = WagonBuilder.newBuilder().code("000000000001").position(1).build();
+        IWagon wagon2 = WagonBuilder.newBuilder().code("000000000002").position(2).build();
+
+        writeBehindSqlSessionManager.insert(wagon1);
+        writeBehindSqlSessionManager.insert(train);
+        wagon1.setTrainId(train.getId());
+        wagon2.setTrainId(train.getId());
+        writeBehindSqlSessionManager.insert(wagon2);
+
+        sqlSessionManager.commit();
+
+        Assertions.assertThat(triggers).containsExactly("Insert ITrain", "Insert IWagon", "Insert IWagon");
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(ITrain.class, train.getId()).getWagons()).hasSize(2);
+
+        triggers.clear();
+        writeBehindSqlSessionManager.delete(train);
+        writeBehindSqlSessionManager.delete(wagon1);
+        writeBehindSqlSessionManager.delete(wagon2);
+
+        sqlSessionManager.commit();
+
+        Assertions.assertThat(triggers).containsExactly("Delete IWagon", "Delete IWagon", "Delete ITrain");
+    }
+
+    @Test
+    public void testQueryFlushes() {
+        IUser user = UserBuilder.newBuilder().login("Gabriel").build();
+        writeBehindSqlSessionManager.insert(user);
+
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(IUser.class, user.getId())).isNotNull();
+        Assertions.assertThat(UnitOfWork.current().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testRollbackDiscards() {
+        IUser user = UserBuilder.newBuilder().login("Gabriel").build();
+        writeBehindSqlSessionManager.insert(user);
+
+        sqlSessionManager.rollback();
+
+        Assertions.assertThat(UnitOfWork.current().isEmpty()).isTrue();
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(IUser.class, user.getId())).isNull();
+    }
+
+    @Test
+    public void testNlsColumnMerged() {
+        ICountry country = CountryBuilder.newBuilder().code("ITA").name("Italie").build();
+        writeBehindSqlSessionManager.insert(country);
+
+        sqlSessionManager.commit();
+
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("tableName", "T_COUNTRY");
+        parameter.put("id", country.getId());
+        Integer count = sqlSessionManager.selectOne("com.talanlabs.mybatis.test.it.mapper.NlsMapper.countNlsColumns", parameter);
+        Assertions.assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    public void testVersionConflict() {
+        IUser user = writeBehindSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        user.setVersion(5);
+        user.setLogin("Toto");
+        writeBehindSqlSessionManager.update(user);
+
+        Assertions.assertThatThrownBy(sqlSessionManager::commit).isInstanceOf(PersistenceException.class).hasCauseInstanceOf(ExecutorException.class);
+        Assertions.assertThat(UnitOfWork.current().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testOtherInstanceNotCoalesced() {
+        IUser user = writeBehindSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        sqlSessionManager.clearCache();
+        IUser otherUser = writeBehindSqlSessionManager.findById(IUser.class, IdFactory.IdString.from("1"));
+        Assertions.assertThat(otherUser).isNotSameAs(user);
+
+        user.setLogin("Toto");
+        writeBehindSqlSessionManager.update(user);
+        otherUser.setLogin("Titi");
+        writeBehindSqlSessionManager.update(otherUser);
+
+        Assertions.assertThat(triggers).containsExactly("Update IUser");
+        Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+
+        Assertions.assertThatThrownBy(sqlSessionManager::commit).isInstanceOf(PersistenceException.class).hasCauseInstanceOf(ExecutorException.class);
+    }
+
+    @Test
+    public void testOtherSessionDoesNotFlush() {
+        IUser user = UserBuilder.newBuilder().login("Gabriel").build();
+        writeBehindSqlSessionManager.insert(user);
+
+        SqlSessionManager otherSqlSessionManager = SqlSessionManager.newInstance(new DefaultSqlSessionFactory(configuration));
+        otherSqlSessionManager.startManagedSession();
+        try {
+            Assertions.assertThat(ComponentSqlSessionManager.newInstance(otherSqlSessionManager).findById(IUser.class, user.getId())).isNull();
+            Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+        } finally {
+            otherSqlSessionManager.close();
+        }
+        Assertions.assertThat(UnitOfWork.current().size()).isEqualTo(1);
+
+        sqlSessionManager.commit();
+
+        Assertions.assertThat(UnitOfWork.current().isEmpty()).isTrue();
+        Assertions.assertThat(writeBehindSqlSessionManager.findById(IUser.class, user.getId()).getLogin()).isEqualTo("Gabriel");
+    }
+}
@@ -0,0 +1,57 @@
+package com.talanlabs.mybatis.test.it.config;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Count executed statements whose sql contains a text, a batched statement counts once by parameter
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }),
+        @Signature(type = StatementHandler.class, method = "update", args = { Statement.class }), @Signature(type = StatementHandler.class, method = "batch", args = { Statement.class }) })
+public class CountStatementInterceptor implements Interceptor {
+
+    private final String text;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public CountStatementInterceptor(String text) {
+        super();
+
+        this.text = text;
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (((StatementHandler) invocation.getTarget()).getBoundSql().getSql().contains(text)) {
+            count.incrementAndGet();
+        }
+        return invocation.proceed();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // Nothing
+    }
+}
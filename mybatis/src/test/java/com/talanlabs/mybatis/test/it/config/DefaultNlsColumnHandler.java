@@ -10,6 +10,10 @@ public class DefaultNlsColumnHandler implements INlsColumnHandler {
 
     private String languageCode;
 
+    private boolean mergeNlsColumns;
+
+    private boolean batchNlsColumn;
+
     public DefaultNlsColumnHandler() {
         super();
 
@@ -24,6 +28,14 @@ public class DefaultNlsColumnHandler implements INlsColumnHandler {
         this.languageCode = languageCode;
     }
 
+    public void setMergeNlsColumns(boolean mergeNlsColumns) {
+        this.mergeNlsColumns = mergeNlsColumns;
+    }
+
+    public void setBatchNlsColumn(boolean batchNlsColumn) {
+        this.batchNlsColumn = batchNlsColumn;
+    }
+
     @Override
     public Object getContext() {
         return languageCode;
@@ -41,6 +53,11 @@ public class DefaultNlsColumnHandler implements INlsColumnHandler {
         return "com.talanlabs.mybatis.test.it.mapper.NlsMapper.selectNlsColumn";
     }
 
+    @Override
+    public String getSelectNlsColumnsId(Class<? extends IComponent> componentClass) {
+        return "com.talanlabs.mybatis.test.it.mapper.NlsMapper.selectNlsColumns";
+    }
+
     @Override
     public boolean isUpdateDefaultNlsColumn(Class<? extends IComponent> componentClass, String propertyName) {
         return "eng".equals(languageCode);
@@ -51,6 +68,16 @@ public class DefaultNlsColumnHandler implements INlsColumnHandler {
         return "com.talanlabs.mybatis.test.it.mapper.NlsMapper.mergeNlsColumn";
     }
 
+    @Override
+    public String getMergeNlsColumnsId(Class<? extends IComponent> componentClass) {
+        return mergeNlsColumns ? "com.talanlabs.mybatis.test.it.mapper.NlsMapper.mergeNlsColumns" : null;
+    }
+
+    @Override
+    public boolean isBatchNlsColumn(Class<? extends IComponent> componentClass) {
+        return batchNlsColumn;
+    }
+
     @Override
     public String getDeleteNlsColumnsId(Class<? extends IComponent> componentClass) {
         return "com.talanlabs.mybatis.test.it.mapper.NlsMapper.deleteNlsColumns";
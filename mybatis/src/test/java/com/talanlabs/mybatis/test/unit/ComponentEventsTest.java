@@ -0,0 +1,20 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.mybatis.component.jfr.ComponentEventType;
+import com.talanlabs.mybatis.component.jfr.ComponentEvents;
+import com.talanlabs.mybatis.test.data.ICountry;
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class ComponentEventsTest {
+
+    @Test
+    public void testWithoutRecorder() {
+        // Module component-mybatis-jfr is not in classpath
+        Assertions.assertThat(ComponentEvents.isAvailable()).isFalse();
+        Assertions.assertThat(ComponentEvents.begin(ComponentEventType.LAZY_LOAD)).isNull();
+
+        // Nothing on null
+        ComponentEvents.commit(null, ICountry.class, "name");
+    }
+}
@@ -133,4 +133,17 @@ public class ComponentMyBatisHelperTest {
         Assertions.assertThat(ComponentMyBatisHelper.isAllUseNlsColumn(ICountry.class)).isTrue();
         Assertions.assertThat(ComponentMyBatisHelper.isAllUseNlsColumn(IUser.class)).isTrue();
     }
+
+    @Test
+    public void testGetSelectColumnNames() {
+        Assertions.assertThat(ComponentMyBatisHelper.getSelectColumnNames(IGroup.class))
+                .containsOnly("ID", "VERSION", "USER_ID", "NAME", "CREATED_DATE", "CREATED_BY", "UPDATED_DATE", "UPDATED_BY", "CANCELED", "CANCELED_DATE", "CANCELED_BY");
+        Assertions.assertThat(ComponentMyBatisHelper.getSelectColumnNames(ICountry.class)).contains("CODE", "NAME");
+    }
+
+    @Test
+    public void testBuildSelectColumns() {
+        Assertions.assertThat(ComponentMyBatisHelper.buildSelectColumns(IGroup.class, "t")).contains("t.USER_ID").contains("t.NAME").doesNotContain("*");
+        Assertions.assertThat(ComponentMyBatisHelper.buildSelectColumns(IGroup.class, null)).contains("USER_ID").doesNotContain(".");
+    }
 }
@@ -0,0 +1,53 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.entity.factory.IdFactory;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.util.UUID;
+
+public class IdBinaryTest {
+
+    @Test
+    public void testFromString() {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426655440000");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(IdFactory.IdBinary.fromString("123e4567-e89b-12d3-a456-426655440000")).isEqualTo(IdFactory.IdBinary.from(uuid));
+        softAssertions.assertThat(IdFactory.IdBinary.fromString("123e4567e89b12d3a456426655440000")).isEqualTo(IdFactory.IdBinary.from(uuid));
+        softAssertions.assertThat(IdFactory.IdBinary.from(uuid).toString()).isEqualTo("123e4567-e89b-12d3-a456-426655440000");
+        softAssertions.assertAll();
+
+        Assertions.assertThatThrownBy(() -> IdFactory.IdBinary.fromString("1")).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> IdFactory.IdBinary.fromString("123e4567e89b12d3a45642665544000z")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBytes() {
+        IdFactory.IdBinary idBinary = IdFactory.IdBinary.of(0x0102030405060708L, 0xF1F2F3F4F5F6F7F8L);
+
+        byte[] bytes = idBinary.toBytes();
+        Assertions.assertThat(bytes).hasSize(16);
+        Assertions.assertThat(bytes[0]).isEqualTo((byte) 0x01);
+        Assertions.assertThat(bytes[15]).isEqualTo((byte) 0xF8);
+        Assertions.assertThat(IdFactory.IdBinary.fromBytes(bytes)).isEqualTo(idBinary);
+
+        Assertions.assertThatThrownBy(() -> IdFactory.IdBinary.fromBytes(new byte[8])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testEqualsAndCompare() {
+        IdFactory.IdBinary id1 = IdFactory.IdBinary.of(1L, 2L);
+        IdFactory.IdBinary id2 = IdFactory.IdBinary.of(1L, 2L);
+        IdFactory.IdBinary id3 = IdFactory.IdBinary.of(-1L, 0L);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(id1).isEqualTo(id2);
+        softAssertions.assertThat(id1.hashCode()).isEqualTo(id2.hashCode());
+        softAssertions.assertThat(id1).isNotEqualTo(id3);
+        softAssertions.assertThat(id1).isNotEqualTo(IdFactory.IdString.from(id1.toString()));
+        softAssertions.assertThat(id1.compareTo(id3)).isLessThan(0);
+        softAssertions.assertAll();
+    }
+}
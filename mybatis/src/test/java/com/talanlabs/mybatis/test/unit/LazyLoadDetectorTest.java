@@ -0,0 +1,53 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.mybatis.component.lazy.LazyLoadDetector;
+import com.talanlabs.mybatis.component.lazy.LazyLoadThresholdException;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+public class LazyLoadDetectorTest {
+
+    @Test
+    public void testOriginWithoutStatement() {
+        LazyLoadDetector lazyLoadDetector = new LazyLoadDetector(1, true);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(lazyLoadDetector.getCurrentOrigin()).isSameAs(lazyLoadDetector.getCurrentOrigin());
+        softAssertions.assertThat(lazyLoadDetector.getCurrentOrigin().getStatementId()).isNull();
+
+        lazyLoadDetector.enterStatement("findUsers");
+        softAssertions.assertThat(lazyLoadDetector.getCurrentOrigin().getStatementId()).isEqualTo("findUsers");
+        lazyLoadDetector.exitStatement();
+        softAssertions.assertThat(lazyLoadDetector.getCurrentOrigin().getStatementId()).isNull();
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testAbortNotCounted() {
+        LazyLoadDetector lazyLoadDetector = new LazyLoadDetector(1, true);
+
+        lazyLoadDetector.enterStatement("findUsers");
+        LazyLoadDetector.Origin origin = lazyLoadDetector.getCurrentOrigin();
+        lazyLoadDetector.exitStatement();
+
+        for (int i = 0; i < 2; i++) {
+            lazyLoadDetector.beginLazyLoad(origin, IUser.class, "address");
+            lazyLoadDetector.enterStatement("findAddress");
+            lazyLoadDetector.exitStatement();
+            lazyLoadDetector.abortLazyLoad();
+        }
+        Assertions.assertThat(lazyLoadDetector.getLazyLoadCounts()).isEmpty();
+
+        lazyLoadDetector.beginLazyLoad(origin, IUser.class, "address");
+        lazyLoadDetector.enterStatement("findAddress");
+        lazyLoadDetector.exitStatement();
+        lazyLoadDetector.endLazyLoad();
+
+        lazyLoadDetector.beginLazyLoad(origin, IUser.class, "address");
+        lazyLoadDetector.enterStatement("findAddress");
+        lazyLoadDetector.exitStatement();
+        Assertions.assertThatThrownBy(lazyLoadDetector::endLazyLoad).isInstanceOf(LazyLoadThresholdException.class);
+    }
+}
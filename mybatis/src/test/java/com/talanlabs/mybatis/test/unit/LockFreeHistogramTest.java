@@ -0,0 +1,74 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.mybatis.component.metrics.LockFreeHistogram;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Offset;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+public class LockFreeHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LockFreeHistogram histogram = new LockFreeHistogram();
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(histogram.getCount()).isEqualTo(0);
+        softAssertions.assertThat(histogram.getMax()).isEqualTo(0);
+        softAssertions.assertThat(histogram.getMean()).isEqualTo(0.0);
+        softAssertions.assertThat(histogram.getValueAtPercentile(99.0)).isEqualTo(0);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testSmallValues() {
+        LockFreeHistogram histogram = new LockFreeHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(histogram.getCount()).isEqualTo(10);
+        softAssertions.assertThat(histogram.getSum()).isEqualTo(55);
+        softAssertions.assertThat(histogram.getMax()).isEqualTo(10);
+        softAssertions.assertThat(histogram.getMean()).isEqualTo(5.5);
+        softAssertions.assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(5);
+        softAssertions.assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(10);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testPercentiles() {
+        LockFreeHistogram histogram = new LockFreeHistogram();
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(histogram.getMax()).isEqualTo(100000000L);
+        softAssertions.assertThat((double) histogram.getValueAtPercentile(50.0)).isCloseTo(50000000.0, Offset.offset(50000000.0 / 16));
+        softAssertions.assertThat((double) histogram.getValueAtPercentile(99.0)).isCloseTo(99000000.0, Offset.offset(99000000.0 / 16));
+        softAssertions.assertThat(histogram.getValueAtPercentile(100.0)).isLessThanOrEqualTo(100000000L);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testReset() {
+        LockFreeHistogram histogram = new LockFreeHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        histogram.reset();
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(histogram.getCount()).isEqualTo(0);
+        softAssertions.assertThat(histogram.getMax()).isEqualTo(0);
+        softAssertions.assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(0);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testWrongPercentile() {
+        LockFreeHistogram histogram = new LockFreeHistogram();
+        Assertions.assertThatThrownBy(() -> histogram.getValueAtPercentile(101.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,178 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.mybatis.component.cache.CacheNameHelper;
+import com.talanlabs.mybatis.component.cache.ComponentCacheManager;
+import com.talanlabs.mybatis.component.cache.NlsColumnCache;
+import com.talanlabs.mybatis.test.data.ICountry;
+import com.talanlabs.mybatis.test.data.IUser;
+import com.talanlabs.mybatis.test.it.config.DefaultNlsColumnHandler;
+import org.apache.ibatis.cache.decorators.LruCache;
+import org.apache.ibatis.cache.decorators.ScheduledCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.session.Configuration;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NlsColumnCacheTest {
+
+    private static NlsColumnCache<ICountry> createNlsColumnCache(DefaultNlsColumnHandler nlsColumnHandler) {
+        return createNlsColumnCache(new Configuration(), new ComponentCacheManager(), nlsColumnHandler);
+    }
+
+    private static NlsColumnCache<ICountry> createNlsColumnCache(Configuration configuration, ComponentCacheManager componentCacheManager, DefaultNlsColumnHandler nlsColumnHandler) {
+        return new NlsColumnCache<>(configuration, componentCacheManager, ICountry.class, "test", nlsColumnHandler, region -> {
+            LruCache lruCache = new LruCache(region);
+            lruCache.setSize(2);
+            return lruCache;
+        });
+    }
+
+    @Test
+    public void testRegionByContext() {
+        DefaultNlsColumnHandler nlsColumnHandler = new DefaultNlsColumnHandler();
+        NlsColumnCache<ICountry> nlsColumnCache = createNlsColumnCache(nlsColumnHandler);
+
+        nlsColumnCache.putObject("1", "Fromage");
+        nlsColumnHandler.setLanguageCode("eng");
+        nlsColumnCache.putObject("1", "Cheese");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnCache.getObject("1")).isEqualTo("Cheese");
+        nlsColumnHandler.setLanguageCode("fra");
+        softAssertions.assertThat(nlsColumnCache.getObject("1")).isEqualTo("Fromage");
+        nlsColumnHandler.setLanguageCode("spa");
+        softAssertions.assertThat(nlsColumnCache.getObject("1")).isNull();
+        softAssertions.assertThat(nlsColumnCache.getSize()).isEqualTo(2);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testEvictionByRegion() {
+        DefaultNlsColumnHandler nlsColumnHandler = new DefaultNlsColumnHandler();
+        NlsColumnCache<ICountry> nlsColumnCache = createNlsColumnCache(nlsColumnHandler);
+
+        nlsColumnCache.putObject("1", "Fromage");
+        nlsColumnHandler.setLanguageCode("eng");
+        nlsColumnCache.putObject("1", "Cheese");
+        nlsColumnCache.putObject("2", "China");
+        nlsColumnCache.putObject("3", "England");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnCache.getSize("eng")).isEqualTo(2);
+        softAssertions.assertThat(nlsColumnCache.getObject("1")).isNull();
+        nlsColumnHandler.setLanguageCode("fra");
+        softAssertions.assertThat(nlsColumnCache.getObject("1")).isEqualTo("Fromage");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testClear() {
+        DefaultNlsColumnHandler nlsColumnHandler = new DefaultNlsColumnHandler();
+        NlsColumnCache<ICountry> nlsColumnCache = createNlsColumnCache(nlsColumnHandler);
+
+        nlsColumnCache.putObject("1", "Fromage");
+        nlsColumnHandler.setLanguageCode("eng");
+        nlsColumnCache.putObject("1", "Cheese");
+
+        nlsColumnCache.clear("eng");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnCache.getSize("eng")).isEqualTo(0);
+        softAssertions.assertThat(nlsColumnCache.getSize("fra")).isEqualTo(1);
+
+        nlsColumnCache.clear();
+        softAssertions.assertThat(nlsColumnCache.getSize()).isEqualTo(0);
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testClearCascade() {
+        Configuration configuration = new Configuration();
+        PerpetualCache userCache = new PerpetualCache(CacheNameHelper.buildCacheKey(IUser.class));
+        configuration.addCache(userCache);
+
+        ComponentCacheManager componentCacheManager = new ComponentCacheManager();
+        componentCacheManager.putCacheLink(ICountry.class, IUser.class);
+        List<String> cleareds = new ArrayList<>();
+        componentCacheManager.addCacheListener(cleareds::add);
+
+        DefaultNlsColumnHandler nlsColumnHandler = new DefaultNlsColumnHandler();
+        NlsColumnCache<ICountry> nlsColumnCache = createNlsColumnCache(configuration, componentCacheManager, nlsColumnHandler);
+
+        nlsColumnCache.putObject("1", "Fromage");
+        nlsColumnHandler.setLanguageCode("eng");
+        nlsColumnCache.putObject("1", "Cheese");
+        userCache.putObject("1", "User");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        nlsColumnCache.clear("eng");
+        softAssertions.assertThat(userCache.getSize()).isEqualTo(1);
+        softAssertions.assertThat(cleareds).isEmpty();
+
+        nlsColumnCache.clear();
+        softAssertions.assertThat(nlsColumnCache.getSize()).isEqualTo(0);
+        softAssertions.assertThat(userCache.getSize()).isEqualTo(0);
+        softAssertions.assertThat(cleareds).containsExactly("test");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testClearIntervalCascade() throws InterruptedException {
+        Configuration configuration = new Configuration();
+        PerpetualCache userCache = new PerpetualCache(CacheNameHelper.buildCacheKey(IUser.class));
+        configuration.addCache(userCache);
+
+        ComponentCacheManager componentCacheManager = new ComponentCacheManager();
+        componentCacheManager.putCacheLink(ICountry.class, IUser.class);
+        List<String> cleareds = new ArrayList<>();
+        componentCacheManager.addCacheListener(cleareds::add);
+
+        DefaultNlsColumnHandler nlsColumnHandler = new DefaultNlsColumnHandler();
+        NlsColumnCache<ICountry> nlsColumnCache = new NlsColumnCache<>(configuration, componentCacheManager, ICountry.class, "test", nlsColumnHandler, region -> {
+            ScheduledCache scheduledCache = new ScheduledCache(region);
+            scheduledCache.setClearInterval(10);
+            return scheduledCache;
+        });
+
+        nlsColumnCache.putObject("1", "Fromage");
+        userCache.putObject("1", "User");
+
+        Thread.sleep(20);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnCache.getObject("1")).isNull();
+        softAssertions.assertThat(userCache.getSize()).isEqualTo(0);
+        softAssertions.assertThat(cleareds).containsExactly("test");
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testClearContextOfLinkedNlsCache() {
+        Configuration configuration = new Configuration();
+        ComponentCacheManager componentCacheManager = new ComponentCacheManager();
+        componentCacheManager.putCacheLink(ICountry.class, IUser.class);
+        List<String> cleareds = new ArrayList<>();
+        componentCacheManager.addCacheListener(cleareds::add);
+
+        DefaultNlsColumnHandler nlsColumnHandler = new DefaultNlsColumnHandler();
+        NlsColumnCache<ICountry> nlsColumnCache = createNlsColumnCache(configuration, componentCacheManager, nlsColumnHandler);
+        NlsColumnCache<IUser> userCache = new NlsColumnCache<>(configuration, componentCacheManager, IUser.class, CacheNameHelper.buildCacheKey(IUser.class), nlsColumnHandler,
+                region -> region);
+        configuration.addCache(userCache);
+
+        userCache.putObject("1", "User fra");
+        nlsColumnHandler.setLanguageCode("eng");
+        userCache.putObject("1", "User eng");
+
+        nlsColumnCache.clear("eng");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(userCache.getSize("eng")).isEqualTo(0);
+        softAssertions.assertThat(userCache.getSize("fra")).isEqualTo(1);
+        softAssertions.assertThat(cleareds).isEmpty();
+        softAssertions.assertAll();
+    }
+}
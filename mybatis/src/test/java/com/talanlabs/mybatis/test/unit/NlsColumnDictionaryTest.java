@@ -0,0 +1,101 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.entity.factory.IdFactory;
+import com.talanlabs.mybatis.component.cache.NlsColumnDictionary;
+import com.talanlabs.mybatis.component.session.handler.NlsColumnValue;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class NlsColumnDictionaryTest {
+
+    @Test
+    public void testPutAndGet() {
+        NlsColumnDictionary nlsColumnDictionary = new NlsColumnDictionary();
+        nlsColumnDictionary.put("T_COUNTRY", "NAME", IdFactory.IdString.from("1"), "fra", "Fromage");
+        nlsColumnDictionary.put("T_COUNTRY", "NAME", "2", null, null);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", IdFactory.IdString.from("1"), "eng")).isNull();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "2", null)).isSameAs(NlsColumnDictionary.NO_TRANSLATION);
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "CODE", "1", "fra")).isNull();
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testPreloadAndInvalidate() {
+        NlsColumnValue nlsColumnValue = new NlsColumnValue();
+        nlsColumnValue.setId("1");
+        nlsColumnValue.setColumnName("NAME");
+        nlsColumnValue.setMeaning("Fromage");
+
+        NlsColumnDictionary nlsColumnDictionary = new NlsColumnDictionary();
+        nlsColumnDictionary.preload("T_COUNTRY", "fra", Collections.singletonList(nlsColumnValue));
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "2", "fra")).isSameAs(NlsColumnDictionary.NO_TRANSLATION);
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "2", "eng")).isNull();
+
+        nlsColumnDictionary.invalidate("T_COUNTRY", "NAME", "2");
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "2", "fra")).isNull();
+
+        nlsColumnDictionary.put("T_COUNTRY", "NAME", "2", "fra", "Chine");
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "2", "fra")).isEqualTo("Chine");
+
+        nlsColumnDictionary.clear();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isNull();
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testTransactionInvalidate() {
+        Object transaction1 = new Object();
+        Object transaction2 = new Object();
+
+        NlsColumnDictionary nlsColumnDictionary = new NlsColumnDictionary();
+        nlsColumnDictionary.put("T_COUNTRY", "NAME", "1", "fra", "Fromage");
+        nlsColumnDictionary.invalidate(transaction1, "T_COUNTRY", "NAME", "1");
+        nlsColumnDictionary.invalidate(transaction2, "T_COUNTRY", "NAME", "1");
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+        softAssertions.assertThat(nlsColumnDictionary.isWritten(transaction1)).isTrue();
+        softAssertions.assertThat(nlsColumnDictionary.isWritten(null)).isFalse();
+
+        nlsColumnDictionary.rollback(transaction2);
+        softAssertions.assertThat(nlsColumnDictionary.isWritten(transaction2)).isFalse();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage");
+
+        nlsColumnDictionary.commit(transaction1);
+        softAssertions.assertThat(nlsColumnDictionary.hasPending()).isFalse();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isNull();
+        softAssertions.assertAll();
+    }
+
+    @Test
+    public void testStalePutAfterInvalidate() {
+        Object transaction = new Object();
+
+        NlsColumnDictionary nlsColumnDictionary = new NlsColumnDictionary();
+        nlsColumnDictionary.put("T_COUNTRY", "NAME", "1", "fra", "Fromage");
+
+        // Reader selects old translation, writer commits before it is put
+        long generation = nlsColumnDictionary.getGeneration("T_COUNTRY");
+        nlsColumnDictionary.invalidate(transaction, "T_COUNTRY", "NAME", "1");
+        nlsColumnDictionary.commit(transaction);
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(nlsColumnDictionary.put("T_COUNTRY", "NAME", "1", "fra", "Fromage", generation)).isFalse();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isNull();
+        softAssertions.assertThat(nlsColumnDictionary.preload("T_COUNTRY", "fra", Collections.emptyList(), generation)).isFalse();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "2", "fra")).isNull();
+
+        softAssertions.assertThat(nlsColumnDictionary.put("T_COUNTRY", "NAME", "1", "fra", "Fromage2", nlsColumnDictionary.getGeneration("T_COUNTRY"))).isTrue();
+        softAssertions.assertThat(nlsColumnDictionary.get("T_COUNTRY", "NAME", "1", "fra")).isEqualTo("Fromage2");
+        softAssertions.assertAll();
+    }
+}
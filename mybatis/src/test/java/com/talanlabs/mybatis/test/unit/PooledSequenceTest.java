@@ -0,0 +1,64 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.entity.helper.PooledSequence;
+import com.talanlabs.entity.helper.SequenceKeyGenerator;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PooledSequenceTest {
+
+    @Test
+    public void testBlocks() {
+        AtomicLong sequence = new AtomicLong(1);
+        PooledSequence pooledSequence = new PooledSequence(10);
+
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            values.add(pooledSequence.next(() -> sequence.getAndAdd(10)));
+        }
+
+        Assertions.assertThat(values).startsWith(1L, 2L, 3L).endsWith(24L, 25L).doesNotHaveDuplicates();
+        Assertions.assertThat(sequence.get()).isEqualTo(31L);
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        AtomicLong sequence = new AtomicLong(1);
+        PooledSequence pooledSequence = new PooledSequence(50);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    values.add(pooledSequence.next(() -> sequence.getAndAdd(50)));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertThat(values).hasSize(80000);
+    }
+
+    @Test
+    public void testBuildNextValueSql() {
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(SequenceKeyGenerator.buildNextValueSql("Oracle", "S_ITEM")).isEqualTo("SELECT S_ITEM.NEXTVAL FROM DUAL");
+        softAssertions.assertThat(SequenceKeyGenerator.buildNextValueSql("PostgreSQL", "S_ITEM")).isEqualTo("SELECT nextval('S_ITEM')");
+        softAssertions.assertThat(SequenceKeyGenerator.buildNextValueSql("HSQL Database Engine", "S_ITEM")).isEqualTo("CALL NEXT VALUE FOR S_ITEM");
+        softAssertions.assertThat(SequenceKeyGenerator.buildNextValueSql("H2", "S_ITEM")).isEqualTo("SELECT NEXT VALUE FOR S_ITEM");
+        softAssertions.assertAll();
+    }
+}
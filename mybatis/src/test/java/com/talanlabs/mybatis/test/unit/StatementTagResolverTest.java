@@ -0,0 +1,24 @@
+package com.talanlabs.mybatis.test.unit;
+
+import com.talanlabs.mybatis.component.metrics.ComponentStatementTagResolver;
+import com.talanlabs.mybatis.component.metrics.StatementTag;
+import com.talanlabs.mybatis.component.statement.StatementNameHelper;
+import com.talanlabs.mybatis.test.data.IUser;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+public class StatementTagResolverTest {
+
+    @Test
+    public void testResolve() {
+        ComponentStatementTagResolver resolver = new ComponentStatementTagResolver();
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        softAssertions.assertThat(resolver.resolve(StatementNameHelper.buildFindEntityByIdKey(IUser.class))).isEqualTo(StatementTag.of(IUser.class, StatementNameHelper.FIND_ENTITY_BY_ID_NAME));
+        softAssertions.assertThat(resolver.resolve(StatementNameHelper.buildInsertKey(IUser.class))).isEqualTo(StatementTag.of(IUser.class, StatementNameHelper.INSERT_NAME));
+        softAssertions.assertThat(resolver.resolve(StatementNameHelper.buildUpdateKey(IUser.class))).isEqualTo(StatementTag.of(IUser.class, StatementNameHelper.UPDATE_NAME));
+        softAssertions.assertThat(resolver.resolve(StatementNameHelper.buildDeleteKey(IUser.class))).isEqualTo(StatementTag.of(IUser.class, StatementNameHelper.DELETE_NAME));
+        softAssertions.assertThat(resolver.resolve("com.talanlabs.mybatis.test.it.mapper.NlsMapper.mergeNlsColumn")).isNull();
+        softAssertions.assertAll();
+    }
+}
@@ -94,6 +94,20 @@ CREATE TABLE t_categorie (
   LIB_CATEGORIE       VARCHAR(256)
 );
 
+DROP TABLE t_document
+IF EXISTS;
+
+CREATE TABLE t_document (
+  id           VARCHAR(256),
+  version      INT,
+  name         VARCHAR(256),
+  content      CLOB,
+  created_date DATETIME,
+  created_by   VARCHAR(240),
+  updated_date DATETIME,
+  updated_by   VARCHAR(240)
+);
+
 DROP TABLE t_train
 IF EXISTS;
 
@@ -130,6 +144,41 @@ CREATE TABLE t_wheel (
   size     VARCHAR(256)
 );
 
+DROP TABLE t_item
+IF EXISTS;
+
+CREATE TABLE t_item (
+  id      BIGINT,
+  version INT,
+  name    VARCHAR(256)
+);
+
+DROP TABLE t_item_tag
+IF EXISTS;
+
+CREATE TABLE t_item_tag (
+  id             VARCHAR(256),
+  version        INT,
+  name           VARCHAR(256),
+  item_id        BIGINT,
+  origin_item_id BIGINT
+);
+
+DROP SEQUENCE s_item
+IF EXISTS;
+
+CREATE SEQUENCE s_item START WITH 1 INCREMENT BY 10;
+
+DROP TABLE t_binary_item
+IF EXISTS;
+
+CREATE TABLE t_binary_item (
+  id      BINARY(16),
+  version INT,
+  name    VARCHAR(256),
+  item_id BIGINT
+);
+
 INSERT INTO t_nls (table_name, column_name, language_code, table_id, meaning) VALUES ('T_COUNTRY', 'NAME', 'eng', '1', 'Cheese');
 INSERT INTO t_nls (table_name, column_name, language_code, table_id, meaning) VALUES ('T_COUNTRY', 'NAME', 'fra', '1', 'Fromage');
 INSERT INTO t_nls (table_name, column_name, language_code, table_id, meaning) VALUES ('T_ADDRESS', 'MEANING', 'eng', '1', 'Nothing');
@@ -156,6 +205,8 @@ INSERT INTO t_group (id, version, user_id, name, created_date, created_by) VALUE
 INSERT INTO t_group (id, version, user_id, name, created_date, created_by) VALUES ('3', 0, '2', 'user', SYSDATE, 'GABY');
 INSERT INTO t_group (id, version, user_id, name, created_date, created_by, canceled, canceled_date, canceled_by) VALUES ('4', 0, '1', 'simple', SYSDATE, 'GABY', TRUE, SYSDATE, 'GABY');
 
+INSERT INTO t_document (id, version, name, content, created_date, created_by) VALUES ('1', 0, 'readme', 'A very long content', SYSDATE, 'GABY');
+
 INSERT INTO t_categorie (id_categorie, id_categorie_parent, LIB_CATEGORIE) VALUES (0, NULL, 'ELISE');
 INSERT INTO t_categorie (id_categorie, id_categorie_parent, LIB_CATEGORIE) VALUES (1, 0, 'JOSE');
 INSERT INTO t_categorie (id_categorie, id_categorie_parent, LIB_CATEGORIE) VALUES (2, 0, 'BEATRICE');